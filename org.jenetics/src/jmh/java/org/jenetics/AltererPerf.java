@@ -0,0 +1,171 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.jenetics.internal.util.AllocationProfiler;
+
+/**
+ * Measures the throughput of the {@link Alterer} implementations. The
+ * benchmarks are parameterized by the population size, the number of genes
+ * of the genotypes and the alter probability. Every invocation alters the
+ * population of the previous one, in place, which keeps the population size
+ * constant. The allocated bytes per operation are measured with the
+ * {@link AllocationProfiler}, which is enabled, together with the
+ * {@link GCProfiler}, by the {@link #main(String[])} method.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class AltererPerf {
+
+	@Param({"50", "500", "5000"})
+	public int populationSize;
+
+	@Param({"10", "100"})
+	public int genotypeSize;
+
+	@Param({"0.05", "0.2", "0.5"})
+	public double probability;
+
+	private Population<DoubleGene, Double> _doubles;
+	private Population<EnumGene<Integer>, Double> _permutations;
+
+	private Mutator<DoubleGene, Double> _mutator;
+	private GaussianMutator<DoubleGene, Double> _gaussianMutator;
+	private SwapMutator<EnumGene<Integer>, Double> _swapMutator;
+	private SinglePointCrossover<DoubleGene, Double> _singlePointCrossover;
+	private MultiPointCrossover<DoubleGene, Double> _multiPointCrossover;
+	private PartiallyMatchedCrossover<Integer, Double> _partiallyMatchedCrossover;
+	private MeanAlterer<DoubleGene, Double> _meanAlterer;
+	private CompositeAlterer<DoubleGene, Double> _compositeAlterer;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		_doubles = population(
+			Genotype.of(DoubleChromosome.of(0, 1, genotypeSize)),
+			gt -> gt.getGene().doubleValue()
+		);
+		_permutations = population(
+			Genotype.of(PermutationChromosome.ofInteger(genotypeSize)),
+			gt -> (double)gt.getGene().getAllele()
+		);
+
+		_mutator = new Mutator<>(probability);
+		_gaussianMutator = new GaussianMutator<>(probability);
+		_swapMutator = new SwapMutator<>(probability);
+		_singlePointCrossover = new SinglePointCrossover<>(probability);
+		_multiPointCrossover = new MultiPointCrossover<>(probability, 2);
+		_partiallyMatchedCrossover = new PartiallyMatchedCrossover<>(probability);
+		_meanAlterer = new MeanAlterer<>(probability);
+		_compositeAlterer = CompositeAlterer.<DoubleGene, Double>of(
+			new SinglePointCrossover<>(probability),
+			new Mutator<>(probability)
+		);
+	}
+
+	private <G extends Gene<?, G>> Population<G, Double> population(
+		final Genotype<G> genotype,
+		final Function<Genotype<G>, Double> fitness
+	) {
+		return new Population<G, Double>(populationSize).fill(
+			() -> Phenotype.of(genotype.newInstance(), 1, fitness),
+			populationSize
+		);
+	}
+
+	@Benchmark
+	public int mutator() {
+		return _mutator.alter(_doubles, 1);
+	}
+
+	@Benchmark
+	public int gaussianMutator() {
+		return _gaussianMutator.alter(_doubles, 1);
+	}
+
+	@Benchmark
+	public int swapMutator() {
+		return _swapMutator.alter(_permutations, 1);
+	}
+
+	@Benchmark
+	public int singlePointCrossover() {
+		return _singlePointCrossover.alter(_doubles, 1);
+	}
+
+	@Benchmark
+	public int multiPointCrossover() {
+		return _multiPointCrossover.alter(_doubles, 1);
+	}
+
+	@Benchmark
+	public int partiallyMatchedCrossover() {
+		return _partiallyMatchedCrossover.alter(_permutations, 1);
+	}
+
+	@Benchmark
+	public int meanAlterer() {
+		return _meanAlterer.alter(_doubles, 1);
+	}
+
+	@Benchmark
+	public int compositeAlterer() {
+		return _compositeAlterer.alter(_doubles, 1);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + AltererPerf.class.getSimpleName() + ".*")
+			.addProfiler(GCProfiler.class)
+			.addProfiler(AllocationProfiler.class)
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
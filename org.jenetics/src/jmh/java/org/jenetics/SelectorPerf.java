@@ -0,0 +1,165 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.jenetics.internal.util.AllocationProfiler;
+
+/**
+ * Measures the throughput of the {@link Selector} implementations. Every
+ * benchmark selects {@code populationSize} individuals from an already
+ * evaluated population, as done by the evolution engine. The benchmarks are
+ * parameterized by the population size and the number of genes of the
+ * genotypes. The allocated bytes per operation are measured with the
+ * {@link AllocationProfiler}, which is enabled, together with the
+ * {@link GCProfiler}, by the {@link #main(String[])} method.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class SelectorPerf {
+
+	@Param({"50", "500", "5000"})
+	public int populationSize;
+
+	@Param({"10", "100"})
+	public int genotypeSize;
+
+	private Population<DoubleGene, Double> _population;
+
+	private final TournamentSelector<DoubleGene, Double>
+		_tournamentSelector = new TournamentSelector<>(3);
+	private final TruncationSelector<DoubleGene, Double>
+		_truncationSelector = new TruncationSelector<>();
+	private final MonteCarloSelector<DoubleGene, Double>
+		_monteCarloSelector = new MonteCarloSelector<>();
+	private final RouletteWheelSelector<DoubleGene, Double>
+		_rouletteWheelSelector = new RouletteWheelSelector<>();
+	private final StochasticUniversalSelector<DoubleGene, Double>
+		_stochasticUniversalSelector = new StochasticUniversalSelector<>();
+	private final LinearRankSelector<DoubleGene, Double>
+		_linearRankSelector = new LinearRankSelector<>();
+	private final ExponentialRankSelector<DoubleGene, Double>
+		_exponentialRankSelector = new ExponentialRankSelector<>();
+	private final BoltzmannSelector<DoubleGene, Double>
+		_boltzmannSelector = new BoltzmannSelector<>();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final Genotype<DoubleGene> genotype =
+			Genotype.of(DoubleChromosome.of(0, 1, genotypeSize));
+
+		_population = new Population<DoubleGene, Double>(populationSize).fill(
+			() -> Phenotype.of(
+				genotype.newInstance(), 1,
+				gt -> gt.getChromosome().toSeq().stream()
+					.mapToDouble(DoubleGene::doubleValue)
+					.sum()
+			),
+			populationSize
+		);
+		_population.forEach(Phenotype::evaluate);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> tournamentSelector() {
+		return _tournamentSelector
+			.select(_population, populationSize, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> truncationSelector() {
+		return _truncationSelector
+			.select(_population, populationSize, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> monteCarloSelector() {
+		return _monteCarloSelector
+			.select(_population, populationSize, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> rouletteWheelSelector() {
+		return _rouletteWheelSelector
+			.select(_population, populationSize, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> stochasticUniversalSelector() {
+		return _stochasticUniversalSelector
+			.select(_population, populationSize, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> linearRankSelector() {
+		return _linearRankSelector
+			.select(_population, populationSize, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> exponentialRankSelector() {
+		return _exponentialRankSelector
+			.select(_population, populationSize, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> boltzmannSelector() {
+		return _boltzmannSelector
+			.select(_population, populationSize, Optimize.MAXIMUM);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + SelectorPerf.class.getSimpleName() + ".*")
+			.addProfiler(GCProfiler.class)
+			.addProfiler(AllocationProfiler.class)
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,368 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.profile.ProfilerResult;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.jenetics.internal.util.AllocationProfiler;
+
+import org.jenetics.Alterer;
+import org.jenetics.BitChromosome;
+import org.jenetics.BitGene;
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.EnumGene;
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.IntegerChromosome;
+import org.jenetics.IntegerGene;
+import org.jenetics.MultiPointCrossover;
+import org.jenetics.Mutator;
+import org.jenetics.PartiallyMatchedCrossover;
+import org.jenetics.PermutationChromosome;
+import org.jenetics.RouletteWheelSelector;
+import org.jenetics.Selector;
+import org.jenetics.SinglePointCrossover;
+import org.jenetics.SwapMutator;
+import org.jenetics.TournamentSelector;
+import org.jenetics.TruncationSelector;
+import org.jenetics.util.Factory;
+
+/**
+ * End-to-end benchmark of one {@link Engine#evolve(EvolutionStart)} step. The
+ * benchmark is parameterized by the population size, the chromosome type, the
+ * selector, the alterer mix and the executor. Every invocation evolves the
+ * result population of the previous one, which measures the steady state of
+ * an evolution stream. The mean durations of the single evolution phases, as
+ * reported by the {@link EvolutionDurations}, are added to the JMH results
+ * by the {@link PhaseProfiler}, e.g. as {@code phase.evaluation}. The
+ * allocated bytes per evolution step are measured with the
+ * {@link AllocationProfiler}. Both profilers, and the {@link GCProfiler},
+ * are enabled by the {@link #main(String[])} method.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class EnginePerf {
+
+	// The number of genes of the created genotypes.
+	private static final int LENGTH = 100;
+
+	// The names of the measured evolution phases.
+	private static final String[] PHASES = {
+		"selection.offspring", "selection.survivors", "alter.offspring",
+		"filter.offspring", "filter.survivors", "evaluation", "evolve"
+	};
+
+	// The summed up phase durations, in nanoseconds, and the number of
+	// evolution steps of the current iteration. They are read and reset by
+	// the PhaseProfiler, which runs in the same JVM as the benchmark.
+	private static final AtomicLongArray DURATIONS =
+		new AtomicLongArray(PHASES.length + 1);
+
+	public enum ChromosomeType {
+		BIT, DOUBLE, INTEGER, PERMUTATION
+	}
+
+	public enum SelectorType {
+		TOURNAMENT, ROULETTE_WHEEL, TRUNCATION;
+
+		<G extends Gene<?, G>> Selector<G, Double> selector() {
+			switch (this) {
+				case TOURNAMENT: return new TournamentSelector<>(3);
+				case ROULETTE_WHEEL: return new RouletteWheelSelector<>();
+				default: return new TruncationSelector<>();
+			}
+		}
+	}
+
+	public enum AltererMix {
+		MUTATION(0.0, 0.05),
+		STANDARD(0.2, 0.15),
+		HEAVY(0.6, 0.4);
+
+		final double crossover;
+		final double mutation;
+
+		AltererMix(final double crossover, final double mutation) {
+			this.crossover = crossover;
+			this.mutation = mutation;
+		}
+	}
+
+	public enum ExecutorType {
+		COMMON_POOL, FIXED_POOL, SERIAL
+	}
+
+	@Param({"50", "500", "5000"})
+	public int populationSize;
+
+	@Param
+	public ChromosomeType chromosome;
+
+	@Param
+	public SelectorType selector;
+
+	@Param
+	public AltererMix alterers;
+
+	@Param
+	public ExecutorType executor;
+
+	private ExecutorService _pool;
+	private Evolution<?> _evolution;
+
+	@Setup
+	public void setup() {
+		final Executor exec;
+		switch (executor) {
+			case FIXED_POOL:
+				_pool = Executors.newFixedThreadPool(
+					Runtime.getRuntime().availableProcessors()
+				);
+				exec = _pool;
+				break;
+			case SERIAL:
+				exec = Runnable::run;
+				break;
+			default:
+				exec = ForkJoinPool.commonPool();
+				break;
+		}
+
+		switch (chromosome) {
+			case BIT:
+				_evolution = new Evolution<BitGene>(
+					Genotype.of(BitChromosome.of(LENGTH, 0.5)),
+					gt -> (double)((BitChromosome)gt.getChromosome()).bitCount(),
+					new SinglePointCrossover<>(alterers.crossover),
+					new Mutator<>(alterers.mutation),
+					exec
+				);
+				break;
+			case DOUBLE:
+				_evolution = new Evolution<DoubleGene>(
+					Genotype.of(DoubleChromosome.of(0, 10, LENGTH)),
+					gt -> gt.getChromosome().toSeq().stream()
+						.mapToDouble(DoubleGene::doubleValue)
+						.map(v -> v*v)
+						.sum(),
+					new MultiPointCrossover<>(alterers.crossover, 2),
+					new Mutator<>(alterers.mutation),
+					exec
+				);
+				break;
+			case INTEGER:
+				_evolution = new Evolution<IntegerGene>(
+					Genotype.of(IntegerChromosome.of(0, 1000, LENGTH)),
+					gt -> gt.getChromosome().toSeq().stream()
+						.mapToDouble(IntegerGene::doubleValue)
+						.sum(),
+					new SinglePointCrossover<>(alterers.crossover),
+					new Mutator<>(alterers.mutation),
+					exec
+				);
+				break;
+			default:
+				_evolution = new Evolution<EnumGene<Integer>>(
+					Genotype.of(PermutationChromosome.ofInteger(LENGTH)),
+					gt -> {
+						double distance = 0;
+						for (int i = 0; i < LENGTH; ++i) {
+							distance += Math.abs(
+								gt.getChromosome().getGene(i).getAllele() - i
+							);
+						}
+						return distance + 1;
+					},
+					new PartiallyMatchedCrossover<>(alterers.crossover),
+					new SwapMutator<>(alterers.mutation),
+					exec
+				);
+				break;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (_pool != null) {
+			_pool.shutdown();
+		}
+	}
+
+	@Benchmark
+	public EvolutionResult<?, Double> evolve() {
+		return _evolution.evolve();
+	}
+
+	// Keeps the engine and the evolution start of one gene type together.
+	private final class Evolution<G extends Gene<?, G>> {
+		private final Engine<G, Double> _engine;
+		private EvolutionStart<G, Double> _start;
+
+		Evolution(
+			final Factory<Genotype<G>> genotypeFactory,
+			final Function<Genotype<G>, Double> fitnessFunction,
+			final Alterer<G, Double> crossover,
+			final Alterer<G, Double> mutator,
+			final Executor executor
+		) {
+			final Selector<G, Double> sel = selector.selector();
+			_engine = Engine.builder(fitnessFunction, genotypeFactory)
+				.populationSize(populationSize)
+				.selector(sel)
+				.alterers(crossover, mutator)
+				.executor(executor)
+				.build();
+
+			_start = _engine.stream().findFirst().get().next();
+		}
+
+		EvolutionResult<G, Double> evolve() {
+			final EvolutionResult<G, Double> result = _engine.evolve(_start);
+			_start = result.next();
+
+			final EvolutionDurations durations = result.getDurations();
+			add(0, durations.getOffspringSelectionDuration());
+			add(1, durations.getSurvivorsSelectionDuration());
+			add(2, durations.getOffspringAlterDuration());
+			add(3, durations.getOffspringFilterDuration());
+			add(4, durations.getSurvivorFilterDuration());
+			add(5, durations.getEvaluationDuration());
+			add(6, durations.getEvolveDuration());
+			DURATIONS.incrementAndGet(PHASES.length);
+
+			return result;
+		}
+
+		private void add(final int index, final Duration duration) {
+			DURATIONS.addAndGet(index, duration.toNanos());
+		}
+	}
+
+	/**
+	 * JMH profiler, which reports the mean durations of the evolution phases
+	 * of every iteration, in microseconds.
+	 */
+	public static final class PhaseProfiler implements InternalProfiler {
+
+		public PhaseProfiler() {
+		}
+
+		@Override
+		public boolean checkSupport(final List<String> messages) {
+			return true;
+		}
+
+		@Override
+		public String label() {
+			return "phases";
+		}
+
+		@Override
+		public String getDescription() {
+			return "Mean durations of the evolution phases";
+		}
+
+		@Override
+		public void beforeIteration(
+			final BenchmarkParams benchmarkParams,
+			final IterationParams iterationParams
+		) {
+			for (int i = 0; i < DURATIONS.length(); ++i) {
+				DURATIONS.set(i, 0);
+			}
+		}
+
+		@Override
+		public Collection<? extends Result<?>> afterIteration(
+			final BenchmarkParams benchmarkParams,
+			final IterationParams iterationParams,
+			final IterationResult result
+		) {
+			final long count = DURATIONS.get(PHASES.length);
+
+			final List<Result<?>> results = new ArrayList<>();
+			for (int i = 0; i < PHASES.length; ++i) {
+				results.add(new ProfilerResult(
+					"phase." + PHASES[i],
+					count > 0 ? DURATIONS.get(i)/(double)count/1000.0 : Double.NaN,
+					"us",
+					AggregationPolicy.AVG
+				));
+			}
+			return results;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + EnginePerf.class.getSimpleName() + ".*")
+			.addProfiler(GCProfiler.class)
+			.addProfiler(AllocationProfiler.class)
+			.addProfiler(PhaseProfiler.class)
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.profile.ProfilerResult;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * JMH profiler, which reports the number of bytes allocated per benchmark
+ * operation as {@code alloc.bytes/op}. The allocated bytes are summed up over
+ * all live threads, which includes the threads of executors used by the
+ * benchmark; threads which terminate during an iteration are not counted.
+ * The {@code GCProfiler} of the used JMH version only reports the
+ * GC counts and times.
+ *
+ * <pre>{@code
+ * final Options opt = new OptionsBuilder()
+ *     .include(".*" + AltererPerf.class.getSimpleName() + ".*")
+ *     .addProfiler(AllocationProfiler.class)
+ *     .build();
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public final class AllocationProfiler implements InternalProfiler {
+
+	private final ThreadMXBean _threads =
+		(ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+	private long _allocated;
+
+	public AllocationProfiler() {
+	}
+
+	@Override
+	public boolean checkSupport(final List<String> messages) {
+		if (!_threads.isThreadAllocatedMemorySupported()) {
+			messages.add("Thread allocated memory is not supported by the JVM.");
+			return false;
+		}
+		_threads.setThreadAllocatedMemoryEnabled(true);
+		return true;
+	}
+
+	@Override
+	public String label() {
+		return "alloc";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Allocated bytes per operation";
+	}
+
+	@Override
+	public void beforeIteration(
+		final BenchmarkParams benchmarkParams,
+		final IterationParams iterationParams
+	) {
+		_allocated = allocated();
+	}
+
+	@Override
+	public Collection<? extends Result<?>> afterIteration(
+		final BenchmarkParams benchmarkParams,
+		final IterationParams iterationParams,
+		final IterationResult result
+	) {
+		final long bytes = allocated() - _allocated;
+		final long ops = result.getMetadata().getAllOps();
+
+		return Collections.singleton(new ProfilerResult(
+			"alloc.bytes/op",
+			ops > 0 ? (double)bytes/ops : Double.NaN,
+			"B/op",
+			AggregationPolicy.AVG
+		));
+	}
+
+	// Return the number of bytes allocated by all live threads.
+	private long allocated() {
+		long bytes = 0;
+		for (long allocated :
+			_threads.getThreadAllocatedBytes(_threads.getAllThreadIds()))
+		{
+			if (allocated > 0) {
+				bytes += allocated;
+			}
+		}
+		return bytes;
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.stat;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the compensated, value by value, accumulation of the moment
+ * statistics with the block-wise bulk accumulation.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MomentStatisticsPerf {
+
+	@Param({"1000", "100000", "1000000"})
+	public int size;
+
+	private double[] doubles;
+	private int[] ints;
+	private long[] longs;
+
+	@Setup
+	public void setup() {
+		final Random random = new Random(123);
+
+		doubles = new double[size];
+		ints = new int[size];
+		longs = new long[size];
+		for (int i = 0; i < size; ++i) {
+			doubles[i] = random.nextGaussian();
+			ints[i] = random.nextInt(10_000);
+			longs[i] = random.nextInt(10_000);
+		}
+	}
+
+	@Benchmark
+	public DoubleMomentStatistics doubleSingle() {
+		final DoubleMomentStatistics statistics = new DoubleMomentStatistics();
+		for (double value : doubles) {
+			statistics.accept(value);
+		}
+		return statistics;
+	}
+
+	@Benchmark
+	public DoubleMomentStatistics doubleBulk() {
+		final DoubleMomentStatistics statistics = new DoubleMomentStatistics();
+		statistics.accept(doubles, 0, doubles.length);
+		return statistics;
+	}
+
+	@Benchmark
+	public IntMomentStatistics intSingle() {
+		final IntMomentStatistics statistics = new IntMomentStatistics();
+		for (int value : ints) {
+			statistics.accept(value);
+		}
+		return statistics;
+	}
+
+	@Benchmark
+	public IntMomentStatistics intBulk() {
+		final IntMomentStatistics statistics = new IntMomentStatistics();
+		statistics.accept(ints, 0, ints.length);
+		return statistics;
+	}
+
+	@Benchmark
+	public LongMomentStatistics longSingle() {
+		final LongMomentStatistics statistics = new LongMomentStatistics();
+		for (long value : longs) {
+			statistics.accept(value);
+		}
+		return statistics;
+	}
+
+	@Benchmark
+	public LongMomentStatistics longBulk() {
+		final LongMomentStatistics statistics = new LongMomentStatistics();
+		statistics.accept(longs, 0, longs.length);
+		return statistics;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + MomentStatisticsPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -33,11 +33,12 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import org.jenetics.internal.collection.ChunkArrayProxy;
 import org.jenetics.internal.util.IntRef;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 3.0
+ * @version 3.1
  * @since 3.0
  */
 @State(Scope.Benchmark)
@@ -59,6 +60,15 @@ public class SeqPerf {
 			seq.set(i, i);
 		}
 	}
+	private final ISeq<Integer> iseq = seq.toISeq();
+
+	// Chunk backed sequence, as used for the genes of large, altered
+	// chromosomes.
+	private final MSeq<Integer> chunkSeq = ChunkArrayProxy.copyOf(
+		MSeq.<Integer>ofLength(ChunkArrayProxy.MIN_LENGTH)
+			.fill(() -> 1)
+			.toISeq()
+	);
 
 	@Benchmark
 	public Integer getFromArray() {
@@ -95,6 +105,51 @@ public class SeqPerf {
 		return sum.value;
 	}
 
+	@Benchmark
+	public Integer getFromISeq() {
+		return iseq.get(index);
+	}
+
+	@Benchmark
+	public int forLoopISeq() {
+		final IntRef sum = new IntRef();
+		for (int i = 0; i < iseq.length(); ++i) {
+			sum.value += iseq.get(i);
+		}
+		return sum.value;
+	}
+
+	@Benchmark
+	public int forEachLoopISeq() {
+		final IntRef sum = new IntRef();
+		iseq.forEach(i -> sum.value += i);
+		return sum.value;
+	}
+
+	@Benchmark
+	public Integer getFromChunkSeq() {
+		return chunkSeq.get(index);
+	}
+
+	@Benchmark
+	public int forLoopChunkSeq() {
+		final IntRef sum = new IntRef();
+		for (int i = 0; i < chunkSeq.length(); ++i) {
+			sum.value += chunkSeq.get(i);
+		}
+		return sum.value;
+	}
+
+	@Benchmark
+	public Integer[] toArrayArray() {
+		return array.clone();
+	}
+
+	@Benchmark
+	public Integer[] toArraySeq() {
+		return iseq.toArray(new Integer[0]);
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(".*" + SeqPerf.class.getSimpleName() + ".*")
@@ -0,0 +1,153 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.util;
+
+import static org.jenetics.util.ISeq.toISeq;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * Checks the scalability of the parallel {@link ISeq} and {@link Population}
+ * streams. The parallel streams are executed in a {@link ForkJoinPool} with
+ * the given {@code parallelism}. Compared with the {@code sequential}
+ * benchmarks, the execution time should decrease with the parallelism, up to
+ * the number of available cores.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class SeqStreamPerf {
+
+	@Param({"10000", "1000000"})
+	public int size;
+
+	@Param({"1", "2", "4", "8"})
+	public int parallelism;
+
+	private ForkJoinPool _pool;
+	private ISeq<Double> _seq;
+	private Population<DoubleGene, Double> _population;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		_pool = new ForkJoinPool(parallelism);
+		_seq = IntStream.range(0, size)
+			.mapToObj(i -> (double)i)
+			.collect(toISeq());
+
+		final Genotype<DoubleGene> genotype =
+			Genotype.of(DoubleChromosome.of(0, 1, 10));
+		_population = new Population<DoubleGene, Double>(size).fill(
+			() -> Phenotype.of(
+				genotype.newInstance(), 1,
+				gt -> gt.getChromosome().toSeq().stream()
+					.mapToDouble(DoubleGene::doubleValue)
+					.sum()
+			),
+			size
+		);
+		_population.forEach(Phenotype::evaluate);
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() {
+		_pool.shutdown();
+	}
+
+	// Some CPU bound work per element.
+	private static double work(final double value) {
+		return Math.sqrt(value)*Math.log1p(value);
+	}
+
+	@Benchmark
+	public double seqSequential() {
+		return _seq.stream().mapToDouble(SeqStreamPerf::work).sum();
+	}
+
+	@Benchmark
+	public double seqParallel()
+		throws InterruptedException, ExecutionException
+	{
+		return _pool.submit(() ->
+			_seq.parallelStream().mapToDouble(SeqStreamPerf::work).sum()
+		).get();
+	}
+
+	@Benchmark
+	public double populationSequential() {
+		return _population.stream()
+			.mapToDouble(Phenotype::getFitness)
+			.sum();
+	}
+
+	@Benchmark
+	public double populationParallel()
+		throws InterruptedException, ExecutionException
+	{
+		return _pool.submit(() ->
+			_population.parallelStream()
+				.mapToDouble(Phenotype::getFitness)
+				.sum()
+		).get();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + SeqStreamPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
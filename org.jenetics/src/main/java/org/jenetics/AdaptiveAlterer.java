@@ -0,0 +1,391 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.jenetics.internal.util.Equality.eq;
+import static org.jenetics.internal.util.require.probability;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jenetics.internal.util.Equality;
+import org.jenetics.internal.util.Hash;
+
+import org.jenetics.util.IDoubleSeq;
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+import org.jenetics.util.RandomRegistry;
+import org.jenetics.util.Seq;
+
+/**
+ * Alterer which adapts the application probabilities of a set of alterers
+ * from the success of the offspring they create (<i>Adaptive Pursuit</i>, as
+ * described by Thierens in <i>An Adaptive Pursuit Strategy for Allocating
+ * Operator Probabilities</i>, 2005).
+ * <p>
+ * In every generation, each phenotype of the population is assigned to one of
+ * the given alterers, where alterer <i>i</i> is chosen with probability
+ * <i>P<sub>i</sub></i>. Every alterer then alters the sub-population of its
+ * assigned phenotypes. The reward of an alterer is the fraction of its
+ * offspring, which are fitter than their parents. The fitness values are
+ * taken from the evaluated phenotypes on the next call of the
+ * {@link #alter(Population, long)} method, which doesn't trigger any
+ * additional fitness evaluation. The estimated quality <i>Q<sub>i</sub></i>
+ * of every alterer is updated with the {@code learningRate} <i>β</i>
+ * <p>
+ * <i>Q<sub>i</sub> = Q<sub>i</sub> + β(r<sub>i</sub> - Q<sub>i</sub>)</i>,
+ * <p>
+ * and the probability of the best alterer <i>b</i> is pushed towards
+ * <i>P<sub>max</sub> = 1 - (K - 1)P<sub>min</sub></i>, whereas the probability
+ * of the other alterers is pushed towards <i>P<sub>min</sub></i>, with the
+ * {@code adaptationRate} <i>α</i>
+ * <p>
+ * <i>P<sub>i</sub> = P<sub>i</sub> + α(P<sub>max|min</sub> - P<sub>i</sub>)</i>.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine
+ *     .builder(ff, DoubleChromosome.of(0, 1, 10))
+ *     .optimize(Optimize.MAXIMUM)
+ *     .alterers(AdaptiveAlterer.of(
+ *         Optimize.MAXIMUM,
+ *         new Mutator<>(0.05),
+ *         new GaussianMutator<>(0.2),
+ *         new SinglePointCrossover<>(0.3)))
+ *     .build();
+ * }</pre>
+ *
+ * The adaptive alterer is <i>stateful</i>, and its {@code alter} method is
+ * synchronized. If one instance is shared by concurrently executed evolution
+ * streams, the offspring of all streams contribute to the adaptation.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness function result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public final class AdaptiveAlterer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Alterer<G, C>
+{
+
+	/**
+	 * The default adaptation and learning rate, as proposed by Thierens.
+	 */
+	public static final double DEFAULT_RATE = 0.8;
+
+	private final Optimize _optimize;
+	private final ISeq<Alterer<G, C>> _alterers;
+	private final double _minProbability;
+	private final double _maxProbability;
+	private final double _adaptationRate;
+	private final double _learningRate;
+
+	private final double[] _probabilities;
+	private final double[] _qualities;
+	private final List<Offspring<G, C>> _offspring = new ArrayList<>();
+
+	/**
+	 * Create a new adaptive alterer.
+	 *
+	 * @param optimize the optimization strategy, used for deciding whether an
+	 *        offspring is better than its parent
+	 * @param alterers the alterers whose probabilities are adapted
+	 * @param minProbability the minimal alter probability <i>P<sub>min</sub></i>
+	 *        of every alterer
+	 * @param adaptationRate the adaptation rate <i>α</i> of the probabilities
+	 * @param learningRate the learning rate <i>β</i> of the alterer qualities
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code alterers} are empty,
+	 *         if the {@code minProbability} is not in the range
+	 *         {@code [0, 1/alterers.length()]} or if one of the given rates is
+	 *         not in the range {@code [0, 1]}
+	 */
+	public AdaptiveAlterer(
+		final Optimize optimize,
+		final Seq<Alterer<G, C>> alterers,
+		final double minProbability,
+		final double adaptationRate,
+		final double learningRate
+	) {
+		_optimize = requireNonNull(optimize);
+		_alterers = alterers.stream()
+			.map(a -> requireNonNull(a, "Alterer"))
+			.collect(ISeq.toISeq());
+		if (_alterers.length() == 0) {
+			throw new IllegalArgumentException("No alterers given.");
+		}
+		if (minProbability < 0 || minProbability*_alterers.length() > 1) {
+			throw new IllegalArgumentException(format(
+				"Minimal probability must be in the range [0, %f], but was %f.",
+				1.0/_alterers.length(), minProbability
+			));
+		}
+
+		_minProbability = minProbability;
+		_maxProbability = 1.0 - (_alterers.length() - 1)*minProbability;
+		_adaptationRate = probability(adaptationRate);
+		_learningRate = probability(learningRate);
+
+		_probabilities = new double[_alterers.length()];
+		_qualities = new double[_alterers.length()];
+		Arrays.fill(_probabilities, 1.0/_alterers.length());
+		Arrays.fill(_qualities, 1.0);
+	}
+
+	/**
+	 * Create a new adaptive alterer with a minimal alter probability of
+	 * {@code 1/(2*alterers.length())} and an adaptation and learning rate of
+	 * {@link #DEFAULT_RATE}.
+	 *
+	 * @param optimize the optimization strategy, used for deciding whether an
+	 *        offspring is better than its parent
+	 * @param alterers the alterers whose probabilities are adapted
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code alterers} are empty
+	 */
+	public AdaptiveAlterer(
+		final Optimize optimize,
+		final Seq<Alterer<G, C>> alterers
+	) {
+		this(
+			optimize,
+			alterers,
+			0.5/Math.max(alterers.length(), 1),
+			DEFAULT_RATE,
+			DEFAULT_RATE
+		);
+	}
+
+	@Override
+	public synchronized int alter(
+		final Population<G, C> population,
+		final long generation
+	) {
+		adapt();
+
+		final Random random = RandomRegistry.getRandom();
+		final int[] assignment = new int[population.size()];
+		for (int i = 0; i < assignment.length; ++i) {
+			assignment[i] = next(random);
+		}
+
+		int alterations = 0;
+		for (int a = 0; a < _alterers.length(); ++a) {
+			final int alterer = a;
+			final int[] indexes = IntStream.range(0, assignment.length)
+				.filter(i -> assignment[i] == alterer)
+				.toArray();
+
+			if (indexes.length > 0) {
+				final Population<G, C> part = new Population<>(indexes.length);
+				for (int index : indexes) {
+					part.add(population.get(index));
+				}
+
+				alterations += _alterers.get(alterer).alter(part, generation);
+
+				for (int i = 0; i < indexes.length; ++i) {
+					final Phenotype<G, C> parent = population.get(indexes[i]);
+					final Phenotype<G, C> child = part.get(i);
+					if (child != parent) {
+						_offspring.add(new Offspring<>(alterer, parent, child));
+						population.set(indexes[i], child);
+					}
+				}
+			}
+		}
+
+		return alterations;
+	}
+
+	// Roulette wheel selection of the alterer index.
+	private int next(final Random random) {
+		final double value = random.nextDouble();
+
+		double sum = 0;
+		for (int i = 0; i < _probabilities.length - 1; ++i) {
+			sum += _probabilities[i];
+			if (value < sum) {
+				return i;
+			}
+		}
+
+		return _probabilities.length - 1;
+	}
+
+	// Updates the alterer qualities and probabilities from the offspring of
+	// the previous alter call, which are evaluated in the meantime.
+	private void adapt() {
+		final int[] counts = new int[_alterers.length()];
+		final int[] successes = new int[_alterers.length()];
+		for (Offspring<G, C> offspring : _offspring) {
+			if (offspring.parent.isEvaluated() && offspring.child.isEvaluated()) {
+				++counts[offspring.alterer];
+				if (offspring.isSuccess(_optimize)) {
+					++successes[offspring.alterer];
+				}
+			}
+		}
+		_offspring.clear();
+
+		if (IntStream.of(counts).anyMatch(c -> c > 0)) {
+			int best = 0;
+			for (int i = 0; i < _qualities.length; ++i) {
+				if (counts[i] > 0) {
+					final double reward = (double)successes[i]/counts[i];
+					_qualities[i] += _learningRate*(reward - _qualities[i]);
+				}
+				if (_qualities[i] > _qualities[best]) {
+					best = i;
+				}
+			}
+
+			for (int i = 0; i < _probabilities.length; ++i) {
+				final double target = i == best
+					? _maxProbability
+					: _minProbability;
+				_probabilities[i] += _adaptationRate*(target - _probabilities[i]);
+			}
+		}
+	}
+
+	/**
+	 * Return the alterers this alterer consists of.
+	 *
+	 * @return the alterers this alterer consists of
+	 */
+	public ISeq<Alterer<G, C>> getAlterers() {
+		return _alterers;
+	}
+
+	/**
+	 * Return the current (adapted) alter probabilities of the alterers, in the
+	 * order of the alterers returned by {@link #getAlterers()}.
+	 *
+	 * @return the current alter probabilities of the alterers
+	 */
+	public synchronized IDoubleSeq getProbabilities() {
+		return IDoubleSeq.of(_probabilities.clone());
+	}
+
+	/**
+	 * Return the optimization strategy of this alterer.
+	 *
+	 * @return the optimization strategy of this alterer
+	 */
+	public Optimize getOptimize() {
+		return _optimize;
+	}
+
+	@Override
+	public int hashCode() {
+		return Hash.of(getClass())
+			.and(_optimize)
+			.and(_alterers)
+			.and(_minProbability)
+			.and(_adaptationRate)
+			.and(_learningRate).value();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return Equality.of(this, obj).test(a ->
+			eq(_optimize, a._optimize) &&
+			eq(_alterers, a._alterers) &&
+			eq(_minProbability, a._minProbability) &&
+			eq(_adaptationRate, a._adaptationRate) &&
+			eq(_learningRate, a._learningRate)
+		);
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"%s[%s]:\n%s", getClass().getSimpleName(), _optimize,
+			_alterers.stream()
+				.map(a -> "   - " + a.toString())
+				.collect(Collectors.joining("\n"))
+		);
+	}
+
+	/**
+	 * Create a new adaptive alterer with the default parameters.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness function result type
+	 * @param optimize the optimization strategy, used for deciding whether an
+	 *        offspring is better than its parent
+	 * @param alterers the alterers whose probabilities are adapted
+	 * @return a new adaptive alterer
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code alterers} are empty
+	 */
+	@SafeVarargs
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	AdaptiveAlterer<G, C> of(
+		final Optimize optimize,
+		final Alterer<G, C>... alterers
+	) {
+		// The alterers are copied element-wise, since passing the generic
+		// varargs array on could cause heap pollution.
+		final MSeq<Alterer<G, C>> seq = MSeq.ofLength(alterers.length);
+		for (int i = 0; i < alterers.length; ++i) {
+			seq.set(i, alterers[i]);
+		}
+		return new AdaptiveAlterer<>(optimize, seq.toISeq());
+	}
+
+	/**
+	 * An offspring created by the alterer with the given index.
+	 */
+	private static final class Offspring<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		final int alterer;
+		final Phenotype<G, C> parent;
+		final Phenotype<G, C> child;
+
+		Offspring(
+			final int alterer,
+			final Phenotype<G, C> parent,
+			final Phenotype<G, C> child
+		) {
+			this.alterer = alterer;
+			this.parent = parent;
+			this.child = child;
+		}
+
+		boolean isSuccess(final Optimize optimize) {
+			return optimize.compare(child.getFitness(), parent.getFitness()) > 0;
+		}
+	}
+
+}
@@ -46,6 +46,7 @@ import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.jenetics.internal.util.Equality;
 import org.jenetics.internal.util.Hash;
 import org.jenetics.internal.util.bit;
+import org.jenetics.internal.util.require;
 
 import org.jenetics.util.ISeq;
 
@@ -54,7 +55,7 @@ import org.jenetics.util.ISeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 3.1
  */
 @XmlJavaTypeAdapter(BitChromosome.Model.Adapter.class)
 public class BitChromosome extends Number
@@ -161,9 +162,11 @@ public class BitChromosome extends Number
 	/**
 	 * Return the one probability of this chromosome.
 	 *
+	 * @since 3.1
+	 *
 	 * @return the one probability of this chromosome.
 	 */
-	double getOneProbability() {
+	public double getOneProbability() {
 		return _p;
 	}
 
@@ -475,6 +478,40 @@ public class BitChromosome extends Number
 		return new BitChromosome(bytes, length, p);
 	}
 
+	/**
+	 * Create a new {@code BitChromosome} from the given bit (byte) array, with
+	 * the given length and ones probability. The {@code bits} array is copied.
+	 *
+	 * @since 3.1
+	 *
+	 * @param bits the bit values of the new chromosome
+	 * @param length the length of the chromosome, number of bits
+	 * @param p the ones probability used for creating new chromosome
+	 *        instances
+	 * @return a new {@code BitChromosome} with the given parameter
+	 * @throws NullPointerException if the {@code bits} array is {@code null}.
+	 * @throws IllegalArgumentException if {@code p} is not a valid probability
+	 *         or the {@code bits} array is too short for the given
+	 *         {@code length}.
+	 */
+	public static BitChromosome of(
+		final byte[] bits,
+		final int length,
+		final double p
+	) {
+		if (length < 0 || bits.length < bit.toByteLength(length)) {
+			throw new IllegalArgumentException(format(
+				"Invalid length %d for %d bytes.", length, bits.length
+			));
+		}
+
+		return new BitChromosome(
+			bit.copy(bits, 0, length),
+			length,
+			require.probability(p)
+		);
+	}
+
 	/**
 	 * Constructing a new BitChromosome from a given BitSet.
 	 * The BitSet is copied while construction. The length of the constructed
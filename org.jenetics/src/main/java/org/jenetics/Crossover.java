@@ -19,8 +19,11 @@
  */
 package org.jenetics;
 
+import static org.jenetics.internal.collection.ChunkArrayProxy.copyOf;
+
 import java.util.Random;
 
+import org.jenetics.util.ISeq;
 import org.jenetics.util.MSeq;
 import org.jenetics.util.RandomRegistry;
 
@@ -37,7 +40,7 @@ import org.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 3.1
  */
 public abstract class Crossover<
 	G extends Gene<?, G>,
@@ -75,13 +78,16 @@ public abstract class Crossover<
 
 		final MSeq<Chromosome<G>> c1 = gt1.toSeq().copy();
 		final MSeq<Chromosome<G>> c2 = gt2.toSeq().copy();
-		final MSeq<G> genes1 = c1.get(chIndex).toSeq().copy();
-		final MSeq<G> genes2 = c2.get(chIndex).toSeq().copy();
+		// Large gene sequences are sharing the unchanged parts with the parents.
+		final MSeq<G> genes1 = copyOf(c1.get(chIndex).toSeq());
+		final MSeq<G> genes2 = copyOf(c2.get(chIndex).toSeq());
 
 		crossover(genes1, genes2);
 
-		c1.set(chIndex, c1.get(chIndex).newInstance(genes1.toISeq()));
-		c2.set(chIndex, c2.get(chIndex).newInstance(genes2.toISeq()));
+		final Chromosome<G> ch1 = c1.get(chIndex);
+		final Chromosome<G> ch2 = c2.get(chIndex);
+		c1.set(chIndex, newInstance(ch1, genes1.toISeq(), ch2));
+		c2.set(chIndex, newInstance(ch2, genes2.toISeq(), ch1));
 
 		//Creating two new Phenotypes and exchanging it with the old.
 		population.set(
@@ -96,6 +102,21 @@ public abstract class Crossover<
 		return getOrder();
 	}
 
+	// The step sizes of a SigmaDoubleChromosome must be exchanged together
+	// with its genes.
+	@SuppressWarnings("unchecked")
+	private static <G extends Gene<?, G>> Chromosome<G> newInstance(
+		final Chromosome<G> chromosome,
+		final ISeq<G> genes,
+		final Chromosome<G> other
+	) {
+		return chromosome instanceof SigmaDoubleChromosome
+			? (Chromosome<G>)((SigmaDoubleChromosome)chromosome).newInstance(
+				(ISeq<DoubleGene>)(ISeq<?>)genes,
+				(Chromosome<DoubleGene>)(Chromosome<?>)other)
+			: chromosome.newInstance(genes);
+	}
+
 
 	/**
 	 * Template method which performs the crossover. The arguments given are
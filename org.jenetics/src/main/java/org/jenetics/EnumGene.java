@@ -74,7 +74,7 @@ import org.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0
+ * @version 3.1
  */
 @XmlJavaTypeAdapter(EnumGene.Model.Adapter.class)
 public final class EnumGene<A>
@@ -219,6 +219,30 @@ public final class EnumGene<A>
 		);
 	}
 
+	/**
+	 * Create a new enum gene from the given valid alleles and the chosen
+	 * allele index. The given {@code validAlleles} sequence is shared, and
+	 * not copied, by the created gene.
+	 *
+	 * @since 3.1
+	 *
+	 * @param <A> the allele type
+	 * @param alleleIndex the index of the allele for this gene.
+	 * @param validAlleles the sequence of valid alleles.
+	 * @return a new {@code EnumGene} with the given parameter
+	 * @throws java.lang.IllegalArgumentException if the give valid alleles
+	 *         sequence is empty
+	 * @throws IndexOutOfBoundsException if the allele index is not in the
+	 *         range {@code [0, validAlleles.length())}.
+	 * @throws NullPointerException if the valid alleles seq is {@code null}.
+	 */
+	public static <A> EnumGene<A> of(
+		final int alleleIndex,
+		final ISeq<? extends A> validAlleles
+	) {
+		return new EnumGene<>(alleleIndex, validAlleles);
+	}
+
 	/**
 	 * Create a new enum gene from the given valid genes and the chosen allele
 	 * index.
@@ -21,6 +21,7 @@ package org.jenetics;
 
 import static java.lang.Math.pow;
 import static java.lang.String.format;
+import static org.jenetics.internal.collection.ChunkArrayProxy.copyOf;
 import static org.jenetics.internal.math.random.indexes;
 
 import org.jenetics.internal.util.Equality;
@@ -66,7 +67,7 @@ import org.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 3.1
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -136,9 +137,20 @@ public class Mutator<
 		return genotype.newInstance(chromosomes.toISeq());
 	}
 
-	private int mutate(final MSeq<Chromosome<G>> c, final int i, final double p) {
+	/**
+	 * Package private template method which mutates the chromosome with the given index
+	 * {@code i}. The default implementation mutates a writable copy of the
+	 * chromosome genes with the {@link #mutate(MSeq, double)} method and
+	 * replaces the chromosome, if at least one gene has been mutated.
+	 *
+	 * @param c the chromosomes of the mutated genotype
+	 * @param i the index of the chromosome to mutate
+	 * @param p the gene mutation probability
+	 * @return the number of performed mutations
+	 */
+	int mutate(final MSeq<Chromosome<G>> c, final int i, final double p) {
 		final Chromosome<G> chromosome = c.get(i);
-		final MSeq<G> genes = chromosome.toSeq().copy();
+		final MSeq<G> genes = copyOf(chromosome.toSeq());
 
 		final int mutations = mutate(genes, p);
 		if (mutations > 0) {
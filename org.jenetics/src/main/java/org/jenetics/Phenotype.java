@@ -66,6 +66,9 @@ public final class Phenotype<
 		Serializable,
 		Runnable
 {
+	// The serial form contains the '_cancelled' flag since version 3.1. Since
+	// adding a field is a compatible change, the serialVersionUID has been
+	// kept and phenotypes of older streams are read as not cancelled.
 	private static final long serialVersionUID = 4L;
 
 	private final Genotype<G> _genotype;
@@ -76,10 +79,18 @@ public final class Phenotype<
 	private final long _generation;
 
 	// Storing the fitness value for lazy evaluation.
-	private transient volatile boolean _evaluated = false;
 	private C _rawFitness = null;
 	private C _fitness = null;
 
+	// The evaluated fitness values. This field is intentionally not volatile.
+	// The values are safely published via the final fields of the
+	// 'Evaluation' object and the fitness access of an evaluated phenotype
+	// doesn't need any synchronization.
+	private transient Evaluation<C> _evaluation = null;
+
+	// Marks phenotypes whose fitness evaluation has been cancelled.
+	private boolean _cancelled = false;
+
 	/**
 	 * Create a new phenotype from the given arguments.
 	 *
@@ -126,18 +137,86 @@ public final class Phenotype<
 	 * @return this phenotype, for method chaining.
 	 */
 	public Phenotype<G, C> evaluate() {
-		if (!_evaluated) {
-			eval();
-		}
+		evaluation();
 		return this;
 	}
 
-	private synchronized void eval() {
-		if (!_evaluated) {
+	private Evaluation<C> evaluation() {
+		final Evaluation<C> evaluation = _evaluation;
+		return evaluation != null ? evaluation : eval();
+	}
+
+	// The synchronized evaluation path is only taken by phenotypes which
+	// hasn't been evaluated yet.
+	private synchronized Evaluation<C> eval() {
+		if (_evaluation == null) {
 			if (_rawFitness == null) _rawFitness = _function.apply(_genotype);
 			if (_fitness == null) _fitness = _scaler.apply(_rawFitness);
-			_evaluated = true;
+			_evaluation = new Evaluation<>(_rawFitness, _fitness);
 		}
+		return _evaluation;
+	}
+
+	/**
+	 * Test whether the fitness value of {@code this} phenotype has already
+	 * been evaluated. The fitness of an evaluated phenotype is accessed without
+	 * any synchronization overhead. A return value of {@code false} doesn't
+	 * guarantee, that the phenotype hasn't been evaluated concurrently by an
+	 * other thread.
+	 *
+	 * @since 3.1
+	 *
+	 * @return {@code true} if the fitness value has already been evaluated,
+	 *         {@code false} otherwise
+	 */
+	public boolean isEvaluated() {
+		return _evaluation != null;
+	}
+
+	/**
+	 * Return a new, already evaluated, phenotype with the genotype, generation,
+	 * fitness function and fitness scaler of {@code this} phenotype, whose
+	 * fitness evaluation has been cancelled. The raw fitness value of the
+	 * returned phenotype is calculated with the given {@code fallback}
+	 * function. Phenotypes which are created from the returned one, e.g. by
+	 * the alterers, are not cancelled and are evaluated with the fitness
+	 * function of {@code this} phenotype.
+	 *
+	 * @since 3.1
+	 *
+	 * @param fallback the function which calculates the raw fitness value of
+	 *        the cancelled phenotype
+	 * @return a new, cancelled phenotype
+	 * @throws NullPointerException if the {@code fallback} function is
+	 *         {@code null}
+	 */
+	public Phenotype<G, C> cancel(
+		final Function<? super Genotype<G>, ? extends C> fallback
+	) {
+		final C rawFitness = fallback.apply(_genotype);
+		return of(
+			_genotype,
+			_generation,
+			_function,
+			_scaler,
+			rawFitness,
+			_scaler.apply(rawFitness),
+			true
+		);
+	}
+
+	/**
+	 * Test whether the fitness evaluation of this phenotype has been
+	 * cancelled.
+	 *
+	 * @see #cancel(Function)
+	 * @since 3.1
+	 *
+	 * @return {@code true} if the fitness evaluation of this phenotype has
+	 *         been cancelled, {@code false} otherwise
+	 */
+	public boolean isCancelled() {
+		return _cancelled;
 	}
 
 	/**
@@ -176,8 +255,7 @@ public final class Phenotype<
 	 * @return The fitness value of this {@code Phenotype}.
 	 */
 	public C getFitness() {
-		evaluate();
-		return _fitness;
+		return evaluation().fitness;
 	}
 
 	/**
@@ -186,8 +264,7 @@ public final class Phenotype<
 	 * @return The raw fitness (before scaling) of the phenotype.
 	 */
 	public C getRawFitness() {
-		evaluate();
-		return _rawFitness;
+		return evaluation().rawFitness;
 	}
 
 	/**
@@ -223,7 +300,7 @@ public final class Phenotype<
 
 	@Override
 	public int compareTo(final Phenotype<G, C> pt) {
-		return getFitness().compareTo(pt.getFitness());
+		return evaluation().fitness.compareTo(pt.evaluation().fitness);
 	}
 
 	@Override
@@ -378,6 +455,107 @@ public final class Phenotype<
 		);
 	}
 
+	/**
+	 * Create a new, already evaluated, phenotype from the given arguments.
+	 * The fitness {@code function} and the fitness {@code scaler} are not
+	 * called for the created phenotype. The given fitness values are used
+	 * instead. This allows to restore persisted phenotypes without
+	 * re-evaluating the fitness function.
+	 *
+	 * @since 3.1
+	 *
+	 * @param <G> the gene type of the chromosome
+	 * @param <C> the fitness value type
+	 * @param genotype the genotype of this phenotype.
+	 * @param generation the current generation of the generated phenotype.
+	 * @param function the fitness function of this phenotype.
+	 * @param scaler the fitness scaler.
+	 * @param rawFitness the raw fitness value of the phenotype
+	 * @param fitness the (scaled) fitness value of the phenotype
+	 * @return a new, evaluated, phenotype object
+	 * @throws NullPointerException if one of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code generation} is
+	 *         {@code < 0}.
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Phenotype<G, C> of(
+		final Genotype<G> genotype,
+		final long generation,
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Function<? super C, ? extends C> scaler,
+		final C rawFitness,
+		final C fitness
+	) {
+		return of(
+			genotype,
+			generation,
+			function,
+			scaler,
+			rawFitness,
+			fitness,
+			false
+		);
+	}
+
+	/**
+	 * Create a new, already evaluated, phenotype from the given arguments.
+	 * This factory method additionally restores the {@link #isCancelled()}
+	 * flag of persisted phenotypes.
+	 *
+	 * @see #of(Genotype, long, Function, Function, Comparable, Comparable)
+	 * @since 3.1
+	 *
+	 * @param <G> the gene type of the chromosome
+	 * @param <C> the fitness value type
+	 * @param genotype the genotype of this phenotype.
+	 * @param generation the current generation of the generated phenotype.
+	 * @param function the fitness function of this phenotype.
+	 * @param scaler the fitness scaler.
+	 * @param rawFitness the raw fitness value of the phenotype
+	 * @param fitness the (scaled) fitness value of the phenotype
+	 * @param cancelled {@code true} if the fitness evaluation of the
+	 *        phenotype has been cancelled
+	 * @return a new, evaluated, phenotype object
+	 * @throws NullPointerException if one of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code generation} is
+	 *         {@code < 0}.
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Phenotype<G, C> of(
+		final Genotype<G> genotype,
+		final long generation,
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Function<? super C, ? extends C> scaler,
+		final C rawFitness,
+		final C fitness,
+		final boolean cancelled
+	) {
+		final Phenotype<G, C> pt = new Phenotype<>(
+			genotype,
+			generation,
+			function,
+			scaler
+		);
+		pt._rawFitness = requireNonNull(rawFitness, "Raw fitness");
+		pt._fitness = requireNonNull(fitness, "Fitness");
+		pt._evaluation = new Evaluation<>(pt._rawFitness, pt._fitness);
+		pt._cancelled = cancelled;
+		return pt;
+	}
+
+	/**
+	 * Immutable holder of the evaluated fitness values.
+	 */
+	private static final class Evaluation<C> {
+		final C rawFitness;
+		final C fitness;
+
+		Evaluation(final C rawFitness, final C fitness) {
+			this.rawFitness = rawFitness;
+			this.fitness = fitness;
+		}
+	}
+
 	/* *************************************************************************
 	 *  JAXB object serialization
 	 * ************************************************************************/
@@ -400,6 +578,10 @@ public final class Phenotype<
 		@XmlElement(name = "raw-fitness", required = true, nillable = false)
 		public Object rawFitness;
 
+		// Only written for cancelled phenotypes.
+		@XmlAttribute(name = "cancelled")
+		public Boolean cancelled;
+
 		public final static class Adapter
 			extends XmlAdapter<Model, Phenotype>
 		{
@@ -410,6 +592,7 @@ public final class Phenotype<
 				m.genotype = Genotype.Model.ADAPTER.marshal(pt.getGenotype());
 				m.fitness = jaxb.marshal(pt.getFitness());
 				m.rawFitness = jaxb.marshal(pt.getRawFitness());
+				m.cancelled = pt.isCancelled() ? Boolean.TRUE : null;
 				return m;
 			}
 
@@ -423,6 +606,7 @@ public final class Phenotype<
 				);
 				pt._fitness = (Comparable)m.fitness;
 				pt._rawFitness = (Comparable)m.rawFitness;
+				pt._cancelled = Boolean.TRUE.equals(m.cancelled);
 				return pt;
 			}
 		}
@@ -33,8 +33,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -62,7 +65,7 @@ import org.jenetics.util.Factory;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0
+ * @version 3.1
  */
 @XmlJavaTypeAdapter(Population.Model.Adapter.class)
 public class Population<G extends Gene<?, G>, C extends Comparable<? super C>>
@@ -181,6 +184,43 @@ public class Population<G extends Gene<?, G>, C extends Comparable<? super C>>
 		return _population.stream();
 	}
 
+	/**
+	 * Returns a parallel stream of the phenotypes of this population. The
+	 * stream works on a snapshot of the population, taken when this method is
+	 * called, which is split into equally sized parts. Changes of the
+	 * population after this method has returned are not reflected by the
+	 * stream. Since the fitness of a phenotype is evaluated lazily and
+	 * thread-safe, the stream can be used for evaluating and extracting the
+	 * fitness values concurrently.
+	 *
+	 * <pre>{@code
+	 * final double[] fitness = population.parallelStream()
+	 *     .mapToDouble(Phenotype::getFitness)
+	 *     .toArray();
+	 * }</pre>
+	 *
+	 * @since 3.1
+	 *
+	 * @return a parallel stream of the phenotypes of this population
+	 */
+	@Override
+	public Stream<Phenotype<G, C>> parallelStream() {
+		return StreamSupport.stream(
+			Spliterators.spliterator(
+				_population.toArray(),
+				Spliterator.ORDERED |
+				Spliterator.NONNULL |
+				Spliterator.IMMUTABLE
+			),
+			true
+		);
+	}
+
+	@Override
+	public Spliterator<Phenotype<G, C>> spliterator() {
+		return _population.spliterator();
+	}
+
 	public void remove(final Phenotype<G, C> phenotype) {
 		requireNonNull(phenotype, "Phenotype");
 		_population.remove(phenotype);
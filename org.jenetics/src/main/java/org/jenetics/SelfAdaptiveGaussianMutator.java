@@ -0,0 +1,269 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.lang.Math.exp;
+import static java.lang.Math.max;
+import static java.lang.Math.sqrt;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.jenetics.internal.math.random.indexes;
+import static org.jenetics.internal.util.Equality.eq;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jenetics.internal.math.base;
+import org.jenetics.internal.util.Equality;
+import org.jenetics.internal.util.Hash;
+
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * Evolution strategy mutator, which mutates the genes of
+ * {@link SigmaDoubleChromosome}s with their own, evolving, step sizes
+ * <i>σ<sub>i</sub></i>. Other {@code DoubleGene} chromosomes are converted to
+ * a {@code SigmaDoubleChromosome} with {@link SigmaDoubleChromosome#of(Chromosome)}
+ * on their first mutation. The mutated gene values are cropped to the gene's
+ * boundaries, like the values of the {@link GaussianMutator}.
+ * <p>
+ * By default, the step sizes are updated with the <i>log-normal</i>
+ * self-adaptation rule
+ * <p>
+ * <i>σ'<sub>i</sub> = σ<sub>i</sub>exp(τ'N(0, 1) + τN<sub>i</sub>(0, 1))</i>,
+ * <i>x'<sub>i</sub> = x<sub>i</sub> + σ'<sub>i</sub>N<sub>i</sub>(0, 1)</i>,
+ * <p>
+ * with the learning rates <i>τ' = 1/√(2n)</i> and <i>τ = 1/√(2√n)</i>, where
+ * <i>n</i> is the length of the chromosome. The step sizes of good
+ * individuals survive the selection together with the genes. If an
+ * {@link Optimize} strategy is given, the step sizes are updated with
+ * Rechenberg's <i>1/5 success rule</i> instead. If more than one fifth of the
+ * offspring of the previous generation are fitter than their parents, all
+ * step sizes are increased by the factor {@code 1/0.817}, if less, they are
+ * decreased by the factor {@code 0.817}. The fitness of the offspring is
+ * taken from the phenotypes evaluated by the engine, on the next call of the
+ * {@link #alter(Population, long)} method.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine
+ *     .builder(ff, SigmaDoubleChromosome.of(-5, 5, 20))
+ *     .alterers(new SelfAdaptiveGaussianMutator<>(1.0))
+ *     .build();
+ * }</pre>
+ *
+ * @param <C> the fitness function result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public final class SelfAdaptiveGaussianMutator<C extends Comparable<? super C>>
+	extends Mutator<DoubleGene, C>
+{
+
+	/**
+	 * The step size adaptation factor of the 1/5 success rule.
+	 */
+	private static final double SUCCESS_RULE_FACTOR = 0.817;
+
+	/**
+	 * The minimal step size, relative to the gene range.
+	 */
+	private static final double MIN_SIGMA = 1e-12;
+
+	private final Optimize _optimize;
+
+	// State of the 1/5 success rule.
+	private final List<Phenotype<DoubleGene, C>> _parents = new ArrayList<>();
+	private final List<Phenotype<DoubleGene, C>> _children = new ArrayList<>();
+	private double _factor = 1.0;
+
+	/**
+	 * Create a new mutator with log-normal step size self-adaptation.
+	 *
+	 * @param probability the mutation probability.
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         valid range of {@code [0, 1]}.
+	 */
+	public SelfAdaptiveGaussianMutator(final double probability) {
+		super(probability);
+		_optimize = null;
+	}
+
+	/**
+	 * Create a new mutator, which adapts the step sizes with the 1/5 success
+	 * rule.
+	 *
+	 * @param probability the mutation probability.
+	 * @param optimize the optimization strategy, used for deciding whether an
+	 *        offspring is fitter than its parent
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         valid range of {@code [0, 1]}.
+	 * @throws NullPointerException if the {@code optimize} strategy is
+	 *         {@code null}
+	 */
+	public SelfAdaptiveGaussianMutator(
+		final double probability,
+		final Optimize optimize
+	) {
+		super(probability);
+		_optimize = requireNonNull(optimize);
+	}
+
+	/**
+	 * Create a new mutator with log-normal step size self-adaptation and the
+	 * default alter probability.
+	 */
+	public SelfAdaptiveGaussianMutator() {
+		this(DEFAULT_ALTER_PROBABILITY);
+	}
+
+	/**
+	 * Return {@code true} if the step sizes are adapted with the 1/5 success
+	 * rule, and {@code false} if they are adapted log-normally.
+	 *
+	 * @return {@code true} if the 1/5 success rule is used
+	 */
+	public boolean isSuccessRule() {
+		return _optimize != null;
+	}
+
+	@Override
+	public int alter(
+		final Population<DoubleGene, C> population,
+		final long generation
+	) {
+		if (_optimize == null) {
+			return super.alter(population, generation);
+		}
+
+		synchronized (this) {
+			adapt();
+
+			final ISeq<Phenotype<DoubleGene, C>> parents =
+				population.stream().collect(ISeq.toISeq());
+			final int alterations = super.alter(population, generation);
+
+			for (int i = 0; i < parents.length(); ++i) {
+				if (population.get(i) != parents.get(i)) {
+					_parents.add(parents.get(i));
+					_children.add(population.get(i));
+				}
+			}
+
+			return alterations;
+		}
+	}
+
+	// Updates the step size factor from the success rate of the offspring of
+	// the previous alter call, which are evaluated in the meantime.
+	private void adapt() {
+		int count = 0;
+		int successes = 0;
+		for (int i = 0; i < _parents.size(); ++i) {
+			final Phenotype<DoubleGene, C> parent = _parents.get(i);
+			final Phenotype<DoubleGene, C> child = _children.get(i);
+			if (parent.isEvaluated() && child.isEvaluated()) {
+				++count;
+				if (_optimize.compare(child.getFitness(), parent.getFitness()) > 0) {
+					++successes;
+				}
+			}
+		}
+		_parents.clear();
+		_children.clear();
+
+		final double rate = count > 0 ? (double)successes/count : 0.2;
+		_factor = rate > 0.2
+			? 1.0/SUCCESS_RULE_FACTOR
+			: rate < 0.2 ? SUCCESS_RULE_FACTOR : 1.0;
+	}
+
+	@Override
+	int mutate(
+		final MSeq<Chromosome<DoubleGene>> c,
+		final int i,
+		final double p
+	) {
+		final Random random = RandomRegistry.getRandom();
+		final SigmaDoubleChromosome chromosome = SigmaDoubleChromosome.of(c.get(i));
+		final MSeq<DoubleGene> genes = chromosome.toSeq().copy();
+		final double[] sigmas = chromosome.getSigmas().toArray();
+
+		final int n = genes.length();
+		final double global = _optimize == null
+			? exp(random.nextGaussian()/sqrt(2.0*n))
+			: _factor;
+		final double tau = 1.0/sqrt(2.0*sqrt(n));
+
+		final int mutations = (int)indexes(random, n, p)
+			.peek(j -> {
+				final DoubleGene gene = genes.get(j);
+				final double min = gene.getMin();
+				final double max = gene.getMax();
+
+				sigmas[j] = max(
+					_optimize == null
+						? sigmas[j]*global*exp(tau*random.nextGaussian())
+						: sigmas[j]*global,
+					(max - min)*MIN_SIGMA
+				);
+				genes.set(j, gene.newInstance(base.clamp(
+					gene.doubleValue() + sigmas[j]*random.nextGaussian(),
+					min, max
+				)));
+			})
+			.count();
+
+		if (mutations > 0) {
+			c.set(i, chromosome.newInstance(genes.toISeq(), sigmas));
+		}
+		return mutations;
+	}
+
+	@Override
+	public int hashCode() {
+		return Hash.of(getClass())
+			.and(super.hashCode())
+			.and(_optimize).value();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return Equality.of(this, obj).test(m ->
+			super.equals(m) &&
+			eq(_optimize, m._optimize)
+		);
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"%s[p=%f, %s]",
+			getClass().getSimpleName(),
+			_probability,
+			_optimize == null ? "log-normal" : "1/5-success-rule"
+		);
+	}
+
+}
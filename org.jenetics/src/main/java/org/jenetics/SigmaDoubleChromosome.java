@@ -0,0 +1,338 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.lang.String.format;
+import static org.jenetics.internal.util.Equality.eq;
+import static org.jenetics.util.ISeq.toISeq;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+import org.jenetics.internal.util.Equality;
+import org.jenetics.internal.util.Hash;
+
+import org.jenetics.util.IDoubleSeq;
+import org.jenetics.util.ISeq;
+
+/**
+ * Double chromosome which additionally stores a mutation step size (standard
+ * deviation) <i>σ<sub>i</sub></i> for every gene. This is the individual
+ * representation of evolution strategies, where the step sizes are part of
+ * the individual and evolve together with the gene values. The step sizes are
+ * stored in a primitive {@code double} array and are adapted by the
+ * {@link SelfAdaptiveGaussianMutator}.
+ * <p>
+ * Since this class is a {@link DoubleChromosome}, it can be used wherever a
+ * {@code DoubleChromosome} is expected. If two chromosomes are recombined by
+ * a {@link Crossover}, the step sizes are exchanged together with the genes.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+@XmlJavaTypeAdapter(SigmaDoubleChromosome.Model.Adapter.class)
+public final class SigmaDoubleChromosome extends DoubleChromosome {
+
+	private static final long serialVersionUID = 1L;
+
+	private final double[] _sigmas;
+
+	/**
+	 * Create a new chromosome from the given genes and step sizes. The given
+	 * {@code sigmas} array is <i>not</i> copied.
+	 */
+	private SigmaDoubleChromosome(
+		final ISeq<DoubleGene> genes,
+		final double[] sigmas
+	) {
+		super(genes);
+		if (genes.length() != sigmas.length) {
+			throw new IllegalArgumentException(format(
+				"Number of genes (%d) and step sizes (%d) differ.",
+				genes.length(), sigmas.length
+			));
+		}
+		for (double sigma : sigmas) {
+			if (!(sigma >= 0) || Double.isInfinite(sigma)) {
+				throw new IllegalArgumentException(format(
+					"Step size must be non-negative and finite, but was %f.",
+					sigma
+				));
+			}
+		}
+
+		_sigmas = sigmas;
+	}
+
+	/**
+	 * Return the step size of the gene with the given index.
+	 *
+	 * @param index the gene index
+	 * @return the step size of the gene with the given index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= length())}.
+	 */
+	public double getSigma(final int index) {
+		return _sigmas[index];
+	}
+
+	/**
+	 * Return the step sizes of the genes of this chromosome.
+	 *
+	 * @return the step sizes of the genes of this chromosome
+	 */
+	public IDoubleSeq getSigmas() {
+		return IDoubleSeq.of(_sigmas);
+	}
+
+	/**
+	 * Create a new chromosome with the given genes and step sizes. The given
+	 * {@code sigmas} array is <i>not</i> copied.
+	 */
+	SigmaDoubleChromosome newInstance(
+		final ISeq<DoubleGene> genes,
+		final double[] sigmas
+	) {
+		return new SigmaDoubleChromosome(genes, sigmas);
+	}
+
+	/**
+	 * Create a new chromosome from the recombined {@code genes} of
+	 * {@code this} and the {@code other} chromosome. A gene which is taken
+	 * from the {@code other} chromosome, at the same position, keeps the step
+	 * size of the {@code other} chromosome. All other genes get the step size
+	 * of {@code this} chromosome.
+	 */
+	SigmaDoubleChromosome newInstance(
+		final ISeq<DoubleGene> genes,
+		final Chromosome<DoubleGene> other
+	) {
+		if (!(other instanceof SigmaDoubleChromosome) ||
+			other.length() != length() ||
+			genes.length() != length())
+		{
+			return newInstance(genes);
+		}
+
+		final double[] sigmas = ((SigmaDoubleChromosome)other)._sigmas;
+		final double[] recombined = _sigmas.clone();
+		for (int i = 0; i < recombined.length; ++i) {
+			final DoubleGene gene = genes.get(i);
+			if (gene != getGene(i) && gene == other.getGene(i)) {
+				recombined[i] = sigmas[i];
+			}
+		}
+
+		return new SigmaDoubleChromosome(genes, recombined);
+	}
+
+	/**
+	 * Create a new chromosome with the given genes and the step sizes of
+	 * {@code this} chromosome. Use this method only for genes which keep their
+	 * position, like mutated genes.
+	 *
+	 * @param genes the genes of the new chromosome
+	 * @return a new chromosome with the given genes
+	 * @throws IllegalArgumentException if the number of genes differs from
+	 *         the length of {@code this} chromosome
+	 */
+	@Override
+	public SigmaDoubleChromosome newInstance(final ISeq<DoubleGene> genes) {
+		return new SigmaDoubleChromosome(genes, _sigmas);
+	}
+
+	/**
+	 * Create a new chromosome with random genes and the step sizes of
+	 * {@code this} chromosome.
+	 *
+	 * @return a new, random, chromosome
+	 */
+	@Override
+	public SigmaDoubleChromosome newInstance() {
+		return new SigmaDoubleChromosome(
+			DoubleGene.seq(_min, _max, length()),
+			_sigmas
+		);
+	}
+
+	@Override
+	public int hashCode() {
+		return Hash.of(getClass())
+			.and(super.hashCode())
+			.and(_sigmas).value();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return Equality.of(this, obj).test(c ->
+			super.equals(c) &&
+			eq(_sigmas, c._sigmas)
+		);
+	}
+
+	/**
+	 * Create a new chromosome from the given genes and step sizes.
+	 *
+	 * @param genes the genes of the chromosome
+	 * @param sigmas the step sizes of the genes; the array is copied
+	 * @return a new chromosome with the given genes and step sizes
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the genes are empty, if the number
+	 *         of genes and step sizes differ or if one of the step sizes is
+	 *         negative or not finite
+	 */
+	public static SigmaDoubleChromosome of(
+		final ISeq<DoubleGene> genes,
+		final double... sigmas
+	) {
+		return new SigmaDoubleChromosome(genes, sigmas.clone());
+	}
+
+	/**
+	 * Create a new chromosome from the genes of the given chromosome, with a
+	 * step size of {@code (max - min)/4} for every gene. This is the standard
+	 * deviation used by the {@link GaussianMutator}.
+	 *
+	 * @param chromosome the chromosome which contains the genes
+	 * @return a new chromosome with the genes of the given chromosome
+	 * @throws NullPointerException if the {@code chromosome} is {@code null}
+	 */
+	public static SigmaDoubleChromosome of(final Chromosome<DoubleGene> chromosome) {
+		if (chromosome instanceof SigmaDoubleChromosome) {
+			return (SigmaDoubleChromosome)chromosome;
+		}
+
+		final ISeq<DoubleGene> genes = chromosome.toSeq();
+		final double[] sigmas = new double[genes.length()];
+		for (int i = 0; i < sigmas.length; ++i) {
+			final DoubleGene gene = genes.get(i);
+			sigmas[i] = (gene.getMax() - gene.getMin())*0.25;
+		}
+
+		return new SigmaDoubleChromosome(genes, sigmas);
+	}
+
+	/**
+	 * Create a new random chromosome with the given initial step size for
+	 * every gene.
+	 *
+	 * @param min the min value of the {@link DoubleGene}s (inclusively).
+	 * @param max the max value of the {@link DoubleGene}s (exclusively).
+	 * @param length the length of the chromosome.
+	 * @param sigma the initial step size of every gene
+	 * @return a new random chromosome
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one, or the {@code sigma} is negative or not finite
+	 */
+	public static SigmaDoubleChromosome of(
+		final double min,
+		final double max,
+		final int length,
+		final double sigma
+	) {
+		final double[] sigmas = new double[length];
+		Arrays.fill(sigmas, sigma);
+		return new SigmaDoubleChromosome(DoubleGene.seq(min, max, length), sigmas);
+	}
+
+	/**
+	 * Create a new random chromosome with an initial step size of
+	 * {@code (max - min)/4} for every gene.
+	 *
+	 * @param min the min value of the {@link DoubleGene}s (inclusively).
+	 * @param max the max value of the {@link DoubleGene}s (exclusively).
+	 * @param length the length of the chromosome.
+	 * @return a new random chromosome
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one, or {@code max < min}
+	 */
+	public static SigmaDoubleChromosome of(
+		final double min,
+		final double max,
+		final int length
+	) {
+		return of(min, max, length, (max - min)*0.25);
+	}
+
+	/* *************************************************************************
+	 *  JAXB object serialization
+	 * ************************************************************************/
+
+	@XmlRootElement(name = "sigma-double-chromosome")
+	@XmlType(name = "org.jenetics.SigmaDoubleChromosome")
+	@XmlAccessorType(XmlAccessType.FIELD)
+	final static class Model {
+
+		@XmlAttribute(name = "length", required = true)
+		public int length;
+
+		@XmlAttribute(name = "min", required = true)
+		public double min;
+
+		@XmlAttribute(name = "max", required = true)
+		public double max;
+
+		@XmlElement(name = "allele", required = true, nillable = false)
+		public List<Double> values;
+
+		@XmlElement(name = "sigma", required = true, nillable = false)
+		public List<Double> sigmas;
+
+		public final static class Adapter
+			extends XmlAdapter<Model, SigmaDoubleChromosome>
+		{
+			@Override
+			public Model marshal(final SigmaDoubleChromosome c) {
+				final Model m = new Model();
+				m.length = c.length();
+				m.min = c._min;
+				m.max = c._max;
+				m.values = c.toSeq().map(DoubleGene::getAllele).asList();
+				m.sigmas = c.getSigmas().boxed().asList();
+				return m;
+			}
+
+			@Override
+			public SigmaDoubleChromosome unmarshal(final Model model) {
+				final Double min = model.min;
+				final Double max = model.max;
+				return new SigmaDoubleChromosome(
+					model.values.stream()
+						.map(value -> new DoubleGene(value, min, max))
+						.collect(toISeq()),
+					model.sigmas.stream()
+						.mapToDouble(Double::doubleValue)
+						.toArray()
+				);
+			}
+		}
+
+	}
+}
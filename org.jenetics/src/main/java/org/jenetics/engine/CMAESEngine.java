@@ -0,0 +1,714 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.Math.exp;
+import static java.lang.Math.log;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.Math.sqrt;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.jenetics.internal.math.base;
+import org.jenetics.internal.math.matrix;
+import org.jenetics.internal.util.Concurrency;
+
+import org.jenetics.Chromosome;
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.Factory;
+import org.jenetics.util.MSeq;
+import org.jenetics.util.NanoClock;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * Evolution engine, which implements the <i>Covariance Matrix Adaptation
+ * Evolution Strategy</i> (CMA-ES), as described by Hansen in <i>The CMA
+ * Evolution Strategy: A Tutorial</i>. In every generation, the engine samples
+ * a population of {@code populationSize} genotypes from a multivariate normal
+ * distribution, evaluates them concurrently with the given {@code executor}
+ * and adapts the mean, the step size and the covariance matrix of the
+ * distribution from the best half of the sampled genotypes. For smooth,
+ * real valued, problems, CMA-ES converges much faster than the genetic
+ * algorithm of the {@link Engine}.
+ *
+ * <pre>{@code
+ * final CMAESEngine<Double> engine = CMAESEngine
+ *     .builder(ff, DoubleChromosome.of(-5, 5, 10))
+ *     .optimize(Optimize.MINIMUM)
+ *     .build();
+ *
+ * final Phenotype<DoubleGene, Double> best = engine.stream()
+ *     .limit(limit.bySteadyFitness(20))
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }</pre>
+ *
+ * The genes of all chromosomes of the genotype form the search space of the
+ * algorithm. Every gene is scaled to the unit interval, using the bounds of
+ * the {@link DoubleGene}, and sampled values outside the gene bounds are
+ * cropped. The initial mean of the distribution is a genotype created by the
+ * genotype factory. The returned {@link EvolutionResult}s contain the sampled
+ * population of the generation.
+ * <p>
+ * The engine itself is immutable and thread-safe. The distribution
+ * parameters are stored in primitive arrays, which are allocated once for
+ * every created evolution stream; the distribution update doesn't allocate
+ * additional memory.
+ *
+ * @param <C> the fitness function result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public final class CMAESEngine<C extends Comparable<? super C>> {
+
+	private final Function<? super Genotype<DoubleGene>, ? extends C> _fitnessFunction;
+	private final Factory<Genotype<DoubleGene>> _genotypeFactory;
+	private final Optimize _optimize;
+	private final int _populationSize;
+	private final double _sigma;
+	private final Executor _executor;
+	private final Clock _clock;
+
+	private CMAESEngine(
+		final Function<? super Genotype<DoubleGene>, ? extends C> fitnessFunction,
+		final Factory<Genotype<DoubleGene>> genotypeFactory,
+		final Optimize optimize,
+		final int populationSize,
+		final double sigma,
+		final Executor executor,
+		final Clock clock
+	) {
+		_fitnessFunction = requireNonNull(fitnessFunction);
+		_genotypeFactory = requireNonNull(genotypeFactory);
+		_optimize = requireNonNull(optimize);
+		_populationSize = populationSize;
+		_sigma = sigma;
+		_executor = requireNonNull(executor);
+		_clock = requireNonNull(clock);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution stream, which starts with a newly
+	 * created distribution.
+	 *
+	 * @return a new evolution stream.
+	 */
+	public EvolutionStream<DoubleGene, C> stream() {
+		return EvolutionStream.of(this::evolutionStart, new Evolution<>(this));
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution iterator, which starts with a
+	 * newly created distribution.
+	 *
+	 * @return a new <b>infinite</b> evolution iterator
+	 */
+	public Iterator<EvolutionResult<DoubleGene, C>> iterator() {
+		return new EvolutionIterator<>(new Evolution<>(this), this::evolutionStart);
+	}
+
+	// The distribution of the evolution function replaces the population of
+	// the evolution start.
+	private EvolutionStart<DoubleGene, C> evolutionStart() {
+		return EvolutionStart.of(new Population<DoubleGene, C>(), 1);
+	}
+
+
+	/* *************************************************************************
+	 * Property access methods.
+	 **************************************************************************/
+
+	/**
+	 * Return the fitness function of the CMA-ES engine.
+	 *
+	 * @return the fitness function
+	 */
+	public Function<? super Genotype<DoubleGene>, ? extends C>
+	getFitnessFunction() {
+		return _fitnessFunction;
+	}
+
+	/**
+	 * Return the genotype factory, which defines the structure of the
+	 * genotypes and creates the initial mean of the distribution.
+	 *
+	 * @return the genotype factory
+	 */
+	public Factory<Genotype<DoubleGene>> getGenotypeFactory() {
+		return _genotypeFactory;
+	}
+
+	/**
+	 * Return the optimization strategy.
+	 *
+	 * @return the optimization strategy
+	 */
+	public Optimize getOptimize() {
+		return _optimize;
+	}
+
+	/**
+	 * Return the number of genotypes sampled in every generation.
+	 *
+	 * @return the number of genotypes sampled in every generation
+	 */
+	public int getPopulationSize() {
+		return _populationSize;
+	}
+
+	/**
+	 * Return the initial step size of the distribution, relative to the gene
+	 * ranges.
+	 *
+	 * @return the initial step size
+	 */
+	public double getSigma() {
+		return _sigma;
+	}
+
+	/**
+	 * Return the executor used for evaluating the fitness function.
+	 *
+	 * @return the executor used for evaluating the fitness function
+	 */
+	public Executor getExecutor() {
+		return _executor;
+	}
+
+	/**
+	 * Return the clock used for calculating the execution durations.
+	 *
+	 * @return the clock used for calculating the execution durations
+	 */
+	public Clock getClock() {
+		return _clock;
+	}
+
+
+	/* *************************************************************************
+	 * Evolution function.
+	 **************************************************************************/
+
+	/**
+	 * The CMA-ES evolution function. It contains the state of the sampling
+	 * distribution and must therefore be used by one evolution stream only.
+	 */
+	private static final class Evolution<C extends Comparable<? super C>>
+		implements Function<EvolutionStart<DoubleGene, C>, EvolutionResult<DoubleGene, C>>
+	{
+		private final CMAESEngine<C> _engine;
+		private final Genotype<DoubleGene> _template;
+
+		// Problem dimension, population size and number of parents.
+		private final int _n;
+		private final int _lambda;
+		private final int _mu;
+
+		// Strategy parameters.
+		private final double[] _weights;
+		private final double _mueff;
+		private final double _cc;
+		private final double _cs;
+		private final double _c1;
+		private final double _cmu;
+		private final double _damps;
+		private final double _chiN;
+		private final int _eigenGap;
+
+		// Gene bounds.
+		private final double[] _min;
+		private final double[] _max;
+
+		// Distribution parameters, in unit interval coordinates.
+		private final double[] _mean;
+		private final double[] _ps;
+		private final double[] _pc;
+		private final double[][] _c;
+		private final double[][] _b;
+		private final double[] _d;
+		private double _sigma;
+
+		// Working storage.
+		private final double[][] _y;
+		private final double[][] _work;
+		private final double[] _ymean;
+		private final double[] _tmp;
+		private final int[] _order;
+
+		private long _updates = 0;
+		private long _eigenUpdate = 0;
+
+		Evolution(final CMAESEngine<C> engine) {
+			_engine = engine;
+			_template = engine._genotypeFactory.newInstance();
+
+			_n = _template.getNumberOfGenes();
+			_lambda = engine._populationSize > 0
+				? engine._populationSize
+				: defaultPopulationSize(_n);
+			_mu = _lambda/2;
+
+			_weights = new double[_mu];
+			double sum = 0;
+			for (int i = 0; i < _mu; ++i) {
+				_weights[i] = log(_mu + 0.5) - log(i + 1);
+				sum += _weights[i];
+			}
+			double squares = 0;
+			for (int i = 0; i < _mu; ++i) {
+				_weights[i] /= sum;
+				squares += _weights[i]*_weights[i];
+			}
+			_mueff = 1.0/squares;
+
+			_cc = (4.0 + _mueff/_n)/(_n + 4.0 + 2.0*_mueff/_n);
+			_cs = (_mueff + 2.0)/(_n + _mueff + 5.0);
+			_c1 = 2.0/((_n + 1.3)*(_n + 1.3) + _mueff);
+			_cmu = min(
+				1.0 - _c1,
+				2.0*(_mueff - 2.0 + 1.0/_mueff)/((_n + 2.0)*(_n + 2.0) + _mueff)
+			);
+			_damps = 1.0 + 2.0*max(0, sqrt((_mueff - 1.0)/(_n + 1.0)) - 1.0) + _cs;
+			_chiN = sqrt(_n)*(1.0 - 1.0/(4.0*_n) + 1.0/(21.0*_n*_n));
+			_eigenGap = max(1, (int)(_lambda/(_c1 + _cmu)/_n/10.0));
+
+			_min = new double[_n];
+			_max = new double[_n];
+			_mean = new double[_n];
+			int index = 0;
+			for (Chromosome<DoubleGene> chromosome : _template) {
+				for (DoubleGene gene : chromosome) {
+					_min[index] = gene.getMin();
+					_max[index] = gene.getMax();
+					_mean[index] = _max[index] > _min[index]
+						? (gene.doubleValue() - _min[index])/(_max[index] - _min[index])
+						: 0;
+					++index;
+				}
+			}
+
+			_ps = new double[_n];
+			_pc = new double[_n];
+			_c = new double[_n][_n];
+			_b = new double[_n][_n];
+			_d = new double[_n];
+			for (int i = 0; i < _n; ++i) {
+				_c[i][i] = 1.0;
+				_b[i][i] = 1.0;
+				_d[i] = 1.0;
+			}
+			_sigma = engine._sigma;
+
+			_y = new double[_lambda][_n];
+			_work = new double[_n][_n];
+			_ymean = new double[_n];
+			_tmp = new double[_n];
+			_order = new int[_lambda];
+		}
+
+		@Override
+		public EvolutionResult<DoubleGene, C> apply(
+			final EvolutionStart<DoubleGene, C> start
+		) {
+			final Timer timer = Timer.of(_engine._clock).start();
+
+			if (_updates - _eigenUpdate >= _eigenGap) {
+				decompose();
+				_eigenUpdate = _updates;
+			}
+
+			final Population<DoubleGene, C> population =
+				sample(start.getGeneration());
+
+			final Timer evaluation = Timer.of(_engine._clock).start();
+			try (Concurrency c = Concurrency.with(_engine._executor)) {
+				c.execute(population);
+			}
+			evaluation.stop();
+
+			update(population);
+
+			final EvolutionDurations durations = EvolutionDurations.of(
+				Duration.ZERO,
+				Duration.ZERO,
+				Duration.ZERO,
+				Duration.ZERO,
+				Duration.ZERO,
+				evaluation.getTime(),
+				timer.stop().getTime()
+			);
+
+			return EvolutionResult.of(
+				_engine._optimize,
+				population,
+				start.getGeneration(),
+				durations,
+				0,
+				0,
+				0,
+				population.size()
+			);
+		}
+
+		// Samples the population of the next generation. The sampled steps,
+		// y = (x - mean)/sigma, of the (cropped) genotypes are stored in the
+		// '_y' array.
+		private Population<DoubleGene, C> sample(final long generation) {
+			final Random random = RandomRegistry.getRandom();
+			final Population<DoubleGene, C> population = new Population<>(_lambda);
+
+			for (int k = 0; k < _lambda; ++k) {
+				final double[] y = _y[k];
+				for (int j = 0; j < _n; ++j) {
+					_tmp[j] = _d[j]*random.nextGaussian();
+				}
+				for (int i = 0; i < _n; ++i) {
+					double value = 0;
+					for (int j = 0; j < _n; ++j) {
+						value += _b[i][j]*_tmp[j];
+					}
+					final double x = base.clamp(_mean[i] + _sigma*value, 0, 1);
+					y[i] = (x - _mean[i])/_sigma;
+				}
+
+				population.add(Phenotype.of(
+					genotype(y),
+					generation,
+					_engine._fitnessFunction,
+					a -> a
+				));
+			}
+
+			return population;
+		}
+
+		// Create the genotype of the given sampled step.
+		private Genotype<DoubleGene> genotype(final double[] y) {
+			final MSeq<Chromosome<DoubleGene>> chromosomes =
+				MSeq.ofLength(_template.length());
+
+			int index = 0;
+			for (int c = 0; c < chromosomes.length(); ++c) {
+				final Chromosome<DoubleGene> chromosome = _template.getChromosome(c);
+				final MSeq<DoubleGene> genes = MSeq.ofLength(chromosome.length());
+				for (int g = 0; g < genes.length(); ++g) {
+					final double x = _mean[index] + _sigma*y[index];
+					genes.set(g, chromosome.getGene(g).newInstance(
+						base.clamp(
+							_min[index] + x*(_max[index] - _min[index]),
+							_min[index],
+							_max[index]
+						)
+					));
+					++index;
+				}
+				chromosomes.set(c, chromosome.newInstance(genes.toISeq()));
+			}
+
+			return Genotype.of(chromosomes);
+		}
+
+		// Updates the distribution parameters from the evaluated population.
+		private void update(final Population<DoubleGene, C> population) {
+			sort(population);
+			++_updates;
+
+			// Weighted mean of the best steps and new mean.
+			for (int i = 0; i < _n; ++i) {
+				double value = 0;
+				for (int r = 0; r < _mu; ++r) {
+					value += _weights[r]*_y[_order[r]][i];
+				}
+				_ymean[i] = value;
+				_mean[i] += _sigma*value;
+			}
+
+			// Conjugate evolution path: ps += C^(-1/2)*ymean = B*D^-1*B'*ymean.
+			for (int j = 0; j < _n; ++j) {
+				double value = 0;
+				for (int i = 0; i < _n; ++i) {
+					value += _b[i][j]*_ymean[i];
+				}
+				_tmp[j] = value/_d[j];
+			}
+			final double cps = sqrt(_cs*(2.0 - _cs)*_mueff);
+			double psNorm = 0;
+			for (int i = 0; i < _n; ++i) {
+				double value = 0;
+				for (int j = 0; j < _n; ++j) {
+					value += _b[i][j]*_tmp[j];
+				}
+				_ps[i] = (1.0 - _cs)*_ps[i] + cps*value;
+				psNorm += _ps[i]*_ps[i];
+			}
+			psNorm = sqrt(psNorm);
+
+			// Evolution path.
+			final boolean hsig =
+				psNorm/sqrt(1.0 - pow(1.0 - _cs, 2.0*_updates))/_chiN <
+				1.4 + 2.0/(_n + 1.0);
+			final double cpc = hsig ? sqrt(_cc*(2.0 - _cc)*_mueff) : 0;
+			for (int i = 0; i < _n; ++i) {
+				_pc[i] = (1.0 - _cc)*_pc[i] + cpc*_ymean[i];
+			}
+
+			// Rank-one and rank-mu update of the covariance matrix.
+			final double c1a = _c1*(1.0 - (hsig ? 0 : 1)*_cc*(2.0 - _cc));
+			final double decay = 1.0 - c1a - _cmu;
+			for (int i = 0; i < _n; ++i) {
+				for (int j = 0; j <= i; ++j) {
+					double rankMu = 0;
+					for (int r = 0; r < _mu; ++r) {
+						final double[] y = _y[_order[r]];
+						rankMu += _weights[r]*y[i]*y[j];
+					}
+					final double value =
+						decay*_c[i][j] +
+						_c1*_pc[i]*_pc[j] +
+						_cmu*rankMu;
+
+					_c[i][j] = value;
+					_c[j][i] = value;
+				}
+			}
+
+			// Step size adaptation.
+			_sigma *= exp(min(1.0, (_cs/_damps)*(psNorm/_chiN - 1.0)));
+		}
+
+		// Sorts the population indexes by the fitness, best first.
+		private void sort(final Population<DoubleGene, C> population) {
+			final Optimize optimize = _engine._optimize;
+			for (int i = 0; i < _lambda; ++i) {
+				final C fitness = population.get(i).getFitness();
+				int j = i;
+				while (j > 0 && optimize.compare(
+						fitness, population.get(_order[j - 1]).getFitness()) > 0)
+				{
+					_order[j] = _order[j - 1];
+					--j;
+				}
+				_order[j] = i;
+			}
+		}
+
+		// Eigen decomposition, C = B*diag(D^2)*B'.
+		private void decompose() {
+			for (int i = 0; i < _n; ++i) {
+				System.arraycopy(_c[i], 0, _work[i], 0, _n);
+			}
+			matrix.eigen(_work, _b, _d);
+			for (int i = 0; i < _n; ++i) {
+				_d[i] = sqrt(max(_d[i], 1e-20));
+			}
+		}
+
+	}
+
+	// The default CMA-ES population size: 4 + floor(3*ln(n)).
+	private static int defaultPopulationSize(final int n) {
+		return max(4 + (int)(3.0*log(n)), 2);
+	}
+
+
+	/* *************************************************************************
+	 * Builder methods.
+	 **************************************************************************/
+
+	/**
+	 * Create a new {@code CMAESEngine.Builder} with the given fitness function
+	 * and genotype factory.
+	 *
+	 * @param fitnessFunction the fitness function
+	 * @param genotypeFactory the genotype factory
+	 * @param <C> the fitness function result type
+	 * @return a new engine builder
+	 * @throws java.lang.NullPointerException if one of the arguments is
+	 *         {@code null}.
+	 */
+	public static <C extends Comparable<? super C>> Builder<C> builder(
+		final Function<? super Genotype<DoubleGene>, ? extends C> fitnessFunction,
+		final Factory<Genotype<DoubleGene>> genotypeFactory
+	) {
+		return new Builder<>(fitnessFunction, genotypeFactory);
+	}
+
+	/**
+	 * Create a new {@code CMAESEngine.Builder} with the given fitness function
+	 * and chromosome templates.
+	 *
+	 * @param fitnessFunction the fitness function
+	 * @param chromosome the first chromosome
+	 * @param chromosomes the chromosome templates
+	 * @param <C> the fitness function result type
+	 * @return a new engine builder
+	 * @throws java.lang.NullPointerException if one of the arguments is
+	 *         {@code null}.
+	 */
+	public static <C extends Comparable<? super C>> Builder<C> builder(
+		final Function<? super Genotype<DoubleGene>, ? extends C> fitnessFunction,
+		final DoubleChromosome chromosome,
+		final DoubleChromosome... chromosomes
+	) {
+		return new Builder<>(
+			fitnessFunction,
+			Genotype.of(chromosome, chromosomes)
+		);
+	}
+
+	/**
+	 * Builder class for building {@code CMAESEngine} instances.
+	 *
+	 * @see CMAESEngine
+	 *
+	 * @param <C> the fitness function result type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+	 * @version 3.1
+	 * @since 3.1
+	 */
+	public static final class Builder<C extends Comparable<? super C>> {
+
+		// No default values for this properties.
+		private final Function<? super Genotype<DoubleGene>, ? extends C> _fitnessFunction;
+		private final Factory<Genotype<DoubleGene>> _genotypeFactory;
+
+		// This are the properties which default values.
+		private Optimize _optimize = Optimize.MAXIMUM;
+		private int _populationSize = 0;
+		private double _sigma = 0.3;
+		private Executor _executor = ForkJoinPool.commonPool();
+		private Clock _clock = NanoClock.systemUTC();
+
+		private Builder(
+			final Function<? super Genotype<DoubleGene>, ? extends C> fitnessFunction,
+			final Factory<Genotype<DoubleGene>> genotypeFactory
+		) {
+			_fitnessFunction = requireNonNull(fitnessFunction);
+			_genotypeFactory = requireNonNull(genotypeFactory);
+		}
+
+		/**
+		 * The optimization strategy used by the engine. <i>Default values is
+		 * set to {@code Optimize.MAXIMUM}.</i>
+		 *
+		 * @param optimize the optimization strategy used by the engine
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<C> optimize(final Optimize optimize) {
+			_optimize = requireNonNull(optimize);
+			return this;
+		}
+
+		/**
+		 * The number of genotypes sampled in every generation. <i>Default
+		 * value is set to {@code 4 + floor(3*ln(n))}, where {@code n} is the
+		 * number of genes of the genotype.</i>
+		 *
+		 * @param size the number of genotypes sampled in every generation
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.IllegalArgumentException if {@code size < 2}
+		 */
+		public Builder<C> populationSize(final int size) {
+			if (size < 2) {
+				throw new IllegalArgumentException(format(
+					"Population size must be greater than one, but was %s.", size
+				));
+			}
+			_populationSize = size;
+			return this;
+		}
+
+		/**
+		 * The initial step size of the distribution, relative to the gene
+		 * ranges. <i>Default value is set to {@code 0.3}.</i>
+		 *
+		 * @param sigma the initial, relative, step size
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.IllegalArgumentException if {@code sigma} is not
+		 *         within the range (0, 1].
+		 */
+		public Builder<C> sigma(final double sigma) {
+			if (!(sigma > 0 && sigma <= 1)) {
+				throw new IllegalArgumentException(format(
+					"Sigma must be within the range (0, 1], but was %s.", sigma
+				));
+			}
+			_sigma = sigma;
+			return this;
+		}
+
+		/**
+		 * The executor used for evaluating the fitness function.
+		 *
+		 * @param executor the executor used by the engine
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<C> executor(final Executor executor) {
+			_executor = requireNonNull(executor);
+			return this;
+		}
+
+		/**
+		 * The clock used for calculating the execution durations.
+		 *
+		 * @param clock the clock used for calculating the execution durations
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<C> clock(final Clock clock) {
+			_clock = requireNonNull(clock);
+			return this;
+		}
+
+		/**
+		 * Builds an new {@code CMAESEngine} instance from the set properties.
+		 *
+		 * @return an new {@code CMAESEngine} instance from the set properties
+		 */
+		public CMAESEngine<C> build() {
+			return new CMAESEngine<>(
+				_fitnessFunction,
+				_genotypeFactory,
+				_optimize,
+				_populationSize,
+				_sigma,
+				_executor,
+				_clock
+			);
+		}
+	}
+
+}
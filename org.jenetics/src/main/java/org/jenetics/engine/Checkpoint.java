@@ -0,0 +1,480 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Serializable;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.IO;
+import org.jenetics.util.LCG64ShiftRandom;
+import org.jenetics.util.NanoClock;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * Checkpoint of a running evolution stream. A checkpoint contains the start
+ * population of the next generation, the generation counter and the state of
+ * the {@link LCG64ShiftRandom} PRNG, if the {@link RandomRegistry} uses one.
+ * The fitness functions of the individuals are not part of the checkpoint,
+ * only the genotypes and the already evaluated fitness values are stored.
+ * <p>
+ * Checkpoints are usually written by a {@link Checkpoint.Writer}, which is
+ * {@code peek}ed into the evolution stream. The checkpoint files are written
+ * by a background thread and doesn't stall the evolution.
+ *
+ * <pre>{@code
+ * try (Checkpoint.Writer<DoubleGene, Double> checkpoints =
+ *         Checkpoint.writer(path, Duration.ofMinutes(5)))
+ * {
+ *     final Phenotype<DoubleGene, Double> best = engine.stream()
+ *         .peek(checkpoints)
+ *         .limit(100_000)
+ *         .collect(toBestPhenotype());
+ * }
+ *
+ * // Resume the evolution from the last checkpoint.
+ * final Checkpoint<DoubleGene, Double> checkpoint = Checkpoint.read(path);
+ * checkpoint.getRandom().ifPresent(RandomRegistry::setRandom);
+ * final EvolutionStart<DoubleGene, Double> start =
+ *     checkpoint.toEvolutionStart(engine);
+ *
+ * final Phenotype<DoubleGene, Double> best = engine
+ *     .stream(start.getPopulation(), start.getGeneration())
+ *     .limit(100_000)
+ *     .collect(toBestPhenotype());
+ * }</pre>
+ *
+ * The restored individuals are not re-evaluated, when the evolution is
+ * resumed. To get the same evolution results as without an interruption,
+ * the evolution must use one single, shared random engine, e.g. an
+ * {@link LCG64ShiftRandom.ThreadSafe} instance, and a single threaded
+ * executor. The PRNG state of <i>thread local</i> random engines is only
+ * captured for the thread which executes the evolution stream.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class Checkpoint<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Serializable
+{
+
+	private static final long serialVersionUID = 1L;
+
+	private final List<Individual<G, C>> _individuals;
+	private final long _generation;
+	private final LCG64ShiftRandom _random;
+
+	private Checkpoint(
+		final List<Individual<G, C>> individuals,
+		final long generation,
+		final LCG64ShiftRandom random
+	) {
+		_individuals = requireNonNull(individuals);
+		_generation = require.positive(generation);
+		_random = random;
+	}
+
+	/**
+	 * Return the generation of the checkpoint start population.
+	 *
+	 * @return the start generation of the checkpoint
+	 */
+	public long getGeneration() {
+		return _generation;
+	}
+
+	/**
+	 * Return the number of individuals of the checkpoint population.
+	 *
+	 * @return the size of the checkpoint population
+	 */
+	public int size() {
+		return _individuals.size();
+	}
+
+	/**
+	 * Return a copy of the captured PRNG, if the {@link RandomRegistry} used
+	 * an {@link LCG64ShiftRandom} when the checkpoint has been created.
+	 *
+	 * @return a copy of the captured PRNG
+	 */
+	public Optional<LCG64ShiftRandom> getRandom() {
+		return Optional.ofNullable(_random).map(LCG64ShiftRandom::copy);
+	}
+
+	/**
+	 * Create the evolution start object of the checkpoint, which can be used
+	 * for resuming the evolution with the {@link Engine#stream(Population, long)}
+	 * method. The created phenotypes are using the fitness function and
+	 * fitness scaler of the given {@code engine} and are not re-evaluated.
+	 *
+	 * @param engine the engine which resumes the evolution
+	 * @return the evolution start object of this checkpoint
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 */
+	public EvolutionStart<G, C> toEvolutionStart(final Engine<G, C> engine) {
+		requireNonNull(engine);
+
+		final Population<G, C> population = new Population<>(size());
+		for (Individual<G, C> individual : _individuals) {
+			population.add(Phenotype.of(
+				individual.genotype,
+				individual.generation,
+				engine.getFitnessFunction(),
+				engine.getFitnessScaler(),
+				individual.rawFitness,
+				individual.fitness,
+				individual.cancelled
+			));
+		}
+
+		return EvolutionStart.of(population, _generation);
+	}
+
+	/**
+	 * Writes {@code this} checkpoint to the given {@code path}. The
+	 * checkpoint is first written to a temporary file, which then replaces
+	 * the target file. An existing checkpoint file is therefore never left in
+	 * an inconsistent state.
+	 *
+	 * @param path the path of the checkpoint file
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IOException if writing the checkpoint fails
+	 */
+	public void write(final Path path) throws IOException {
+		final Path file = path.toAbsolutePath();
+		final Path temp = Files.createTempFile(
+			file.getParent(),
+			file.getFileName().toString(),
+			".tmp"
+		);
+
+		try {
+			IO.object.write(this, temp);
+			try {
+				Files.move(temp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"Checkpoint[generation=%d, size=%d]", _generation, size()
+		);
+	}
+
+	/**
+	 * Create a new checkpoint of the given evolution result. The checkpoint
+	 * contains the start population of the next generation and a copy of the
+	 * {@link RandomRegistry#getRandom()} PRNG, if it is an
+	 * {@link LCG64ShiftRandom}. This method must be called from the thread
+	 * which executes the evolution stream.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param result the evolution result
+	 * @return a new checkpoint of the given evolution result
+	 * @throws NullPointerException if the given {@code result} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Checkpoint<G, C> of(final EvolutionResult<G, C> result) {
+		final EvolutionStart<G, C> start = result.next();
+
+		final List<Individual<G, C>> individuals =
+			new ArrayList<>(start.getPopulation().size());
+		for (Phenotype<G, C> pt : start.getPopulation()) {
+			individuals.add(new Individual<>(pt));
+		}
+
+		final Random random = RandomRegistry.getRandom();
+		return new Checkpoint<>(
+			individuals,
+			start.getGeneration(),
+			random instanceof LCG64ShiftRandom
+				? ((LCG64ShiftRandom)random).copy()
+				: null
+		);
+	}
+
+	/**
+	 * Reads a checkpoint from the given {@code path}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param path the path of the checkpoint file
+	 * @return the read checkpoint
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IOException if reading the checkpoint fails
+	 */
+	@SuppressWarnings("unchecked")
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Checkpoint<G, C> read(final Path path) throws IOException {
+		return IO.object.read(Checkpoint.class, path);
+	}
+
+	/**
+	 * Return a new checkpoint writer, which writes a checkpoint every
+	 * {@code generations} generations.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param path the path of the checkpoint file
+	 * @param generations the number of generations between two checkpoints
+	 * @return a new checkpoint writer
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Writer<G, C> writer(final Path path, final long generations) {
+		if (generations < 1) {
+			throw new IllegalArgumentException(format(
+				"Generations must be greater than zero: %d", generations
+			));
+		}
+		return new Writer<>(path, generations, null, NanoClock.systemUTC());
+	}
+
+	/**
+	 * Return a new checkpoint writer, which writes a checkpoint when the
+	 * given time {@code interval} has been elapsed since the last checkpoint.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param path the path of the checkpoint file
+	 * @param interval the time interval between two checkpoints
+	 * @param clock the clock used for measuring the time interval
+	 * @return a new checkpoint writer
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Writer<G, C> writer(
+		final Path path,
+		final Duration interval,
+		final Clock clock
+	) {
+		return new Writer<>(
+			path,
+			Long.MAX_VALUE,
+			requireNonNull(interval),
+			requireNonNull(clock)
+		);
+	}
+
+	/**
+	 * Return a new checkpoint writer, which writes a checkpoint when the
+	 * given time {@code interval} has been elapsed since the last checkpoint.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param path the path of the checkpoint file
+	 * @param interval the time interval between two checkpoints
+	 * @return a new checkpoint writer
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Writer<G, C> writer(final Path path, final Duration interval) {
+		return writer(path, interval, NanoClock.systemUTC());
+	}
+
+	/**
+	 * Stored individual, without fitness function and fitness scaler.
+	 */
+	private static final class Individual<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>
+		implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		final Genotype<G> genotype;
+		final long generation;
+		final C rawFitness;
+		final C fitness;
+		final boolean cancelled;
+
+		Individual(final Phenotype<G, C> pt) {
+			genotype = pt.getGenotype();
+			generation = pt.getGeneration();
+			rawFitness = pt.getRawFitness();
+			fitness = pt.getFitness();
+			cancelled = pt.isCancelled();
+		}
+	}
+
+	/**
+	 * Evolution result consumer which writes periodically checkpoints of the
+	 * evolution stream, it is intended to be used with the
+	 * {@link java.util.stream.Stream#peek(Consumer)} method. The checkpoints
+	 * are created in the evolution thread, but written by a background thread.
+	 * If the previous checkpoint hasn't been written yet, it is replaced by
+	 * the newer one. A writer instance must only be used for one evolution
+	 * stream.
+	 * <p>
+	 * Closing the writer waits until the last checkpoint has been written and
+	 * re-throws the exception of a failed checkpoint write.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+	 * @since 3.1
+	 * @version 3.1
+	 */
+	public static final class Writer<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>
+		implements Consumer<EvolutionResult<G, C>>, Closeable
+	{
+
+		private final Path _path;
+		private final long _generations;
+		private final Duration _interval;
+		private final Clock _clock;
+
+		private final ExecutorService _executor =
+			Executors.newSingleThreadExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "jenetics-checkpoint");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+		private final AtomicReference<Checkpoint<G, C>> _pending =
+			new AtomicReference<>();
+		private final AtomicReference<IOException> _error =
+			new AtomicReference<>();
+
+		private long _generation = -1;
+		private Instant _time = null;
+
+		private Writer(
+			final Path path,
+			final long generations,
+			final Duration interval,
+			final Clock clock
+		) {
+			_path = requireNonNull(path);
+			_generations = generations;
+			_interval = interval;
+			_clock = clock;
+		}
+
+		@Override
+		public void accept(final EvolutionResult<G, C> result) {
+			final Instant now = _interval != null ? _clock.instant() : null;
+			if (_generation == -1) {
+				_generation = result.getGeneration();
+				_time = now;
+			}
+
+			if (result.getGeneration() - _generation >= _generations ||
+				(_interval != null &&
+					Duration.between(_time, now).compareTo(_interval) >= 0))
+			{
+				_generation = result.getGeneration();
+				_time = now;
+
+				if (_pending.getAndSet(Checkpoint.of(result)) == null) {
+					_executor.execute(this::drain);
+				}
+			}
+		}
+
+		private void drain() {
+			Checkpoint<G, C> checkpoint;
+			while ((checkpoint = _pending.get()) != null) {
+				try {
+					checkpoint.write(_path);
+				} catch (IOException e) {
+					_error.compareAndSet(null, e);
+				} finally {
+					_pending.compareAndSet(checkpoint, null);
+				}
+			}
+		}
+
+		/**
+		 * Waits until the pending checkpoint has been written and stops the
+		 * background thread.
+		 *
+		 * @throws IOException if writing a checkpoint has failed or if the
+		 *         waiting thread has been interrupted
+		 */
+		@Override
+		public void close() throws IOException {
+			_executor.shutdown();
+			try {
+				_executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException(
+					"Interrupted while waiting for checkpoint."
+				);
+			}
+
+			final IOException error = _error.get();
+			if (error != null) {
+				throw error;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,447 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.Math.log;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import org.jenetics.BitGene;
+import org.jenetics.Chromosome;
+import org.jenetics.EnumGene;
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.NumericGene;
+
+/**
+ * Diversity measures of a population, calculated in linear time from
+ * per-gene aggregates. For every gene position the number of set bits (for
+ * {@link BitGene}s), the mean and the sum of the squared deviations from the
+ * mean (for {@link NumericGene}s) and the allele counts (for
+ * {@link EnumGene}s) are recorded. The aggregates are updated incrementally,
+ * when genotypes are added to or {@link #remove(Genotype) removed} from the
+ * population, and can be combined for parallel streams. The numeric
+ * aggregates are updated with Welford's algorithm, which avoids the
+ * cancellation of the naive sum of squares formula.
+ *
+ * <pre>{@code
+ * final Diversity diversity = result.getPopulation().parallelStream()
+ *     .collect(Diversity.toDiversity(Phenotype::getGenotype));
+ *
+ * final double hamming = diversity.getHammingDistance();
+ * }</pre>
+ *
+ * All genotypes must have the same structure, which is determined by the
+ * first recorded genotype. Genes of other types are ignored.
+ * <p>
+ * <b>Implementation note:</b>
+ * <i>This implementation is not thread safe. However, it is safe to use
+ * {@link #toDiversity(Function)} on a parallel stream, because the parallel
+ * implementation of {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.</i>
+ *
+ * @see EvolutionStatistics#getDiversity()
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class Diversity implements Consumer<Genotype<?>> {
+
+	// The gene kinds.
+	private static final byte OTHER = 0;
+	private static final byte BIT = 1;
+	private static final byte NUMERIC = 2;
+	private static final byte ENUM = 3;
+
+	private long _count = 0;
+
+	// The per-gene aggregates, which are created with the first genotype.
+	private byte[] _kinds = null;
+	private long[] _ones;
+	private double[] _means;
+	private double[] _m2s;
+	private long[][] _alleles;
+
+	/**
+	 * Create a new, empty diversity object.
+	 */
+	public Diversity() {
+	}
+
+	/**
+	 * Add the given genotype to the diversity aggregates.
+	 *
+	 * @param genotype the genotype to add
+	 * @throws NullPointerException if the given {@code genotype} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the structure of the given
+	 *         {@code genotype} differs from the already recorded ones
+	 */
+	@Override
+	public void accept(final Genotype<?> genotype) {
+		if (_kinds == null) {
+			init(genotype);
+		}
+		update(genotype, 1);
+	}
+
+	/**
+	 * Remove the given, previously added, genotype from the diversity
+	 * aggregates. Replacing an individual of the population is done by
+	 * removing the old and adding the new genotype.
+	 *
+	 * @param genotype the genotype to remove
+	 * @throws NullPointerException if the given {@code genotype} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the structure of the given
+	 *         {@code genotype} differs from the already recorded ones
+	 * @throws IllegalStateException if no genotype has been recorded
+	 */
+	public void remove(final Genotype<?> genotype) {
+		requireNonNull(genotype);
+		if (_count == 0) {
+			throw new IllegalStateException("No genotype has been recorded.");
+		}
+		update(genotype, -1);
+	}
+
+	private void init(final Genotype<?> genotype) {
+		final int length = genotype.getNumberOfGenes();
+		_kinds = new byte[length];
+		_ones = new long[length];
+		_means = new double[length];
+		_m2s = new double[length];
+		_alleles = new long[length][];
+
+		int index = 0;
+		for (int i = 0; i < genotype.length(); ++i) {
+			final Chromosome<?> chromosome = genotype.getChromosome(i);
+			for (int j = 0; j < chromosome.length(); ++j, ++index) {
+				final Gene<?, ?> gene = chromosome.getGene(j);
+				_kinds[index] = kind(gene);
+				if (_kinds[index] == ENUM) {
+					_alleles[index] =
+						new long[((EnumGene<?>)gene).getValidAlleles().length()];
+				}
+			}
+		}
+	}
+
+	private static byte kind(final Gene<?, ?> gene) {
+		if (gene instanceof BitGene) {
+			return BIT;
+		} else if (gene instanceof NumericGene<?, ?>) {
+			return NUMERIC;
+		} else if (gene instanceof EnumGene<?>) {
+			return ENUM;
+		} else {
+			return OTHER;
+		}
+	}
+
+	// Checks the whole genotype before the aggregates are updated, which
+	// leaves them unchanged if the genotype doesn't fit.
+	private void check(final Genotype<?> genotype) {
+		if (genotype.getNumberOfGenes() != _kinds.length) {
+			throw new IllegalArgumentException(format(
+				"Expected genotype with %d genes, but got %d.",
+				_kinds.length, genotype.getNumberOfGenes()
+			));
+		}
+
+		int index = 0;
+		for (int i = 0; i < genotype.length(); ++i) {
+			final Chromosome<?> chromosome = genotype.getChromosome(i);
+			for (int j = 0; j < chromosome.length(); ++j, ++index) {
+				final Gene<?, ?> gene = chromosome.getGene(j);
+				if (kind(gene) != _kinds[index]) {
+					throw new IllegalArgumentException(format(
+						"Gene %d has a different type than the recorded ones: %s.",
+						index, gene.getClass().getName()
+					));
+				}
+				if (_kinds[index] == ENUM) {
+					final EnumGene<?> eg = (EnumGene<?>)gene;
+					if (eg.getValidAlleles().length() != _alleles[index].length) {
+						throw new IllegalArgumentException(format(
+							"Expected %d valid alleles for gene %d, but got %d.",
+							_alleles[index].length, index,
+							eg.getValidAlleles().length()
+						));
+					}
+				}
+			}
+		}
+	}
+
+	private void update(final Genotype<?> genotype, final int sign) {
+		check(genotype);
+
+		// The number of genotypes after the update.
+		final long n = _count + sign;
+
+		int index = 0;
+		for (int i = 0; i < genotype.length(); ++i) {
+			final Chromosome<?> chromosome = genotype.getChromosome(i);
+			for (int j = 0; j < chromosome.length(); ++j, ++index) {
+				final Gene<?, ?> gene = chromosome.getGene(j);
+				switch (_kinds[index]) {
+					case BIT:
+						if (((BitGene)gene).getBit()) {
+							_ones[index] += sign;
+						}
+						break;
+					case NUMERIC:
+						final double value = ((NumericGene<?, ?>)gene).doubleValue();
+						if (n == 0) {
+							_means[index] = 0;
+							_m2s[index] = 0;
+						} else {
+							final double delta = value - _means[index];
+							_means[index] += sign*delta/n;
+							_m2s[index] += sign*delta*(value - _means[index]);
+						}
+						break;
+					case ENUM:
+						_alleles[index][((EnumGene<?>)gene).getAlleleIndex()] += sign;
+						break;
+					default:
+						break;
+				}
+			}
+		}
+
+		_count += sign;
+	}
+
+	/**
+	 * Combine two {@code Diversity} objects.
+	 *
+	 * @param other the other {@code Diversity} object to combine
+	 * @return {@code this}
+	 * @throws java.lang.NullPointerException if the {@code other} object is
+	 *         {@code null}.
+	 * @throws java.lang.IllegalArgumentException if the genotype structure of
+	 *         the {@code other} object differs from {@code this} one.
+	 */
+	public Diversity combine(final Diversity other) {
+		requireNonNull(other);
+
+		if (other._kinds != null) {
+			if (_kinds == null) {
+				_kinds = other._kinds.clone();
+				_ones = other._ones.clone();
+				_means = other._means.clone();
+				_m2s = other._m2s.clone();
+				_alleles = new long[_kinds.length][];
+				for (int i = 0; i < _alleles.length; ++i) {
+					if (other._alleles[i] != null) {
+						_alleles[i] = other._alleles[i].clone();
+					}
+				}
+			} else {
+				if (!Arrays.equals(_kinds, other._kinds) ||
+					!sameAlleles(_alleles, other._alleles))
+				{
+					throw new IllegalArgumentException(
+						"Can't perform combine, the genotype structures differ."
+					);
+				}
+
+				final double n = _count + other._count;
+				for (int i = 0; i < _kinds.length; ++i) {
+					_ones[i] += other._ones[i];
+					if (_kinds[i] == NUMERIC && n > 0) {
+						final double delta = other._means[i] - _means[i];
+						_means[i] += delta*other._count/n;
+						_m2s[i] += other._m2s[i] +
+							delta*delta*_count*other._count/n;
+					}
+					if (_alleles[i] != null) {
+						for (int j = 0; j < _alleles[i].length; ++j) {
+							_alleles[i][j] += other._alleles[i][j];
+						}
+					}
+				}
+			}
+		}
+
+		_count += other._count;
+		return this;
+	}
+
+	private static boolean sameAlleles(final long[][] a, final long[][] b) {
+		for (int i = 0; i < a.length; ++i) {
+			if (a[i] != null && a[i].length != b[i].length) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return the number of recorded genotypes.
+	 *
+	 * @return the number of recorded genotypes
+	 */
+	public long getCount() {
+		return _count;
+	}
+
+	/**
+	 * Return the mean Hamming distance of all pairs of recorded genotypes,
+	 * considering only the {@link BitGene}s. The distance is calculated from
+	 * the number of set bits {@code c} per gene position:
+	 * <pre>{@code
+	 *     Σ c*(n - c)/(n*(n - 1)/2)
+	 * }</pre>
+	 *
+	 * @return the mean pairwise Hamming distance, or {@code Double.NaN} if
+	 *         less than two genotypes or no bit genes have been recorded
+	 */
+	public double getHammingDistance() {
+		if (_count < 2 || !contains(BIT)) {
+			return Double.NaN;
+		}
+
+		final double n = _count;
+		double distance = 0;
+		for (int i = 0; i < _kinds.length; ++i) {
+			if (_kinds[i] == BIT) {
+				distance += _ones[i]*(n - _ones[i]);
+			}
+		}
+
+		return distance/(n*(n - 1.0)/2.0);
+	}
+
+	/**
+	 * Return the mean variance of the {@link NumericGene} values, calculated
+	 * per gene position.
+	 *
+	 * @return the mean gene variance, or {@code Double.NaN} if less than two
+	 *         genotypes or no numeric genes have been recorded
+	 */
+	public double getGeneVariance() {
+		if (_count < 2 || !contains(NUMERIC)) {
+			return Double.NaN;
+		}
+
+		final double n = _count;
+		double variance = 0;
+		int genes = 0;
+		for (int i = 0; i < _kinds.length; ++i) {
+			if (_kinds[i] == NUMERIC) {
+				// Removing genotypes can leave rounding errors in the order of
+				// the machine epsilon, which must not lead to negative values.
+				variance += Math.max(_m2s[i]/(n - 1.0), 0.0);
+				++genes;
+			}
+		}
+
+		return variance/genes;
+	}
+
+	/**
+	 * Return the mean Shannon entropy, in bits, of the allele distribution of
+	 * the {@link EnumGene}s, calculated per gene position. An entropy of zero
+	 * means that all genotypes have the same allele at every position.
+	 *
+	 * @return the mean allele entropy, or {@code Double.NaN} if no genotypes
+	 *         or no enum genes have been recorded
+	 */
+	public double getAlleleEntropy() {
+		if (_count < 1 || !contains(ENUM)) {
+			return Double.NaN;
+		}
+
+		double entropy = 0;
+		int genes = 0;
+		for (int i = 0; i < _kinds.length; ++i) {
+			if (_kinds[i] == ENUM) {
+				for (long count : _alleles[i]) {
+					if (count > 0) {
+						final double p = (double)count/_count;
+						entropy -= p*log(p);
+					}
+				}
+				++genes;
+			}
+		}
+
+		return entropy/genes/log(2);
+	}
+
+	private boolean contains(final byte kind) {
+		if (_kinds != null) {
+			for (byte k : _kinds) {
+				if (k == kind) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"Diversity[N=%d, hamming=%s, variance=%s, entropy=%s]",
+			getCount(),
+			getHammingDistance(),
+			getGeneVariance(),
+			getAlleleEntropy()
+		);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies a genotype-producing mapping
+	 * function to each input element, and returns the diversity of the
+	 * resulting genotypes.
+	 *
+	 * <pre>{@code
+	 * final Diversity diversity = population.parallelStream()
+	 *     .collect(toDiversity(Phenotype::getGenotype));
+	 * }</pre>
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the diversity reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 */
+	public static <T> Collector<T, ?, Diversity>
+	toDiversity(final Function<? super T, ? extends Genotype<?>> mapper) {
+		requireNonNull(mapper);
+		return Collector.of(
+			Diversity::new,
+			(r, t) -> r.accept(mapper.apply(t)),
+			Diversity::combine
+		);
+	}
+
+}
@@ -22,17 +22,27 @@ package org.jenetics.engine;
 import static java.lang.Math.round;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static org.jenetics.Population.toPopulation;
+import static org.jenetics.internal.util.IndexSorter.sort;
 import static org.jenetics.internal.util.require.probability;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -50,6 +60,7 @@ import org.jenetics.Population;
 import org.jenetics.Selector;
 import org.jenetics.SinglePointCrossover;
 import org.jenetics.TournamentSelector;
+import org.jenetics.stat.LongHistogram;
 import org.jenetics.util.Copyable;
 import org.jenetics.util.Factory;
 import org.jenetics.util.NanoClock;
@@ -121,6 +132,12 @@ public final class Engine<
 	implements Function<EvolutionStart<G, C>, EvolutionResult<G, C>>
 {
 
+	// Default evaluation cost, which leaves the evaluation order unchanged.
+	private static final ToDoubleFunction<Object> UNIFORM_COST = o -> 1.0;
+
+	// Default evaluation timeout, which practically means no timeout.
+	private static final Duration NO_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE);
+
 	// Needed context for population evolving.
 	private final Function<? super Genotype<G>, ? extends C> _fitnessFunction;
 	private final Function<? super C, ? extends C> _fitnessScaler;
@@ -137,6 +154,11 @@ public final class Engine<
 	// Execution context for concurrent execution of evolving steps.
 	private final TimedExecutor _executor;
 	private final Clock _clock;
+	private final ToDoubleFunction<? super Genotype<G>> _evaluationCost;
+	private final Duration _evaluationTimeout;
+	private final Duration _generationTimeout;
+	private final Function<? super Genotype<G>, ? extends C> _timeoutFitness;
+	private final EngineMetrics _metrics;
 
 	// Additional parameters.
 	private final int _individualCreationRetries;
@@ -159,8 +181,15 @@ public final class Engine<
 	 * @param maximalPhenotypeAge the maximal age of an individual
 	 * @param executor the executor used for executing the single evolve steps
 	 * @param clock the clock used for calculating the timing results
+	 * @param evaluationCost the estimated cost of evaluating a genotype
+	 * @param evaluationTimeout the maximal evaluation time of one individual
+	 * @param generationTimeout the maximal evaluation time of one generation
+	 * @param timeoutFitness the fitness function for the individuals whose
+	 *        evaluation has been timed out. May be {@code null}, if no
+	 *        timeout is given.
 	 * @param individualCreationRetries the maximal number of attempts for
 	 *        creating a valid individual.
+	 * @param metrics the metrics registry of the engine
 	 * @throws NullPointerException if one of the arguments is {@code null}
 	 * @throws IllegalArgumentException if the given integer values are smaller
 	 *         than one.
@@ -179,7 +208,12 @@ public final class Engine<
 		final long maximalPhenotypeAge,
 		final Executor executor,
 		final Clock clock,
-		final int individualCreationRetries
+		final ToDoubleFunction<? super Genotype<G>> evaluationCost,
+		final Duration evaluationTimeout,
+		final Duration generationTimeout,
+		final Function<? super Genotype<G>, ? extends C> timeoutFitness,
+		final int individualCreationRetries,
+		final Metrics metrics
 	) {
 		_fitnessFunction = requireNonNull(fitnessFunction);
 		_fitnessScaler = requireNonNull(fitnessScaler);
@@ -194,8 +228,18 @@ public final class Engine<
 		_survivorsCount = require.positive(survivorsCount);
 		_maximalPhenotypeAge = require.positive(maximalPhenotypeAge);
 
-		_executor = new TimedExecutor(requireNonNull(executor));
+		_metrics = new EngineMetrics(metrics);
+		_executor = new TimedExecutor(
+			requireNonNull(executor),
+			_metrics.isEnabled() ? _metrics::queueWait : null
+		);
 		_clock = requireNonNull(clock);
+		_evaluationCost = requireNonNull(evaluationCost);
+		_evaluationTimeout = requireNonNull(evaluationTimeout);
+		_generationTimeout = requireNonNull(generationTimeout);
+		_timeoutFitness = isTimeoutEnabled()
+			? requireNonNull(timeoutFitness, "Timeout fitness")
+			: null;
 
 		if (individualCreationRetries < 0) {
 			throw new IllegalArgumentException(format(
@@ -249,17 +293,25 @@ public final class Engine<
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
 		final Timer timer = Timer.of().start();
 
+		// The selectors must only see evaluated phenotypes. Otherwise the
+		// concurrently running selection steps are doing the (synchronized)
+		// fitness evaluation. The evaluation works on a copy, because cancelled
+		// phenotypes are replaced in place.
+		final EvaluationResult<G, C> evaluatedStart =
+			evaluate(start.getPopulation().copy());
+		final Population<G, C> parents = evaluatedStart.population;
+
 		// Select the offspring population.
 		final CompletableFuture<TimedResult<Population<G, C>>> offspring =
 			_executor.async(() ->
-				selectOffspring(start.getPopulation()),
+				selectOffspring(parents),
 				_clock
 			);
 
 		// Select the survivor population.
 		final CompletableFuture<TimedResult<Population<G, C>>> survivors =
 			_executor.async(() ->
-				selectSurvivors(start.getPopulation()),
+				selectSurvivors(parents),
 				_clock
 			);
 
@@ -294,10 +346,12 @@ public final class Engine<
 				_executor.get()
 			);
 
-		// Evaluate the fitness-function and wait for result.
-		final TimedResult<Population<G, C>> result = population
-			.thenApply(TimedResult.of(this::evaluate, _clock))
-			.join();
+		// Evaluate the fitness-function in the calling thread. Evaluating it
+		// in the thread which completes the population would block a thread
+		// of the executor, which dead-locks executors with only one thread.
+		final Population<G, C> offspringAndSurvivors = population.join();
+		final TimedResult<EvaluationResult<G, C>> result =
+			TimedResult.of(() -> evaluate(offspringAndSurvivors), _clock).get();
 
 		final EvolutionDurations durations = EvolutionDurations.of(
 			offspring.join().duration,
@@ -317,15 +371,21 @@ public final class Engine<
 			filteredOffspring.join().result.invalidCount +
 			filteredSurvivors.join().result.invalidCount;
 
-		return EvolutionResult.of(
+		final EvolutionResult<G, C> evolutionResult = EvolutionResult.of(
 			_optimize,
-			result.result,
+			result.result.population,
 			start.getGeneration(),
 			durations,
 			killCount,
 			invalidCount,
-			alteredOffspring.join().result.alterCount
+			alteredOffspring.join().result.alterCount,
+			result.result.evaluationCount + evaluatedStart.evaluationCount
+		).withEvaluationTimes(
+			result.result.evaluationTimes.combine(evaluatedStart.evaluationTimes)
 		);
+		_metrics.record(evolutionResult);
+
+		return evolutionResult;
 	}
 
 	/**
@@ -350,6 +410,7 @@ public final class Engine<
 	}
 
 	// Filters out invalid and to old individuals. Filtering is done in place.
+	// Individuals with cancelled (timed out) evaluation are treated as invalid.
 	private FilterResult<G, C> filter(
 		final Population<G, C> population,
 		final long generation
@@ -360,7 +421,7 @@ public final class Engine<
 		for (int i = 0, n = population.size(); i < n; ++i) {
 			final Phenotype<G, C> individual = population.get(i);
 
-			if (!_validator.test(individual)) {
+			if (!_validator.test(individual) || individual.isCancelled()) {
 				population.set(i, newPhenotype(generation));
 				++invalidCount;
 			} else if (individual.getAge(generation) > _maximalPhenotypeAge) {
@@ -401,11 +462,118 @@ public final class Engine<
 	}
 
 	// Evaluates the fitness function of the give population concurrently.
-	private Population<G, C> evaluate(final Population<G, C> population) {
-		try (Concurrency c = Concurrency.with(_executor.get())) {
-			c.execute(population);
+	// Only the not yet evaluated phenotypes are submitted to the executor.
+	private EvaluationResult<G, C> evaluate(final Population<G, C> population) {
+		final List<Phenotype<G, C>> phenotypes = population.stream()
+			.filter(pt -> !pt.isEvaluated())
+			.collect(toList());
+
+		final LongHistogram times = new LongHistogram();
+		if (!phenotypes.isEmpty()) {
+			final List<Evaluation> evaluations = schedule(phenotypes).stream()
+				.map(Evaluation::new)
+				.collect(toList());
+
+			final Set<Evaluation> cancelled =
+				Collections.newSetFromMap(new IdentityHashMap<>());
+			if (isTimeoutEnabled()) {
+				cancelled.addAll(evaluate(population, evaluations));
+			} else {
+				try (Concurrency c = Concurrency.with(_executor.get())) {
+					c.execute(evaluations);
+				}
+			}
+
+			for (Evaluation evaluation : evaluations) {
+				if (!cancelled.contains(evaluation)) {
+					times.accept(evaluation.nanos);
+				}
+			}
+		}
+
+		return new EvaluationResult<>(population, phenotypes.size(), times);
+	}
+
+	// Evaluates the given phenotypes with the evaluation and generation
+	// timeouts. The phenotypes of the population whose evaluation has been
+	// cancelled are replaced, in place, by a cancelled phenotype with the same
+	// genotype, whose fitness is given by the timeout fitness function. The
+	// cancelled evaluations are returned.
+	private List<Evaluation> evaluate(
+		final Population<G, C> population,
+		final List<Evaluation> evaluations
+	) {
+		final TimeoutExecutor executor = new TimeoutExecutor(
+			_executor.get(),
+			_evaluationTimeout.toNanos(),
+			_generationTimeout.toNanos()
+		);
+
+		final List<Evaluation> cancelled = executor.execute(evaluations);
+		if (!cancelled.isEmpty()) {
+			final Set<Phenotype<?, ?>> phenotypes =
+				Collections.newSetFromMap(new IdentityHashMap<>());
+			for (Evaluation evaluation : cancelled) {
+				phenotypes.add(evaluation.phenotype);
+			}
+
+			for (int i = 0, n = population.size(); i < n; ++i) {
+				final Phenotype<G, C> pt = population.get(i);
+				if (phenotypes.contains(pt)) {
+					population.set(i, pt.cancel(_timeoutFitness));
+				}
+			}
 		}
-		return population;
+
+		return cancelled;
+	}
+
+	// Evaluates the fitness function of one phenotype and measures the
+	// evaluation time in nanoseconds.
+	private static final class Evaluation implements Runnable {
+		final Phenotype<?, ?> phenotype;
+		long nanos;
+
+		Evaluation(final Phenotype<?, ?> phenotype) {
+			this.phenotype = phenotype;
+		}
+
+		@Override
+		public void run() {
+			final long start = System.nanoTime();
+			phenotype.evaluate();
+			nanos = System.nanoTime() - start;
+		}
+	}
+
+	private boolean isTimeoutEnabled() {
+		return !_evaluationTimeout.equals(NO_TIMEOUT) ||
+			!_generationTimeout.equals(NO_TIMEOUT);
+	}
+
+	// Orders the phenotypes by their estimated evaluation cost, the most
+	// expensive first (longest processing time first). Together with the
+	// dynamically fetched chunks of the executing workers, this keeps the
+	// single expensive evaluations off the end of the generation.
+	private List<Phenotype<G, C>>
+	schedule(final List<Phenotype<G, C>> phenotypes) {
+		if (_evaluationCost == UNIFORM_COST || phenotypes.size() < 2) {
+			return phenotypes;
+		}
+
+		final double[] costs = new double[phenotypes.size()];
+		for (int i = 0; i < costs.length; ++i) {
+			costs[i] = _evaluationCost
+				.applyAsDouble(phenotypes.get(i).getGenotype());
+		}
+
+		final int[] indexes = sort(costs);
+		final List<Phenotype<G, C>> scheduled = new ArrayList<>(indexes.length);
+		for (int index : indexes) {
+			scheduled.add(phenotypes.get(index));
+		}
+
+		return scheduled;
 	}
 
 	/**
@@ -432,13 +600,63 @@ public final class Engine<
 		return EvolutionStream.of(this::evolutionStart, this::evolve);
 	}
 
+	/**
+	 * Create a new <b>infinite</b> evolution stream of independent evolution
+	 * runs. Every run starts with a newly created population. Splitting the
+	 * returned stream, as done by parallel streams, starts an additional run,
+	 * so the runs are performed concurrently.
+	 *
+	 * <pre>{@code
+	 * final Phenotype<DoubleGene, Double> best = engine
+	 *     .restartStream(() -> limit.bySteadyFitness(20))
+	 *     .parallel()
+	 *     .limit(10_000)
+	 *     .collect(EvolutionResult.toBestPhenotype());
+	 * }</pre>
+	 *
+	 * @see EvolutionStream#ofRestarts(Supplier, Function, Supplier)
+	 *
+	 * @since 3.1
+	 *
+	 * @param restart the factory of the run predicate, which is created for
+	 *        every run. A run is restarted with a new population, if its
+	 *        predicate returns {@code false}.
+	 * @return a new, restartable, evolution stream
+	 * @throws java.lang.NullPointerException if the given {@code restart}
+	 *         supplier is {@code null}
+	 */
+	public EvolutionStream<G, C> restartStream(
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> restart
+	) {
+		return EvolutionStream.ofRestarts(
+			this::evolutionStart,
+			this::evolve,
+			restart
+		);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution stream of independent evolution
+	 * runs. Every run starts with a newly created population and is never
+	 * restarted. New runs are only started by splitting the stream, as done
+	 * by parallel streams.
+	 *
+	 * @see #restartStream(Supplier)
+	 *
+	 * @since 3.1
+	 *
+	 * @return a new, restartable, evolution stream
+	 */
+	public EvolutionStream<G, C> restartStream() {
+		return restartStream(() -> r -> true);
+	}
+
 	private EvolutionStart<G, C> evolutionStart() {
 		final int generation = 1;
 		final int size = _offspringCount + _survivorsCount;
 
 		final Population<G, C> population = new Population<G, C>(size)
 			.fill(() -> newPhenotype(generation), size);
-		evaluate(population);
 
 		return EvolutionStart.of(population, generation);
 	}
@@ -503,7 +721,6 @@ public final class Engine<
 		final Population<G, C> population = stream
 			.limit(getPopulationSize())
 			.collect(toPopulation());
-		evaluate(population);
 
 		return EvolutionStart.of(population, generation);
 	}
@@ -577,22 +794,27 @@ public final class Engine<
 		final long generation
 	) {
 		final Stream<Phenotype<G, C>> stream = Stream.concat(
-			population.stream()
-				.map(p -> p.newInstance(
-					p.getGeneration(),
-					_fitnessFunction,
-					_fitnessScaler)),
+			population.stream().map(this::adopt),
 			Stream.generate(() -> newPhenotype(generation))
 		);
 
 		final Population<G, C> pop = stream
 			.limit(getPopulationSize())
 			.collect(toPopulation());
-		evaluate(pop);
 
 		return EvolutionStart.of(pop, generation);
 	}
 
+	// Return a phenotype with the fitness function and scaler of this engine.
+	// Phenotypes which already use the functions of this engine keep its
+	// evaluated fitness value.
+	private Phenotype<G, C> adopt(final Phenotype<G, C> pt) {
+		return pt.getFitnessFunction() == _fitnessFunction &&
+			pt.getFitnessScaler() == _fitnessScaler
+			? pt
+			: pt.newInstance(pt.getGeneration(), _fitnessFunction, _fitnessScaler);
+	}
+
 
 
 	/* *************************************************************************
@@ -720,6 +942,52 @@ public final class Engine<
 		return _executor.get();
 	}
 
+	/**
+	 * Return the function which estimates the cost of evaluating the fitness
+	 * function for a given genotype.
+	 *
+	 * @since 3.1
+	 *
+	 * @return the evaluation cost estimator of the engine
+	 */
+	public ToDoubleFunction<? super Genotype<G>> getEvaluationCost() {
+		return _evaluationCost;
+	}
+
+	/**
+	 * Return the maximal evaluation time of a single individual.
+	 *
+	 * @since 3.1
+	 *
+	 * @return the maximal evaluation time of a single individual
+	 */
+	public Duration getEvaluationTimeout() {
+		return _evaluationTimeout;
+	}
+
+	/**
+	 * Return the maximal evaluation time of the individuals of one
+	 * generation.
+	 *
+	 * @since 3.1
+	 *
+	 * @return the maximal evaluation time of one generation
+	 */
+	public Duration getGenerationTimeout() {
+		return _generationTimeout;
+	}
+
+	/**
+	 * Return the metrics registry the engine is recording its metrics to.
+	 *
+	 * @since 3.1
+	 *
+	 * @return the metrics registry of the engine
+	 */
+	public Metrics getMetrics() {
+		return _metrics.get();
+	}
+
 
 	/* *************************************************************************
 	 * Builder methods.
@@ -736,6 +1004,12 @@ public final class Engine<
 		return new Builder<>(_genotypeFactory, _fitnessFunction)
 			.alterers(_alterer)
 			.clock(_clock)
+			.evaluationCost(_evaluationCost)
+			.timeouts(
+				_evaluationTimeout,
+				_generationTimeout,
+				_timeoutFitness
+			)
 			.executor(_executor.get())
 			.fitnessScaler(_fitnessScaler)
 			.maximalPhenotypeAge(_maximalPhenotypeAge)
@@ -745,7 +1019,8 @@ public final class Engine<
 			.phenotypeValidator(_validator)
 			.populationSize(getPopulationSize())
 			.survivorsSelector(_survivorsSelector)
-			.individualCreationRetries(_individualCreationRetries);
+			.individualCreationRetries(_individualCreationRetries)
+			.metrics(_metrics.get());
 	}
 
 	/**
@@ -807,7 +1082,7 @@ public final class Engine<
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
 	 * @since 3.0
-	 * @version 3.0
+	 * @version 3.1
 	 */
 	public static final class Builder<
 		G extends Gene<?, G>,
@@ -836,6 +1111,12 @@ public final class Engine<
 
 		private Executor _executor = ForkJoinPool.commonPool();
 		private Clock _clock = NanoClock.systemUTC();
+		private ToDoubleFunction<? super Genotype<G>> _evaluationCost =
+			UNIFORM_COST;
+		private Duration _evaluationTimeout = NO_TIMEOUT;
+		private Duration _generationTimeout = NO_TIMEOUT;
+		private Function<? super Genotype<G>, ? extends C> _timeoutFitness;
+		private Metrics _metrics = Metrics.NONE;
 
 		private int _individualCreationRetries = 10;
 
@@ -1093,6 +1374,174 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * The function which estimates the cost (e.g. the execution time) of
+		 * evaluating the fitness function for a given genotype. The genotypes
+		 * with the highest estimated costs are evaluated first, which improves
+		 * the load balancing of concurrently executed fitness functions with
+		 * highly varying execution times. Only the relative order of the
+		 * estimated costs is relevant. <i>Default value is set to a constant
+		 * cost function, which leaves the evaluation order unchanged.</i>
+		 *
+		 * <pre>{@code
+		 * final Engine<DoubleGene, Double> engine = Engine
+		 *     .builder(Simulation::run, DoubleChromosome.of(0, 1, 100))
+		 *     // The simulation time grows with the first gene value.
+		 *     .evaluationCost(gt -> gt.getGene().getAllele())
+		 *     .build();
+		 * }</pre>
+		 *
+		 * @since 3.1
+		 *
+		 * @param cost the estimated evaluation cost of a genotype
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the given {@code cost}
+		 *         function is {@code null}.
+		 */
+		public Builder<G, C> evaluationCost(
+			final ToDoubleFunction<? super Genotype<G>> cost
+		) {
+			_evaluationCost = requireNonNull(cost);
+			return this;
+		}
+
+		/**
+		 * The metrics registry, the engine records the durations of the
+		 * evolution phases, the evaluation counts and the population diversity
+		 * to. See {@link Metrics} for the recorded metrics. <i>Default value is
+		 * set to {@link Metrics#NONE}, which doesn't record anything.</i>
+		 *
+		 * <pre>{@code
+		 * final InMemoryMetrics metrics = new InMemoryMetrics();
+		 * JMXMetrics.register(metrics, new ObjectName("org.jenetics:type=Engine"));
+		 *
+		 * final Engine<DoubleGene, Double> engine = Engine
+		 *     .builder(fitness, DoubleChromosome.of(0, 1, 10))
+		 *     .metrics(metrics)
+		 *     .build();
+		 * }</pre>
+		 *
+		 * @since 3.1
+		 *
+		 * @param metrics the metrics registry of the engine
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the given {@code metrics}
+		 *         is {@code null}.
+		 */
+		public Builder<G, C> metrics(final Metrics metrics) {
+			_metrics = requireNonNull(metrics);
+			return this;
+		}
+
+		/**
+		 * The maximal time the evaluation of a single individual may take,
+		 * measured from the start of its evaluation. If the fitness function
+		 * exceeds the given {@code timeout}, the evaluation is cancelled and
+		 * the evaluating thread is interrupted. The individual gets the
+		 * fitness value of the {@link #timeoutFitness(Function)} function and
+		 * is treated as invalid, which means it is replaced by a new individual
+		 * in the next generation. <i>Default value is set to no timeout.</i>
+		 * <p>
+		 * A fitness function which doesn't react on the interruption keeps
+		 * the executing thread busy until it has finished, but the evolution
+		 * is no longer waiting for it. The timeout only takes effect for
+		 * executors which are running the evaluation in a separate thread.
+		 *
+		 * <pre>{@code
+		 * final Engine<DoubleGene, Double> engine = Engine
+		 *     .builder(Simulation::run, DoubleChromosome.of(0, 1, 100))
+		 *     .evaluationTimeout(Duration.ofSeconds(10))
+		 *     .timeoutFitness(gt -> 0.0)
+		 *     .build();
+		 * }</pre>
+		 *
+		 * @since 3.1
+		 *
+		 * @see #generationTimeout(Duration)
+		 * @see #timeoutFitness(Function)
+		 *
+		 * @param timeout the maximal evaluation time of one individual
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the {@code timeout} is
+		 *         {@code null}.
+		 * @throws java.lang.IllegalArgumentException if the {@code timeout}
+		 *         is not positive.
+		 */
+		public Builder<G, C> evaluationTimeout(final Duration timeout) {
+			_evaluationTimeout = positive(timeout);
+			return this;
+		}
+
+		/**
+		 * The maximal time the evaluation of all individuals of one generation
+		 * may take. All evaluations, which are not finished within the given
+		 * {@code timeout}, are cancelled, and the individuals are handled as
+		 * described in {@link #evaluationTimeout(Duration)}. This bounds the
+		 * time, a generation can exceed an overall execution time limit, e.g.
+		 * given by {@link limit#byExecutionTime(Duration)}. <i>Default value is
+		 * set to no timeout.</i>
+		 *
+		 * @since 3.1
+		 *
+		 * @see #evaluationTimeout(Duration)
+		 * @see #timeoutFitness(Function)
+		 *
+		 * @param timeout the maximal evaluation time of one generation
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the {@code timeout} is
+		 *         {@code null}.
+		 * @throws java.lang.IllegalArgumentException if the {@code timeout}
+		 *         is not positive.
+		 */
+		public Builder<G, C> generationTimeout(final Duration timeout) {
+			_generationTimeout = positive(timeout);
+			return this;
+		}
+
+		/**
+		 * The fitness function used for individuals whose evaluation has been
+		 * cancelled by the {@link #evaluationTimeout(Duration)} or the
+		 * {@link #generationTimeout(Duration)}. This function must be set, if
+		 * one of the timeouts is set.
+		 *
+		 * @since 3.1
+		 *
+		 * @param fallback the fitness function used for individuals whose
+		 *        evaluation has been timed out. The function should return
+		 *        immediately.
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the {@code fallback}
+		 *         function is {@code null}.
+		 */
+		public Builder<G, C> timeoutFitness(
+			final Function<? super Genotype<G>, ? extends C> fallback
+		) {
+			_timeoutFitness = requireNonNull(fallback);
+			return this;
+		}
+
+		// Sets the timeout values without any checks. Used for copying the
+		// builder, where the timeout fitness can be null.
+		private Builder<G, C> timeouts(
+			final Duration evaluationTimeout,
+			final Duration generationTimeout,
+			final Function<? super Genotype<G>, ? extends C> timeoutFitness
+		) {
+			_evaluationTimeout = evaluationTimeout;
+			_generationTimeout = generationTimeout;
+			_timeoutFitness = timeoutFitness;
+			return this;
+		}
+
+		private static Duration positive(final Duration timeout) {
+			if (timeout.isNegative() || timeout.isZero()) {
+				throw new IllegalArgumentException(format(
+					"Timeout must be positive, but was %s.", timeout
+				));
+			}
+			return timeout;
+		}
+
 		/**
 		 * The maximal number of attempt before the {@code Engine} gives up
 		 * creating a valid individual ({@code Phenotype}). <i>Default values is
@@ -1120,6 +1569,8 @@ public final class Engine<
 		 * Builds an new {@code Engine} instance from the set properties.
 		 *
 		 * @return an new {@code Engine} instance from the set properties
+		 * @throws NullPointerException if a timeout has been set, but no
+		 *         {@link #timeoutFitness(Function)}
 		 */
 		public Engine<G, C> build() {
 			return new Engine<>(
@@ -1136,7 +1587,12 @@ public final class Engine<
 				_maximalPhenotypeAge,
 				_executor,
 				_clock,
-				_individualCreationRetries
+				_evaluationCost,
+				_evaluationTimeout,
+				_generationTimeout,
+				_timeoutFitness,
+				_individualCreationRetries,
+				_metrics
 			);
 		}
 
@@ -1181,6 +1637,65 @@ public final class Engine<
 			return _executor;
 		}
 
+		/**
+		 * Return the function which estimates the cost of evaluating the
+		 * fitness function for a given genotype.
+		 *
+		 * @since 3.1
+		 *
+		 * @return the evaluation cost estimator
+		 */
+		public ToDoubleFunction<? super Genotype<G>> getEvaluationCost() {
+			return _evaluationCost;
+		}
+
+		/**
+		 * Return the maximal evaluation time of a single individual.
+		 *
+		 * @since 3.1
+		 *
+		 * @return the maximal evaluation time of a single individual
+		 */
+		public Duration getEvaluationTimeout() {
+			return _evaluationTimeout;
+		}
+
+		/**
+		 * Return the maximal evaluation time of the individuals of one
+		 * generation.
+		 *
+		 * @since 3.1
+		 *
+		 * @return the maximal evaluation time of one generation
+		 */
+		public Duration getGenerationTimeout() {
+			return _generationTimeout;
+		}
+
+		/**
+		 * Return the metrics registry the engine is recording its metrics to.
+		 *
+		 * @since 3.1
+		 *
+		 * @return the metrics registry of the engine
+		 */
+		public Metrics getMetrics() {
+			return _metrics;
+		}
+
+		/**
+		 * Return the fitness function used for individuals whose evaluation
+		 * has been timed out.
+		 *
+		 * @since 3.1
+		 *
+		 * @return the timeout fitness function, or {@code null} if no timeout
+		 *         has been set
+		 */
+		public Function<? super Genotype<G>, ? extends C> getTimeoutFitness() {
+			return _timeoutFitness;
+		}
+
 		/**
 		 * Return the fitness function of the GA engine.
 		 *
@@ -1304,6 +1819,8 @@ public final class Engine<
 			return new Builder<>(_genotypeFactory, _fitnessFunction)
 				.alterers(_alterer)
 				.clock(_clock)
+				.evaluationCost(_evaluationCost)
+				.timeouts(_evaluationTimeout, _generationTimeout, _timeoutFitness)
 				.executor(_executor)
 				.fitnessScaler(_fitnessScaler)
 				.maximalPhenotypeAge(_maximalPhenotypeAge)
@@ -1313,7 +1830,8 @@ public final class Engine<
 				.optimize(_optimize)
 				.populationSize(_populationSize)
 				.survivorsSelector(_survivorsSelector)
-				.individualCreationRetries(_individualCreationRetries);
+				.individualCreationRetries(_individualCreationRetries)
+				.metrics(_metrics);
 		}
 
 	}
@@ -0,0 +1,143 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * Records the metrics of the evolution steps of an engine. The metric
+ * instruments are looked up once, when the engine is created.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+final class EngineMetrics {
+
+	private static final String PREFIX = "jenetics.";
+
+	// The population diversity is only recorded every n-th generation, since
+	// it must hash every genotype of the population.
+	private static final int DIVERSITY_INTERVAL = 10;
+
+	private final Metrics _metrics;
+
+	private final Metrics.Timer _offspringSelection;
+	private final Metrics.Timer _survivorsSelection;
+	private final Metrics.Timer _alter;
+	private final Metrics.Timer _offspringFilter;
+	private final Metrics.Timer _survivorsFilter;
+	private final Metrics.Timer _evaluation;
+	private final Metrics.Timer _evolve;
+	private final Metrics.Timer _queueWait;
+
+	private final Metrics.Counter _generations;
+	private final Metrics.Counter _evaluations;
+	private final Metrics.Counter _killed;
+	private final Metrics.Counter _invalid;
+	private final Metrics.Counter _altered;
+	private final Metrics.Counter _reused;
+
+	private final Metrics.Histogram _evaluationRate;
+	private final Metrics.Histogram _diversity;
+
+	EngineMetrics(final Metrics metrics) {
+		_metrics = requireNonNull(metrics);
+
+		_offspringSelection = metrics.timer(PREFIX + "selection.offspring");
+		_survivorsSelection = metrics.timer(PREFIX + "selection.survivors");
+		_alter = metrics.timer(PREFIX + "alter");
+		_offspringFilter = metrics.timer(PREFIX + "filter.offspring");
+		_survivorsFilter = metrics.timer(PREFIX + "filter.survivors");
+		_evaluation = metrics.timer(PREFIX + "evaluation");
+		_evolve = metrics.timer(PREFIX + "evolve");
+		_queueWait = metrics.timer(PREFIX + "queue.wait");
+
+		_generations = metrics.counter(PREFIX + "generations");
+		_evaluations = metrics.counter(PREFIX + "evaluations");
+		_killed = metrics.counter(PREFIX + "killed");
+		_invalid = metrics.counter(PREFIX + "invalid");
+		_altered = metrics.counter(PREFIX + "altered");
+		_reused = metrics.counter(PREFIX + "fitness.reused");
+
+		_evaluationRate = metrics.histogram(PREFIX + "evaluation.rate");
+		_diversity = metrics.histogram(PREFIX + "population.diversity");
+	}
+
+	Metrics get() {
+		return _metrics;
+	}
+
+	boolean isEnabled() {
+		return _metrics != Metrics.NONE;
+	}
+
+	void queueWait(final long nanos) {
+		_queueWait.record(nanos);
+	}
+
+	void record(final EvolutionResult<?, ?> result) {
+		if (!isEnabled()) return;
+
+		final EvolutionDurations durations = result.getDurations();
+		_offspringSelection.record(durations.getOffspringSelectionDuration());
+		_survivorsSelection.record(durations.getSurvivorsSelectionDuration());
+		_alter.record(durations.getOffspringAlterDuration());
+		_offspringFilter.record(durations.getOffspringFilterDuration());
+		_survivorsFilter.record(durations.getSurvivorFilterDuration());
+		_evaluation.record(durations.getEvaluationDuration());
+		_evolve.record(durations.getEvolveDuration());
+
+		final int size = result.getPopulation().size();
+		final int evaluations = result.getEvaluationCount();
+		_generations.increment();
+		_evaluations.increment(evaluations);
+		_killed.increment(result.getKillCount());
+		_invalid.increment(result.getInvalidCount());
+		_altered.increment(result.getAlterCount());
+		_reused.increment(Math.max(size - evaluations, 0));
+
+		final long nanos = durations.getEvaluationDuration().toNanos();
+		if (nanos > 0 && evaluations > 0) {
+			_evaluationRate.record(evaluations*1_000_000_000.0/nanos);
+		}
+		if (size > 0 && (result.getGeneration() - 1)%DIVERSITY_INTERVAL == 0) {
+			_diversity.record(distinct(result.getPopulation())/(double)size);
+		}
+	}
+
+	private static <G extends Gene<?, G>> int
+	distinct(final Population<G, ?> population) {
+		final Set<Genotype<G>> genotypes = new HashSet<>(population.size());
+		for (Phenotype<G, ?> pt : population) {
+			genotypes.add(pt.getGenotype());
+		}
+		return genotypes.size();
+	}
+
+}
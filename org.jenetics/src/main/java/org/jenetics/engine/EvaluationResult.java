@@ -0,0 +1,57 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import org.jenetics.Gene;
+import org.jenetics.Population;
+import org.jenetics.stat.LongHistogram;
+
+/**
+ * Represents the result of the evaluation step.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+final class EvaluationResult<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	final Population<G, C> population;
+	final int evaluationCount;
+	final LongHistogram evaluationTimes;
+
+	EvaluationResult(
+		final Population<G, C> population,
+		final int evaluationCount,
+		final LongHistogram evaluationTimes
+	) {
+		this.population = requireNonNull(population);
+		this.evaluationCount = evaluationCount;
+		this.evaluationTimes = requireNonNull(evaluationTimes);
+	}
+
+}
@@ -0,0 +1,751 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jenetics.internal.io.BinaryInput;
+import org.jenetics.internal.io.BinaryOutput;
+
+import org.jenetics.Gene;
+import org.jenetics.Optimize;
+import org.jenetics.Population;
+
+/**
+ * Binary log of evolution results. Every evolution result is stored as
+ * {@link EvolutionLog.Entry}, which contains the generation, the durations,
+ * the kill-, invalid-, alter- and evaluation count, the best and worst
+ * fitness value and, optionally, the population of the result.
+ *
+ * <pre>{@code
+ * try (EvolutionLog.Writer<DoubleGene, Double> log = EvolutionLog.writer(path)) {
+ *     final Phenotype<DoubleGene, Double> best = engine.stream()
+ *         .limit(1000)
+ *         .peek(log)
+ *         .collect(toBestPhenotype());
+ * }
+ *
+ * try (Stream<EvolutionLog.Entry<DoubleGene, Double>> entries =
+ *         EvolutionLog.read(path))
+ * {
+ *     entries.forEach(e ->
+ *         System.out.println(e.getGeneration() + ": " + e.getBestFitness())
+ *     );
+ * }
+ * }</pre>
+ *
+ * The log file starts with a header, followed by length prefixed chunks.
+ * Every chunk contains a batch of entries, which are encoded with the binary
+ * format of {@link org.jenetics.util.IO#binary}. New chunks are appended to
+ * an existing log file. An incomplete last chunk of an existing log file is
+ * removed before the first new chunk is appended.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class EvolutionLog {
+
+	// The magic number of the log files: "JENL".
+	private static final int MAGIC = 0x4A454E4C;
+	private static final short VERSION = 1;
+	private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+	private static final int CHUNK_HEADER_SIZE = 2*Integer.BYTES;
+
+	// The default number of entries of one chunk.
+	private static final int BATCH_SIZE = 64;
+
+	// The maximal number of chunks waiting to be written.
+	private static final int QUEUE_SIZE = 16;
+
+	private EvolutionLog() {
+	}
+
+	/**
+	 * Return a new log writer, which appends the evolution results to the
+	 * given {@code path}, without their populations.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param path the path of the log file
+	 * @return a new log writer
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IOException if the log file can't be opened or is not a valid
+	 *         log file
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Writer<G, C> writer(final Path path) throws IOException {
+		return writer(path, false, BATCH_SIZE);
+	}
+
+	/**
+	 * Return a new log writer, which appends the evolution results to the
+	 * given {@code path}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param path the path of the log file
+	 * @param population if {@code true}, the populations of the evolution
+	 *        results are written as well
+	 * @param batchSize the number of evolution results which are written as
+	 *        one chunk
+	 * @return a new log writer
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IllegalArgumentException if the {@code batchSize} is smaller
+	 *         than one
+	 * @throws IOException if the log file can't be opened or is not a valid
+	 *         log file
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Writer<G, C> writer(
+		final Path path,
+		final boolean population,
+		final int batchSize
+	)
+		throws IOException
+	{
+		if (batchSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Batch size must be greater than zero: %d", batchSize
+			));
+		}
+
+		final FileChannel channel = FileChannel.open(path, CREATE, READ, WRITE);
+		try {
+			if (channel.size() == 0) {
+				final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+				header.putInt(MAGIC).putShort(VERSION).flip();
+				write(header, channel);
+			} else {
+				readHeader(channel);
+				channel.truncate(completeChunksEnd(channel));
+			}
+			channel.position(channel.size());
+
+			return new Writer<>(channel, population, batchSize);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	// Return the end position of the last complete chunk. The channel must be
+	// positioned directly after the file header.
+	private static long completeChunksEnd(final FileChannel channel)
+		throws IOException
+	{
+		final long size = channel.size();
+		final ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_SIZE);
+
+		long end = channel.position();
+		while (readFully(header, channel)) {
+			final int length = header.getInt();
+			final int count = header.getInt();
+			final long next = end + CHUNK_HEADER_SIZE + length;
+			if (length < 0 || count < 0 || next > size) break;
+
+			end = next;
+			channel.position(end);
+			header.clear();
+		}
+
+		return end;
+	}
+
+	private static void write(final ByteBuffer buffer, final FileChannel channel)
+		throws IOException
+	{
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Return a lazy stream of the log entries of the given log file. The log
+	 * file is read chunk by chunk, while the stream is consumed. An
+	 * incomplete last chunk, e.g. after a crash of the writing process, is
+	 * ignored. Read errors are thrown as {@link UncheckedIOException}. The
+	 * returned stream must be closed, for closing the log file.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param path the path of the log file
+	 * @return a stream of the log entries
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IOException if the log file can't be opened or is not a valid
+	 *         log file
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Stream<Entry<G, C>> read(final Path path) throws IOException {
+		final FileChannel channel = FileChannel.open(path, READ);
+		try {
+			readHeader(channel);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+
+		final Iterator<Entry<G, C>> entries = new Iterator<Entry<G, C>>() {
+			private Iterator<Entry<G, C>> _chunk = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while (!_chunk.hasNext()) {
+					final List<Entry<G, C>> chunk = readChunk(channel);
+					if (chunk == null) return false;
+					_chunk = chunk.iterator();
+				}
+				return true;
+			}
+
+			@Override
+			public Entry<G, C> next() {
+				hasNext();
+				return _chunk.next();
+			}
+		};
+
+		return StreamSupport
+			.stream(
+				Spliterators.spliteratorUnknownSize(
+					entries,
+					Spliterator.ORDERED | Spliterator.NONNULL
+				),
+				false
+			)
+			.onClose(() -> {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+	}
+
+	private static void readHeader(final FileChannel channel)
+		throws IOException
+	{
+		final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		if (!readFully(header, channel)) {
+			throw new IOException("Invalid evolution log file.");
+		}
+
+		final int magic = header.getInt();
+		if (magic != MAGIC) {
+			throw new IOException(format(
+				"Invalid evolution log file: 0x%08X", magic
+			));
+		}
+		final short version = header.getShort();
+		if (version != VERSION) {
+			throw new IOException(format(
+				"Unsupported evolution log version: %d", version
+			));
+		}
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	List<Entry<G, C>> readChunk(final FileChannel channel) {
+		try {
+			final ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_SIZE);
+			if (!readFully(header, channel)) return null;
+
+			final int length = header.getInt();
+			final int count = header.getInt();
+			if (length < 0 || count < 0 ||
+				length > channel.size() - channel.position())
+			{
+				return null;
+			}
+
+			final ByteBuffer data = ByteBuffer.allocate(length);
+			if (!readFully(data, channel)) return null;
+
+			final BinaryInput input = new BinaryInput(
+				new ByteArrayInputStream(data.array())
+			);
+			final List<Entry<G, C>> entries = new ArrayList<>(count);
+			for (int i = 0; i < count; ++i) {
+				entries.add(Entry.read(input));
+			}
+			return entries;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// Return false if the end of the file has been reached before the buffer
+	// has been filled.
+	private static boolean readFully(
+		final ByteBuffer buffer,
+		final FileChannel channel
+	)
+		throws IOException
+	{
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) return false;
+		}
+		buffer.flip();
+		return true;
+	}
+
+	/**
+	 * Log entry of one evolution result.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+	 * @since 3.1
+	 * @version 3.1
+	 */
+	public static final class Entry<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final Optimize _optimize;
+		private final long _generation;
+		private final long _totalGenerations;
+		private final EvolutionDurations _durations;
+		private final int _killCount;
+		private final int _invalidCount;
+		private final int _alterCount;
+		private final int _evaluationCount;
+		private final C _bestFitness;
+		private final C _worstFitness;
+		private final Population<G, C> _population;
+
+		private Entry(
+			final Optimize optimize,
+			final long generation,
+			final long totalGenerations,
+			final EvolutionDurations durations,
+			final int killCount,
+			final int invalidCount,
+			final int alterCount,
+			final int evaluationCount,
+			final C bestFitness,
+			final C worstFitness,
+			final Population<G, C> population
+		) {
+			_optimize = optimize;
+			_generation = generation;
+			_totalGenerations = totalGenerations;
+			_durations = durations;
+			_killCount = killCount;
+			_invalidCount = invalidCount;
+			_alterCount = alterCount;
+			_evaluationCount = evaluationCount;
+			_bestFitness = bestFitness;
+			_worstFitness = worstFitness;
+			_population = population;
+		}
+
+		/**
+		 * Return the optimization strategy used.
+		 *
+		 * @return the optimization strategy used
+		 */
+		public Optimize getOptimize() {
+			return _optimize;
+		}
+
+		/**
+		 * Return the current generation.
+		 *
+		 * @return the current generation
+		 */
+		public long getGeneration() {
+			return _generation;
+		}
+
+		/**
+		 * Return the timing (meta) information of the evolution step.
+		 *
+		 * @return the timing (meta) information of the evolution step
+		 */
+		public EvolutionDurations getDurations() {
+			return _durations;
+		}
+
+		/**
+		 * Return the number of evaluated generations.
+		 *
+		 * @return the total number of generations
+		 */
+		public long getTotalGenerations() {
+			return _totalGenerations;
+		}
+
+		/**
+		 * Return the number of killed individuals.
+		 *
+		 * @return the number of killed individuals
+		 */
+		public int getKillCount() {
+			return _killCount;
+		}
+
+		/**
+		 * Return the number of invalid individuals.
+		 *
+		 * @return the number of invalid individuals
+		 */
+		public int getInvalidCount() {
+			return _invalidCount;
+		}
+
+		/**
+		 * Return the number of altered individuals.
+		 *
+		 * @return the number of altered individuals
+		 */
+		public int getAlterCount() {
+			return _alterCount;
+		}
+
+		/**
+		 * Return the number of performed fitness function evaluations.
+		 *
+		 * @return the number of fitness function evaluations
+		 */
+		public int getEvaluationCount() {
+			return _evaluationCount;
+		}
+
+		/**
+		 * Return the best fitness value of the evolution result.
+		 *
+		 * @return the best fitness value, or {@code null} if the population
+		 *         of the result was empty
+		 */
+		public C getBestFitness() {
+			return _bestFitness;
+		}
+
+		/**
+		 * Return the worst fitness value of the evolution result.
+		 *
+		 * @return the worst fitness value, or {@code null} if the population
+		 *         of the result was empty
+		 */
+		public C getWorstFitness() {
+			return _worstFitness;
+		}
+
+		/**
+		 * Return the population of the evolution result, if it has been
+		 * logged.
+		 *
+		 * @return the population of the evolution result
+		 */
+		public Optional<Population<G, C>> getPopulation() {
+			return Optional.ofNullable(_population);
+		}
+
+		/**
+		 * Return the logged evolution result, if the population has been
+		 * logged.
+		 *
+		 * @return the logged evolution result
+		 */
+		public Optional<EvolutionResult<G, C>> toEvolutionResult() {
+			return getPopulation().map(population -> EvolutionResult.of(
+				_optimize,
+				population,
+				_generation,
+				_totalGenerations,
+				_durations,
+				_killCount,
+				_invalidCount,
+				_alterCount,
+				_evaluationCount
+			));
+		}
+
+		@Override
+		public String toString() {
+			return format(
+				"Entry[generation=%d, best=%s, worst=%s]",
+				_generation, _bestFitness, _worstFitness
+			);
+		}
+
+		static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Entry<G, C> of(
+			final EvolutionResult<G, C> result,
+			final boolean population
+		) {
+			return new Entry<>(
+				result.getOptimize(),
+				result.getGeneration(),
+				result.getTotalGenerations(),
+				result.getDurations(),
+				result.getKillCount(),
+				result.getInvalidCount(),
+				result.getAlterCount(),
+				result.getEvaluationCount(),
+				result.getBestFitness(),
+				result.getWorstFitness(),
+				population ? result.getPopulation().copy() : null
+			);
+		}
+
+		void write(final BinaryOutput out) throws IOException {
+			out.writeValue(_optimize.ordinal());
+			out.writeValue(_generation);
+			out.writeValue(_totalGenerations);
+			out.writeValue(_durations.getOffspringSelectionDuration().toNanos());
+			out.writeValue(_durations.getSurvivorsSelectionDuration().toNanos());
+			out.writeValue(_durations.getOffspringAlterDuration().toNanos());
+			out.writeValue(_durations.getOffspringFilterDuration().toNanos());
+			out.writeValue(_durations.getSurvivorFilterDuration().toNanos());
+			out.writeValue(_durations.getEvaluationDuration().toNanos());
+			out.writeValue(_durations.getEvolveDuration().toNanos());
+			out.writeValue(_killCount);
+			out.writeValue(_invalidCount);
+			out.writeValue(_alterCount);
+			out.writeValue(_evaluationCount);
+			out.writeValue(_bestFitness);
+			out.writeValue(_worstFitness);
+			if (_population != null) {
+				out.write(_population);
+			} else {
+				out.writeValue(null);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Entry<G, C> read(final BinaryInput in) throws IOException {
+			try {
+				return new Entry<>(
+					Optimize.values()[(Integer)in.read()],
+					(Long)in.read(),
+					(Long)in.read(),
+					EvolutionDurations.of(
+						Duration.ofNanos((Long)in.read()),
+						Duration.ofNanos((Long)in.read()),
+						Duration.ofNanos((Long)in.read()),
+						Duration.ofNanos((Long)in.read()),
+						Duration.ofNanos((Long)in.read()),
+						Duration.ofNanos((Long)in.read()),
+						Duration.ofNanos((Long)in.read())
+					),
+					(Integer)in.read(),
+					(Integer)in.read(),
+					(Integer)in.read(),
+					(Integer)in.read(),
+					(C)in.read(),
+					(C)in.read(),
+					(Population<G, C>)in.read()
+				);
+			} catch (ClassCastException | IndexOutOfBoundsException e) {
+				throw new IOException("Invalid evolution log entry.", e);
+			}
+		}
+	}
+
+	/**
+	 * Evolution result consumer, which appends the evolution results to the
+	 * log file. It is intended to be used with the
+	 * {@link java.util.stream.Stream#peek(Consumer)} method. The log entries
+	 * are created in the evolution thread and collected in batches. The
+	 * batches are encoded and written by a background thread. The evolution
+	 * thread is only blocked, if the background thread falls behind by more
+	 * than a few batches.
+	 * <p>
+	 * Closing the writer writes the last, incomplete batch, waits until all
+	 * batches have been written and re-throws the exception of a failed
+	 * write.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+	 * @since 3.1
+	 * @version 3.1
+	 */
+	public static final class Writer<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>
+		implements Consumer<EvolutionResult<G, C>>, Closeable
+	{
+
+		// Signals the end of the log to the writer thread.
+		private final List<Entry<G, C>> _end = new ArrayList<>();
+
+		private final FileChannel _channel;
+		private final boolean _population;
+		private final int _batchSize;
+
+		private final BlockingQueue<List<Entry<G, C>>> _queue =
+			new ArrayBlockingQueue<>(QUEUE_SIZE);
+		private final AtomicReference<IOException> _error =
+			new AtomicReference<>();
+		private final Thread _thread;
+
+		private List<Entry<G, C>> _batch;
+		private boolean _closed = false;
+
+		private Writer(
+			final FileChannel channel,
+			final boolean population,
+			final int batchSize
+		) {
+			_channel = channel;
+			_population = population;
+			_batchSize = batchSize;
+			_batch = new ArrayList<>(batchSize);
+
+			_thread = new Thread(this::run, "jenetics-evolution-log");
+			_thread.setDaemon(true);
+			_thread.start();
+		}
+
+		@Override
+		public void accept(final EvolutionResult<G, C> result) {
+			if (_closed) {
+				throw new IllegalStateException("Evolution log is closed.");
+			}
+
+			_batch.add(Entry.of(result, _population));
+			if (_batch.size() >= _batchSize) {
+				enqueue(_batch);
+				_batch = new ArrayList<>(_batchSize);
+			}
+		}
+
+		private void enqueue(final List<Entry<G, C>> batch) {
+			try {
+				_queue.put(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException(
+					"Interrupted while writing the evolution log."
+				);
+			}
+		}
+
+		private void run() {
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try {
+				List<Entry<G, C>> batch;
+				while ((batch = _queue.take()) != _end) {
+					if (_error.get() == null) {
+						try {
+							write(batch, bytes);
+						} catch (IOException e) {
+							_error.set(e);
+						}
+					}
+				}
+			} catch (InterruptedException e) {
+				_error.compareAndSet(null, new InterruptedIOException());
+			}
+		}
+
+		private void write(
+			final List<Entry<G, C>> batch,
+			final ByteArrayOutputStream bytes
+		)
+			throws IOException
+		{
+			bytes.reset();
+			final BinaryOutput out = new BinaryOutput(bytes);
+			for (Entry<G, C> entry : batch) {
+				entry.write(out);
+			}
+			out.flush();
+
+			final ByteBuffer buffer = ByteBuffer
+				.allocate(CHUNK_HEADER_SIZE + bytes.size())
+				.putInt(bytes.size())
+				.putInt(batch.size())
+				.put(bytes.toByteArray());
+			buffer.flip();
+			EvolutionLog.write(buffer, _channel);
+		}
+
+		/**
+		 * Writes the remaining log entries and closes the log file.
+		 *
+		 * @throws IOException if writing the log has failed or if the
+		 *         waiting thread has been interrupted
+		 */
+		@Override
+		public void close() throws IOException {
+			if (_closed) return;
+			_closed = true;
+
+			try {
+				if (!_batch.isEmpty()) {
+					_queue.put(_batch);
+				}
+				_queue.put(_end);
+				_thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				_thread.interrupt();
+				_error.compareAndSet(null, new InterruptedIOException(
+					"Interrupted while writing the evolution log."
+				));
+			} finally {
+				_channel.close();
+			}
+
+			final IOException error = _error.get();
+			if (error != null) {
+				throw error;
+			}
+		}
+
+	}
+
+}
@@ -36,6 +36,7 @@ import org.jenetics.Genotype;
 import org.jenetics.Optimize;
 import org.jenetics.Phenotype;
 import org.jenetics.Population;
+import org.jenetics.stat.LongHistogram;
 import org.jenetics.stat.MinMax;
 
 /**
@@ -48,7 +49,7 @@ import org.jenetics.stat.MinMax;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 3.1
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -67,6 +68,8 @@ public final class EvolutionResult<
 	private final int _killCount;
 	private final int _invalidCount;
 	private final int _alterCount;
+	private final int _evaluationCount;
+	private final LongHistogram _evaluationTimes;
 
 	private final Lazy<Phenotype<G, C>> _best;
 	private final Lazy<Phenotype<G, C>> _worst;
@@ -79,7 +82,9 @@ public final class EvolutionResult<
 		final EvolutionDurations durations,
 		final int killCount,
 		final int invalidCount,
-		final int alterCount
+		final int alterCount,
+		final int evaluationCount,
+		final LongHistogram evaluationTimes
 	) {
 		_optimize = requireNonNull(optimize);
 		_population = requireNonNull(population);
@@ -89,6 +94,8 @@ public final class EvolutionResult<
 		_killCount = killCount;
 		_invalidCount = invalidCount;
 		_alterCount = alterCount;
+		_evaluationCount = evaluationCount;
+		_evaluationTimes = requireNonNull(evaluationTimes);
 
 		_best = Lazy.of((Supplier<Phenotype<G, C>> & Serializable)this::best);
 		_worst = Lazy.of((Supplier<Phenotype<G, C>> & Serializable)this::worst);
@@ -174,6 +181,35 @@ public final class EvolutionResult<
 		return _alterCount;
 	}
 
+	/**
+	 * Return the number of fitness function evaluations performed in the
+	 * evolution step. Individuals which have been evaluated in a previous
+	 * step, e.g. the survivors, are not evaluated (and counted) again.
+	 *
+	 * @since 3.1
+	 *
+	 * @return the number of performed fitness function evaluations
+	 */
+	public int getEvaluationCount() {
+		return _evaluationCount;
+	}
+
+	/**
+	 * Return the distribution of the evaluation times, in nanoseconds, of the
+	 * single fitness function evaluations performed in the evolution step.
+	 * The histogram is empty for evolution results which haven't been created
+	 * by an evolution {@link Engine}. Since the evolution result is immutable,
+	 * a new copy of the histogram is returned on every call.
+	 *
+	 * @since 3.1
+	 *
+	 * @return the distribution of the fitness function evaluation times
+	 */
+	public LongHistogram getEvaluationTimes() {
+		return new LongHistogram(_evaluationTimes.getSignificantDigits())
+			.combine(_evaluationTimes);
+	}
+
 	/**
 	 * Return the best {@code Phenotype} of the result population.
 	 *
@@ -234,7 +270,7 @@ public final class EvolutionResult<
 	}
 
 	private EvolutionResult<G, C> withTotalGenerations(final long total) {
-		return of(
+		return new EvolutionResult<>(
 			_optimize,
 			_population,
 			_generation,
@@ -242,7 +278,33 @@ public final class EvolutionResult<
 			_durations,
 			_killCount,
 			_invalidCount,
-			_alterCount
+			_alterCount,
+			_evaluationCount,
+			_evaluationTimes
+		);
+	}
+
+	/**
+	 * Return a copy of {@code this} result with the given distribution of the
+	 * fitness function evaluation times.
+	 *
+	 * @param evaluationTimes the evaluation times in nanoseconds
+	 * @return a new evolution result with the given evaluation times
+	 */
+	EvolutionResult<G, C> withEvaluationTimes(
+		final LongHistogram evaluationTimes
+	) {
+		return new EvolutionResult<>(
+			_optimize,
+			_population,
+			_generation,
+			_totalGenerations,
+			_durations,
+			_killCount,
+			_invalidCount,
+			_alterCount,
+			_evaluationCount,
+			evaluationTimes
 		);
 	}
 
@@ -257,6 +319,7 @@ public final class EvolutionResult<
 			.and(_killCount)
 			.and(_invalidCount)
 			.and(_alterCount)
+			.and(_evaluationCount)
 			.and(getBestFitness()).value();
 	}
 
@@ -271,6 +334,7 @@ public final class EvolutionResult<
 			eq(_killCount, result._killCount) &&
 			eq(_invalidCount, result._invalidCount) &&
 			eq(_alterCount, result._alterCount) &&
+			eq(_evaluationCount, result._evaluationCount) &&
 			eq(getBestFitness(), result.getBestFitness())
 		);
 	}
@@ -376,7 +440,9 @@ public final class EvolutionResult<
 			durations,
 			killCount,
 			invalidCount,
-			alterCount
+			alterCount,
+			0,
+			new LongHistogram()
 		);
 	}
 
@@ -415,7 +481,101 @@ public final class EvolutionResult<
 			durations,
 			killCount,
 			invalidCount,
-			alterCount
+			alterCount,
+			0,
+			new LongHistogram()
+		);
+	}
+
+	/**
+	 * Return an new {@code EvolutionResult} object with the given values.
+	 *
+	 * @since 3.1
+	 *
+	 * @param optimize the optimization strategy used
+	 * @param population the population after the evolution step
+	 * @param generation the current generation
+	 * @param totalGenerations the overall number of generations
+	 * @param durations the timing (meta) information
+	 * @param killCount the number of individuals which has been killed
+	 * @param invalidCount the number of individuals which has been removed as
+	 *        invalid
+	 * @param alterCount the number of individuals which has been altered
+	 * @param evaluationCount the number of performed fitness evaluations
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return an new evolution result object
+	 * @throws java.lang.NullPointerException if one of the parameters is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> of(
+		final Optimize optimize,
+		final Population<G, C> population,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount,
+		final int evaluationCount
+	) {
+		return new EvolutionResult<>(
+			optimize,
+			population,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount,
+			evaluationCount,
+			new LongHistogram()
+		);
+	}
+
+	/**
+	 * Return an new {@code EvolutionResult} object with the given values.
+	 *
+	 * @since 3.1
+	 *
+	 * @param optimize the optimization strategy used
+	 * @param population the population after the evolution step
+	 * @param generation the current generation
+	 * @param durations the timing (meta) information
+	 * @param killCount the number of individuals which has been killed
+	 * @param invalidCount the number of individuals which has been removed as
+	 *        invalid
+	 * @param alterCount the number of individuals which has been altered
+	 * @param evaluationCount the number of performed fitness evaluations
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return an new evolution result object
+	 * @throws java.lang.NullPointerException if one of the parameters is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> of(
+		final Optimize optimize,
+		final Population<G, C> population,
+		final long generation,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount,
+		final int evaluationCount
+	) {
+		return new EvolutionResult<>(
+			optimize,
+			population,
+			generation,
+			generation,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount,
+			evaluationCount,
+			new LongHistogram()
 		);
 	}
 
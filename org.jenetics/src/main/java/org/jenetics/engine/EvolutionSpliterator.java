@@ -30,9 +30,15 @@ import java.util.function.Supplier;
 import org.jenetics.Gene;
 
 /**
+ * Spliterator of the evolution stream. A <i>restartable</i> spliterator can be
+ * split into independent evolution runs, each starting with its own, newly
+ * created, population. Additionally, the current run of a restartable
+ * spliterator is restarted, if the run predicate, created for every run,
+ * returns {@code false}.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 3.1
  */
 final class EvolutionSpliterator<
 	G extends Gene<?, G>,
@@ -43,18 +49,49 @@ final class EvolutionSpliterator<
 
 	private final Supplier<EvolutionStart<G, C>> _initial;
 	private final Function<? super EvolutionStart<G, C>, EvolutionResult<G, C>> _evolution;
+	// The truncation predicate factory and the predicate of this spliterator.
+	// Every split creates its own, possibly stateful, predicate.
+	private final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> _proceeds;
 	private final Predicate<? super EvolutionResult<G, C>> _proceed;
 
+	// Creates the run predicate for every (re)started evolution run. Only
+	// restartable spliterators have a run predicate factory.
+	private final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> _restart;
+
+	private Predicate<? super EvolutionResult<G, C>> _run;
 	private EvolutionStart<G, C> _start;
+	private long _estimate;
 
-	EvolutionSpliterator(
+	private EvolutionSpliterator(
 		final Supplier<EvolutionStart<G, C>> initial,
 		final Function<? super EvolutionStart<G, C>, EvolutionResult<G, C>> evolution,
-		final Predicate<? super EvolutionResult<G, C>> proceed
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> proceed,
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> restart,
+		final long estimate
 	) {
 		_evolution = requireNonNull(evolution);
 		_initial = requireNonNull(initial);
-		_proceed = requireNonNull(proceed);
+		_proceeds = requireNonNull(proceed);
+		_proceed = requireNonNull(proceed.get());
+		_restart = restart;
+		_estimate = estimate;
+	}
+
+	EvolutionSpliterator(
+		final Supplier<EvolutionStart<G, C>> initial,
+		final Function<? super EvolutionStart<G, C>, EvolutionResult<G, C>> evolution,
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> proceed
+	) {
+		this(initial, evolution, proceed, null, Long.MAX_VALUE);
+	}
+
+	EvolutionSpliterator(
+		final Supplier<EvolutionStart<G, C>> initial,
+		final Function<? super EvolutionStart<G, C>, EvolutionResult<G, C>> evolution,
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> proceed,
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> restart
+	) {
+		this(initial, evolution, proceed, requireNonNull(restart), Long.MAX_VALUE);
 	}
 
 	@Override
@@ -63,23 +100,36 @@ final class EvolutionSpliterator<
 	) {
 		if (_start == null) {
 			_start = _initial.get();
+			if (_restart != null) {
+				_run = requireNonNull(_restart.get());
+			}
 		}
 
 		final EvolutionResult<G, C> result = _evolution.apply(_start);
 		action.accept(result);
-		_start = result.next();
+		_start = _run == null || _run.test(result)
+			? result.next()
+			: null;
 
 		return _proceed.test(result);
 	}
 
+	/**
+	 * Splits off an independent evolution run, if this spliterator is
+	 * restartable. The estimated size is halved on every split, which bounds
+	 * the number of splits performed by a parallel stream.
+	 */
 	@Override
 	public Spliterator<EvolutionResult<G, C>> trySplit() {
-		return null;
+		return _restart == null || _estimate == 0
+			? null
+			: new EvolutionSpliterator<>(
+				_initial, _evolution, _proceeds, _restart, _estimate >>>= 1);
 	}
 
 	@Override
 	public long estimateSize() {
-		return Long.MAX_VALUE;
+		return _estimate;
 	}
 
 	@Override
@@ -23,11 +23,17 @@ import static java.lang.String.format;
 
 import java.text.NumberFormat;
 import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 
+import org.jenetics.Genotype;
 import org.jenetics.Phenotype;
+import org.jenetics.Population;
 import org.jenetics.stat.DoubleMomentStatistics;
 import org.jenetics.stat.IntMomentStatistics;
+import org.jenetics.stat.LongHistogram;
 import org.jenetics.stat.LongMomentStatistics;
 import org.jenetics.stat.MinMax;
 
@@ -58,32 +64,35 @@ import org.jenetics.stat.MinMax;
  +---------------------------------------------------------------------------+
  |  Time statistics                                                          |
  +---------------------------------------------------------------------------+
- |             Selection: sum=0.046538278000 s; mean=0.003878189833 s        |
- |              Altering: sum=0.086155457000 s; mean=0.007179621417 s        |
- |   Fitness calculation: sum=0.022901606000 s; mean=0.001908467167 s        |
- |     Overall execution: sum=0.147298067000 s; mean=0.012274838917 s        |
+ |             Selection: sum=0.037356033000 s; mean=0.004669504125 s        |
+ |              Altering: sum=0.098732852000 s; mean=0.012341606500 s        |
+ |   Fitness calculation: sum=0.050990374000 s; mean=0.006373796750 s        |
+ |     Overall execution: sum=0.286109908000 s; mean=0.035763738500 s        |
+ | Individual evaluation: p50=0.009 ms; p99=0.139 ms; p999=4.080 ms          |
+ | Generation evaluation: p50=1.974 ms; p99=22.149 ms; p999=22.149 ms        |
  +---------------------------------------------------------------------------+
  |  Evolution statistics                                                     |
  +---------------------------------------------------------------------------+
- |           Generations: 12                                                 |
- |               Altered: sum=7,331; mean=610.916666667                      |
+ |           Generations: 8                                                  |
+ |               Altered: sum=7,732; mean=966.500000000                      |
  |                Killed: sum=0; mean=0.000000000                            |
  |              Invalids: sum=0; mean=0.000000000                            |
+ |           Evaluations: sum=2,247; mean=280.875000000                      |
  +---------------------------------------------------------------------------+
  |  Population statistics                                                    |
  +---------------------------------------------------------------------------+
- |                   Age: max=11; mean=1.951000; var=5.545190                |
+ |                   Age: max=7; mean=1.465750; var=3.793275                 |
  |               Fitness:                                                    |
- |                      min  = 0.000000000000                                |
- |                      max  = 481.748227114537                              |
- |                      mean = 384.430345078660                              |
- |                      var  = 13006.132537301528                            |
+ |                      min  = -52.595596183811                              |
+ |                      max  = 16.190066377631                               |
+ |                      mean = -3.605225162821                               |
+ |                      var  = 383.737434951613                              |
  +---------------------------------------------------------------------------+
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 3.1
  */
 public abstract class EvolutionStatistics<
 	C extends Comparable<? super C>,
@@ -102,32 +111,116 @@ public abstract class EvolutionStatistics<
 	private final DoubleMomentStatistics
 		_evolveDuration = new DoubleMomentStatistics();
 
+	// The evaluation time distributions, in nanoseconds.
+	private final LongHistogram
+		_individualEvaluationTime = new LongHistogram();
+	private final LongHistogram
+		_generationEvaluationTime = new LongHistogram();
+
+	// The maximal number of incremental updates of the diversity, before it
+	// is recalculated from the population.
+	private static final int REBUILD_INTERVAL = 100;
+
 	// The evolution statistics values.
 	private final IntMomentStatistics _killed = new IntMomentStatistics();
 	private final IntMomentStatistics _invalids = new IntMomentStatistics();
 	private final IntMomentStatistics _altered = new IntMomentStatistics();
+	private final IntMomentStatistics _evaluations = new IntMomentStatistics();
 
 	// The population statistics values.
 	final LongMomentStatistics _age = new LongMomentStatistics();
 	FitnessStatistics _fitness = null;
 
-	EvolutionStatistics() {
+	// The diversity of the last population, which is updated incrementally
+	// with the replaced individuals, and the counted (identical) members of
+	// the last population. Only tracked if enabled.
+	private final boolean _trackDiversity;
+	private Diversity _diversity = null;
+	private Map<Phenotype<?, C>, Integer> _members = new IdentityHashMap<>();
+	private int _incrementalUpdates = 0;
+
+	EvolutionStatistics(final boolean trackDiversity) {
+		_trackDiversity = trackDiversity;
 	}
 
 	@Override
 	public void accept(final EvolutionResult<?, C> result) {
 		accept(result.getDurations());
+		_individualEvaluationTime.combine(result.getEvaluationTimes());
 
 		_killed.accept(result.getKillCount());
 		_invalids.accept(result.getInvalidCount());
 		_altered.accept(result.getAlterCount());
+		_evaluations.accept(result.getEvaluationCount());
+
+		// The ages are recorded with the (faster) bulk accumulation.
+		final Population<?, C> population = result.getPopulation();
+		final long[] ages = new long[population.size()];
+		for (int i = 0; i < ages.length; ++i) {
+			final Phenotype<?, C> pt = population.get(i);
+			ages[i] = pt.getAge(result.getGeneration());
+			accept(pt, result.getGeneration());
+		}
+		_age.accept(ages, 0, ages.length);
+
+		if (_trackDiversity) {
+			diversity(population);
+		}
+	}
+
+	// Only the genotypes of the replaced individuals are removed from and
+	// added to the diversity aggregates. If most of the individuals have been
+	// replaced, or after REBUILD_INTERVAL incremental updates, which may have
+	// accumulated rounding errors, the diversity is recalculated.
+	private void diversity(final Population<?, C> population) {
+		final Map<Phenotype<?, C>, Integer> members =
+			new IdentityHashMap<>(2*population.size());
+		for (Phenotype<?, C> pt : population) {
+			members.merge(pt, 1, Integer::sum);
+		}
+
+		int replaced = 0;
+		for (Map.Entry<Phenotype<?, C>, Integer> member : members.entrySet()) {
+			replaced += Math.max(
+				member.getValue() - _members.getOrDefault(member.getKey(), 0), 0
+			);
+		}
+
+		if (_diversity == null ||
+			replaced > population.size()/2 ||
+			_incrementalUpdates >= REBUILD_INTERVAL)
+		{
+			final Diversity diversity = new Diversity();
+			population.forEach(pt -> diversity.accept(pt.getGenotype()));
+			_diversity = diversity;
+			_incrementalUpdates = 0;
+		} else {
+			update(_members, members, _diversity::remove);
+			update(members, _members, _diversity::accept);
+			++_incrementalUpdates;
+		}
+
+		_members = members;
+	}
 
-		result.getPopulation()
-			.forEach(pt -> accept(pt, result.getGeneration()));
+	// Applies the given action to the genotypes of the individuals which are
+	// more often contained in the first than in the second population.
+	private static <C extends Comparable<? super C>> void update(
+		final Map<Phenotype<?, C>, Integer> a,
+		final Map<Phenotype<?, C>, Integer> b,
+		final Consumer<Genotype<?>> action
+	) {
+		for (Map.Entry<Phenotype<?, C>, Integer> member : a.entrySet()) {
+			final int count = member.getValue() -
+				b.getOrDefault(member.getKey(), 0);
+			for (int i = 0; i < count; ++i) {
+				action.accept(member.getKey().getGenotype());
+			}
+		}
 	}
 
+	// Hook for the per-phenotype statistics of the subclasses.
 	void accept(final Phenotype<?, C> pt, final long generation) {
-		_age.accept(pt.getAge(generation));
 	}
 
 	// Calculate duration statistics
@@ -145,6 +238,8 @@ public abstract class EvolutionStatistics<
 			.accept(toSeconds(durations.getEvaluationDuration()));
 		_evolveDuration
 			.accept(toSeconds(durations.getEvolveDuration()));
+		_generationEvaluationTime
+			.accept(durations.getEvaluationDuration().toNanos());
 	}
 
 	private static double toSeconds(final Duration duration) {
@@ -196,6 +291,33 @@ public abstract class EvolutionStatistics<
 		return _evolveDuration;
 	}
 
+	/**
+	 * Return the distribution of the fitness function evaluation times of the
+	 * single individuals, in nanoseconds. The quantiles of the distribution,
+	 * e.g. {@code getIndividualEvaluationTime().getQuantile(0.99)}, show the
+	 * outliers which are hidden by the mean evaluation duration.
+	 *
+	 * @since 3.1
+	 *
+	 * @return the distribution of the individual evaluation times
+	 */
+	public LongHistogram getIndividualEvaluationTime() {
+		return _individualEvaluationTime;
+	}
+
+	/**
+	 * Return the distribution of the durations needed for evaluating the
+	 * fitness function of the new individuals of one generation, in
+	 * nanoseconds.
+	 *
+	 * @since 3.1
+	 *
+	 * @return the distribution of the evaluation durations per generation
+	 */
+	public LongHistogram getGenerationEvaluationTime() {
+		return _generationEvaluationTime;
+	}
+
 
 
 	/* *************************************************************************
@@ -232,6 +354,19 @@ public abstract class EvolutionStatistics<
 		return _altered;
 	}
 
+	/**
+	 * Return the statistics about the fitness function evaluations per
+	 * generation. Together with the {@link #getEvaluationDuration()} it gives
+	 * the evaluation throughput of the evolution process.
+	 *
+	 * @since 3.1
+	 *
+	 * @return fitness function evaluation statistics
+	 */
+	public IntMomentStatistics getEvaluations() {
+		return _evaluations;
+	}
+
 	/**
 	 * Return the statistics about the individuals age.
 	 *
@@ -241,6 +376,29 @@ public abstract class EvolutionStatistics<
 		return _age;
 	}
 
+	/**
+	 * Return the diversity of the last population, if the statistics object
+	 * has been created with diversity tracking enabled. The diversity
+	 * aggregates are updated incrementally with the genotypes of the replaced
+	 * individuals, which makes them cheap enough for controlling the
+	 * evolution parameters in every generation. The returned object is a copy
+	 * of the internal aggregates and is not changed by the following
+	 * generations.
+	 *
+	 * @see #ofNumber(boolean)
+	 * @see #ofComparable(boolean)
+	 *
+	 * @since 3.1
+	 *
+	 * @return the diversity of the last population, or an empty
+	 *         {@code Optional} if the diversity isn't tracked or no evolution
+	 *         result has been recorded yet
+	 */
+	public Optional<Diversity> getDiversity() {
+		return Optional.ofNullable(_diversity)
+			.map(d -> new Diversity().combine(d));
+	}
+
 	/**
 	 * Return the minimal and maximal fitness.
 	 *
@@ -263,13 +421,16 @@ public abstract class EvolutionStatistics<
 			format(cpattern, "Altering:", d(_alterDuration)) +
 			format(cpattern, "Fitness calculation:", d(_evaluationDuration)) +
 			format(cpattern, "Overall execution:", d(_evolveDuration)) +
+			format(cpattern, "Individual evaluation:", q(_individualEvaluationTime)) +
+			format(cpattern, "Generation evaluation:", q(_generationEvaluationTime)) +
 			"+---------------------------------------------------------------------------+\n" +
 			"|  Evolution statistics                                                     |\n" +
 			"+---------------------------------------------------------------------------+\n" +
 			format(cpattern, "Generations:", i(_altered.getCount())) +
 			format(cpattern, "Altered:", i(_altered)) +
 			format(cpattern, "Killed:", i(_killed)) +
-			format(cpattern, "Invalids:", i(_invalids));
+			format(cpattern, "Invalids:", i(_invalids)) +
+			format(cpattern, "Evaluations:", i(_evaluations));
 	}
 
 	private static String d(final DoubleMomentStatistics statistics) {
@@ -279,6 +440,15 @@ public abstract class EvolutionStatistics<
 		);
 	}
 
+	private static String q(final LongHistogram histogram) {
+		return format(
+			"p50=%.3f ms; p99=%.3f ms; p999=%.3f ms",
+			histogram.getQuantile(0.5)/1_000_000.0,
+			histogram.getQuantile(0.99)/1_000_000.0,
+			histogram.getQuantile(0.999)/1_000_000.0
+		);
+	}
+
 	private static String i(final IntMomentStatistics statistics) {
 		final NumberFormat nf = NumberFormat.getIntegerInstance();
 		return format(
@@ -317,7 +487,8 @@ public abstract class EvolutionStatistics<
 		>
 		extends EvolutionStatistics<C, MinMax<C>>
 	{
-		private Comp() {
+		private Comp(final boolean trackDiversity) {
+			super(trackDiversity);
 			_fitness = MinMax.of();
 		}
 
@@ -332,7 +503,6 @@ public abstract class EvolutionStatistics<
 
 		@Override
 		void accept(final Phenotype<?, C> pt, final long generation) {
-			super.accept(pt, generation);
 			_fitness.accept(pt.getFitness());
 		}
 
@@ -353,14 +523,21 @@ public abstract class EvolutionStatistics<
 	private static final class Num<N extends Number & Comparable<? super N>>
 		extends EvolutionStatistics<N, DoubleMomentStatistics>
 	{
-		private Num() {
+		private Num(final boolean trackDiversity) {
+			super(trackDiversity);
 			_fitness = new DoubleMomentStatistics();
 		}
 
 		@Override
-		void accept(final Phenotype<?, N> pt, final long generation) {
-			super.accept(pt, generation);
-			_fitness.accept(pt.getFitness().doubleValue());
+		public void accept(final EvolutionResult<?, N> result) {
+			super.accept(result);
+
+			final Population<?, N> population = result.getPopulation();
+			final double[] fitness = new double[population.size()];
+			for (int i = 0; i < fitness.length; ++i) {
+				fitness[i] = population.get(i).getFitness().doubleValue();
+			}
+			_fitness.accept(fitness, 0, fitness.length);
 		}
 
 		@Override
@@ -385,12 +562,48 @@ public abstract class EvolutionStatistics<
 
 	public static <C extends Comparable<? super C>>
 	EvolutionStatistics<C, MinMax<C>> ofComparable() {
-		return new Comp<>();
+		return ofComparable(false);
+	}
+
+	/**
+	 * Return a new statistics object for comparable fitness values.
+	 *
+	 * @since 3.1
+	 *
+	 * @param <C> the fitness type
+	 * @param trackDiversity if {@code true}, the {@link #getDiversity()} of
+	 *        the populations is tracked, which requires to keep the members of
+	 *        the last population
+	 * @return a new statistics object
+	 */
+	public static <C extends Comparable<? super C>>
+	EvolutionStatistics<C, MinMax<C>> ofComparable(
+		final boolean trackDiversity
+	) {
+		return new Comp<>(trackDiversity);
 	}
 
 	public static <N extends Number & Comparable<? super N>>
 	EvolutionStatistics<N, DoubleMomentStatistics> ofNumber() {
-		return new Num<>();
+		return ofNumber(false);
+	}
+
+	/**
+	 * Return a new statistics object for numeric fitness values.
+	 *
+	 * @since 3.1
+	 *
+	 * @param <N> the fitness type
+	 * @param trackDiversity if {@code true}, the {@link #getDiversity()} of
+	 *        the populations is tracked, which requires to keep the members of
+	 *        the last population
+	 * @return a new statistics object
+	 */
+	public static <N extends Number & Comparable<? super N>>
+	EvolutionStatistics<N, DoubleMomentStatistics> ofNumber(
+		final boolean trackDiversity
+	) {
+		return new Num<>(trackDiversity);
 	}
 
 }
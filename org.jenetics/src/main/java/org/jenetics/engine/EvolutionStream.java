@@ -58,6 +58,11 @@ public interface EvolutionStream<
 	 *     .collect(toBestPhenotype());
 	 * }</pre>
 	 *
+	 * The given predicate instance is shared by all evolution runs of a
+	 * parallel, {@link #ofRestarts(Supplier, Function, Supplier) restartable}
+	 * stream. Stateful predicates, like {@link limit#bySteadyFitness(int)},
+	 * must be given to the {@link #limit(Supplier)} method for such streams.
+	 *
 	 * @see limit
 	 *
 	 * @param proceed the predicate which determines whether the stream is
@@ -69,6 +74,33 @@ public interface EvolutionStream<
 	public EvolutionStream<G, C>
 	limit(final Predicate<? super EvolutionResult<G, C>> proceed);
 
+	/**
+	 * Returns a stream consisting of the elements of this stream, truncated
+	 * when the predicate, created by the given {@code proceed} supplier,
+	 * returns {@code false}. Every evolution run of a parallel,
+	 * {@link #ofRestarts(Supplier, Function, Supplier) restartable} stream
+	 * uses its own predicate instance, which makes it safe to use stateful
+	 * predicates.
+	 *
+	 * <pre>{@code
+	 * final Phenotype<DoubleGene, Double> result = engine.restartStream()
+	 *     .limit(() -> limit.bySteadyFitness(20))
+	 *     .parallel()
+	 *     .limit(10_000)
+	 *     .collect(toBestPhenotype());
+	 * }</pre>
+	 *
+	 * @since 3.1
+	 *
+	 * @param proceed the factory of the predicate which determines whether
+	 *        the stream is truncated or not
+	 * @return the new stream
+	 * @throws NullPointerException if the given supplier is {@code null}.
+	 */
+	public EvolutionStream<G, C> limit(
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> proceed
+	);
+
 	/**
 	 * Create a new {@code EvolutionStream} from the given {@code start}
 	 * population and {@code evolution} function. The main purpose of this
@@ -142,4 +174,48 @@ public interface EvolutionStream<
 		return new EvolutionStreamImpl<>(start, evolution);
 	}
 
+	/**
+	 * Create a new, <i>restartable</i>, {@code EvolutionStream} from the given
+	 * {@code start} population and {@code evolution} function. Splitting the
+	 * spliterator of the returned stream yields independent evolution runs,
+	 * each starting with its own population, created by the given
+	 * {@code start} supplier. If the stream is executed in parallel, the runs
+	 * are performed concurrently. Additionally, a run is restarted with a new
+	 * start population, if the run predicate, which is created by the
+	 * {@code restart} supplier for every run, returns {@code false}.
+	 *
+	 * <pre>{@code
+	 * final Phenotype<DoubleGene, Double> best = EvolutionStream
+	 *     .ofRestarts(start, evolution, () -> limit.bySteadyFitness(10))
+	 *     .parallel()
+	 *     .limit(10_000)
+	 *     .collect(EvolutionResult.toBestPhenotype());
+	 * }</pre>
+	 *
+	 * The random numbers are taken from the {@link org.jenetics.util.RandomRegistry},
+	 * which must therefore return a thread-safe (or thread-local) random
+	 * engine; as the default registry engine does. The {@link #limit(Predicate)}
+	 * predicates of the returned stream are shared by all runs.
+	 *
+	 * @since 3.1
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param start the evolution start of every evolution run
+	 * @param evolution the evolution function
+	 * @param restart the factory of the run predicate; a new predicate is
+	 *        created for every evolution run
+	 * @return a new, restartable, {@code EvolutionStream}
+	 * @throws java.lang.NullPointerException if one of the arguments is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionStream<G, C> ofRestarts(
+		final Supplier<EvolutionStart<G, C>> start,
+		final Function<? super EvolutionStart<G, C>, EvolutionResult<G, C>> evolution,
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> restart
+	) {
+		return new EvolutionStreamImpl<>(start, evolution, restart);
+	}
+
 }
@@ -24,7 +24,6 @@ import static java.util.Objects.requireNonNull;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.jenetics.Gene;
@@ -32,7 +31,7 @@ import org.jenetics.Gene;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 3.1
  */
 final class EvolutionStreamImpl<
 	G extends Gene<?, G>,
@@ -44,57 +43,74 @@ final class EvolutionStreamImpl<
 
 	private final Supplier<EvolutionStart<G, C>> _start;
 	private final Function<? super EvolutionStart<G, C>, EvolutionResult<G, C>> _evolution;
-	private final Predicate<? super EvolutionResult<G, C>> _proceed;
+	// Creates the truncation predicate for every evolution run.
+	private final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> _proceed;
+
+	// Is null for evolution streams without restarts.
+	private final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> _restart;
 
 	private EvolutionStreamImpl(
 		final Supplier<EvolutionStart<G, C>> start,
 		final Function<? super EvolutionStart<G, C>, EvolutionResult<G, C>> evolution,
-		final Stream<EvolutionResult<G, C>> stream,
-		final Predicate<? super EvolutionResult<G, C>> proceed
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> proceed,
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> restart
 	) {
-		super(stream);
+		super(StreamSupport.stream(
+			restart != null
+				? new EvolutionSpliterator<>(start, evolution, proceed, restart)
+				: new EvolutionSpliterator<>(start, evolution, proceed),
+			false
+		));
 		_evolution = requireNonNull(evolution);
 		_start = requireNonNull(start);
 		_proceed = requireNonNull(proceed);
+		_restart = restart;
 	}
 
 	EvolutionStreamImpl(
 		final Supplier<EvolutionStart<G, C>> start,
 		final Function<? super EvolutionStart<G, C>, EvolutionResult<G, C>> evolution
 	) {
-		this(
-			start, evolution,
-			StreamSupport.stream(
-				new EvolutionSpliterator<>(start, evolution, TRUE()),
-				false
-			),
-			TRUE()
-		);
+		this(start, evolution, TRUE(), null);
+	}
+
+	EvolutionStreamImpl(
+		final Supplier<EvolutionStart<G, C>> start,
+		final Function<? super EvolutionStart<G, C>, EvolutionResult<G, C>> evolution,
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> restart
+	) {
+		this(start, evolution, TRUE(), requireNonNull(restart));
 	}
 
 	@Override
 	public EvolutionStream<G, C>
 	limit(final Predicate<? super EvolutionResult<G, C>> proceed) {
-		final Predicate<? super EvolutionResult<G, C>> prcd =
-			_proceed == TRUE ? proceed :
-				r -> proceed.test(r) & _proceed.test(r);
-
-		return new EvolutionStreamImpl<>(
-			_start,
-			_evolution,
-			StreamSupport.stream(
-				new EvolutionSpliterator<>(_start, _evolution, prcd),
-				false
-			),
-			prcd
-		);
+		requireNonNull(proceed);
+		return limit(() -> proceed);
+	}
+
+	@Override
+	public EvolutionStream<G, C> limit(
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> proceed
+	) {
+		requireNonNull(proceed);
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> prcd =
+			_proceed == TRUE ? proceed : () -> and(proceed.get(), _proceed.get());
+
+		return new EvolutionStreamImpl<>(_start, _evolution, prcd, _restart);
+	}
+
+	private static <T> Predicate<T>
+	and(final Predicate<? super T> a, final Predicate<? super T> b) {
+		return r -> a.test(r) & b.test(r);
 	}
 
-	private static final Predicate<?> TRUE = a -> true;
+	private static final Supplier<?> TRUE =
+		(Supplier<Predicate<Object>>)() -> a -> true;
 
 	@SuppressWarnings("unchecked")
-	private static <T> Predicate<T> TRUE() {
-		return (Predicate<T>)TRUE;
+	private static <T> Supplier<Predicate<T>> TRUE() {
+		return (Supplier<Predicate<T>>)TRUE;
 	}
 
 }
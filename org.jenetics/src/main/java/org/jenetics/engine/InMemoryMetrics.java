@@ -0,0 +1,351 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jenetics.stat.QuantileSketch;
+
+/**
+ * In-memory {@link Metrics} registry. The counters, timers and the
+ * aggregated values of the histograms are based on the {@link LongAdder},
+ * {@link DoubleAdder} and accumulator classes of the
+ * {@code java.util.concurrent.atomic} package, which means that concurrently
+ * recorded values doesn't block each other. Only the distribution of the
+ * histogram values, which are recorded once per generation, is guarded by a
+ * lock. The aggregated values can be read at any time, e.g. by a monitoring
+ * thread, while the engine is running.
+ *
+ * <pre>{@code
+ * final InMemoryMetrics metrics = new InMemoryMetrics();
+ * final Engine<DoubleGene, Double> engine = Engine
+ *     .builder(fitness, DoubleChromosome.of(0, 1, 10))
+ *     .metrics(metrics)
+ *     .build();
+ *
+ * // Read the metrics while the engine is running.
+ * final InMemoryMetrics.Timer evaluation =
+ *     metrics.getTimers().get("jenetics.evaluation");
+ * System.out.println(evaluation.getMean());
+ * }</pre>
+ *
+ * <em>This class is thread-safe.</em>
+ *
+ * @see JMXMetrics
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class InMemoryMetrics implements Metrics {
+
+	private final ConcurrentMap<String, Counter> _counters =
+		new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Timer> _timers =
+		new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Histogram> _histograms =
+		new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new, empty metrics registry.
+	 */
+	public InMemoryMetrics() {
+	}
+
+	@Override
+	public Counter counter(final String name) {
+		return _counters.computeIfAbsent(requireNonNull(name), n -> new Counter());
+	}
+
+	@Override
+	public Timer timer(final String name) {
+		return _timers.computeIfAbsent(requireNonNull(name), n -> new Timer());
+	}
+
+	@Override
+	public Histogram histogram(final String name) {
+		return _histograms.computeIfAbsent(requireNonNull(name), n -> new Histogram());
+	}
+
+	/**
+	 * Return the registered counters, sorted by their names.
+	 *
+	 * @return the registered counters
+	 */
+	public SortedMap<String, Counter> getCounters() {
+		return sorted(_counters);
+	}
+
+	/**
+	 * Return the registered timers, sorted by their names.
+	 *
+	 * @return the registered timers
+	 */
+	public SortedMap<String, Timer> getTimers() {
+		return sorted(_timers);
+	}
+
+	/**
+	 * Return the registered histograms, sorted by their names.
+	 *
+	 * @return the registered histograms
+	 */
+	public SortedMap<String, Histogram> getHistograms() {
+		return sorted(_histograms);
+	}
+
+	private static <T> SortedMap<String, T> sorted(final Map<String, T> map) {
+		return Collections.unmodifiableSortedMap(new TreeMap<>(map));
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"InMemoryMetrics[counters=%s, timers=%s, histograms=%s]",
+			getCounters(), getTimers(), getHistograms()
+		);
+	}
+
+	/**
+	 * Lock-free counter implementation.
+	 */
+	public static final class Counter implements Metrics.Counter {
+		private final LongAdder _count = new LongAdder();
+
+		private Counter() {
+		}
+
+		@Override
+		public void increment(final long count) {
+			_count.add(count);
+		}
+
+		/**
+		 * Return the current value of the counter.
+		 *
+		 * @return the current value of the counter
+		 */
+		public long getCount() {
+			return _count.sum();
+		}
+
+		@Override
+		public String toString() {
+			return Long.toString(getCount());
+		}
+	}
+
+	/**
+	 * Lock-free timer implementation.
+	 */
+	public static final class Timer implements Metrics.Timer {
+		private final LongAdder _count = new LongAdder();
+		private final LongAdder _total = new LongAdder();
+		private final LongAccumulator _max = new LongAccumulator(Math::max, 0);
+
+		private Timer() {
+		}
+
+		@Override
+		public void record(final long nanos) {
+			_count.increment();
+			_total.add(nanos);
+			_max.accumulate(nanos);
+		}
+
+		/**
+		 * Return the number of recorded durations.
+		 *
+		 * @return the number of recorded durations
+		 */
+		public long getCount() {
+			return _count.sum();
+		}
+
+		/**
+		 * Return the sum of the recorded durations.
+		 *
+		 * @return the sum of the recorded durations
+		 */
+		public Duration getTotal() {
+			return Duration.ofNanos(_total.sum());
+		}
+
+		/**
+		 * Return the mean of the recorded durations.
+		 *
+		 * @return the mean of the recorded durations, or {@link Duration#ZERO}
+		 *         if no duration has been recorded
+		 */
+		public Duration getMean() {
+			final long count = getCount();
+			return count > 0
+				? Duration.ofNanos(_total.sum()/count)
+				: Duration.ZERO;
+		}
+
+		/**
+		 * Return the maximal recorded duration.
+		 *
+		 * @return the maximal recorded duration, or {@link Duration#ZERO}
+		 *         if no duration has been recorded
+		 */
+		public Duration getMax() {
+			return Duration.ofNanos(_max.get());
+		}
+
+		@Override
+		public String toString() {
+			return format(
+				"Timer[count=%d, mean=%s, max=%s]",
+				getCount(), getMean(), getMax()
+			);
+		}
+	}
+
+	/**
+	 * Histogram implementation, which records the number, sum, minimum and
+	 * maximum of the recorded values lock-free and their distribution in a
+	 * {@link QuantileSketch}.
+	 */
+	public static final class Histogram implements Metrics.Histogram {
+		private final LongAdder _count = new LongAdder();
+		private final DoubleAdder _sum = new DoubleAdder();
+		private final DoubleAccumulator _min =
+			new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
+		private final DoubleAccumulator _max =
+			new DoubleAccumulator(Math::max, Double.NEGATIVE_INFINITY);
+
+		private final QuantileSketch _sketch = new QuantileSketch();
+
+		private Histogram() {
+		}
+
+		@Override
+		public void record(final double value) {
+			_count.increment();
+			_sum.add(value);
+			_min.accumulate(value);
+			_max.accumulate(value);
+			synchronized (_sketch) {
+				_sketch.accept(value);
+			}
+		}
+
+		/**
+		 * Return the number of recorded values.
+		 *
+		 * @return the number of recorded values
+		 */
+		public long getCount() {
+			return _count.sum();
+		}
+
+		/**
+		 * Return the sum of the recorded values.
+		 *
+		 * @return the sum of the recorded values
+		 */
+		public double getSum() {
+			return _sum.sum();
+		}
+
+		/**
+		 * Return the mean of the recorded values.
+		 *
+		 * @return the mean of the recorded values, or {@code Double.NaN} if
+		 *         no value has been recorded
+		 */
+		public double getMean() {
+			final long count = getCount();
+			return count > 0 ? getSum()/count : Double.NaN;
+		}
+
+		/**
+		 * Return the minimal recorded value.
+		 *
+		 * @return the minimal recorded value, or
+		 *         {@code Double.POSITIVE_INFINITY} if no value has been
+		 *         recorded
+		 */
+		public double getMin() {
+			return _min.get();
+		}
+
+		/**
+		 * Return the maximal recorded value.
+		 *
+		 * @return the maximal recorded value, or
+		 *         {@code Double.NEGATIVE_INFINITY} if no value has been
+		 *         recorded
+		 */
+		public double getMax() {
+			return _max.get();
+		}
+
+		/**
+		 * Return the estimated value of the given quantile of the recorded
+		 * values. The rank error of the estimation is below one percent.
+		 *
+		 * @param quantile the quantile, e.g. {@code 0.5} for the median
+		 * @return the estimated quantile value, or {@code Double.NaN} if no
+		 *         value has been recorded
+		 * @throws IllegalArgumentException if the given {@code quantile} is
+		 *         not within the range {@code [0, 1]}
+		 */
+		public double getQuantile(final double quantile) {
+			synchronized (_sketch) {
+				return _sketch.getQuantile(quantile);
+			}
+		}
+
+		/**
+		 * Return the estimated median of the recorded values.
+		 *
+		 * @return the estimated median, or {@code Double.NaN} if no value has
+		 *         been recorded
+		 */
+		public double getMedian() {
+			return getQuantile(0.5);
+		}
+
+		@Override
+		public String toString() {
+			return format(
+				"Histogram[count=%d, mean=%s, median=%s, min=%s, max=%s]",
+				getCount(), getMean(), getMedian(), getMin(), getMax()
+			);
+		}
+	}
+
+}
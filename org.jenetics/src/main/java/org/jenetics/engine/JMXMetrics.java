@@ -0,0 +1,215 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+/**
+ * Exports the values of an {@link InMemoryMetrics} registry as read-only
+ * attributes of a JMX MBean. Every counter is exported as one attribute,
+ * with the name of the counter. Timers are exported with the attributes
+ * {@code <name>.count}, {@code <name>.totalNanos}, {@code <name>.meanNanos}
+ * and {@code <name>.maxNanos} and histograms with the attributes
+ * {@code <name>.count}, {@code <name>.mean}, {@code <name>.median},
+ * {@code <name>.p99}, {@code <name>.min} and {@code <name>.max}. The
+ * attribute values are read from the registry when they are requested and
+ * metrics, which are registered later, are exported as well.
+ *
+ * <pre>{@code
+ * final InMemoryMetrics metrics = new InMemoryMetrics();
+ * JMXMetrics.register(metrics, new ObjectName("org.jenetics:type=Engine"));
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class JMXMetrics implements DynamicMBean {
+
+	private final InMemoryMetrics _metrics;
+
+	/**
+	 * Create a new MBean for the given metrics registry.
+	 *
+	 * @param metrics the exported metrics registry
+	 * @throws NullPointerException if the given {@code metrics} is
+	 *         {@code null}
+	 */
+	public JMXMetrics(final InMemoryMetrics metrics) {
+		_metrics = requireNonNull(metrics);
+	}
+
+	/**
+	 * Registers the MBean of the given metrics registry at the platform MBean
+	 * server.
+	 *
+	 * @param metrics the exported metrics registry
+	 * @param name the object name of the registered MBean
+	 * @return the registered MBean
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws JMException if the MBean can't be registered
+	 */
+	public static JMXMetrics register(
+		final InMemoryMetrics metrics,
+		final ObjectName name
+	)
+		throws JMException
+	{
+		return register(metrics, name, ManagementFactory.getPlatformMBeanServer());
+	}
+
+	/**
+	 * Registers the MBean of the given metrics registry at the given MBean
+	 * {@code server}.
+	 *
+	 * @param metrics the exported metrics registry
+	 * @param name the object name of the registered MBean
+	 * @param server the MBean server
+	 * @return the registered MBean
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws JMException if the MBean can't be registered
+	 */
+	public static JMXMetrics register(
+		final InMemoryMetrics metrics,
+		final ObjectName name,
+		final MBeanServer server
+	)
+		throws JMException
+	{
+		final JMXMetrics mbean = new JMXMetrics(metrics);
+		server.registerMBean(mbean, requireNonNull(name));
+		return mbean;
+	}
+
+	private Map<String, Object> attributes() {
+		final Map<String, Object> attributes = new LinkedHashMap<>();
+		_metrics.getCounters().forEach((name, counter) ->
+			attributes.put(name, counter.getCount())
+		);
+		_metrics.getTimers().forEach((name, timer) -> {
+			attributes.put(name + ".count", timer.getCount());
+			attributes.put(name + ".totalNanos", timer.getTotal().toNanos());
+			attributes.put(name + ".meanNanos", timer.getMean().toNanos());
+			attributes.put(name + ".maxNanos", timer.getMax().toNanos());
+		});
+		_metrics.getHistograms().forEach((name, histogram) -> {
+			attributes.put(name + ".count", histogram.getCount());
+			attributes.put(name + ".mean", histogram.getMean());
+			attributes.put(name + ".median", histogram.getMedian());
+			attributes.put(name + ".p99", histogram.getQuantile(0.99));
+			attributes.put(name + ".min", histogram.getMin());
+			attributes.put(name + ".max", histogram.getMax());
+		});
+		return attributes;
+	}
+
+	@Override
+	public Object getAttribute(final String attribute)
+		throws AttributeNotFoundException
+	{
+		final Object value = attributes().get(attribute);
+		if (value == null) {
+			throw new AttributeNotFoundException(attribute);
+		}
+		return value;
+	}
+
+	@Override
+	public AttributeList getAttributes(final String[] attributes) {
+		final Map<String, Object> values = attributes();
+		final AttributeList list = new AttributeList();
+		for (String attribute : attributes) {
+			final Object value = values.get(attribute);
+			if (value != null) {
+				list.add(new Attribute(attribute, value));
+			}
+		}
+		return list;
+	}
+
+	@Override
+	public void setAttribute(final Attribute attribute)
+		throws AttributeNotFoundException
+	{
+		throw new AttributeNotFoundException(format(
+			"Attribute '%s' is read-only.", attribute.getName()
+		));
+	}
+
+	@Override
+	public AttributeList setAttributes(final AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	@Override
+	public Object invoke(
+		final String action,
+		final Object[] params,
+		final String[] signature
+	)
+		throws MBeanException, ReflectionException
+	{
+		throw new ReflectionException(
+			new NoSuchMethodException(action),
+			"Operations are not supported."
+		);
+	}
+
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		final MBeanAttributeInfo[] infos = attributes().entrySet().stream()
+			.map(e -> new MBeanAttributeInfo(
+				e.getKey(),
+				e.getValue().getClass().getName(),
+				e.getKey(),
+				true,
+				false,
+				false
+			))
+			.toArray(MBeanAttributeInfo[]::new);
+
+		return new MBeanInfo(
+			getClass().getName(),
+			"Jenetics engine metrics",
+			infos,
+			null,
+			null,
+			null
+		);
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.time.Duration;
+
+/**
+ * Service provider interface for recording metrics of the evolution
+ * {@link Engine}. The engine requests its counters, timers and histograms
+ * once, when it is created, and records the values of every evolution step.
+ * Implementations must be thread-safe and recording a value should be
+ * cheap, since it is done during the evolution.
+ *
+ * <pre>{@code
+ * final InMemoryMetrics metrics = new InMemoryMetrics();
+ * final Engine<DoubleGene, Double> engine = Engine
+ *     .builder(fitness, DoubleChromosome.of(0, 1, 10))
+ *     .metrics(metrics)
+ *     .build();
+ * }</pre>
+ *
+ * The engine records the following metrics:
+ * <ul>
+ *     <li>Timers {@code jenetics.selection.offspring},
+ *         {@code jenetics.selection.survivors}, {@code jenetics.alter},
+ *         {@code jenetics.filter.offspring}, {@code jenetics.filter.survivors},
+ *         {@code jenetics.evaluation} and {@code jenetics.evolve}, with the
+ *         durations of the evolution phases.</li>
+ *     <li>Timer {@code jenetics.queue.wait}, with the time the selection
+ *         tasks are waiting for an executor thread.</li>
+ *     <li>Counters {@code jenetics.generations}, {@code jenetics.evaluations},
+ *         {@code jenetics.killed}, {@code jenetics.invalid} and
+ *         {@code jenetics.altered}.</li>
+ *     <li>Counter {@code jenetics.fitness.reused}, with the number of
+ *         individuals of the new populations, mostly survivors, which kept
+ *         their already evaluated fitness value.</li>
+ *     <li>Histogram {@code jenetics.evaluation.rate}, with the fitness
+ *         evaluations per second.</li>
+ *     <li>Histogram {@code jenetics.population.diversity}, with the fraction
+ *         of distinct genotypes in the population. It is only recorded every
+ *         tenth generation, starting with the first one.</li>
+ * </ul>
+ *
+ * @see InMemoryMetrics
+ * @see JMXMetrics
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public interface Metrics {
+
+	/**
+	 * Metrics implementation which ignores all recorded values.
+	 */
+	public static final Metrics NONE = new Metrics() {
+		private final Counter _counter = count -> {};
+		private final Timer _timer = nanos -> {};
+		private final Histogram _histogram = value -> {};
+
+		@Override
+		public Counter counter(final String name) {
+			return _counter;
+		}
+
+		@Override
+		public Timer timer(final String name) {
+			return _timer;
+		}
+
+		@Override
+		public Histogram histogram(final String name) {
+			return _histogram;
+		}
+
+		@Override
+		public String toString() {
+			return "Metrics.NONE";
+		}
+	};
+
+	/**
+	 * Return the counter with the given {@code name}. Calling this method
+	 * twice with the same name must return the same counter.
+	 *
+	 * @param name the name of the counter
+	 * @return the counter with the given {@code name}
+	 * @throws NullPointerException if the given {@code name} is {@code null}
+	 */
+	public Counter counter(final String name);
+
+	/**
+	 * Return the timer with the given {@code name}. Calling this method twice
+	 * with the same name must return the same timer.
+	 *
+	 * @param name the name of the timer
+	 * @return the timer with the given {@code name}
+	 * @throws NullPointerException if the given {@code name} is {@code null}
+	 */
+	public Timer timer(final String name);
+
+	/**
+	 * Return the histogram with the given {@code name}. Calling this method
+	 * twice with the same name must return the same histogram.
+	 *
+	 * @param name the name of the histogram
+	 * @return the histogram with the given {@code name}
+	 * @throws NullPointerException if the given {@code name} is {@code null}
+	 */
+	public Histogram histogram(final String name);
+
+	/**
+	 * Monotonically increasing counter.
+	 */
+	@FunctionalInterface
+	public static interface Counter {
+
+		/**
+		 * Increments the counter by the given {@code count}.
+		 *
+		 * @param count the increment of the counter
+		 */
+		public void increment(final long count);
+
+		/**
+		 * Increments the counter by one.
+		 */
+		public default void increment() {
+			increment(1);
+		}
+
+	}
+
+	/**
+	 * Records the durations of an operation.
+	 */
+	@FunctionalInterface
+	public static interface Timer {
+
+		/**
+		 * Record the given duration.
+		 *
+		 * @param nanos the duration in nanoseconds
+		 */
+		public void record(final long nanos);
+
+		/**
+		 * Record the given duration.
+		 *
+		 * @param duration the duration to record
+		 */
+		public default void record(final Duration duration) {
+			record(duration.toNanos());
+		}
+
+	}
+
+	/**
+	 * Records the distribution of a value.
+	 */
+	@FunctionalInterface
+	public static interface Histogram {
+
+		/**
+		 * Record the given value.
+		 *
+		 * @param value the value to record
+		 */
+		public void record(final double value);
+
+	}
+
+}
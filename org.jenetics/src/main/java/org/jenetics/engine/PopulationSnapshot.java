@@ -0,0 +1,791 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.jenetics.internal.util.bit;
+
+import org.jenetics.BitChromosome;
+import org.jenetics.Chromosome;
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.IntegerChromosome;
+import org.jenetics.IntegerGene;
+import org.jenetics.LongChromosome;
+import org.jenetics.LongGene;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * Population snapshot file, which is laid out for memory mapping. Every
+ * individual is stored in a record of fixed size (stride), containing the
+ * generation, the (raw) fitness values, the {@link Phenotype#isCancelled()}
+ * flag and the genes of the individual. The snapshot file is mapped into
+ * memory when it is opened. The single access methods, like
+ * {@link #getFitness(int)} or {@link #getGenotype(int)}, only decode the
+ * accessed individual.
+ * <p>
+ * Snapshots can be written for genotypes which consists of
+ * {@link DoubleChromosome}s, {@link IntegerChromosome}s,
+ * {@link LongChromosome}s or {@link BitChromosome}s, with fitness values of
+ * type {@code Double}, {@code Integer} or {@code Long}. All individuals of
+ * the population must have the same genotype <i>shape</i>: the same number
+ * of chromosomes, the same chromosome lengths and the same value ranges. The
+ * one probability of {@link BitChromosome}s is stored for every chromosome.
+ *
+ * <pre>{@code
+ * // Writing the snapshot of the next evolution start.
+ * PopulationSnapshot.write(
+ *     EvolutionStart.of(result.getPopulation(), result.getGeneration() + 1),
+ *     path
+ * );
+ *
+ * // Restart the evolution from the snapshot.
+ * final EvolutionStart<DoubleGene, Double> start = PopulationSnapshot
+ *     .<DoubleGene, Double>open(path)
+ *     .toEvolutionStart(engine);
+ * final EvolutionStream<DoubleGene, Double> stream = engine
+ *     .stream(start.getPopulation(), start.getGeneration());
+ * }</pre>
+ *
+ * The phenotypes of a snapshot are restored with their stored fitness
+ * values, which means that a restarted evolution doesn't re-evaluate the
+ * fitness function for the restored individuals. The
+ * {@link #toEvolutionStart(Engine)} method decodes the genotypes of
+ * <i>all</i> stored individuals, since the engine needs the whole start
+ * population. Restarting from a snapshot therefore takes time proportional
+ * to the snapshot size, but saves the fitness evaluations. The snapshot file
+ * can be shared, read-only, between different processes.
+ * <p>
+ * <em>This class is thread-safe.</em>
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class PopulationSnapshot<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+{
+
+	// The magic number of the snapshot files: "JENS".
+	private static final int MAGIC = 0x4A454E53;
+	private static final short VERSION = 2;
+
+	// Size of the write buffer.
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	// Gene and fitness value types.
+	private static final byte DOUBLE = 1;
+	private static final byte INTEGER = 2;
+	private static final byte LONG = 3;
+	private static final byte BIT = 4;
+
+	// Every record starts with the generation, fitness and raw fitness value
+	// and the record flags.
+	private static final int RECORD_HEADER_SIZE = 4*Long.BYTES;
+
+	// Record flag of phenotypes whose fitness evaluation has been cancelled.
+	private static final long CANCELLED = 1;
+
+	private final Layout _layout;
+	private final ByteBuffer[] _segments;
+	private final int _segmentRecords;
+
+	private PopulationSnapshot(
+		final Layout layout,
+		final ByteBuffer[] segments,
+		final int segmentRecords
+	) {
+		_layout = layout;
+		_segments = segments;
+		_segmentRecords = segmentRecords;
+	}
+
+	/**
+	 * Return the number of individuals stored in the snapshot.
+	 *
+	 * @return the number of stored individuals
+	 */
+	public int size() {
+		return _layout.size;
+	}
+
+	/**
+	 * Return the (start) generation of the stored population.
+	 *
+	 * @return the generation of the stored population
+	 */
+	public long getGeneration() {
+		return _layout.generation;
+	}
+
+	/**
+	 * Return the fitness value of the individual with the given
+	 * {@code index}. The genes of the individual are not decoded.
+	 *
+	 * @param index the index of the individual
+	 * @return the fitness value of the individual
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public C getFitness(final int index) {
+		return fitness(segment(index), offset(index) + Long.BYTES);
+	}
+
+	/**
+	 * Return the raw fitness value of the individual with the given
+	 * {@code index}. The genes of the individual are not decoded.
+	 *
+	 * @param index the index of the individual
+	 * @return the raw fitness value of the individual
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public C getRawFitness(final int index) {
+		return fitness(segment(index), offset(index) + 2*Long.BYTES);
+	}
+
+	/**
+	 * Decodes and returns the genotype of the individual with the given
+	 * {@code index}.
+	 *
+	 * @param index the index of the individual
+	 * @return the genotype of the individual
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public Genotype<G> getGenotype(final int index) {
+		final ByteBuffer buffer = segment(index).duplicate();
+		buffer.position(offset(index) + RECORD_HEADER_SIZE);
+
+		final Chromosome[] chromosomes = new Chromosome[_layout.lengths.length];
+		for (int i = 0; i < chromosomes.length; ++i) {
+			chromosomes[i] = _layout.chromosome(i, buffer);
+		}
+
+		return Genotype.of(
+			chromosomes[0],
+			Arrays.copyOfRange(chromosomes, 1, chromosomes.length)
+		);
+	}
+
+	/**
+	 * Decodes and returns the phenotype of the individual with the given
+	 * {@code index}. The returned phenotype is already evaluated with the
+	 * stored fitness values and keeps the stored cancelled flag.
+	 *
+	 * @param index the index of the individual
+	 * @param function the fitness function of the returned phenotype
+	 * @param scaler the fitness scaler of the returned phenotype
+	 * @return the phenotype of the individual
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 * @throws NullPointerException if one of the functions is {@code null}
+	 */
+	public Phenotype<G, C> getPhenotype(
+		final int index,
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Function<? super C, ? extends C> scaler
+	) {
+		final ByteBuffer segment = segment(index);
+		final int offset = offset(index);
+
+		return Phenotype.of(
+			getGenotype(index),
+			segment.getLong(offset),
+			function,
+			scaler,
+			fitness(segment, offset + 2*Long.BYTES),
+			fitness(segment, offset + Long.BYTES),
+			(segment.getLong(offset + 3*Long.BYTES) & CANCELLED) != 0
+		);
+	}
+
+	/**
+	 * Create a new evolution start object from the stored population. The
+	 * created phenotypes are using the fitness function and fitness scaler of
+	 * the given {@code engine}. Since the phenotypes are evaluated with the
+	 * stored fitness values, the evolution stream, created with
+	 * {@link Engine#stream(Population, long)}, doesn't re-evaluate them.
+	 * <p>
+	 * The genotypes of all stored individuals are decoded eagerly by this
+	 * method. Use the {@link #getFitness(int)} and
+	 * {@link #getPhenotype(int, Function, Function)} methods, for decoding
+	 * only a part of the stored population.
+	 *
+	 * @param engine the engine which continues the evolution
+	 * @return a new evolution start object from the stored population
+	 * @throws NullPointerException if the given {@code engine} is {@code null}
+	 */
+	public EvolutionStart<G, C> toEvolutionStart(final Engine<G, C> engine) {
+		requireNonNull(engine);
+
+		final Population<G, C> population = new Population<>(size());
+		for (int i = 0, n = size(); i < n; ++i) {
+			population.add(getPhenotype(
+				i,
+				engine.getFitnessFunction(),
+				engine.getFitnessScaler()
+			));
+		}
+
+		return EvolutionStart.of(population, getGeneration());
+	}
+
+	private ByteBuffer segment(final int index) {
+		if (index < 0 || index >= _layout.size) {
+			throw new IndexOutOfBoundsException(format(
+				"Index %d is out of range [0, %d)", index, _layout.size
+			));
+		}
+		return _segments[index/_segmentRecords];
+	}
+
+	private int offset(final int index) {
+		return (index%_segmentRecords)*_layout.stride;
+	}
+
+	@SuppressWarnings("unchecked")
+	private C fitness(final ByteBuffer segment, final int offset) {
+		final long value = segment.getLong(offset);
+		switch (_layout.fitnessType) {
+			case DOUBLE: return (C)Double.valueOf(Double.longBitsToDouble(value));
+			case INTEGER: return (C)Integer.valueOf((int)value);
+			default: return (C)Long.valueOf(value);
+		}
+	}
+
+	/**
+	 * Writes the population of the given evolution start object as snapshot
+	 * file to the given {@code path}. An already existing file is
+	 * overwritten.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param start the evolution start object to write
+	 * @param path the path of the snapshot file
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the population is empty, contains
+	 *         unsupported genotype or fitness types, or the genotypes of the
+	 *         population have different shapes
+	 * @throws IOException if writing the snapshot file fails
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	void write(final EvolutionStart<G, C> start, final Path path)
+		throws IOException
+	{
+		requireNonNull(path);
+
+		final Population<G, C> population = start.getPopulation();
+		if (population.isEmpty()) {
+			throw new IllegalArgumentException("Population must not be empty.");
+		}
+
+		final Layout layout = Layout.of(
+			population.get(0),
+			population.size(),
+			start.getGeneration()
+		);
+
+		try (FileChannel channel =
+				FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE))
+		{
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(
+				max(BUFFER_SIZE, max(layout.stride, layout.headerSize()))
+			);
+
+			layout.writeHeader(buffer);
+			for (Phenotype<G, C> pt : population) {
+				if (buffer.remaining() < layout.stride) {
+					flush(buffer, channel);
+				}
+				layout.write(pt, buffer);
+			}
+			flush(buffer, channel);
+		}
+	}
+
+	private static void flush(final ByteBuffer buffer, final FileChannel channel)
+		throws IOException
+	{
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Opens the snapshot file with the given {@code path}. The file is mapped
+	 * into memory and the individuals are decoded when they are accessed.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @param path the path of the snapshot file
+	 * @return the opened snapshot
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IOException if the file can't be opened or is not a valid
+	 *         snapshot file
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PopulationSnapshot<G, C> open(final Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, READ)) {
+			final Layout layout = Layout.read(channel);
+
+			final long expected =
+				layout.headerSize() + (long)layout.size*layout.stride;
+			if (channel.size() < expected) {
+				throw new EOFException(format(
+					"Snapshot file is truncated: %d < %d bytes.",
+					channel.size(), expected
+				));
+			}
+
+			// A mapped buffer can't be greater than Integer.MAX_VALUE bytes.
+			final int segmentRecords = max(Integer.MAX_VALUE/layout.stride, 1);
+			final int segmentCount = layout.size == 0
+				? 0
+				: (layout.size - 1)/segmentRecords + 1;
+
+			final ByteBuffer[] segments = new ByteBuffer[segmentCount];
+			for (int i = 0; i < segmentCount; ++i) {
+				final int records = min(
+					segmentRecords,
+					layout.size - i*segmentRecords
+				);
+				segments[i] = channel.map(
+					MapMode.READ_ONLY,
+					layout.headerSize() + (long)i*segmentRecords*layout.stride,
+					(long)records*layout.stride
+				);
+			}
+
+			return new PopulationSnapshot<>(layout, segments, segmentRecords);
+		}
+	}
+
+	/**
+	 * The layout of the snapshot file: the genotype shape, the value types
+	 * and the stride of the records.
+	 */
+	private static final class Layout {
+		final byte geneType;
+		final byte fitnessType;
+		final long generation;
+		final int size;
+		final int[] lengths;
+
+		// Chromosome ranges (min and max), encoded as long values. Not used
+		// for bit chromosomes.
+		final long[] mins;
+		final long[] maxs;
+
+		final int stride;
+
+		Layout(
+			final byte geneType,
+			final byte fitnessType,
+			final long generation,
+			final int size,
+			final int[] lengths,
+			final long[] mins,
+			final long[] maxs
+		) {
+			this.geneType = geneType;
+			this.fitnessType = fitnessType;
+			this.generation = generation;
+			this.size = size;
+			this.lengths = lengths;
+			this.mins = mins;
+			this.maxs = maxs;
+
+			long bytes = RECORD_HEADER_SIZE;
+			for (int length : lengths) {
+				bytes += geneBytes(geneType, length);
+			}
+			bytes = align(bytes);
+			if (bytes > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException(format(
+					"Record size is too big: %d", bytes
+				));
+			}
+			stride = (int)bytes;
+		}
+
+		int headerSize() {
+			return (int)align(4 + 2 + 1 + 1 + 8 + 4 + 4 + 4 + lengths.length*20);
+		}
+
+		void writeHeader(final ByteBuffer buffer) {
+			final int start = buffer.position();
+			buffer.putInt(MAGIC);
+			buffer.putShort(VERSION);
+			buffer.put(geneType);
+			buffer.put(fitnessType);
+			buffer.putLong(generation);
+			buffer.putInt(size);
+			buffer.putInt(stride);
+			buffer.putInt(lengths.length);
+			for (int i = 0; i < lengths.length; ++i) {
+				buffer.putInt(lengths[i]);
+				buffer.putLong(mins[i]);
+				buffer.putLong(maxs[i]);
+			}
+			buffer.position(start + headerSize());
+		}
+
+		void write(final Phenotype<?, ?> pt, final ByteBuffer buffer) {
+			final int start = buffer.position();
+			buffer.putLong(pt.getGeneration());
+			buffer.putLong(fitness(pt.getFitness()));
+			buffer.putLong(fitness(pt.getRawFitness()));
+			buffer.putLong(pt.isCancelled() ? CANCELLED : 0);
+
+			final Genotype<?> gt = pt.getGenotype();
+			if (gt.length() != lengths.length) {
+				throw new IllegalArgumentException(format(
+					"Expected %d chromosomes, but got %d.",
+					lengths.length, gt.length()
+				));
+			}
+			for (int i = 0; i < lengths.length; ++i) {
+				write(i, gt.getChromosome(i), buffer);
+			}
+
+			buffer.position(start + stride);
+		}
+
+		private void write(
+			final int index,
+			final Chromosome<?> chromosome,
+			final ByteBuffer buffer
+		) {
+			if (!matches(index, chromosome)) {
+				throw new IllegalArgumentException(format(
+					"Chromosome %d has a different shape: %s", index, chromosome
+				));
+			}
+
+			final int length = lengths[index];
+			switch (geneType) {
+				case DOUBLE:
+					buffer.asDoubleBuffer()
+						.put(((DoubleChromosome)chromosome).toArray());
+					buffer.position(buffer.position() + length*Double.BYTES);
+					break;
+				case INTEGER:
+					buffer.asIntBuffer()
+						.put(((IntegerChromosome)chromosome).toArray());
+					buffer.position(buffer.position() + length*Integer.BYTES);
+					break;
+				case LONG:
+					buffer.asLongBuffer()
+						.put(((LongChromosome)chromosome).toArray());
+					buffer.position(buffer.position() + length*Long.BYTES);
+					break;
+				default: {
+					final BitChromosome ch = (BitChromosome)chromosome;
+					buffer.putLong(Double.doubleToLongBits(ch.getOneProbability()));
+					buffer.put(ch.toByteArray());
+				}
+			}
+		}
+
+		// Test whether the given chromosome has the shape of the chromosome
+		// with the given index, without creating a new layout.
+		private boolean matches(final int index, final Chromosome<?> chromosome) {
+			if (chromosome.length() != lengths[index]) {
+				return false;
+			}
+
+			final Class<?> type = chromosome.getClass();
+			switch (geneType) {
+				case DOUBLE: {
+					if (type != DoubleChromosome.class) return false;
+					final DoubleChromosome ch = (DoubleChromosome)chromosome;
+					return
+						Double.doubleToLongBits(ch.getMin()) == mins[index] &&
+						Double.doubleToLongBits(ch.getMax()) == maxs[index];
+				}
+				case INTEGER: {
+					if (type != IntegerChromosome.class) return false;
+					final IntegerChromosome ch = (IntegerChromosome)chromosome;
+					return ch.getMin() == mins[index] && ch.getMax() == maxs[index];
+				}
+				case LONG: {
+					if (type != LongChromosome.class) return false;
+					final LongChromosome ch = (LongChromosome)chromosome;
+					return ch.getMin() == mins[index] && ch.getMax() == maxs[index];
+				}
+				default:
+					return type == BitChromosome.class;
+			}
+		}
+
+		Chromosome<?> chromosome(final int index, final ByteBuffer buffer) {
+			final int length = lengths[index];
+			switch (geneType) {
+				case DOUBLE: {
+					final double[] values = new double[length];
+					buffer.asDoubleBuffer().get(values);
+					buffer.position(buffer.position() + length*Double.BYTES);
+
+					final double min = Double.longBitsToDouble(mins[index]);
+					final double max = Double.longBitsToDouble(maxs[index]);
+					final DoubleGene[] genes = new DoubleGene[length];
+					for (int i = 0; i < length; ++i) {
+						genes[i] = DoubleGene.of(values[i], min, max);
+					}
+					return DoubleChromosome.of(genes);
+				}
+				case INTEGER: {
+					final int[] values = new int[length];
+					buffer.asIntBuffer().get(values);
+					buffer.position(buffer.position() + length*Integer.BYTES);
+
+					final IntegerGene[] genes = new IntegerGene[length];
+					for (int i = 0; i < length; ++i) {
+						genes[i] = IntegerGene.of(
+							values[i], (int)mins[index], (int)maxs[index]
+						);
+					}
+					return IntegerChromosome.of(genes);
+				}
+				case LONG: {
+					final long[] values = new long[length];
+					buffer.asLongBuffer().get(values);
+					buffer.position(buffer.position() + length*Long.BYTES);
+
+					final LongGene[] genes = new LongGene[length];
+					for (int i = 0; i < length; ++i) {
+						genes[i] = LongGene.of(values[i], mins[index], maxs[index]);
+					}
+					return LongChromosome.of(genes);
+				}
+				default: {
+					final double p = Double.longBitsToDouble(buffer.getLong());
+					final byte[] bytes = new byte[bit.toByteLength(length)];
+					buffer.get(bytes);
+					return BitChromosome.of(bytes, length, p);
+				}
+			}
+		}
+
+		private long fitness(final Object value) {
+			if (fitnessType(value) != fitnessType) {
+				throw new IllegalArgumentException(format(
+					"Expected fitness type %d, but got %s.",
+					fitnessType, value.getClass().getName()
+				));
+			}
+			return value instanceof Double
+				? Double.doubleToLongBits((Double)value)
+				: ((Number)value).longValue();
+		}
+
+		static Layout of(
+			final Phenotype<?, ?> pt,
+			final int size,
+			final long generation
+		) {
+			final Genotype<?> gt = pt.getGenotype();
+			final int[] lengths = new int[gt.length()];
+			final long[] mins = new long[gt.length()];
+			final long[] maxs = new long[gt.length()];
+
+			byte geneType = 0;
+			for (int i = 0; i < gt.length(); ++i) {
+				final Layout layout = shape(gt.getChromosome(i), generation, size);
+				if (i > 0 && layout.geneType != geneType) {
+					throw new IllegalArgumentException(
+						"All chromosomes must have the same type."
+					);
+				}
+				geneType = layout.geneType;
+				lengths[i] = layout.lengths[0];
+				mins[i] = layout.mins[0];
+				maxs[i] = layout.maxs[0];
+			}
+
+			return new Layout(
+				geneType,
+				fitnessType(pt.getFitness()),
+				generation,
+				size,
+				lengths,
+				mins,
+				maxs
+			);
+		}
+
+		// Return the layout of a genotype with the given chromosome.
+		private static Layout shape(
+			final Chromosome<?> chromosome,
+			final long generation,
+			final int size
+		) {
+			final Class<?> type = chromosome.getClass();
+			final int[] length = {chromosome.length()};
+
+			if (type == DoubleChromosome.class) {
+				final DoubleChromosome ch = (DoubleChromosome)chromosome;
+				return new Layout(DOUBLE, DOUBLE, generation, size, length,
+					new long[]{Double.doubleToLongBits(ch.getMin())},
+					new long[]{Double.doubleToLongBits(ch.getMax())});
+			} else if (type == IntegerChromosome.class) {
+				final IntegerChromosome ch = (IntegerChromosome)chromosome;
+				return new Layout(INTEGER, DOUBLE, generation, size, length,
+					new long[]{ch.getMin()}, new long[]{ch.getMax()});
+			} else if (type == LongChromosome.class) {
+				final LongChromosome ch = (LongChromosome)chromosome;
+				return new Layout(LONG, DOUBLE, generation, size, length,
+					new long[]{ch.getMin()}, new long[]{ch.getMax()});
+			} else if (type == BitChromosome.class) {
+				return new Layout(BIT, DOUBLE, generation, size, length,
+					new long[]{0}, new long[]{0});
+			} else {
+				throw new IllegalArgumentException(format(
+					"Unsupported chromosome type: %s", type.getName()
+				));
+			}
+		}
+
+		private static byte fitnessType(final Object value) {
+			if (value instanceof Double) {
+				return DOUBLE;
+			} else if (value instanceof Integer) {
+				return INTEGER;
+			} else if (value instanceof Long) {
+				return LONG;
+			} else {
+				throw new IllegalArgumentException(format(
+					"Unsupported fitness type: %s", value.getClass().getName()
+				));
+			}
+		}
+
+		static Layout read(final FileChannel channel) throws IOException {
+			final ByteBuffer fixed = read(channel, 0, 4 + 2 + 1 + 1 + 8 + 4 + 4 + 4);
+
+			final int magic = fixed.getInt();
+			if (magic != MAGIC) {
+				throw new IOException(format(
+					"Invalid snapshot file: 0x%08X", magic
+				));
+			}
+			final short version = fixed.getShort();
+			if (version != VERSION) {
+				throw new IOException(format(
+					"Unsupported snapshot version: %d", version
+				));
+			}
+
+			final byte geneType = fixed.get();
+			final byte fitnessType = fixed.get();
+			final long generation = fixed.getLong();
+			final int size = fixed.getInt();
+			final int stride = fixed.getInt();
+			final int count = fixed.getInt();
+			if (size < 0 || count < 1 ||
+				geneType < DOUBLE || geneType > BIT ||
+				fitnessType < DOUBLE || fitnessType > LONG)
+			{
+				throw new IOException("Invalid snapshot file header.");
+			}
+
+			final ByteBuffer chromosomes = read(channel, fixed.limit(), count*20);
+			final int[] lengths = new int[count];
+			final long[] mins = new long[count];
+			final long[] maxs = new long[count];
+			for (int i = 0; i < count; ++i) {
+				lengths[i] = chromosomes.getInt();
+				mins[i] = chromosomes.getLong();
+				maxs[i] = chromosomes.getLong();
+			}
+
+			final Layout layout = new Layout(
+				geneType, fitnessType, generation, size, lengths, mins, maxs
+			);
+			if (layout.stride != stride) {
+				throw new IOException(format(
+					"Invalid record size: %d != %d", stride, layout.stride
+				));
+			}
+
+			return layout;
+		}
+
+		private static ByteBuffer read(
+			final FileChannel channel,
+			final long position,
+			final int size
+		)
+			throws IOException
+		{
+			final ByteBuffer buffer = ByteBuffer.allocate(size);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, position + buffer.position()) < 0) {
+					throw new EOFException("Snapshot file is truncated.");
+				}
+			}
+			buffer.flip();
+			return buffer;
+		}
+
+		private static long geneBytes(final byte geneType, final int length) {
+			switch (geneType) {
+				case DOUBLE: return (long)length*Double.BYTES;
+				case INTEGER: return (long)length*Integer.BYTES;
+				case LONG: return (long)length*Long.BYTES;
+				default: return Long.BYTES + bit.toByteLength(length);
+			}
+		}
+
+		private static long align(final long bytes) {
+			return (bytes + 7) & ~7L;
+		}
+	}
+
+}
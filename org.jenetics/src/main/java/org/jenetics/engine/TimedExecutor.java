@@ -26,25 +26,43 @@ import java.time.Clock;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 3.1
  */
 final class TimedExecutor {
 	private final Executor _executor;
+	private final LongConsumer _queueWait;
 
 	public TimedExecutor(final Executor executor) {
+		this(executor, null);
+	}
+
+	// The 'queueWait' consumer, if not null, receives the nanoseconds the
+	// 'async' tasks have been waiting for their execution.
+	public TimedExecutor(final Executor executor, final LongConsumer queueWait) {
 		_executor = requireNonNull(executor);
+		_queueWait = queueWait;
 	}
 
 	public <T> CompletableFuture<TimedResult<T>> async(
 		final Supplier<T> supplier,
 		final Clock clock
 	) {
-		return supplyAsync(TimedResult.of(supplier, clock), _executor);
+		final Supplier<TimedResult<T>> timed = TimedResult.of(supplier, clock);
+		if (_queueWait == null) {
+			return supplyAsync(timed, _executor);
+		}
+
+		final long submitted = System.nanoTime();
+		return supplyAsync(() -> {
+			_queueWait.accept(System.nanoTime() - submitted);
+			return timed.get();
+		}, _executor);
 	}
 
 	public <U, T> CompletableFuture<TimedResult<T>> thenApply(
@@ -0,0 +1,183 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Executes the given runnables with a timeout for every single runnable and
+ * a timeout for all runnables. Runnables which exceed one of the timeouts are
+ * cancelled and the executing thread is interrupted. A cancelled runnable,
+ * which doesn't react on the interruption, is still running in the background
+ * until it has finished, but the {@code execute} method is no longer waiting
+ * for it.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+final class TimeoutExecutor {
+
+	private final Executor _executor;
+	private final long _runnableTimeout;
+	private final long _totalTimeout;
+
+	/**
+	 * Create a new timeout executor.
+	 *
+	 * @param executor the executor used for executing the runnables
+	 * @param runnableTimeout the timeout of a single runnable in nanoseconds,
+	 *        measured from the start of the runnable
+	 * @param totalTimeout the timeout of all runnables in nanoseconds,
+	 *        measured from the call of the {@code execute} method
+	 */
+	TimeoutExecutor(
+		final Executor executor,
+		final long runnableTimeout,
+		final long totalTimeout
+	) {
+		_executor = requireNonNull(executor);
+		_runnableTimeout = runnableTimeout;
+		_totalTimeout = totalTimeout;
+	}
+
+	/**
+	 * Execute the given runnables and wait until all runnables have been
+	 * finished or cancelled.
+	 *
+	 * @param runnables the runnables to execute
+	 * @param <T> the runnable type
+	 * @return the runnables which have been cancelled
+	 * @throws CancellationException if one of the runnables has thrown an
+	 *         exception or the calling thread has been interrupted. In the
+	 *         later case, all runnables are cancelled.
+	 */
+	<T extends Runnable> List<T> execute(final List<T> runnables) {
+		final long start = System.nanoTime();
+		final CountDownLatch latch = new CountDownLatch(runnables.size());
+
+		final Task[] tasks = new Task[runnables.size()];
+		for (int i = 0; i < tasks.length; ++i) {
+			tasks[i] = new Task(runnables.get(i), latch);
+			_executor.execute(tasks[i]);
+		}
+
+		try {
+			long wait = min(_runnableTimeout, _totalTimeout);
+			while (!latch.await(wait, NANOSECONDS)) {
+				wait = cancel(tasks, start, System.nanoTime());
+			}
+		} catch (InterruptedException e) {
+			for (Task task : tasks) {
+				task.cancel(true);
+			}
+			Thread.currentThread().interrupt();
+			throw new CancellationException(e.getMessage());
+		}
+
+		final List<T> cancelled = new ArrayList<>();
+		for (int i = 0; i < tasks.length; ++i) {
+			if (tasks[i].isCancelled()) {
+				cancelled.add(runnables.get(i));
+			} else {
+				try {
+					tasks[i].get();
+				} catch (InterruptedException|ExecutionException e) {
+					throw new CancellationException(e.getMessage());
+				}
+			}
+		}
+
+		return cancelled;
+	}
+
+	// Cancels the timed out tasks and returns the time, in nanoseconds, until
+	// the next task can time out.
+	private long cancel(final Task[] tasks, final long start, final long now) {
+		final boolean expired = now - start >= _totalTimeout;
+
+		long wait = _totalTimeout - (now - start);
+		for (Task task : tasks) {
+			if (!task.isDone()) {
+				if (expired) {
+					task.cancel(true);
+				} else if (task.isStarted()) {
+					final long elapsed = now - task.start();
+					if (elapsed >= _runnableTimeout) {
+						task.cancel(true);
+					} else {
+						wait = min(wait, _runnableTimeout - elapsed);
+					}
+				} else {
+					wait = min(wait, _runnableTimeout);
+				}
+			}
+		}
+
+		return max(wait, 1);
+	}
+
+	/**
+	 * Future task which records its start time and signals its completion,
+	 * normally or by cancellation, to the given latch.
+	 */
+	private static final class Task extends FutureTask<Void> {
+		private final CountDownLatch _latch;
+		private volatile long _start;
+		private volatile boolean _started;
+
+		Task(final Runnable runnable, final CountDownLatch latch) {
+			super(runnable, null);
+			_latch = latch;
+		}
+
+		@Override
+		public void run() {
+			_start = System.nanoTime();
+			_started = true;
+			super.run();
+		}
+
+		boolean isStarted() {
+			return _started;
+		}
+
+		long start() {
+			return _start;
+		}
+
+		@Override
+		protected void done() {
+			_latch.countDown();
+		}
+	}
+
+}
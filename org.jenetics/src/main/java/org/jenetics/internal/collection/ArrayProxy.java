@@ -292,8 +292,29 @@ public abstract class ArrayProxy<T, A, P extends ArrayProxy<T, A, P>>
 		return StreamSupport.stream(spliterator(), true);
 	}
 
+	/**
+	 * Return a spliterator over the elements of this {@code ArrayProxy}. The
+	 * spliterator of a sealed proxy is additionally {@code IMMUTABLE}.
+	 *
+	 * @return a spliterator over the elements of this {@code ArrayProxy}
+	 */
 	public Spliterator<T> spliterator() {
-		return new ArrayProxySpliterator<>(this);
+		return spliterator(_isSealedProxy ? Spliterator.IMMUTABLE : 0);
+	}
+
+	/**
+	 * Return a spliterator over the elements of this {@code ArrayProxy}. The
+	 * returned spliterator is always {@code ORDERED}, {@code SIZED} and
+	 * {@code SUBSIZED} and splits the element range in two equally sized
+	 * halves.
+	 *
+	 * @since 3.1
+	 *
+	 * @param characteristics additional characteristics of the spliterator
+	 * @return a spliterator over the elements of this {@code ArrayProxy}
+	 */
+	public Spliterator<T> spliterator(final int characteristics) {
+		return new ArrayProxySpliterator<>(this, 0, length, characteristics);
 	}
 
 	/**
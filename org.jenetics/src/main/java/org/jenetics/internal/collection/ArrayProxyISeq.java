@@ -19,6 +19,7 @@
  */
 package org.jenetics.internal.collection;
 
+import java.util.Spliterator;
 import java.util.function.Function;
 
 import org.jenetics.util.ISeq;
@@ -27,7 +28,7 @@ import org.jenetics.util.MSeq;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.0
+ * @version 3.1
  */
 public class ArrayProxyISeq<T, P extends ArrayProxy<T, ?, ?>>
 	extends ArrayProxySeq<T, P>
@@ -40,9 +41,14 @@ public class ArrayProxyISeq<T, P extends ArrayProxy<T, ?, ?>>
 		super(proxy);
 	}
 
+	@Override
+	protected int characteristics() {
+		return Spliterator.IMMUTABLE;
+	}
+
 	@Override
 	public <B> ISeq<B> map(final Function<? super T, ? extends B> mapper) {
-		return new ArrayProxyISeq<>(proxy.map(mapper));
+		return new ObjectArrayProxyISeq<>(proxy.map(mapper));
 	}
 
 	@Override
@@ -35,7 +35,7 @@ import org.jenetics.util.MSeq;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.0
+ * @version 3.1
  */
 public class ArrayProxyMSeq<T, P extends ArrayProxy<T, ?, ?>>
 	extends ArrayProxySeq<T, P>
@@ -165,7 +165,7 @@ public class ArrayProxyMSeq<T, P extends ArrayProxy<T, ?, ?>>
 
 	@Override
 	public <B> MSeq<B> map(final Function<? super T, ? extends B> mapper) {
-		return new ArrayProxyMSeq<>(proxy.map(mapper));
+		return new ObjectArrayProxyMSeq<>(proxy.map(mapper));
 	}
 
 	@Override
@@ -29,13 +29,14 @@ import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jenetics.util.Seq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.0
+ * @version 3.1
  */
 public abstract class ArrayProxySeq<T, P extends ArrayProxy<T, ?, ?>>
 	implements
@@ -50,24 +51,37 @@ public abstract class ArrayProxySeq<T, P extends ArrayProxy<T, ?, ?>>
 		this.proxy = requireNonNull(proxy, "ArrayProxy must not be null.");
 	}
 
+	// Not final, since the object and chunk array sequences are overriding
+	// this method with a direct access of the underlying array.
 	@Override
-	public final T get(final int index) {
+	public T get(final int index) {
 		return proxy.get(index);
 	}
 
 	@Override
 	public Stream<T> stream() {
-		return proxy.stream();
+		return StreamSupport.stream(spliterator(), false);
 	}
 
 	@Override
 	public Stream<T> parallelStream() {
-		return proxy.parallelStream();
+		return StreamSupport.stream(spliterator(), true);
 	}
 
 	@Override
 	public Spliterator<T> spliterator() {
-		return proxy.spliterator();
+		return proxy.spliterator(characteristics());
+	}
+
+	/**
+	 * Return the additional characteristics of the spliterator of this
+	 * sequence. The returned spliterator is always {@code ORDERED},
+	 * {@code SIZED} and {@code SUBSIZED}.
+	 *
+	 * @return the additional spliterator characteristics
+	 */
+	protected int characteristics() {
+		return 0;
 	}
 
 	@Override
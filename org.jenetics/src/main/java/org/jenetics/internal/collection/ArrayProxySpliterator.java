@@ -27,22 +27,46 @@ import java.util.function.Consumer;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 3.1
  */
 public final class ArrayProxySpliterator<T> implements Spliterator<T> {
 
 	private final ArrayProxy<T, ?, ?> _proxy;
 	private final int _fence;
+	private final int _characteristics;
 	private int _index;
 
+	/**
+	 * Create a new spliterator for the given proxy range.
+	 *
+	 * @param proxy the underlying array proxy
+	 * @param origin the start index, inclusively
+	 * @param fence the end index, exclusively
+	 * @param characteristics additional characteristics of the spliterator,
+	 *        e.g. {@link Spliterator#IMMUTABLE}. The spliterator always
+	 *        reports {@code ORDERED}, {@code SIZED} and {@code SUBSIZED}.
+	 */
 	public ArrayProxySpliterator(
 		final ArrayProxy<T, ?, ?> proxy,
 		final int origin,
-		final int fence
+		final int fence,
+		final int characteristics
 	) {
 		_proxy = requireNonNull(proxy);
 		_index = origin;
 		_fence = fence;
+		_characteristics = characteristics |
+			Spliterator.ORDERED |
+			Spliterator.SIZED |
+			Spliterator.SUBSIZED;
+	}
+
+	public ArrayProxySpliterator(
+		final ArrayProxy<T, ?, ?> proxy,
+		final int origin,
+		final int fence
+	) {
+		this(proxy, origin, fence, 0);
 	}
 
 	public ArrayProxySpliterator(final ArrayProxy<T, ?, ?> proxy) {
@@ -82,7 +106,8 @@ public final class ArrayProxySpliterator<T> implements Spliterator<T> {
 
 		return (lo >= mid)
 			? null
-			: new ArrayProxySpliterator<>(_proxy, lo, _index = mid);
+			: new ArrayProxySpliterator<>(
+				_proxy, lo, _index = mid, _characteristics);
 	}
 
 	@Override
@@ -92,7 +117,7 @@ public final class ArrayProxySpliterator<T> implements Spliterator<T> {
 
 	@Override
 	public int characteristics() {
-		return Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+		return _characteristics;
 	}
 
 }
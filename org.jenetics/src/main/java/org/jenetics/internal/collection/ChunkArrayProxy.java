@@ -0,0 +1,274 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+
+/**
+ * {@code ArrayProxy} implementation which stores {@code Object}s in fixed
+ * sized chunks. Copies of a chunk array proxy share the chunks of the original
+ * array and a chunk is only copied before it is written (copy-on-write).
+ * Swapping chunk aligned ranges between two chunk array proxies only exchanges
+ * the chunk references. This allows to recombine large sequences without
+ * copying the elements which are not changed.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class ChunkArrayProxy<T>
+	extends ArrayProxy<T, ChunkArrayProxy.Chunks, ChunkArrayProxy<T>>
+{
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The minimal sequence length for which the chunked storage is used by the
+	 * {@link #copyOf(ISeq)} method.
+	 */
+	public static final int MIN_LENGTH = 4*Chunks.SIZE;
+
+	ChunkArrayProxy(final Chunks chunks, final int start, final int end) {
+		super(chunks, start, end, ChunkArrayProxy<T>::new, Chunks::copy);
+	}
+
+	/**
+	 * Create a new chunk array proxy with the given {@code length}.
+	 *
+	 * @param length the length of the array proxy.
+	 */
+	public ChunkArrayProxy(final int length) {
+		this(new Chunks(length), 0, length);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T __get__(final int index) {
+		return (T)array.chunks[index >>> Chunks.SHIFT][index & Chunks.MASK];
+	}
+
+	@Override
+	public void __set__(final int index, final T value) {
+		array.set(index, value);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void swap(
+		final int start, final int end,
+		final ArrayProxy<T, ?, ?> other, final int otherStart
+	) {
+		if (other instanceof ChunkArrayProxy<?>) {
+			swap(start, end, (ChunkArrayProxy<T>)other, otherStart);
+		} else {
+			super.swap(start, end, other, otherStart);
+		}
+	}
+
+	private void swap(
+		final int start, final int end,
+		final ChunkArrayProxy<T> other, final int otherStart
+	) {
+		checkIndex(start, end);
+		other.checkIndex(otherStart, otherStart + (end - start));
+		cloneIfSealed();
+		other.cloneIfSealed();
+
+		final int n = end + this.start;
+		int i = start + this.start;
+		int j = otherStart + other.start;
+
+		// Only exchange the chunk references if both ranges are aligned.
+		if ((i & Chunks.MASK) == (j & Chunks.MASK)) {
+			for (; i < n && (i & Chunks.MASK) != 0; ++i, ++j) {
+				swap(i, other, j);
+			}
+			for (; i + Chunks.SIZE <= n; i += Chunks.SIZE, j += Chunks.SIZE) {
+				array.swap(i >>> Chunks.SHIFT, other.array, j >>> Chunks.SHIFT);
+			}
+		}
+		for (; i < n; ++i, ++j) {
+			swap(i, other, j);
+		}
+	}
+
+	/**
+	 * Copies of sealed proxies are sharing the chunks without marking them as
+	 * shared in the (sealed) original storage, which might be read by other
+	 * threads concurrently. This is safe, because a sealed storage is never
+	 * written: the writing proxy marks all chunks as shared, when it detaches
+	 * its sealed proxies (see {@link #cloneIfSealed()}).
+	 */
+	@Override
+	public ChunkArrayProxy<T> copy() {
+		return _isSealedProxy
+			? new ChunkArrayProxy<>(array.share(start, end), 0, length)
+			: super.copy();
+	}
+
+	private void swap(final int i, final ChunkArrayProxy<T> other, final int j) {
+		final T temp = __get__(i);
+		__set__(i, other.__get__(j));
+		other.__set__(j, temp);
+	}
+
+	/**
+	 * Return a mutable copy of the given sequence, which shares its storage
+	 * with the given sequence until it is changed. If the given sequence is
+	 * not backed by a chunk array, the elements are copied into a new chunk
+	 * array, but only if the sequence is at least {@link #MIN_LENGTH} long.
+	 * This means that the storage is only shared with copies of the returned
+	 * sequence, and not with the given one.
+	 * Shorter sequences, and sequences which are backed by specialized arrays,
+	 * are copied with the {@link ISeq#copy()} method.
+	 *
+	 * @param seq the sequence to copy
+	 * @param <T> the element type
+	 * @return a mutable copy of the given sequence
+	 * @throws NullPointerException if the given {@code seq} is {@code null}
+	 */
+	public static <T> MSeq<T> copyOf(final ISeq<T> seq) {
+		MSeq<T> copy = null;
+
+		if (seq instanceof ArrayProxyISeq<?, ?>) {
+			final ArrayProxy<T, ?, ?> proxy = ((ArrayProxyISeq<T, ?>)seq).proxy;
+
+			if (proxy instanceof ObjectArrayProxy<?> &&
+				proxy.length >= MIN_LENGTH)
+			{
+				copy = new ChunkArrayProxyMSeq<>(new ChunkArrayProxy<T>(
+					Chunks.of(
+						((ObjectArrayProxy<?>)proxy).array,
+						proxy.start, proxy.end
+					),
+					0, proxy.length
+				));
+			}
+		}
+
+		return copy != null ? copy : seq.copy();
+	}
+
+	/**
+	 * The chunked array storage. The {@code shared} flags marks the chunks
+	 * which might be referenced by other {@code Chunks} instances and must be
+	 * copied before writing. The flags are only read and written by the
+	 * (single) writing proxy of the storage.
+	 */
+	static final class Chunks implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		static final int SHIFT = 9;
+		static final int SIZE = 1 << SHIFT;
+		static final int MASK = SIZE - 1;
+
+		final Object[][] chunks;
+		final boolean[] shared;
+
+		private Chunks(final Object[][] chunks, final boolean[] shared) {
+			this.chunks = chunks;
+			this.shared = shared;
+		}
+
+		Chunks(final int length) {
+			this(
+				new Object[(length + MASK) >>> SHIFT][],
+				new boolean[(length + MASK) >>> SHIFT]
+			);
+			for (int i = 0; i < chunks.length; ++i) {
+				chunks[i] = new Object[SIZE];
+			}
+		}
+
+		void set(final int index, final Object value) {
+			final int chunk = index >>> SHIFT;
+			if (shared[chunk]) {
+				chunks[chunk] = chunks[chunk].clone();
+				shared[chunk] = false;
+			}
+			chunks[chunk][index & MASK] = value;
+		}
+
+		void swap(final int chunk, final Chunks other, final int otherChunk) {
+			final Object[] temp = chunks[chunk];
+			chunks[chunk] = other.chunks[otherChunk];
+			other.chunks[otherChunk] = temp;
+
+			final boolean flag = shared[chunk];
+			shared[chunk] = other.shared[otherChunk];
+			other.shared[otherChunk] = flag;
+		}
+
+		// Copies the given range and marks the shared chunks in this storage.
+		Chunks copy(final int from, final int until) {
+			return copy(from, until, true);
+		}
+
+		// Copies the given range, without changing this storage.
+		Chunks share(final int from, final int until) {
+			return copy(from, until, false);
+		}
+
+		private Chunks copy(final int from, final int until, final boolean mark) {
+			final Chunks copy;
+
+			if ((from & MASK) == 0) {
+				final int start = from >>> SHIFT;
+				final int end = (until + MASK) >>> SHIFT;
+
+				// Both, the original and the copy, are sharing the chunks now.
+				if (mark) {
+					Arrays.fill(shared, start, end, true);
+				}
+				copy = new Chunks(
+					Arrays.copyOfRange(chunks, start, end),
+					new boolean[end - start]
+				);
+				Arrays.fill(copy.shared, true);
+			} else {
+				copy = new Chunks(until - from);
+				for (int i = from; i < until; ++i) {
+					copy.set(i - from, chunks[i >>> SHIFT][i & MASK]);
+				}
+			}
+
+			return copy;
+		}
+
+		// Copies the given array range into a new chunk storage.
+		static Chunks of(final Object[] array, final int from, final int until) {
+			final Chunks chunks = new Chunks(until - from);
+			for (int i = 0; i < chunks.chunks.length; ++i) {
+				final int offset = from + (i << SHIFT);
+				System.arraycopy(
+					array, offset,
+					chunks.chunks[i], 0,
+					Math.min(SIZE, until - offset)
+				);
+			}
+			return chunks;
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import org.jenetics.internal.collection.ChunkArrayProxy.Chunks;
+
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+
+/**
+ * {@code MSeq} implementation for chunk arrays, which are used for the genes
+ * of large, altered chromosomes. The element access reads and writes the
+ * chunks directly, without the dispatch through the abstract
+ * {@link ArrayProxy} accessor methods.
+ *
+ * @see ObjectArrayProxyMSeq
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public final class ChunkArrayProxyMSeq<T>
+	extends ArrayProxyMSeq<T, ChunkArrayProxy<T>>
+{
+
+	private static final long serialVersionUID = 1L;
+
+	public ChunkArrayProxyMSeq(final ChunkArrayProxy<T> proxy) {
+		super(proxy);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(final int index) {
+		proxy.checkIndex(index);
+		final int i = index + proxy.start;
+		return (T)proxy.array.chunks[i >>> Chunks.SHIFT][i & Chunks.MASK];
+	}
+
+	@Override
+	public void set(final int index, final T value) {
+		proxy.checkIndex(index);
+		proxy.cloneIfSealed();
+		proxy.array.set(index + proxy.start, value);
+	}
+
+	@Override
+	public MSeq<T> subSeq(final int start, final int end) {
+		return new ChunkArrayProxyMSeq<>(proxy.slice(start, end));
+	}
+
+	@Override
+	public MSeq<T> subSeq(final int start) {
+		return new ChunkArrayProxyMSeq<>(proxy.slice(start));
+	}
+
+	@Override
+	public MSeq<T> copy() {
+		return new ChunkArrayProxyMSeq<>(proxy.copy());
+	}
+
+	@Override
+	public ISeq<T> toISeq() {
+		return new ChunkArrayProxyISeq<>(proxy.seal());
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import org.jenetics.util.IDoubleSeq;
+import org.jenetics.util.MDoubleSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public class DoubleArrayProxyMSeq
+	extends DoubleArrayProxySeq
+	implements MDoubleSeq
+{
+
+	private static final long serialVersionUID = 1L;
+
+	public DoubleArrayProxyMSeq(final DoubleArrayProxy proxy) {
+		super(proxy);
+	}
+
+	@Override
+	public void set(final int index, final double value) {
+		proxy.checkIndex(index);
+		proxy.cloneIfSealed();
+		proxy.array[index + proxy.start] = value;
+	}
+
+	@Override
+	public MDoubleSeq setAll(final double value) {
+		proxy.cloneIfSealed();
+		Arrays.fill(proxy.array, proxy.start, proxy.end, value);
+		return this;
+	}
+
+	@Override
+	public MDoubleSeq setAll(final double[] values) {
+		proxy.cloneIfSealed();
+		System.arraycopy(
+			values, 0, proxy.array, proxy.start,
+			min(proxy.length, values.length)
+		);
+		return this;
+	}
+
+	@Override
+	public MDoubleSeq fill(final DoubleSupplier supplier) {
+		proxy.cloneIfSealed();
+		final double[] array = proxy.array;
+		for (int i = proxy.start; i < proxy.end; ++i) {
+			array[i] = supplier.getAsDouble();
+		}
+		return this;
+	}
+
+	@Override
+	public void swap(final int i, final int j) {
+		proxy.checkIndex(i);
+		proxy.checkIndex(j);
+		proxy.cloneIfSealed();
+
+		final double[] array = proxy.array;
+		final double temp = array[i + proxy.start];
+		array[i + proxy.start] = array[j + proxy.start];
+		array[j + proxy.start] = temp;
+	}
+
+	@Override
+	public void swap(
+		final int start, final int end,
+		final MDoubleSeq other, final int otherStart
+	) {
+		proxy.checkIndex(start, end);
+		if (otherStart < 0 || (otherStart + (end - start)) > other.length()) {
+			throw new ArrayIndexOutOfBoundsException(format(
+				"Invalid index range: [%d, %d)",
+				otherStart, (otherStart + (end - start))
+			));
+		}
+
+		if (start < end) {
+			if (other instanceof DoubleArrayProxyMSeq) {
+				final DoubleArrayProxy that = ((DoubleArrayProxyMSeq)other).proxy;
+				proxy.cloneIfSealed();
+				that.cloneIfSealed();
+
+				final double[] a = proxy.array;
+				final double[] b = that.array;
+				for (int i = (end - start); --i >= 0;) {
+					final int k = i + start + proxy.start;
+					final int l = i + otherStart + that.start;
+					final double temp = a[k];
+					a[k] = b[l];
+					b[l] = temp;
+				}
+			} else {
+				MDoubleSeq.super.swap(start, end, other, otherStart);
+			}
+		}
+	}
+
+	@Override
+	public MDoubleSeq shuffle(final Random random) {
+		proxy.cloneIfSealed();
+		final double[] array = proxy.array;
+		for (int j = proxy.length - 1; j > 0; --j) {
+			final int i = random.nextInt(j + 1);
+			final double temp = array[j + proxy.start];
+			array[j + proxy.start] = array[i + proxy.start];
+			array[i + proxy.start] = temp;
+		}
+		return this;
+	}
+
+	@Override
+	public MDoubleSeq subSeq(final int start) {
+		return subSeq(start, proxy.length);
+	}
+
+	@Override
+	public MDoubleSeq subSeq(final int start, final int end) {
+		proxy.checkIndex(start, end);
+		return new DoubleArrayProxyMSeq(proxy.slice(start, end));
+	}
+
+	@Override
+	public MDoubleSeq copy() {
+		return new DoubleArrayProxyMSeq(proxy.copy());
+	}
+
+	@Override
+	public IDoubleSeq toISeq() {
+		return new DoubleArrayProxyISeq(proxy.seal());
+	}
+
+}
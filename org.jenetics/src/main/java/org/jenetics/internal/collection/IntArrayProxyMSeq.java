@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+import org.jenetics.util.IIntSeq;
+import org.jenetics.util.MIntSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public class IntArrayProxyMSeq
+	extends IntArrayProxySeq
+	implements MIntSeq
+{
+
+	private static final long serialVersionUID = 1L;
+
+	public IntArrayProxyMSeq(final IntArrayProxy proxy) {
+		super(proxy);
+	}
+
+	@Override
+	public void set(final int index, final int value) {
+		proxy.checkIndex(index);
+		proxy.cloneIfSealed();
+		proxy.array[index + proxy.start] = value;
+	}
+
+	@Override
+	public MIntSeq setAll(final int value) {
+		proxy.cloneIfSealed();
+		Arrays.fill(proxy.array, proxy.start, proxy.end, value);
+		return this;
+	}
+
+	@Override
+	public MIntSeq setAll(final int[] values) {
+		proxy.cloneIfSealed();
+		System.arraycopy(
+			values, 0, proxy.array, proxy.start,
+			min(proxy.length, values.length)
+		);
+		return this;
+	}
+
+	@Override
+	public MIntSeq fill(final IntSupplier supplier) {
+		proxy.cloneIfSealed();
+		final int[] array = proxy.array;
+		for (int i = proxy.start; i < proxy.end; ++i) {
+			array[i] = supplier.getAsInt();
+		}
+		return this;
+	}
+
+	@Override
+	public void swap(final int i, final int j) {
+		proxy.checkIndex(i);
+		proxy.checkIndex(j);
+		proxy.cloneIfSealed();
+
+		final int[] array = proxy.array;
+		final int temp = array[i + proxy.start];
+		array[i + proxy.start] = array[j + proxy.start];
+		array[j + proxy.start] = temp;
+	}
+
+	@Override
+	public void swap(
+		final int start, final int end,
+		final MIntSeq other, final int otherStart
+	) {
+		proxy.checkIndex(start, end);
+		if (otherStart < 0 || (otherStart + (end - start)) > other.length()) {
+			throw new ArrayIndexOutOfBoundsException(format(
+				"Invalid index range: [%d, %d)",
+				otherStart, (otherStart + (end - start))
+			));
+		}
+
+		if (start < end) {
+			if (other instanceof IntArrayProxyMSeq) {
+				final IntArrayProxy that = ((IntArrayProxyMSeq)other).proxy;
+				proxy.cloneIfSealed();
+				that.cloneIfSealed();
+
+				final int[] a = proxy.array;
+				final int[] b = that.array;
+				for (int i = (end - start); --i >= 0;) {
+					final int k = i + start + proxy.start;
+					final int l = i + otherStart + that.start;
+					final int temp = a[k];
+					a[k] = b[l];
+					b[l] = temp;
+				}
+			} else {
+				MIntSeq.super.swap(start, end, other, otherStart);
+			}
+		}
+	}
+
+	@Override
+	public MIntSeq shuffle(final Random random) {
+		proxy.cloneIfSealed();
+		final int[] array = proxy.array;
+		for (int j = proxy.length - 1; j > 0; --j) {
+			final int i = random.nextInt(j + 1);
+			final int temp = array[j + proxy.start];
+			array[j + proxy.start] = array[i + proxy.start];
+			array[i + proxy.start] = temp;
+		}
+		return this;
+	}
+
+	@Override
+	public MIntSeq subSeq(final int start) {
+		return subSeq(start, proxy.length);
+	}
+
+	@Override
+	public MIntSeq subSeq(final int start, final int end) {
+		proxy.checkIndex(start, end);
+		return new IntArrayProxyMSeq(proxy.slice(start, end));
+	}
+
+	@Override
+	public MIntSeq copy() {
+		return new IntArrayProxyMSeq(proxy.copy());
+	}
+
+	@Override
+	public IIntSeq toISeq() {
+		return new IntArrayProxyISeq(proxy.seal());
+	}
+
+}
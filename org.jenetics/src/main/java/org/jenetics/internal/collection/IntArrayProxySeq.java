@@ -0,0 +1,129 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import org.jenetics.util.IntSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public abstract class IntArrayProxySeq implements IntSeq, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	public final IntArrayProxy proxy;
+
+	public IntArrayProxySeq(final IntArrayProxy proxy) {
+		this.proxy = requireNonNull(proxy, "ArrayProxy must not be null.");
+	}
+
+	@Override
+	public final int get(final int index) {
+		proxy.checkIndex(index);
+		return proxy.array[index + proxy.start];
+	}
+
+	@Override
+	public int length() {
+		return proxy.length;
+	}
+
+	@Override
+	public void forEach(final IntConsumer consumer) {
+		requireNonNull(consumer, "Consumer");
+
+		final int[] array = proxy.array;
+		for (int i = proxy.start; i < proxy.end; ++i) {
+			consumer.accept(array[i]);
+		}
+	}
+
+	@Override
+	public boolean forAll(final IntPredicate predicate) {
+		requireNonNull(predicate, "Predicate");
+
+		final int[] array = proxy.array;
+		boolean valid = true;
+		for (int i = proxy.start; i < proxy.end && valid; ++i) {
+			valid = predicate.test(array[i]);
+		}
+		return valid;
+	}
+
+	@Override
+	public int indexWhere(final IntPredicate predicate) {
+		requireNonNull(predicate, "Predicate");
+
+		final int[] array = proxy.array;
+		int index = -1;
+		for (int i = proxy.start; i < proxy.end && index == -1; ++i) {
+			if (predicate.test(array[i])) {
+				index = i - proxy.start;
+			}
+		}
+		return index;
+	}
+
+	@Override
+	public IntStream stream() {
+		return Arrays.stream(proxy.array, proxy.start, proxy.end);
+	}
+
+	@Override
+	public int[] toArray() {
+		return Arrays.copyOfRange(proxy.array, proxy.start, proxy.end);
+	}
+
+	@Override
+	public int[] toArray(final int[] array) {
+		if (array.length < proxy.length) {
+			return toArray();
+		}
+
+		System.arraycopy(proxy.array, proxy.start, array, 0, proxy.length);
+		return array;
+	}
+
+	@Override
+	public int hashCode() {
+		return IntSeq.hashCode(this);
+	}
+
+	@Override
+	public boolean equals(final Object object) {
+		return IntSeq.equals(this, object);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import org.jenetics.util.ILongSeq;
+import org.jenetics.util.MLongSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public class LongArrayProxyISeq
+	extends LongArrayProxySeq
+	implements ILongSeq
+{
+
+	private static final long serialVersionUID = 1L;
+
+	public LongArrayProxyISeq(final LongArrayProxy proxy) {
+		super(proxy);
+	}
+
+	@Override
+	public ILongSeq subSeq(final int start) {
+		return subSeq(start, proxy.length);
+	}
+
+	@Override
+	public ILongSeq subSeq(final int start, final int end) {
+		proxy.checkIndex(start, end);
+		return new LongArrayProxyISeq(proxy.slice(start, end));
+	}
+
+	@Override
+	public MLongSeq copy() {
+		return new LongArrayProxyMSeq(proxy.copy());
+	}
+
+}
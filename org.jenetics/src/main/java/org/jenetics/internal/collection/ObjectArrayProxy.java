@@ -19,20 +19,21 @@
  */
 package org.jenetics.internal.collection;
 
-import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Objects.requireNonNull;
 import static java.util.Spliterator.ORDERED;
 
 import java.util.Arrays;
+import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * {@code ArrayProxy} implementation which stores {@code Object}s.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 3.0
+ * @version 3.1
  */
 public final class ObjectArrayProxy<T>
 	extends ArrayProxy<T, Object[], ObjectArrayProxy<T>>
@@ -74,19 +75,88 @@ public final class ObjectArrayProxy<T>
 		array[index] = value;
 	}
 
-	@Override
-	public Stream<T> stream() {
-		return StreamSupport.stream(
-			Spliterators.spliterator(array, start, end, ORDERED|IMMUTABLE),
-			false
-		);
+	/**
+	 * Performs the given action for each element of this proxy. The elements
+	 * are read directly from the underlying array.
+	 *
+	 * @since 3.1
+	 *
+	 * @param consumer the action to be performed for each element
+	 * @throws NullPointerException if the given {@code consumer} is
+	 *         {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(final Consumer<? super T> consumer) {
+		requireNonNull(consumer, "The consumer must not be null.");
+
+		final Object[] values = array;
+		for (int i = start; i < end; ++i) {
+			consumer.accept((T)values[i]);
+		}
+	}
+
+	/**
+	 * Tests whether the given predicate holds for all elements of this proxy.
+	 *
+	 * @since 3.1
+	 *
+	 * @param predicate the predicate to use
+	 * @return {@code true} if the predicate holds for all elements
+	 * @throws NullPointerException if the given {@code predicate} is
+	 *         {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean forAll(final Predicate<? super T> predicate) {
+		requireNonNull(predicate, "Predicate");
+
+		final Object[] values = array;
+		boolean valid = true;
+		for (int i = start; i < end && valid; ++i) {
+			valid = predicate.test((T)values[i]);
+		}
+		return valid;
+	}
+
+	/**
+	 * Return a copy of the elements of this proxy.
+	 *
+	 * @since 3.1
+	 *
+	 * @return a new array with the elements of this proxy
+	 */
+	public Object[] toArray() {
+		return Arrays.copyOfRange(array, start, end, Object[].class);
+	}
+
+	/**
+	 * Copies the elements of this proxy into the given array, if it is big
+	 * enough. Otherwise a new array of the same runtime type is allocated.
+	 *
+	 * @since 3.1
+	 *
+	 * @param <E> the array element type
+	 * @param values the target array
+	 * @return the array with the elements of this proxy
+	 * @throws ArrayStoreException if an element can't be stored in the given
+	 *         array
+	 */
+	@SuppressWarnings("unchecked")
+	public <E> E[] toArray(final E[] values) {
+		if (values.length < length) {
+			return (E[])Arrays.copyOfRange(
+				array, start, end, values.getClass()
+			);
+		}
+
+		System.arraycopy(array, start, values, 0, length);
+		return values;
 	}
 
 	@Override
-	public Stream<T> parallelStream() {
-		return StreamSupport.stream(
-			Spliterators.spliterator(array, start, end, ORDERED|IMMUTABLE),
-			true
+	public Spliterator<T> spliterator(final int characteristics) {
+		return Spliterators.spliterator(
+			array, start, end, ORDERED|characteristics
 		);
 	}
+
 }
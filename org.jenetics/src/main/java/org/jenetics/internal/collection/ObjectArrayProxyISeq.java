@@ -0,0 +1,97 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+
+/**
+ * {@code ISeq} implementation for the common case of an object array. The
+ * element access reads the underlying array directly, without the dispatch
+ * through the abstract {@link ArrayProxy#__get__(int)} method. This keeps
+ * the call sites monomorphic for the object sequences, which are used for
+ * storing the genes of the chromosomes.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public final class ObjectArrayProxyISeq<T>
+	extends ArrayProxyISeq<T, ObjectArrayProxy<T>>
+{
+
+	private static final long serialVersionUID = 1L;
+
+	public ObjectArrayProxyISeq(final ObjectArrayProxy<T> proxy) {
+		super(proxy);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(final int index) {
+		proxy.checkIndex(index);
+		return (T)proxy.array[index + proxy.start];
+	}
+
+	@Override
+	public void forEach(final Consumer<? super T> consumer) {
+		proxy.forEach(consumer);
+	}
+
+	@Override
+	public boolean forAll(final Predicate<? super T> predicate) {
+		return proxy.forAll(predicate);
+	}
+
+	@Override
+	public Object[] toArray() {
+		return proxy.toArray();
+	}
+
+	@Override
+	public T[] toArray(final T[] array) {
+		return proxy.toArray(array);
+	}
+
+	@Override
+	public <B> ISeq<B> map(final Function<? super T, ? extends B> mapper) {
+		return new ObjectArrayProxyISeq<>(proxy.map(mapper));
+	}
+
+	@Override
+	public ISeq<T> subSeq(final int start) {
+		return new ObjectArrayProxyISeq<>(proxy.slice(start));
+	}
+
+	@Override
+	public ISeq<T> subSeq(final int start, final int end) {
+		return new ObjectArrayProxyISeq<>(proxy.slice(start, end));
+	}
+
+	@Override
+	public MSeq<T> copy() {
+		return new ObjectArrayProxyMSeq<>(proxy.copy());
+	}
+
+}
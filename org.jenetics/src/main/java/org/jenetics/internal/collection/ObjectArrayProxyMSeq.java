@@ -0,0 +1,119 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import static java.lang.Math.min;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+
+/**
+ * {@code MSeq} implementation for the common case of an object array. The
+ * element access reads and writes the underlying array directly, without the
+ * dispatch through the abstract {@link ArrayProxy} accessor methods.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public final class ObjectArrayProxyMSeq<T>
+	extends ArrayProxyMSeq<T, ObjectArrayProxy<T>>
+{
+
+	private static final long serialVersionUID = 1L;
+
+	public ObjectArrayProxyMSeq(final ObjectArrayProxy<T> proxy) {
+		super(proxy);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(final int index) {
+		proxy.checkIndex(index);
+		return (T)proxy.array[index + proxy.start];
+	}
+
+	@Override
+	public void set(final int index, final T value) {
+		proxy.checkIndex(index);
+		proxy.cloneIfSealed();
+		proxy.array[index + proxy.start] = value;
+	}
+
+	@Override
+	public MSeq<T> setAll(final T[] values) {
+		proxy.cloneIfSealed();
+		System.arraycopy(
+			values, 0, proxy.array, proxy.start,
+			min(proxy.length, values.length)
+		);
+		return this;
+	}
+
+	@Override
+	public void forEach(final Consumer<? super T> consumer) {
+		proxy.forEach(consumer);
+	}
+
+	@Override
+	public boolean forAll(final Predicate<? super T> predicate) {
+		return proxy.forAll(predicate);
+	}
+
+	@Override
+	public Object[] toArray() {
+		return proxy.toArray();
+	}
+
+	@Override
+	public T[] toArray(final T[] array) {
+		return proxy.toArray(array);
+	}
+
+	@Override
+	public <B> MSeq<B> map(final Function<? super T, ? extends B> mapper) {
+		return new ObjectArrayProxyMSeq<>(proxy.map(mapper));
+	}
+
+	@Override
+	public MSeq<T> subSeq(final int start, final int end) {
+		return new ObjectArrayProxyMSeq<>(proxy.slice(start, end));
+	}
+
+	@Override
+	public MSeq<T> subSeq(final int start) {
+		return new ObjectArrayProxyMSeq<>(proxy.slice(start));
+	}
+
+	@Override
+	public MSeq<T> copy() {
+		return new ObjectArrayProxyMSeq<>(proxy.copy());
+	}
+
+	@Override
+	public ISeq<T> toISeq() {
+		return new ObjectArrayProxyISeq<>(proxy.seal());
+	}
+
+}
@@ -24,27 +24,55 @@ import static java.util.Objects.requireNonNull;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
+import org.jenetics.util.ISeq;
 import org.jenetics.util.Seq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 3.1
  */
 public class SeqSpliterator<T> implements Spliterator<T> {
 
 	private final Seq<T> _seq;
 	private final int _fence;
+	private final int _characteristics;
 	private int _index;
 
+	/**
+	 * Create a new spliterator for the given sequence range.
+	 *
+	 * @param seq the underlying sequence
+	 * @param origin the start index, inclusively
+	 * @param fence the end index, exclusively
+	 * @param characteristics additional characteristics of the spliterator,
+	 *        e.g. {@link Spliterator#IMMUTABLE}. The spliterator always
+	 *        reports {@code ORDERED}, {@code SIZED} and {@code SUBSIZED}.
+	 */
 	public SeqSpliterator(
 		final Seq<T> seq,
 		final int origin,
-		final int fence
+		final int fence,
+		final int characteristics
 	) {
 		_seq = requireNonNull(seq);
 		_index = origin;
 		_fence = fence;
+		_characteristics = characteristics |
+			Spliterator.ORDERED |
+			Spliterator.SIZED |
+			Spliterator.SUBSIZED;
+	}
+
+	public SeqSpliterator(
+		final Seq<T> seq,
+		final int origin,
+		final int fence
+	) {
+		this(
+			seq, origin, fence,
+			seq instanceof ISeq<?> ? Spliterator.IMMUTABLE : 0
+		);
 	}
 
 	public SeqSpliterator(final Seq<T> seq) {
@@ -84,7 +112,7 @@ public class SeqSpliterator<T> implements Spliterator<T> {
 
 		return (lo >= mid)
 			? null
-			: new SeqSpliterator<>(_seq, lo, _index = mid);
+			: new SeqSpliterator<>(_seq, lo, _index = mid, _characteristics);
 	}
 
 	@Override
@@ -94,6 +122,6 @@ public class SeqSpliterator<T> implements Spliterator<T> {
 
 	@Override
 	public int characteristics() {
-		return Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+		return _characteristics;
 	}
 }
@@ -0,0 +1,96 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.io;
+
+import org.jenetics.internal.util.require;
+
+/**
+ * Constants of the binary format, written by {@link BinaryOutput} and read by
+ * {@link BinaryInput}. A binary stream starts with the {@link #MAGIC} number
+ * and the format {@link #VERSION}, followed by the tagged values. Every value
+ * starts with one (unsigned) byte, which determines the layout of the
+ * following data. All numbers are written in big-endian byte order.
+ *
+ * <pre>
+ * population   := POPULATION size:int phenotype*
+ * phenotype    := PHENOTYPE generation:long genotype fitness:value raw:value
+ *                 cancelled:boolean
+ * genotype     := GENOTYPE length:int chromosome*
+ * chromosome   := DOUBLE_CHROMOSOME length:int min:double max:double double*
+ *               | INTEGER_CHROMOSOME length:int min:int max:int int*
+ *               | LONG_CHROMOSOME length:int min:long max:long long*
+ *               | BIT_CHROMOSOME length:int p:double bytes:int byte*
+ *               | CHARACTER_CHROMOSOME length:int valid:value char*
+ *               | PERMUTATION_CHROMOSOME length:int valid:value int*
+ *               | value
+ * value        := NULL | DOUBLE double | INTEGER int | LONG long
+ *               | FLOAT float | STRING length:int char*
+ *               | CHAR_SEQ length:int char*
+ *               | SEQ length:int value*
+ *               | REFERENCE index:int
+ *               | OBJECT length:int byte*
+ * </pre>
+ *
+ * {@code CHAR_SEQ} and {@code SEQ} values are written only once per stream.
+ * Every additional occurrence of the <em>same</em> object is written as
+ * {@code REFERENCE} to the index of its first occurrence. Values of unknown
+ * types are written as {@code OBJECT}, using the Java serialization.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+final class Binary {
+	private Binary() {require.noInstance();}
+
+	/**
+	 * The magic number of the binary format: "JENB".
+	 */
+	static final int MAGIC = 0x4A454E42;
+
+	/**
+	 * The current version of the binary format. Version 2 added the
+	 * cancelled flag of the phenotypes.
+	 */
+	static final short VERSION = 2;
+
+	static final int POPULATION = 1;
+	static final int PHENOTYPE = 2;
+	static final int GENOTYPE = 3;
+
+	static final int DOUBLE_CHROMOSOME = 16;
+	static final int INTEGER_CHROMOSOME = 17;
+	static final int LONG_CHROMOSOME = 18;
+	static final int BIT_CHROMOSOME = 19;
+	static final int CHARACTER_CHROMOSOME = 20;
+	static final int PERMUTATION_CHROMOSOME = 21;
+
+	static final int NULL = 32;
+	static final int DOUBLE = 33;
+	static final int INTEGER = 34;
+	static final int LONG = 35;
+	static final int FLOAT = 36;
+	static final int STRING = 37;
+	static final int CHAR_SEQ = 38;
+	static final int SEQ = 39;
+	static final int REFERENCE = 40;
+	static final int OBJECT = 41;
+
+}
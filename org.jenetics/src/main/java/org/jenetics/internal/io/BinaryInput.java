@@ -0,0 +1,349 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.io;
+
+import static java.lang.Math.max;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.jenetics.internal.io.Binary.BIT_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.CHARACTER_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.CHAR_SEQ;
+import static org.jenetics.internal.io.Binary.DOUBLE;
+import static org.jenetics.internal.io.Binary.DOUBLE_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.FLOAT;
+import static org.jenetics.internal.io.Binary.GENOTYPE;
+import static org.jenetics.internal.io.Binary.INTEGER;
+import static org.jenetics.internal.io.Binary.INTEGER_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.LONG;
+import static org.jenetics.internal.io.Binary.LONG_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.MAGIC;
+import static org.jenetics.internal.io.Binary.NULL;
+import static org.jenetics.internal.io.Binary.OBJECT;
+import static org.jenetics.internal.io.Binary.PERMUTATION_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.PHENOTYPE;
+import static org.jenetics.internal.io.Binary.POPULATION;
+import static org.jenetics.internal.io.Binary.REFERENCE;
+import static org.jenetics.internal.io.Binary.SEQ;
+import static org.jenetics.internal.io.Binary.STRING;
+import static org.jenetics.internal.io.Binary.VERSION;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jenetics.BitChromosome;
+import org.jenetics.CharacterChromosome;
+import org.jenetics.Chromosome;
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.EnumGene;
+import org.jenetics.Genotype;
+import org.jenetics.IntegerChromosome;
+import org.jenetics.IntegerGene;
+import org.jenetics.LongChromosome;
+import org.jenetics.LongGene;
+import org.jenetics.PermutationChromosome;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.CharSeq;
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+
+/**
+ * Reads the objects written by the {@link BinaryOutput}. The objects are
+ * created directly from the read data, without an intermediate model object.
+ * The read phenotypes are already evaluated, with the read fitness values.
+ * Like the phenotypes read by JAXB, they are using the identity function as
+ * fitness function and fitness scaler. The {@code Engine} replaces these
+ * functions, and re-evaluates the fitness, when the phenotypes are used for
+ * starting an evolution.
+ *
+ * <pre>{@code
+ * try (InputStream in = new FileInputStream(file)) {
+ *     final Population<DoubleGene, Double> population =
+ *         (Population<DoubleGene, Double>)new BinaryInput(in).read();
+ * }
+ * }</pre>
+ *
+ * <em>This class is not thread-safe.</em>
+ *
+ * @see BinaryOutput
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class BinaryInput {
+
+	private final DataInputStream _in;
+
+	// The already read sequences, in the order of its first occurrence.
+	private final List<Object> _references = new ArrayList<>();
+
+	// Buffer used for the bulk reading of primitive arrays.
+	private ByteBuffer _buffer = ByteBuffer.allocate(1024);
+
+	/**
+	 * Create a new binary input, which reads from the given input stream.
+	 * The header of the binary format is read and checked immediately.
+	 *
+	 * @param in the underlying input stream
+	 * @throws NullPointerException if the given stream is {@code null}
+	 * @throws IOException if the header can't be read, or the stream doesn't
+	 *         contain data of the supported binary format (version)
+	 */
+	public BinaryInput(final InputStream in) throws IOException {
+		_in = new DataInputStream(new BufferedInputStream(requireNonNull(in)));
+
+		final int magic = _in.readInt();
+		if (magic != MAGIC) {
+			throw new IOException(format(
+				"Invalid binary format: 0x%08X", magic
+			));
+		}
+
+		final short version = _in.readShort();
+		if (version != VERSION) {
+			throw new IOException(format(
+				"Unsupported binary format version: %d", version
+			));
+		}
+	}
+
+	/**
+	 * Read the next object.
+	 *
+	 * @return the next object
+	 * @throws IOException if the object can't be read
+	 */
+	public Object read() throws IOException {
+		return read(_in.readUnsignedByte());
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Object read(final int tag) throws IOException {
+		switch (tag) {
+			case POPULATION: {
+				final int size = _in.readInt();
+				final Population population = new Population(size);
+				for (int i = 0; i < size; ++i) {
+					population.add(read(PHENOTYPE, Phenotype.class));
+				}
+				return population;
+			}
+			case PHENOTYPE: {
+				final long generation = _in.readLong();
+				final Genotype genotype = read(GENOTYPE, Genotype.class);
+				final Comparable fitness = (Comparable)read();
+				final Comparable rawFitness = (Comparable)read();
+				final boolean cancelled = _in.readBoolean();
+
+				final Function identity = Function.identity();
+
+				return Phenotype.of(
+					genotype,
+					generation,
+					identity,
+					identity,
+					rawFitness,
+					fitness,
+					cancelled
+				);
+			}
+			case GENOTYPE: {
+				final int length = _in.readInt();
+				if (length < 1) {
+					throw new IOException(format(
+						"Invalid genotype length: %d", length
+					));
+				}
+				final Chromosome[] chromosomes = new Chromosome[length];
+				for (int i = 0; i < length; ++i) {
+					chromosomes[i] = (Chromosome)read();
+				}
+				return Genotype.of(
+					chromosomes[0],
+					Arrays.copyOfRange(chromosomes, 1, length)
+				);
+			}
+			case DOUBLE_CHROMOSOME: {
+				final int length = _in.readInt();
+				final double min = _in.readDouble();
+				final double max = _in.readDouble();
+				final double[] values = readDoubles(length);
+
+				final DoubleGene[] genes = new DoubleGene[length];
+				for (int i = 0; i < length; ++i) {
+					genes[i] = DoubleGene.of(values[i], min, max);
+				}
+				return DoubleChromosome.of(genes);
+			}
+			case INTEGER_CHROMOSOME: {
+				final int length = _in.readInt();
+				final int min = _in.readInt();
+				final int max = _in.readInt();
+				final int[] values = readInts(length);
+
+				final IntegerGene[] genes = new IntegerGene[length];
+				for (int i = 0; i < length; ++i) {
+					genes[i] = IntegerGene.of(values[i], min, max);
+				}
+				return IntegerChromosome.of(genes);
+			}
+			case LONG_CHROMOSOME: {
+				final int length = _in.readInt();
+				final long min = _in.readLong();
+				final long max = _in.readLong();
+				final long[] values = readLongs(length);
+
+				final LongGene[] genes = new LongGene[length];
+				for (int i = 0; i < length; ++i) {
+					genes[i] = LongGene.of(values[i], min, max);
+				}
+				return LongChromosome.of(genes);
+			}
+			case BIT_CHROMOSOME: {
+				final int length = _in.readInt();
+				final double p = _in.readDouble();
+				final byte[] bytes = new byte[_in.readInt()];
+				_in.readFully(bytes);
+				return BitChromosome.of(bytes, length, p);
+			}
+			case CHARACTER_CHROMOSOME: {
+				final int length = _in.readInt();
+				final CharSeq validChars = (CharSeq)read();
+				return CharacterChromosome
+					.of(new String(readChars(length)), validChars);
+			}
+			case PERMUTATION_CHROMOSOME: {
+				final int length = _in.readInt();
+				final ISeq validAlleles = (ISeq)read();
+				final int[] indexes = readInts(length);
+
+				final MSeq<EnumGene> genes = MSeq.ofLength(length);
+				for (int i = 0; i < length; ++i) {
+					genes.set(i, EnumGene.of(indexes[i], validAlleles));
+				}
+				return new PermutationChromosome(genes.toISeq());
+			}
+			case NULL: return null;
+			case DOUBLE: return _in.readDouble();
+			case INTEGER: return _in.readInt();
+			case LONG: return _in.readLong();
+			case FLOAT: return _in.readFloat();
+			case STRING: return new String(readChars(_in.readInt()));
+			case CHAR_SEQ: {
+				final CharSeq seq = new CharSeq(readChars(_in.readInt()));
+				_references.add(seq);
+				return seq;
+			}
+			case SEQ: {
+				final int length = _in.readInt();
+				final MSeq<Object> seq = MSeq.ofLength(length);
+				for (int i = 0; i < length; ++i) {
+					seq.set(i, read());
+				}
+				final ISeq<Object> result = seq.toISeq();
+				_references.add(result);
+				return result;
+			}
+			case REFERENCE: {
+				final int index = _in.readInt();
+				if (index < 0 || index >= _references.size()) {
+					throw new IOException(format(
+						"Invalid reference index: %d", index
+					));
+				}
+				return _references.get(index);
+			}
+			case OBJECT: {
+				final byte[] bytes = new byte[_in.readInt()];
+				_in.readFully(bytes);
+				try (ObjectInputStream oin =
+						new ObjectInputStream(new ByteArrayInputStream(bytes)))
+				{
+					return oin.readObject();
+				} catch (ClassNotFoundException e) {
+					throw new IOException(e);
+				}
+			}
+			default:
+				throw new IOException(format("Invalid tag: %d", tag));
+		}
+	}
+
+	// Reads the next object, which must have the given tag.
+	private <T> T read(final int tag, final Class<T> type) throws IOException {
+		final int next = _in.readUnsignedByte();
+		if (next != tag) {
+			throw new IOException(format(
+				"Expected tag %d, but found %d.", tag, next
+			));
+		}
+		return type.cast(read(tag));
+	}
+
+	private double[] readDoubles(final int length) throws IOException {
+		final double[] values = new double[length];
+		bytes(length*Double.BYTES).asDoubleBuffer().get(values);
+		return values;
+	}
+
+	private int[] readInts(final int length) throws IOException {
+		final int[] values = new int[length];
+		bytes(length*Integer.BYTES).asIntBuffer().get(values);
+		return values;
+	}
+
+	private long[] readLongs(final int length) throws IOException {
+		final long[] values = new long[length];
+		bytes(length*Long.BYTES).asLongBuffer().get(values);
+		return values;
+	}
+
+	private char[] readChars(final int length) throws IOException {
+		final char[] values = new char[length];
+		bytes(length*Character.BYTES).asCharBuffer().get(values);
+		return values;
+	}
+
+	// Reads the given number of bytes into the (reused) buffer.
+	private ByteBuffer bytes(final int size) throws IOException {
+		if (size < 0) {
+			throw new IOException(format("Invalid data length: %d", size));
+		}
+		if (_buffer.capacity() < size) {
+			_buffer = ByteBuffer.allocate(max(size, _buffer.capacity()*2));
+		}
+		_buffer.clear();
+		_in.readFully(_buffer.array(), 0, size);
+		_buffer.limit(size);
+		return _buffer;
+	}
+
+}
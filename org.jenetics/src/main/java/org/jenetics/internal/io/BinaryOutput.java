@@ -0,0 +1,339 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.io;
+
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+import static org.jenetics.internal.io.Binary.BIT_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.CHARACTER_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.CHAR_SEQ;
+import static org.jenetics.internal.io.Binary.DOUBLE;
+import static org.jenetics.internal.io.Binary.DOUBLE_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.FLOAT;
+import static org.jenetics.internal.io.Binary.GENOTYPE;
+import static org.jenetics.internal.io.Binary.INTEGER;
+import static org.jenetics.internal.io.Binary.INTEGER_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.LONG;
+import static org.jenetics.internal.io.Binary.LONG_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.MAGIC;
+import static org.jenetics.internal.io.Binary.NULL;
+import static org.jenetics.internal.io.Binary.OBJECT;
+import static org.jenetics.internal.io.Binary.PERMUTATION_CHROMOSOME;
+import static org.jenetics.internal.io.Binary.PHENOTYPE;
+import static org.jenetics.internal.io.Binary.POPULATION;
+import static org.jenetics.internal.io.Binary.REFERENCE;
+import static org.jenetics.internal.io.Binary.SEQ;
+import static org.jenetics.internal.io.Binary.STRING;
+import static org.jenetics.internal.io.Binary.VERSION;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.jenetics.BitChromosome;
+import org.jenetics.CharacterChromosome;
+import org.jenetics.Chromosome;
+import org.jenetics.DoubleChromosome;
+import org.jenetics.EnumGene;
+import org.jenetics.Genotype;
+import org.jenetics.IntegerChromosome;
+import org.jenetics.LongChromosome;
+import org.jenetics.PermutationChromosome;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.CharSeq;
+import org.jenetics.util.ISeq;
+
+/**
+ * Writes populations, phenotypes, genotypes and chromosomes in the binary
+ * format described in {@link Binary}. The objects are written directly to
+ * the underlying stream, without creating an intermediate model object. The
+ * genes of the numeric, bit and permutation chromosomes are written in bulk,
+ * as primitive arrays.
+ *
+ * <pre>{@code
+ * try (OutputStream out = new FileOutputStream(file)) {
+ *     final BinaryOutput output = new BinaryOutput(out);
+ *     output.write(population);
+ *     output.flush();
+ * }
+ * }</pre>
+ *
+ * <em>This class is not thread-safe.</em>
+ *
+ * @see BinaryInput
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class BinaryOutput implements Flushable {
+
+	private final DataOutputStream _out;
+
+	// Identity map of the already written sequences, with its reference index.
+	private final Map<Object, Integer> _references = new IdentityHashMap<>();
+
+	// Buffer used for the bulk writing of primitive arrays.
+	private ByteBuffer _buffer = ByteBuffer.allocate(1024);
+
+	/**
+	 * Create a new binary output, which writes to the given output stream.
+	 * The header of the binary format is written immediately.
+	 *
+	 * @param out the underlying output stream
+	 * @throws NullPointerException if the given stream is {@code null}
+	 * @throws IOException if the header can't be written
+	 */
+	public BinaryOutput(final OutputStream out) throws IOException {
+		_out = new DataOutputStream(new BufferedOutputStream(requireNonNull(out)));
+		_out.writeInt(MAGIC);
+		_out.writeShort(VERSION);
+	}
+
+	/**
+	 * Write the given object. Populations, phenotypes, genotypes and
+	 * chromosomes are written in the binary format, all other objects are
+	 * written as values.
+	 *
+	 * @param object the object to write
+	 * @throws IOException if the object can't be written
+	 */
+	public void write(final Object object) throws IOException {
+		if (object instanceof Population<?, ?>) {
+			write((Population<?, ?>)object);
+		} else if (object instanceof Phenotype<?, ?>) {
+			write((Phenotype<?, ?>)object);
+		} else if (object instanceof Genotype<?>) {
+			write((Genotype<?>)object);
+		} else if (object instanceof Chromosome<?>) {
+			write((Chromosome<?>)object);
+		} else {
+			writeValue(object);
+		}
+	}
+
+	/**
+	 * Write the given population.
+	 *
+	 * @param population the population to write
+	 * @throws IOException if the population can't be written
+	 */
+	public void write(final Population<?, ?> population) throws IOException {
+		_out.writeByte(POPULATION);
+		_out.writeInt(population.size());
+		for (Phenotype<?, ?> pt : population) {
+			write(pt);
+		}
+	}
+
+	/**
+	 * Write the given phenotype, including its (raw) fitness value.
+	 *
+	 * @param phenotype the phenotype to write
+	 * @throws IOException if the phenotype can't be written
+	 */
+	public void write(final Phenotype<?, ?> phenotype) throws IOException {
+		_out.writeByte(PHENOTYPE);
+		_out.writeLong(phenotype.getGeneration());
+		write(phenotype.getGenotype());
+		writeValue(phenotype.getFitness());
+		writeValue(phenotype.getRawFitness());
+		_out.writeBoolean(phenotype.isCancelled());
+	}
+
+	/**
+	 * Write the given genotype.
+	 *
+	 * @param genotype the genotype to write
+	 * @throws IOException if the genotype can't be written
+	 */
+	public void write(final Genotype<?> genotype) throws IOException {
+		_out.writeByte(GENOTYPE);
+		_out.writeInt(genotype.length());
+		for (Chromosome<?> chromosome : genotype) {
+			write(chromosome);
+		}
+	}
+
+	/**
+	 * Write the given chromosome. Chromosomes of an unknown type are written
+	 * as (serialized) value.
+	 *
+	 * @param chromosome the chromosome to write
+	 * @throws IOException if the chromosome can't be written
+	 */
+	public void write(final Chromosome<?> chromosome) throws IOException {
+		final Class<?> type = chromosome.getClass();
+
+		if (type == DoubleChromosome.class) {
+			final DoubleChromosome ch = (DoubleChromosome)chromosome;
+			_out.writeByte(DOUBLE_CHROMOSOME);
+			_out.writeInt(ch.length());
+			_out.writeDouble(ch.getMin());
+			_out.writeDouble(ch.getMax());
+			writeDoubles(ch.toArray());
+		} else if (type == IntegerChromosome.class) {
+			final IntegerChromosome ch = (IntegerChromosome)chromosome;
+			_out.writeByte(INTEGER_CHROMOSOME);
+			_out.writeInt(ch.length());
+			_out.writeInt(ch.getMin());
+			_out.writeInt(ch.getMax());
+			writeInts(ch.toArray());
+		} else if (type == LongChromosome.class) {
+			final LongChromosome ch = (LongChromosome)chromosome;
+			_out.writeByte(LONG_CHROMOSOME);
+			_out.writeInt(ch.length());
+			_out.writeLong(ch.getMin());
+			_out.writeLong(ch.getMax());
+			writeLongs(ch.toArray());
+		} else if (type == BitChromosome.class) {
+			final BitChromosome ch = (BitChromosome)chromosome;
+			final byte[] bytes = ch.toByteArray();
+			_out.writeByte(BIT_CHROMOSOME);
+			_out.writeInt(ch.length());
+			_out.writeDouble(ch.getOneProbability());
+			_out.writeInt(bytes.length);
+			_out.write(bytes);
+		} else if (type == CharacterChromosome.class) {
+			final CharacterChromosome ch = (CharacterChromosome)chromosome;
+			_out.writeByte(CHARACTER_CHROMOSOME);
+			_out.writeInt(ch.length());
+			writeValue(ch.getGene().getValidCharacters());
+			writeChars(ch.toArray());
+		} else if (type == PermutationChromosome.class) {
+			final PermutationChromosome<?> ch = (PermutationChromosome<?>)chromosome;
+			final int[] indexes = new int[ch.length()];
+			for (int i = 0; i < indexes.length; ++i) {
+				indexes[i] = ((EnumGene<?>)ch.getGene(i)).getAlleleIndex();
+			}
+			_out.writeByte(PERMUTATION_CHROMOSOME);
+			_out.writeInt(ch.length());
+			writeValue(ch.getValidAlleles());
+			writeInts(indexes);
+		} else {
+			writeValue(chromosome);
+		}
+	}
+
+	/**
+	 * Write the given value. Values of an unknown type are written with the
+	 * Java serialization.
+	 *
+	 * @param value the value to write
+	 * @throws IOException if the value can't be written
+	 */
+	public void writeValue(final Object value) throws IOException {
+		if (value == null) {
+			_out.writeByte(NULL);
+		} else if (value instanceof Double) {
+			_out.writeByte(DOUBLE);
+			_out.writeDouble((Double)value);
+		} else if (value instanceof Integer) {
+			_out.writeByte(INTEGER);
+			_out.writeInt((Integer)value);
+		} else if (value instanceof Long) {
+			_out.writeByte(LONG);
+			_out.writeLong((Long)value);
+		} else if (value instanceof Float) {
+			_out.writeByte(FLOAT);
+			_out.writeFloat((Float)value);
+		} else if (value instanceof String) {
+			_out.writeByte(STRING);
+			_out.writeInt(((String)value).length());
+			writeChars(((String)value).toCharArray());
+		} else if (_references.containsKey(value)) {
+			_out.writeByte(REFERENCE);
+			_out.writeInt(_references.get(value));
+		} else if (value instanceof CharSeq) {
+			final char[] chars = value.toString().toCharArray();
+			_out.writeByte(CHAR_SEQ);
+			_out.writeInt(chars.length);
+			writeChars(chars);
+			_references.put(value, _references.size());
+		} else if (value instanceof ISeq<?>) {
+			final ISeq<?> seq = (ISeq<?>)value;
+			_out.writeByte(SEQ);
+			_out.writeInt(seq.length());
+			for (Object element : seq) {
+				writeValue(element);
+			}
+			_references.put(value, _references.size());
+		} else {
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream oout = new ObjectOutputStream(bytes)) {
+				oout.writeObject(value);
+			}
+			_out.writeByte(OBJECT);
+			_out.writeInt(bytes.size());
+			bytes.writeTo(_out);
+		}
+	}
+
+	private void writeDoubles(final double[] values) throws IOException {
+		final ByteBuffer buffer = buffer(values.length*Double.BYTES);
+		buffer.asDoubleBuffer().put(values);
+		_out.write(buffer.array(), 0, values.length*Double.BYTES);
+	}
+
+	private void writeInts(final int[] values) throws IOException {
+		final ByteBuffer buffer = buffer(values.length*Integer.BYTES);
+		buffer.asIntBuffer().put(values);
+		_out.write(buffer.array(), 0, values.length*Integer.BYTES);
+	}
+
+	private void writeLongs(final long[] values) throws IOException {
+		final ByteBuffer buffer = buffer(values.length*Long.BYTES);
+		buffer.asLongBuffer().put(values);
+		_out.write(buffer.array(), 0, values.length*Long.BYTES);
+	}
+
+	private void writeChars(final char[] values) throws IOException {
+		final ByteBuffer buffer = buffer(values.length*Character.BYTES);
+		buffer.asCharBuffer().put(values);
+		_out.write(buffer.array(), 0, values.length*Character.BYTES);
+	}
+
+	private ByteBuffer buffer(final int size) {
+		if (_buffer.capacity() < size) {
+			_buffer = ByteBuffer.allocate(max(size, _buffer.capacity()*2));
+		}
+		_buffer.clear();
+		return _buffer;
+	}
+
+	/**
+	 * Flushes the written data to the underlying output stream.
+	 *
+	 * @throws IOException if flushing the data fails
+	 */
+	@Override
+	public void flush() throws IOException {
+		_out.flush();
+	}
+
+}
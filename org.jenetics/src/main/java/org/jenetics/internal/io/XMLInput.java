@@ -0,0 +1,242 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.io;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.jenetics.internal.io.XMLOutput.POPULATION;
+import static org.jenetics.internal.io.XMLOutput.SIZE;
+import static org.jenetics.internal.util.jaxb.adapterFor;
+import static org.jenetics.internal.util.jaxb.context;
+import static org.jenetics.internal.util.jaxb.unmarshal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jenetics.Gene;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * Streaming <i>XML</i> reader for documents written by the {@link XMLOutput}
+ * or the {@link org.jenetics.util.IO#jaxb} marshalling. The phenotypes of a
+ * population are unmarshalled one at a time. If they are consumed via the
+ * {@link #phenotypes()} stream, the memory consumption is independent of the
+ * population size.
+ *
+ * <pre>{@code
+ * try (XMLInput input = new XMLInput(in);
+ *     Stream<Phenotype<DoubleGene, Double>> phenotypes = input.phenotypes())
+ * {
+ *     final Phenotype<DoubleGene, Double> best = phenotypes
+ *         .max(Comparator.naturalOrder())
+ *         .orElse(null);
+ * }
+ * }</pre>
+ *
+ * Closing the input doesn't close the underlying input stream.
+ * <p>
+ * <em>This class is not thread-safe.</em>
+ *
+ * @see XMLOutput
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class XMLInput implements Closeable {
+
+	private final XMLStreamReader _reader;
+	private final Unmarshaller _unmarshaller;
+	private final String _root;
+
+	private boolean _consumed = false;
+
+	/**
+	 * Create a new XML input, which reads from the given input stream. The
+	 * stream is positioned at the root element of the document.
+	 *
+	 * @param in the underlying input stream
+	 * @throws NullPointerException if the given stream is {@code null}
+	 * @throws IOException if the document has no root element
+	 */
+	public XMLInput(final InputStream in) throws IOException {
+		requireNonNull(in);
+		try {
+			_reader = XMLInputFactory.newInstance().createXMLStreamReader(in);
+			_reader.nextTag();
+			_root = _reader.getLocalName();
+			_unmarshaller = context().createUnmarshaller();
+		} catch (XMLStreamException | JAXBException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Return {@code true} if the root element of the document is a
+	 * {@code population}.
+	 *
+	 * @return {@code true} if the document contains a population
+	 */
+	public boolean isPopulation() {
+		return POPULATION.equals(_root);
+	}
+
+	/**
+	 * Reads the root element of the document. Populations are read
+	 * phenotype by phenotype, without an intermediate population model.
+	 *
+	 * @return the read object
+	 * @throws IllegalStateException if the document has already been read
+	 * @throws IOException if the object can't be read
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public Object read() throws IOException {
+		if (isPopulation()) {
+			try (Stream<Phenotype<?, ?>> phenotypes = (Stream)phenotypes()) {
+				final Population population = new Population<>();
+				phenotypes.forEach(population::add);
+				return population;
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		} else {
+			consume();
+			try {
+				Object object = _unmarshaller.unmarshal(_reader);
+				if (object instanceof JAXBElement<?>) {
+					object = ((JAXBElement<?>)object).getValue();
+				}
+				return adapterFor(object).unmarshal(object);
+			} catch (Exception e) {
+				throw new IOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Return a lazy stream of the phenotypes of the population document.
+	 * Every phenotype is unmarshalled when it is consumed by the stream. Read
+	 * errors are thrown as {@link UncheckedIOException}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a lazy stream of the phenotypes of the population
+	 * @throws IllegalStateException if the document doesn't contain a
+	 *         population, or if the document has already been read
+	 */
+	public <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Stream<Phenotype<G, C>> phenotypes() {
+		if (!isPopulation()) {
+			throw new IllegalStateException(format(
+				"Expected root element 'population', but found '%s'.", _root
+			));
+		}
+		consume();
+
+		long size = Long.MAX_VALUE;
+		try {
+			final String value = _reader.getAttributeValue(null, SIZE);
+			if (value != null) size = Long.parseLong(value);
+			_reader.next();
+		} catch (NumberFormatException | XMLStreamException e) {
+			throw new UncheckedIOException(new IOException(e));
+		}
+
+		return StreamSupport.stream(
+			new Spliterators.AbstractSpliterator<Phenotype<G, C>>(
+				size, Spliterator.ORDERED | Spliterator.NONNULL
+			) {
+				@Override
+				public boolean tryAdvance(
+					final Consumer<? super Phenotype<G, C>> action
+				) {
+					final Phenotype<G, C> pt = next();
+					if (pt != null) {
+						action.accept(pt);
+					}
+					return pt != null;
+				}
+			},
+			false
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Phenotype<G, C> next() {
+		try {
+			while (_reader.getEventType() != XMLStreamConstants.START_ELEMENT &&
+				_reader.getEventType() != XMLStreamConstants.END_ELEMENT &&
+				_reader.getEventType() != XMLStreamConstants.END_DOCUMENT)
+			{
+				_reader.next();
+			}
+			if (_reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+				return null;
+			}
+
+			Object model = _unmarshaller.unmarshal(_reader);
+			if (model instanceof JAXBElement<?>) {
+				model = ((JAXBElement<?>)model).getValue();
+			}
+			return (Phenotype<G, C>)unmarshal(model);
+		} catch (Exception e) {
+			throw new UncheckedIOException(new IOException(e));
+		}
+	}
+
+	private void consume() {
+		if (_consumed) {
+			throw new IllegalStateException("Document has already been read.");
+		}
+		_consumed = true;
+	}
+
+	/**
+	 * Closes the XML reader. The underlying input stream is not closed.
+	 *
+	 * @throws IOException if the reader can't be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			_reader.close();
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.io;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.jenetics.internal.util.jaxb.context;
+import static org.jenetics.internal.util.jaxb.marshal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * Streaming <i>XML</i> writer, which is compatible with the <i>JAXB</i>
+ * schema of the {@link org.jenetics.util.IO#jaxb} marshalling. Populations
+ * are written one phenotype at a time, so that only the model object of the
+ * currently written phenotype is kept in memory.
+ *
+ * <pre>{@code
+ * try (XMLOutput output = new XMLOutput(out)) {
+ *     output.startPopulation(size);
+ *     phenotypes.forEach(output::write);
+ *     output.endPopulation();
+ * }
+ * }</pre>
+ *
+ * Closing the output finishes the XML document, but doesn't close the
+ * underlying output stream.
+ * <p>
+ * <em>This class is not thread-safe.</em>
+ *
+ * @see XMLInput
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class XMLOutput implements Closeable {
+
+	static final String POPULATION = "population";
+	static final String SIZE = "size";
+	static final QName PHENOTYPE = new QName("phenotype");
+
+	private final XMLStreamWriter _writer;
+	private final Marshaller _marshaller;
+
+	private int _size = -1;
+	private int _count = 0;
+
+	/**
+	 * Create a new XML output, which writes to the given output stream. The
+	 * XML declaration is written immediately.
+	 *
+	 * @param out the underlying output stream
+	 * @throws NullPointerException if the given stream is {@code null}
+	 * @throws IOException if the XML writer can't be created
+	 */
+	public XMLOutput(final OutputStream out) throws IOException {
+		requireNonNull(out);
+		try {
+			_writer = XMLOutputFactory.newInstance()
+				.createXMLStreamWriter(out, "UTF-8");
+			_writer.writeStartDocument("UTF-8", "1.0");
+
+			_marshaller = context().createMarshaller();
+			_marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+		} catch (XMLStreamException | JAXBException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Return {@code true} if the given object is written element by element.
+	 *
+	 * @param object the object to test
+	 * @return {@code true} if the given object is a population
+	 */
+	public static boolean isStreamable(final Object object) {
+		return object instanceof Population<?, ?>;
+	}
+
+	/**
+	 * Write the given object as root element of the document. Populations
+	 * are written phenotype by phenotype, all other objects are marshalled
+	 * as a whole.
+	 *
+	 * @param object the object to write
+	 * @throws NullPointerException if the given object is {@code null}
+	 * @throws IOException if the object can't be written
+	 */
+	public void write(final Object object) throws IOException {
+		if (object instanceof Population<?, ?>) {
+			final Population<?, ?> population = (Population<?, ?>)object;
+			startPopulation(population.size());
+			for (Phenotype<?, ?> pt : population) {
+				write(pt);
+			}
+			endPopulation();
+		} else {
+			try {
+				_marshaller.marshal(marshal(requireNonNull(object)), _writer);
+			} catch (Exception e) {
+				throw new IOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Starts the {@code population} element.
+	 *
+	 * @param size the number of phenotypes which will be written
+	 * @throws IllegalArgumentException if the {@code size} is smaller than
+	 *         zero
+	 * @throws IllegalStateException if a population has already been started
+	 * @throws IOException if the element can't be written
+	 */
+	public void startPopulation(final int size) throws IOException {
+		if (size < 0) {
+			throw new IllegalArgumentException(format(
+				"Population size must not be negative: %d", size
+			));
+		}
+		if (_size != -1) {
+			throw new IllegalStateException("Population already started.");
+		}
+
+		try {
+			_writer.writeStartElement(POPULATION);
+			_writer.writeAttribute(SIZE, Integer.toString(size));
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+		_size = size;
+		_count = 0;
+	}
+
+	/**
+	 * Write the given phenotype as element of the started population.
+	 *
+	 * @param phenotype the phenotype to write
+	 * @throws NullPointerException if the given phenotype is {@code null}
+	 * @throws IllegalStateException if no population has been started or
+	 *         the announced population size is exceeded
+	 * @throws IOException if the phenotype can't be written
+	 */
+	public void write(final Phenotype<?, ?> phenotype) throws IOException {
+		requireNonNull(phenotype);
+		if (_size == -1) {
+			throw new IllegalStateException("No population started.");
+		}
+		if (_count >= _size) {
+			throw new IllegalStateException(format(
+				"Population size of %d exceeded.", _size
+			));
+		}
+
+		try {
+			_writer.writeCharacters("\n    ");
+			_marshaller.marshal(
+				new JAXBElement<>(PHENOTYPE, Object.class, marshal(phenotype)),
+				_writer
+			);
+		} catch (Exception e) {
+			throw new IOException(e);
+		}
+		++_count;
+	}
+
+	/**
+	 * Ends the started {@code population} element.
+	 *
+	 * @throws IllegalStateException if no population has been started or
+	 *         less phenotypes than announced have been written
+	 * @throws IOException if the element can't be written
+	 */
+	public void endPopulation() throws IOException {
+		if (_size == -1) {
+			throw new IllegalStateException("No population started.");
+		}
+		if (_count != _size) {
+			throw new IllegalStateException(format(
+				"Expected %d phenotypes, but %d were written.", _size, _count
+			));
+		}
+
+		try {
+			_writer.writeCharacters("\n");
+			_writer.writeEndElement();
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+		_size = -1;
+	}
+
+	/**
+	 * Finishes the document and flushes the written data. The underlying
+	 * output stream is not closed.
+	 *
+	 * @throws IOException if the document can't be finished
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			_writer.writeEndDocument();
+			_writer.flush();
+			_writer.close();
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
+}
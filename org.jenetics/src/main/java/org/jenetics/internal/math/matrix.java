@@ -0,0 +1,126 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.math;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.sqrt;
+
+import org.jenetics.internal.util.require;
+
+/**
+ * Matrix functions, working in place on primitive {@code double} arrays.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public final class matrix {
+	private matrix() {require.noInstance();}
+
+	/**
+	 * The maximal number of Jacobi sweeps of the eigen decomposition.
+	 */
+	private static final int MAX_SWEEPS = 100;
+
+	/**
+	 * Calculates the eigen decomposition {@code A = V*diag(d)*V'} of the given
+	 * symmetric matrix {@code a}, with the cyclic Jacobi method. No additional
+	 * memory is allocated.
+	 *
+	 * @param a the symmetric matrix to decompose; the matrix is used as
+	 *        working storage and its content is destroyed
+	 * @param v the output matrix, which contains the eigenvectors as columns
+	 * @param d the output array, which contains the eigenvalues
+	 * @throws ArrayIndexOutOfBoundsException if the dimensions of the given
+	 *         arrays doesn't match
+	 */
+	public static void eigen(final double[][] a, final double[][] v, final double[] d) {
+		final int n = d.length;
+		for (int i = 0; i < n; ++i) {
+			for (int j = 0; j < n; ++j) {
+				v[i][j] = i == j ? 1.0 : 0.0;
+			}
+		}
+
+		for (int sweep = 0; sweep < MAX_SWEEPS && !isDiagonal(a, n); ++sweep) {
+			for (int p = 0; p < n - 1; ++p) {
+				for (int q = p + 1; q < n; ++q) {
+					if (a[p][q] != 0.0) {
+						rotate(a, v, n, p, q);
+					}
+				}
+			}
+		}
+
+		for (int i = 0; i < n; ++i) {
+			d[i] = a[i][i];
+		}
+	}
+
+	// Eliminates the element a[p][q] with one Jacobi rotation.
+	private static void rotate(
+		final double[][] a,
+		final double[][] v,
+		final int n,
+		final int p,
+		final int q
+	) {
+		final double theta = (a[q][q] - a[p][p])/(2.0*a[p][q]);
+		final double t = (theta >= 0 ? 1.0 : -1.0)/
+			(abs(theta) + sqrt(theta*theta + 1.0));
+		final double c = 1.0/sqrt(t*t + 1.0);
+		final double s = t*c;
+
+		for (int k = 0; k < n; ++k) {
+			final double akp = a[k][p];
+			final double akq = a[k][q];
+			a[k][p] = c*akp - s*akq;
+			a[k][q] = s*akp + c*akq;
+		}
+		for (int k = 0; k < n; ++k) {
+			final double apk = a[p][k];
+			final double aqk = a[q][k];
+			a[p][k] = c*apk - s*aqk;
+			a[q][k] = s*apk + c*aqk;
+		}
+		for (int k = 0; k < n; ++k) {
+			final double vkp = v[k][p];
+			final double vkq = v[k][q];
+			v[k][p] = c*vkp - s*vkq;
+			v[k][q] = s*vkp + c*vkq;
+		}
+	}
+
+	// Test whether the off-diagonal elements are negligible, compared to the
+	// diagonal elements.
+	private static boolean isDiagonal(final double[][] a, final int n) {
+		double off = 0;
+		double diag = 0;
+		for (int i = 0; i < n; ++i) {
+			diag += a[i][i]*a[i][i];
+			for (int j = i + 1; j < n; ++j) {
+				off += a[i][j]*a[i][j];
+			}
+		}
+
+		return off <= 1e-30*diag || off < Double.MIN_NORMAL;
+	}
+
+}
@@ -35,7 +35,7 @@ import org.jenetics.internal.collection.Stack;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 2.0
+ * @version 3.1
  * @since 2.0
  */
 public abstract class Concurrency implements Executor, AutoCloseable {
@@ -139,9 +139,8 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 		@Override
 		public void execute(final List<? extends Runnable> runnables) {
-			final int[] parts = partition(runnables.size(), CORES + 1);
-			for (int i = 0; i < parts.length - 1; ++i) {
-				execute(new RunnablesRunnable(runnables, parts[i], parts[i + 1]));
+			for (final Runnable worker : RunnablesRunnable.workers(runnables, CORES + 1)) {
+				execute(worker);
 			}
 		}
 
@@ -182,9 +181,8 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 		@Override
 		public void execute(final List<? extends Runnable> runnables) {
-			final int[] parts = partition(runnables.size(), CORES + 1);
-			for (int i = 0; i < parts.length - 1; ++i) {
-				execute(new RunnablesRunnable(runnables, parts[i], parts[i + 1]));
+			for (final Runnable worker : RunnablesRunnable.workers(runnables, CORES + 1)) {
+				execute(worker);
 			}
 		}
 
@@ -222,83 +220,4 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 		}
 	}
 
-
-	/**
-	 * Return a array with the indexes of the partitions of an array with the
-	 * given size. The length of the returned array is {@code min(size, prts) + 1}.
-	 * <p>
-	 * Some examples:
-	 * <pre>
-	 * 	 partition(10, 3): [0, 3, 6, 10]
-	 * 	 partition(15, 6): [0, 2, 4, 6, 9, 12, 15]
-	 * 	 partition(5, 10): [0, 1, 2, 3, 4, 5]
-	 * </pre>
-	 *
-	 * The following examples prints the start index (inclusive) and the end
-	 * index (exclusive) of the {@code partition(15, 6)}.
-	 * <pre>{@code
-	 * int[] parts = partition(15, 6);
-	 * for (int i = 0; i < parts.length - 1; ++i) {
-	 *     System.out.println(i + ": " + parts[i] + "\t" + parts[i + 1]);
-	 * }
-	 * }</pre>
-	 * <pre>
-	 * 	 0: 0 	2
-	 * 	 1: 2 	4
-	 * 	 2: 4 	6
-	 * 	 3: 6 	9
-	 * 	 4: 9 	12
-	 * 	 5: 12	15
-	 * </pre>
-	 *
-	 * This example shows how this can be used in an concurrent environment:
-	 * <pre>{@code
-	 * try (final Concurrency c = Concurrency.start()) {
-	 *     final int[] parts = arrays.partition(population.size(), _maxThreads);
-	 *
-	 *     for (int i = 0; i < parts.length - 1; ++i) {
-	 *         final int part = i;
-	 *         c.execute(new Runnable() { @Override public void run() {
-	 *             for (int j = parts[part + 1]; --j <= parts[part];) {
-	 *                 population.get(j).evaluate();
-	 *             }
-	 *         }});
-	 *     }
-	 * }
-	 * }</pre>
-	 *
-	 * @param size the size of the array to partition.
-	 * @param parts the number of parts the (virtual) array should be partitioned.
-	 * @return the partition array with the length of {@code min(size, parts) + 1}.
-	 * @throws IllegalArgumentException if {@code size} or {@code p} is less than one.
-	 */
-	private static int[] partition(final int size, final int parts) {
-		if (size < 1) {
-			throw new IllegalArgumentException(
-				"Size must greater than zero: " + size
-			);
-		}
-		if (parts < 1) {
-			throw new IllegalArgumentException(
-				"Number of partitions must greater than zero: " + parts
-			);
-		}
-
-		final int pts = Math.min(size, parts);
-		final int[] partition = new int[pts + 1];
-
-		final int bulk = size/pts;
-		final int rest = size%pts;
-		assert ((bulk*pts + rest) == size);
-
-		for (int i = 0, n = pts - rest; i < n; ++i) {
-			partition[i] = i*bulk;
-		}
-		for (int i = 0, n = rest + 1; i < n; ++i) {
-			partition[pts - rest + i] = (pts - rest)*bulk + i*(bulk + 1);
-		}
-
-		return partition;
-	}
-
 }
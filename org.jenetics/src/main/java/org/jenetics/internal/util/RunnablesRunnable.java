@@ -20,33 +20,81 @@
 package org.jenetics.internal.util;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Runnable which executes the runnables of the given list. The runnables are
+ * not assigned statically to a given worker. Every worker fetches the next
+ * chunk of runnables from the shared {@code index}, until all runnables
+ * have been executed. This balances the load between the workers, if the execution
+ * times of the runnables vary.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 2.0
+ * @version 3.1
  * @since 2.0
  */
 final class RunnablesRunnable implements Runnable {
 
+	/**
+	 * The number of chunks, each worker has to fetch on average. The runnables
+	 * are executed in smaller chunks than the number of workers, which allows
+	 * the idle workers to pick up the remaining runnables.
+	 */
+	private static final int CHUNKS_PER_WORKER = 8;
+
 	private final List<? extends Runnable> _runnables;
-	private final int _start;
-	private final int _end;
+	private final AtomicInteger _index;
+	private final int _chunk;
 
 	RunnablesRunnable(
 		final List<? extends Runnable> runnables,
-		final int start,
-		final int end
+		final AtomicInteger index,
+		final int chunk
 	) {
 		_runnables = runnables;
-		_start = start;
-		_end = end;
+		_index = index;
+		_chunk = chunk;
 	}
 
 	@Override
 	public void run() {
-		for (int i = _start; i < _end; ++i) {
-			_runnables.get(i).run();
+		final int size = _runnables.size();
+		for (int start = _index.getAndAdd(_chunk);
+			start < size;
+			start = _index.getAndAdd(_chunk))
+		{
+			final int end = Math.min(start + _chunk, size);
+			for (int i = start; i < end; ++i) {
+				_runnables.get(i).run();
+			}
 		}
 	}
 
+	/**
+	 * Return the workers needed for executing the given {@code runnables}. The
+	 * returned workers are sharing the index of the next runnable to execute.
+	 *
+	 * @param runnables the runnables to execute
+	 * @param workers the maximal number of workers
+	 * @return the workers which are executing the given {@code runnables}. The
+	 *         returned array is empty, if the given {@code runnables} list is
+	 *         empty.
+	 */
+	static Runnable[] workers(
+		final List<? extends Runnable> runnables,
+		final int workers
+	) {
+		final int size = runnables.size();
+		final int count = Math.min(size, workers);
+		final int chunk = Math.max(size/(Math.max(count, 1)*CHUNKS_PER_WORKER), 1);
+
+		final AtomicInteger index = new AtomicInteger();
+		final Runnable[] result = new Runnable[count];
+		for (int i = 0; i < count; ++i) {
+			result[i] = new RunnablesRunnable(runnables, index, chunk);
+		}
+
+		return result;
+	}
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Random;
+
+import org.jenetics.internal.util.Equality;
+import org.jenetics.internal.util.Hash;
+
+import org.jenetics.Gene;
+import org.jenetics.Optimize;
+import org.jenetics.Population;
+import org.jenetics.Selector;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * The <i>crowded tournament selection</i> of the NSGA-II algorithm. The
+ * winner of a tournament is the individual with the lowest non-dominated
+ * rank; if the ranks are equal, the individual with the greater crowding
+ * distance wins. The samples are drawn with replacement.
+ *
+ * @see NSGA2Selector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public class CrowdedTournamentSelector<G extends Gene<?, G>>
+	implements Selector<G, Vec>
+{
+
+	private final int _sampleSize;
+
+	/**
+	 * Create a crowded tournament selector with the give sample size. The
+	 * sample size must be greater than one.
+	 *
+	 * @param sampleSize the number of individuals involved in one tournament
+	 * @throws IllegalArgumentException if the sample size is smaller than two.
+	 */
+	public CrowdedTournamentSelector(final int sampleSize) {
+		if (sampleSize < 2) {
+			throw new IllegalArgumentException(
+				"Sample size must be greater than one, but was " + sampleSize
+			);
+		}
+		_sampleSize = sampleSize;
+	}
+
+	/**
+	 * Create a crowded tournament selector with sample size two.
+	 */
+	public CrowdedTournamentSelector() {
+		this(2);
+	}
+
+	@Override
+	public Population<G, Vec> select(
+		final Population<G, Vec> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s",
+				count
+			));
+		}
+
+		final Population<G, Vec> selection = new Population<>(count);
+		if (count > 0 && !population.isEmpty()) {
+			final double[][] points = Pareto.points(population, opt);
+			final int[] ranks = Pareto.ranks(points);
+			final double[] distances = Pareto.crowdingDistances(points, ranks);
+
+			final Random random = RandomRegistry.getRandom();
+			final int N = population.size();
+			for (int i = 0; i < count; ++i) {
+				int winner = random.nextInt(N);
+				for (int j = 1; j < _sampleSize; ++j) {
+					final int index = random.nextInt(N);
+					if (ranks[index] < ranks[winner] ||
+						(ranks[index] == ranks[winner] &&
+							distances[index] > distances[winner]))
+					{
+						winner = index;
+					}
+				}
+				selection.add(population.get(winner));
+			}
+		}
+
+		return selection;
+	}
+
+	@Override
+	public int hashCode() {
+		return Hash.of(getClass()).and(_sampleSize).value();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return Equality.of(this, obj).test(s -> _sampleSize == s._sampleSize);
+	}
+
+	@Override
+	public String toString() {
+		return format("%s[s=%d]", getClass().getSimpleName(), _sampleSize);
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.engine.EvolutionResult;
+import org.jenetics.util.ISeq;
+
+/**
+ * Static helper methods for multi-objective evolution streams.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public final class MOEA {
+	private MOEA() {require.noInstance();}
+
+	/**
+	 * Return a collector which collects the Pareto set of all phenotypes of
+	 * an evolution stream. The Pareto set contains the non-dominated
+	 * phenotypes of all evolution results; phenotypes with the same genotype
+	 * are only contained once.
+	 *
+	 * <pre>{@code
+	 * final ISeq<Phenotype<DoubleGene, Vec>> front = engine.stream()
+	 *     .limit(250)
+	 *     .collect(MOEA.toParetoSet());
+	 * }</pre>
+	 *
+	 * @param <G> the gene type
+	 * @return a collector which collects the Pareto set of an evolution
+	 *         stream
+	 */
+	public static <G extends Gene<?, G>>
+	Collector<EvolutionResult<G, Vec>, ?, ISeq<Phenotype<G, Vec>>>
+	toParetoSet() {
+		return toParetoSet(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Return a collector which collects the Pareto set of all phenotypes of
+	 * an evolution stream, with the given maximal size. If the Pareto set
+	 * becomes greater than the maximal size, the phenotypes with the smallest
+	 * crowding distance are removed.
+	 *
+	 * @param maxSize the maximal size of the collected Pareto set
+	 * @param <G> the gene type
+	 * @return a collector which collects the Pareto set of an evolution
+	 *         stream
+	 * @throws IllegalArgumentException if the {@code maxSize} is smaller than
+	 *         one.
+	 */
+	public static <G extends Gene<?, G>>
+	Collector<EvolutionResult<G, Vec>, ?, ISeq<Phenotype<G, Vec>>>
+	toParetoSet(final int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(format(
+				"Maximal size must be greater than zero, but was %d.", maxSize
+			));
+		}
+
+		return Collector.of(
+			() -> new ParetoSet<G>(maxSize),
+			ParetoSet::accept,
+			ParetoSet::combine,
+			ParetoSet::toISeq
+		);
+	}
+
+	/**
+	 * Mutable accumulation object for the Pareto set.
+	 */
+	private static final class ParetoSet<G extends Gene<?, G>> {
+		private final int _maxSize;
+
+		private Optimize _optimize = null;
+		private List<Phenotype<G, Vec>> _front = new ArrayList<>();
+
+		ParetoSet(final int maxSize) {
+			_maxSize = maxSize;
+		}
+
+		void accept(final EvolutionResult<G, Vec> result) {
+			_optimize = result.getOptimize();
+			merge(result.getPopulation());
+		}
+
+		ParetoSet<G> combine(final ParetoSet<G> other) {
+			if (_optimize == null) {
+				_optimize = other._optimize;
+			}
+			merge(other._front);
+			return this;
+		}
+
+		private void merge(final List<Phenotype<G, Vec>> phenotypes) {
+			if (phenotypes.isEmpty()) {
+				return;
+			}
+
+			final Map<Genotype<G>, Phenotype<G, Vec>> unique =
+				new LinkedHashMap<>();
+			for (Phenotype<G, Vec> pt : _front) {
+				unique.putIfAbsent(pt.getGenotype(), pt);
+			}
+			for (Phenotype<G, Vec> pt : phenotypes) {
+				unique.putIfAbsent(pt.getGenotype(), pt);
+			}
+
+			final List<Phenotype<G, Vec>> candidates =
+				new ArrayList<>(unique.values());
+			final double[][] points = Pareto.points(candidates, _optimize);
+			final int[] ranks = Pareto.ranks(points);
+
+			List<Phenotype<G, Vec>> front = new ArrayList<>();
+			for (int i = 0; i < ranks.length; ++i) {
+				if (ranks[i] == 0) {
+					front.add(candidates.get(i));
+				}
+			}
+
+			if (front.size() > _maxSize) {
+				final double[][] fp = Pareto.points(front, _optimize);
+				final int[] order = Pareto.crowdedOrder(
+					new int[fp.length],
+					Pareto.crowdingDistances(fp, new int[fp.length])
+				);
+
+				final List<Phenotype<G, Vec>> truncated =
+					new ArrayList<>(_maxSize);
+				for (int i = 0; i < _maxSize; ++i) {
+					truncated.add(front.get(order[i]));
+				}
+				front = truncated;
+			}
+
+			_front = front;
+		}
+
+		ISeq<Phenotype<G, Vec>> toISeq() {
+			return ISeq.of(_front);
+		}
+	}
+
+}
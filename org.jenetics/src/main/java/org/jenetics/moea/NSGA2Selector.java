@@ -0,0 +1,113 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import org.jenetics.internal.util.Equality;
+import org.jenetics.internal.util.Hash;
+
+import org.jenetics.Gene;
+import org.jenetics.Optimize;
+import org.jenetics.Population;
+import org.jenetics.Selector;
+
+/**
+ * The survivor selection of the NSGA-II algorithm. The population is sorted
+ * by the <i>crowded comparison</i>: ascending by the non-dominated rank of the
+ * individuals and, within the same rank, descending by their crowding
+ * distance. The first {@code count} individuals of this order are selected.
+ * <p>
+ * This selector is usually used as <i>survivors selector</i> of the evolution
+ * {@code Engine}, together with the {@link CrowdedTournamentSelector} as
+ * <i>offspring selector</i>.
+ *
+ * @see <a href="http://dx.doi.org/10.1109/4235.996017">
+ *      A Fast and Elitist Multiobjective Genetic Algorithm: NSGA-II</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public class NSGA2Selector<G extends Gene<?, G>> implements Selector<G, Vec> {
+
+	/**
+	 * Selects the first {@code count} individuals of the crowded comparison
+	 * order. If the selection size is greater than the population size, the
+	 * whole population is duplicated until the desired sample size is
+	 * reached, like in the {@link org.jenetics.TruncationSelector}.
+	 *
+	 * @throws NullPointerException if the {@code population} or the
+	 *         optimization strategy is {@code null}.
+	 * @throws IllegalArgumentException if the {@code count} is smaller than
+	 *         zero.
+	 */
+	@Override
+	public Population<G, Vec> select(
+		final Population<G, Vec> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s",
+				count
+			));
+		}
+
+		final Population<G, Vec> selection = new Population<>(count);
+		if (count > 0 && !population.isEmpty()) {
+			final double[][] points = Pareto.points(population, opt);
+			final int[] ranks = Pareto.ranks(points);
+			final double[] distances = Pareto.crowdingDistances(points, ranks);
+			final int[] order = Pareto.crowdedOrder(ranks, distances);
+
+			int size = count;
+			do {
+				final int length = Math.min(order.length, size);
+				for (int i = 0; i < length; ++i) {
+					selection.add(population.get(order[i]));
+				}
+				size -= length;
+			} while (size > 0);
+		}
+
+		return selection;
+	}
+
+	@Override
+	public int hashCode() {
+		return Hash.of(getClass()).value();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return Equality.ofType(this, obj);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getName();
+	}
+
+}
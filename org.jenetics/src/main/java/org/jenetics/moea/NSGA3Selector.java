@@ -0,0 +1,340 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.jenetics.internal.util.Equality;
+import org.jenetics.internal.util.Hash;
+
+import org.jenetics.Gene;
+import org.jenetics.Optimize;
+import org.jenetics.Population;
+import org.jenetics.Selector;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * The survivor selection of the reference point based NSGA-III algorithm.
+ * The individuals are selected front by front, in the order of their
+ * non-dominated rank. The individuals of the last, only partially selected,
+ * front are chosen by <i>niching</i>: every individual is associated with the
+ * nearest of the structured reference points (Das and Dennis), and the
+ * individuals associated with the least crowded reference points are
+ * preferred. This selector maintains a better diversity than the
+ * {@link NSGA2Selector} for problems with more than two objectives.
+ * <p>
+ * The objective values are normalized by the ideal point and the maximal
+ * objective values of the selected fronts, instead of the intercepts of the
+ * extreme points.
+ *
+ * @see <a href="http://dx.doi.org/10.1109/TEVC.2013.2281535">
+ *      An Evolutionary Many-Objective Optimization Algorithm Using
+ *      Reference-Point-Based Nondominated Sorting Approach</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public class NSGA3Selector<G extends Gene<?, G>> implements Selector<G, Vec> {
+
+	private final int _divisions;
+
+	/**
+	 * Create a new NSGA-III selector, where the reference points are created
+	 * with the given number of divisions per objective. The number of
+	 * reference points, for {@code M} objectives and {@code p} divisions, is
+	 * <i>binomial(M + p - 1, p)</i>.
+	 *
+	 * @param divisions the number of divisions per objective
+	 * @throws IllegalArgumentException if the number of divisions is smaller
+	 *         than one.
+	 */
+	public NSGA3Selector(final int divisions) {
+		if (divisions < 1) {
+			throw new IllegalArgumentException(
+				"Divisions must be greater than zero, but was " + divisions
+			);
+		}
+		_divisions = divisions;
+	}
+
+	/**
+	 * Return the number of divisions per objective.
+	 *
+	 * @return the number of divisions per objective
+	 */
+	public int getDivisions() {
+		return _divisions;
+	}
+
+	@Override
+	public Population<G, Vec> select(
+		final Population<G, Vec> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s",
+				count
+			));
+		}
+
+		final Population<G, Vec> selection = new Population<>(count);
+		if (count == 0 || population.isEmpty()) {
+			return selection;
+		}
+
+		final double[][] points = Pareto.points(population, opt);
+		final int[] ranks = Pareto.ranks(points);
+		final int[] order = Pareto.byRank(ranks);
+
+		// Fill up the selection with the population, if not enough.
+		int size = count;
+		while (size >= order.length) {
+			for (int index : order) {
+				selection.add(population.get(index));
+			}
+			size -= order.length;
+		}
+		if (size == 0) {
+			return selection;
+		}
+
+		// Determine the last front, which is only partially selected.
+		final int lastRank = ranks[order[size - 1]];
+		int end = size;
+		while (end < order.length && ranks[order[end]] == lastRank) {
+			++end;
+		}
+		int start = size;
+		while (start > 0 && ranks[order[start - 1]] == lastRank) {
+			--start;
+		}
+
+		for (int i = 0; i < start; ++i) {
+			selection.add(population.get(order[i]));
+		}
+		if (end == size) {
+			for (int i = start; i < end; ++i) {
+				selection.add(population.get(order[i]));
+			}
+			return selection;
+		}
+
+		final int[] selected = Arrays.copyOf(order, end);
+		for (int index : niching(points, selected, start, size - start)) {
+			selection.add(population.get(index));
+		}
+
+		return selection;
+	}
+
+	// Select 'k' indexes of the last front, selected[start:], by niching.
+	private int[] niching(
+		final double[][] points,
+		final int[] selected,
+		final int start,
+		final int k
+	) {
+		final double[][] normalized = normalize(points, selected);
+		final double[][] refs = references(normalized[0].length, _divisions);
+
+		// Associate the individuals with the nearest reference point.
+		final int[] niche = new int[selected.length];
+		final double[] distance = new double[selected.length];
+		IntStream.range(0, selected.length).parallel().forEach(i -> {
+			niche[i] = 0;
+			distance[i] = Double.POSITIVE_INFINITY;
+			for (int j = 0; j < refs.length; ++j) {
+				final double d = perpendicular(normalized[i], refs[j]);
+				if (d < distance[i]) {
+					niche[i] = j;
+					distance[i] = d;
+				}
+			}
+		});
+
+		final int[] counts = new int[refs.length];
+		final List<List<Integer>> members = new ArrayList<>(refs.length);
+		for (int j = 0; j < refs.length; ++j) {
+			members.add(new ArrayList<>());
+		}
+		for (int i = 0; i < selected.length; ++i) {
+			if (i < start) {
+				++counts[niche[i]];
+			} else {
+				members.get(niche[i]).add(i);
+			}
+		}
+
+		final Random random = RandomRegistry.getRandom();
+		final boolean[] excluded = new boolean[refs.length];
+		final int[] result = new int[k];
+		for (int n = 0; n < k;) {
+			// Choose one of the least crowded reference points randomly.
+			int ref = -1;
+			int ties = 0;
+			for (int j = 0; j < refs.length; ++j) {
+				if (!excluded[j]) {
+					if (ref == -1 || counts[j] < counts[ref]) {
+						ref = j;
+						ties = 1;
+					} else if (counts[j] == counts[ref] &&
+						random.nextInt(++ties) == 0)
+					{
+						ref = j;
+					}
+				}
+			}
+
+			final List<Integer> candidates = members.get(ref);
+			if (candidates.isEmpty()) {
+				excluded[ref] = true;
+			} else {
+				int pick = random.nextInt(candidates.size());
+				if (counts[ref] == 0) {
+					for (int c = 0; c < candidates.size(); ++c) {
+						if (distance[candidates.get(c)] <
+							distance[candidates.get(pick)])
+						{
+							pick = c;
+						}
+					}
+				}
+
+				result[n++] = selected[candidates.remove(pick)];
+				++counts[ref];
+			}
+		}
+
+		return result;
+	}
+
+	// Translate the (maximized) points into the normalized objective space,
+	// where the ideal point is the origin and all objectives are minimized.
+	private static double[][] normalize(
+		final double[][] points,
+		final int[] selected
+	) {
+		final int m = points[selected[0]].length;
+		final double[] ideal = new double[m];
+		final double[] nadir = new double[m];
+		for (int j = 0; j < m; ++j) {
+			ideal[j] = Double.NEGATIVE_INFINITY;
+			nadir[j] = Double.POSITIVE_INFINITY;
+		}
+		for (int index : selected) {
+			for (int j = 0; j < m; ++j) {
+				ideal[j] = Math.max(ideal[j], points[index][j]);
+				nadir[j] = Math.min(nadir[j], points[index][j]);
+			}
+		}
+
+		final double[][] normalized = new double[selected.length][m];
+		for (int i = 0; i < selected.length; ++i) {
+			for (int j = 0; j < m; ++j) {
+				final double range = ideal[j] - nadir[j];
+				normalized[i][j] = range > 0
+					? (ideal[j] - points[selected[i]][j])/range
+					: 0.0;
+			}
+		}
+
+		return normalized;
+	}
+
+	// The perpendicular distance of the point to the reference line.
+	private static double perpendicular(final double[] point, final double[] ref) {
+		double dot = 0;
+		double norm = 0;
+		for (int j = 0; j < ref.length; ++j) {
+			dot += point[j]*ref[j];
+			norm += ref[j]*ref[j];
+		}
+
+		final double scale = dot/norm;
+		double distance = 0;
+		for (int j = 0; j < ref.length; ++j) {
+			final double d = point[j] - scale*ref[j];
+			distance += d*d;
+		}
+
+		return Math.sqrt(distance);
+	}
+
+	/**
+	 * Create the structured reference points of Das and Dennis, for the given
+	 * number of objectives and divisions. The reference points are lying on
+	 * the unit simplex.
+	 */
+	static double[][] references(final int objectives, final int divisions) {
+		final List<double[]> refs = new ArrayList<>();
+		references(new int[objectives], 0, divisions, divisions, refs);
+		return refs.toArray(new double[0][]);
+	}
+
+	private static void references(
+		final int[] ref,
+		final int index,
+		final int left,
+		final int divisions,
+		final List<double[]> refs
+	) {
+		if (index == ref.length - 1) {
+			ref[index] = left;
+			final double[] point = new double[ref.length];
+			for (int j = 0; j < ref.length; ++j) {
+				point[j] = (double)ref[j]/divisions;
+			}
+			refs.add(point);
+		} else {
+			for (int i = 0; i <= left; ++i) {
+				ref[index] = i;
+				references(ref, index + 1, left - i, divisions, refs);
+			}
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return Hash.of(getClass()).and(_divisions).value();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return Equality.of(this, obj).test(s -> _divisions == s._divisions);
+	}
+
+	@Override
+	public String toString() {
+		return format("%s[d=%d]", getClass().getSimpleName(), _divisions);
+	}
+
+}
@@ -0,0 +1,363 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+
+/**
+ * Pareto dominance functions, the <i>non-dominated sorting</i> and the
+ * <i>crowding distance</i>, as used by the NSGA-II algorithm (Deb et al.,
+ * <i>A Fast and Elitist Multiobjective Genetic Algorithm: NSGA-II</i>, 2002).
+ * All functions are working on primitive {@code double} arrays, where every
+ * objective is <i>maximized</i>.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public final class Pareto {
+	private Pareto() {require.noInstance();}
+
+	/**
+	 * Calculates the Pareto dominance of the vectors {@code u} and {@code v},
+	 * where all objectives are maximized. The vector {@code u} dominates the
+	 * vector {@code v}, if no objective of {@code u} is worse than the
+	 * objective of {@code v} and at least one objective is better.
+	 *
+	 * @param u the first vector
+	 * @param v the second vector
+	 * @return {@code 1} if {@code u} dominates {@code v}, {@code -1} if
+	 *         {@code v} dominates {@code u} and {@code 0} otherwise
+	 * @throws NullPointerException if one of the vectors is {@code null}
+	 * @throws IllegalArgumentException if the vectors have different lengths
+	 */
+	public static int dominance(final double[] u, final double[] v) {
+		if (u.length != v.length) {
+			throw new IllegalArgumentException(format(
+				"Vector lengths differ: %d != %d.", u.length, v.length
+			));
+		}
+
+		boolean better = false;
+		boolean worse = false;
+		for (int i = 0; i < u.length && !(better && worse); ++i) {
+			if (u[i] > v[i]) {
+				better = true;
+			} else if (u[i] < v[i]) {
+				worse = true;
+			}
+		}
+
+		return better == worse ? 0 : better ? 1 : -1;
+	}
+
+	/**
+	 * Calculates the non-dominated rank of every given point. All points with
+	 * rank {@code 0} form the Pareto front of the given points; the points with
+	 * rank {@code k} are only dominated by points with a lower rank. For two
+	 * objectives, the ranks are calculated with the {@code O(N log N)} sweep
+	 * algorithm of Jensen. For more objectives, the dominance relations of the
+	 * {@code O(MN²)} <i>fast non-dominated sort</i> are calculated in
+	 * parallel and stored in bit-sets.
+	 *
+	 * @param points the points to rank, where all objectives are maximized
+	 * @return the non-dominated rank of every point
+	 * @throws NullPointerException if the {@code points} are {@code null}
+	 * @throws IllegalArgumentException if the points have different lengths
+	 */
+	public static int[] ranks(final double[][] points) {
+		if (points.length == 0) {
+			return new int[0];
+		}
+
+		final int m = points[0].length;
+		for (double[] point : points) {
+			if (point.length != m) {
+				throw new IllegalArgumentException(format(
+					"Vector lengths differ: %d != %d.", point.length, m
+				));
+			}
+		}
+
+		return m == 2 ? ranks2(points) : ranksN(points);
+	}
+
+	// Jensen's sweep algorithm for two objectives. The points are processed in
+	// descending (lexicographical) order; every front is represented by its
+	// last added point, and the fronts are searched with binary search.
+	static int[] ranks2(final double[][] points) {
+		final int n = points.length;
+		final Integer[] order = new Integer[n];
+		for (int i = 0; i < n; ++i) {
+			order[i] = i;
+		}
+		Arrays.parallelSort(order, Comparator
+			.<Integer>comparingDouble(i -> points[i][0])
+			.thenComparingDouble(i -> points[i][1])
+			.reversed());
+
+		final int[] ranks = new int[n];
+		final int[] last = new int[n];
+		int fronts = 0;
+		for (int index : order) {
+			int low = 0;
+			int high = fronts;
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				if (dominance(points[last[mid]], points[index]) > 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			ranks[index] = low;
+			last[low] = index;
+			if (low == fronts) {
+				++fronts;
+			}
+		}
+
+		return ranks;
+	}
+
+	// Fast non-dominated sort. The dominated points of every point are stored
+	// in a bit-set, which are calculated in parallel.
+	static int[] ranksN(final double[][] points) {
+		final int n = points.length;
+		final int words = (n + 63) >>> 6;
+		final long[][] dominated = new long[n][];
+		final int[] counts = new int[n];
+
+		IntStream.range(0, n).parallel().forEach(i -> {
+			final long[] bits = new long[words];
+			int count = 0;
+			for (int j = 0; j < n; ++j) {
+				final int dominance = dominance(points[i], points[j]);
+				if (dominance > 0) {
+					bits[j >>> 6] |= 1L << (j & 63);
+				} else if (dominance < 0) {
+					++count;
+				}
+			}
+			dominated[i] = bits;
+			counts[i] = count;
+		});
+
+		final int[] ranks = new int[n];
+		int[] front = new int[n];
+		int[] next = new int[n];
+		int size = 0;
+		for (int i = 0; i < n; ++i) {
+			if (counts[i] == 0) {
+				front[size++] = i;
+			}
+		}
+
+		for (int rank = 0; size > 0; ++rank) {
+			int nextSize = 0;
+			for (int f = 0; f < size; ++f) {
+				final int i = front[f];
+				ranks[i] = rank;
+
+				final long[] bits = dominated[i];
+				for (int w = 0; w < words; ++w) {
+					for (long word = bits[w]; word != 0; word &= word - 1) {
+						final int j = (w << 6) + Long.numberOfTrailingZeros(word);
+						if (--counts[j] == 0) {
+							next[nextSize++] = j;
+						}
+					}
+				}
+			}
+
+			final int[] temp = front;
+			front = next;
+			next = temp;
+			size = nextSize;
+		}
+
+		return ranks;
+	}
+
+	/**
+	 * Calculates the crowding distance of every given point, within its
+	 * non-dominated front. The crowding distance is the sum of the normalized
+	 * distances of the two neighbor points, for every objective. The boundary
+	 * points of a front have an infinite crowding distance. The fronts are
+	 * processed in parallel.
+	 *
+	 * @param points the points, where all objectives are maximized
+	 * @param ranks the non-dominated ranks of the points
+	 * @return the crowding distance of every point
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the number of points and ranks differ
+	 */
+	public static double[] crowdingDistances(
+		final double[][] points,
+		final int[] ranks
+	) {
+		if (points.length != ranks.length) {
+			throw new IllegalArgumentException(format(
+				"Number of points and ranks differ: %d != %d.",
+				points.length, ranks.length
+			));
+		}
+
+		final double[] distances = new double[points.length];
+		final int[] order = byRank(ranks);
+		final int[] starts = starts(order, ranks);
+
+		IntStream.range(0, starts.length - 1).parallel().forEach(f ->
+			crowding(points, order, starts[f], starts[f + 1], distances)
+		);
+
+		return distances;
+	}
+
+	// Calculates the crowding distances of the points of one front, given by
+	// the index range [start, end) of the 'order' array.
+	private static void crowding(
+		final double[][] points,
+		final int[] order,
+		final int start,
+		final int end,
+		final double[] distances
+	) {
+		final int size = end - start;
+		if (size <= 2) {
+			for (int i = start; i < end; ++i) {
+				distances[order[i]] = Double.POSITIVE_INFINITY;
+			}
+			return;
+		}
+
+		final Integer[] front = new Integer[size];
+		for (int i = 0; i < size; ++i) {
+			front[i] = order[start + i];
+		}
+
+		for (int m = 0; m < points[front[0]].length; ++m) {
+			final int objective = m;
+			Arrays.sort(front, Comparator.comparingDouble(i -> points[i][objective]));
+
+			final double min = points[front[0]][m];
+			final double max = points[front[size - 1]][m];
+			distances[front[0]] = Double.POSITIVE_INFINITY;
+			distances[front[size - 1]] = Double.POSITIVE_INFINITY;
+
+			if (max > min) {
+				for (int i = 1; i < size - 1; ++i) {
+					distances[front[i]] +=
+						(points[front[i + 1]][m] - points[front[i - 1]][m])/
+						(max - min);
+				}
+			}
+		}
+	}
+
+	// Return the point indexes, ordered by their rank (counting sort).
+	static int[] byRank(final int[] ranks) {
+		int fronts = 0;
+		for (int rank : ranks) {
+			fronts = Math.max(fronts, rank + 1);
+		}
+
+		final int[] offsets = new int[fronts + 1];
+		for (int rank : ranks) {
+			++offsets[rank + 1];
+		}
+		for (int i = 1; i < offsets.length; ++i) {
+			offsets[i] += offsets[i - 1];
+		}
+
+		final int[] order = new int[ranks.length];
+		for (int i = 0; i < ranks.length; ++i) {
+			order[offsets[ranks[i]]++] = i;
+		}
+
+		return order;
+	}
+
+	// Return the start indexes of the fronts in the rank ordered indexes, with
+	// an additional end index.
+	private static int[] starts(final int[] order, final int[] ranks) {
+		final int fronts = order.length == 0 ? 0 : ranks[order[order.length - 1]] + 1;
+		final int[] starts = new int[fronts + 1];
+		for (int i = 0, rank = 0; i < order.length; ++i) {
+			while (rank < ranks[order[i]]) {
+				starts[++rank] = i;
+			}
+		}
+		starts[fronts] = order.length;
+
+		return starts;
+	}
+
+	/**
+	 * Return the indexes of the given points, ordered by the <i>crowded
+	 * comparison</i> of NSGA-II: ascending by their rank and descending by
+	 * their crowding distance within the same rank.
+	 */
+	static int[] crowdedOrder(final int[] ranks, final double[] distances) {
+		return IntStream.range(0, ranks.length).boxed()
+			.sorted(Comparator
+				.<Integer>comparingInt(i -> ranks[i])
+				.thenComparing(i -> distances[i], Comparator.reverseOrder()))
+			.mapToInt(Integer::intValue)
+			.toArray();
+	}
+
+	/**
+	 * Return the fitness vectors of the given phenotypes as points, where all
+	 * objectives are maximized. For minimization problems, the objective
+	 * values are negated.
+	 */
+	static double[][] points(
+		final List<? extends Phenotype<?, Vec>> phenotypes,
+		final Optimize optimize
+	) {
+		final double[][] points = new double[phenotypes.size()][];
+		for (int i = 0; i < points.length; ++i) {
+			final double[] data = phenotypes.get(i).getFitness().data();
+			if (optimize == Optimize.MAXIMUM) {
+				points[i] = data;
+			} else {
+				points[i] = new double[data.length];
+				for (int j = 0; j < data.length; ++j) {
+					points[i][j] = -data[j];
+				}
+			}
+		}
+
+		return points;
+	}
+
+}
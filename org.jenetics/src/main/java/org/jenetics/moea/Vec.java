@@ -0,0 +1,176 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jenetics.internal.util.Equality;
+import org.jenetics.internal.util.Hash;
+
+/**
+ * Vector valued fitness of multi-objective problems. The selectors of this
+ * package compare two vectors by <i>Pareto dominance</i>, given by the
+ * {@link #dominance(Vec)} method, where all objectives are maximized, if the
+ * engine is maximizing, and minimized, if the engine is minimizing. Problems
+ * with mixed objectives must negate the values of the objectives, which are
+ * optimized in the opposite direction.
+ * <p>
+ * Pareto dominance is only a partial order. The natural ordering, defined by
+ * the {@link #compareTo(Vec)} method, is therefore a <i>lexicographic</i>
+ * total order, which is consistent with the Pareto dominance and with
+ * {@link #equals(Object)}. It is used by the engine, to determine the best
+ * and worst phenotypes of a population.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public final class Vec implements Comparable<Vec>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final double[] _data;
+
+	private Vec(final double[] data) {
+		if (data.length == 0) {
+			throw new IllegalArgumentException("Vector must not be empty.");
+		}
+		_data = data;
+	}
+
+	/**
+	 * Return the number of objectives.
+	 *
+	 * @return the number of objectives
+	 */
+	public int length() {
+		return _data.length;
+	}
+
+	/**
+	 * Return the value of the objective with the given index.
+	 *
+	 * @param index the objective index
+	 * @return the value of the objective with the given index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= length())}.
+	 */
+	public double get(final int index) {
+		return _data[index];
+	}
+
+	/**
+	 * Return the objective values of this vector.
+	 *
+	 * @return a copy of the objective values
+	 */
+	public double[] toArray() {
+		return _data.clone();
+	}
+
+	// Direct access to the data array, without copying.
+	double[] data() {
+		return _data;
+	}
+
+	/**
+	 * Calculates the Pareto dominance of {@code this} and the {@code other}
+	 * vector, where all objectives are maximized.
+	 *
+	 * @see Pareto#dominance(double[], double[])
+	 *
+	 * @param other the other vector
+	 * @return {@code 1} if {@code this} vector dominates the {@code other},
+	 *         {@code -1} if the {@code other} vector dominates {@code this}
+	 *         and {@code 0} otherwise
+	 * @throws NullPointerException if the {@code other} vector is {@code null}
+	 * @throws IllegalArgumentException if the vectors have different lengths
+	 */
+	public int dominance(final Vec other) {
+		return Pareto.dominance(_data, other._data);
+	}
+
+	/**
+	 * Compares {@code this} and the {@code other} vector lexicographically.
+	 * If {@code this} vector dominates the {@code other}, it is also greater
+	 * by this order, but two vectors, where none dominates the other, are only
+	 * equal if they are equal by the {@link #equals(Object)} method. Vectors
+	 * with a common prefix are ordered by their length.
+	 *
+	 * @see #dominance(Vec)
+	 *
+	 * @param other the other vector
+	 * @return a negative integer, zero, or a positive integer as {@code this}
+	 *         vector is less than, equal to, or greater than the {@code other}
+	 * @throws NullPointerException if the {@code other} vector is {@code null}
+	 */
+	@Override
+	public int compareTo(final Vec other) {
+		final int length = Math.min(_data.length, other._data.length);
+
+		// Adding 0.0 treats -0.0 and 0.0 as equal, like the dominance does.
+		for (int i = 0; i < length; ++i) {
+			final int cmp = Double.compare(_data[i] + 0.0, other._data[i] + 0.0);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		if (_data.length != other._data.length) {
+			return Integer.compare(_data.length, other._data.length);
+		}
+		for (int i = 0; i < length; ++i) {
+			final int cmp = Double.compare(_data[i], other._data[i]);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+
+		return 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return Hash.of(getClass()).and(_data).value();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return Equality.of(this, obj).test(v -> Arrays.equals(_data, v._data));
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(_data);
+	}
+
+	/**
+	 * Create a new vector with the given objective values.
+	 *
+	 * @param values the objective values; the array is copied
+	 * @return a new vector with the given objective values
+	 * @throws NullPointerException if the {@code values} are {@code null}
+	 * @throws IllegalArgumentException if the {@code values} are empty
+	 */
+	public static Vec of(final double... values) {
+		return new Vec(values.clone());
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+
+/**
+ * This package contains the classes for solving multi-objective optimization
+ * problems. The fitness of a multi-objective problem is a {@link
+ * org.jenetics.moea.Vec}. Its natural ordering is a lexicographic total
+ * order, which is used by the {@code Engine} for determining the best and
+ * worst phenotypes. The <i>Pareto dominance</i> of two vectors is given by
+ * the {@link org.jenetics.moea.Vec#dominance(org.jenetics.moea.Vec)} method.
+ * It is used by the {@link org.jenetics.moea.NSGA2Selector} and the
+ * {@link org.jenetics.moea.NSGA3Selector}, which are used as selectors of the
+ * evolution {@code Engine}, and by the
+ * {@link org.jenetics.moea.MOEA#toParetoSet()} collector, which collects the
+ * Pareto front of an {@code EvolutionStream}.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Vec> engine = Engine
+ *     .builder(ff, DoubleChromosome.of(0, 1, 30))
+ *     .offspringSelector(new CrowdedTournamentSelector<>())
+ *     .survivorsSelector(new NSGA2Selector<>())
+ *     .build();
+ *
+ * final ISeq<Phenotype<DoubleGene, Vec>> front = engine.stream()
+ *     .limit(250)
+ *     .collect(MOEA.toParetoSet());
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+package org.jenetics.moea;
@@ -68,7 +68,7 @@ import org.jenetics.internal.math.DoubleAdder;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 3.1
  */
 public class DoubleMomentStatistics
 	extends MomentStatistics
@@ -99,6 +99,34 @@ public class DoubleMomentStatistics
 		_sum.add(value);
 	}
 
+	/**
+	 * Records the given range of values into the moments information. The
+	 * values are accumulated block-wise with pairwise summation, which is
+	 * considerably faster than recording every value with the
+	 * {@link #accept(double)} method.
+	 *
+	 * @since 3.1
+	 *
+	 * @param values the input values
+	 * @param from the start index, inclusively
+	 * @param to the end index, exclusively
+	 * @throws NullPointerException if the given {@code values} array is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code from > to}
+	 * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or
+	 *         {@code to > values.length}
+	 */
+	public void accept(final double[] values, final int from, final int to) {
+		checkRange(values.length, from, to);
+
+		for (int i = from; i < to; ++i) {
+			_min = min(_min, values[i]);
+			_max = max(_max, values[i]);
+		}
+		_sum.add(sum(values, from, to));
+		super.accept(values, from, to);
+	}
+
 	/**
 	 * Combine two {@code DoubleMoments} statistic objects.
 	 *
@@ -65,7 +65,7 @@ import java.util.stream.Collector;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.0
+ * @version 3.1
  */
 public class IntMomentStatistics
 	extends MomentStatistics
@@ -95,6 +95,40 @@ public class IntMomentStatistics
 		_sum += value;
 	}
 
+	/**
+	 * Records the given range of values into the moments information. The
+	 * values are accumulated block-wise with pairwise summation, which is
+	 * considerably faster than recording every value with the
+	 * {@link #accept(int)} method.
+	 *
+	 * @since 3.1
+	 *
+	 * @param values the input values
+	 * @param from the start index, inclusively
+	 * @param to the end index, exclusively
+	 * @throws NullPointerException if the given {@code values} array is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code from > to}
+	 * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or
+	 *         {@code to > values.length}
+	 */
+	public void accept(final int[] values, final int from, final int to) {
+		checkRange(values.length, from, to);
+
+		final double[] block = new double[min(BLOCK_SIZE, to - from)];
+		for (int i = from; i < to; i += BLOCK_SIZE) {
+			final int size = min(BLOCK_SIZE, to - i);
+			for (int j = 0; j < size; ++j) {
+				final int value = values[i + j];
+				_min = min(_min, value);
+				_max = max(_max, value);
+				_sum += value;
+				block[j] = value;
+			}
+			super.accept(block, 0, size);
+		}
+	}
+
 	/**
 	 * Combine two {@code IntMoments} statistic objects.
 	 *
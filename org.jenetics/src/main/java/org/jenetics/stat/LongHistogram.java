@@ -0,0 +1,394 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.stat;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * A state object for collecting the distribution of non-negative long
+ * values, e.g. latencies measured in nanoseconds. The design follows the
+ * <a href="http://hdrhistogram.org/">HdrHistogram</a>: the values are
+ * counted in log-linear buckets, which guarantees a relative error of the
+ * reported quantiles of less than {@code 10^-significantDigits}, independent
+ * of the magnitude of the recorded values. The memory footprint is bounded
+ * by the number of significant digits and doesn't grow with the number of
+ * recorded values. Histograms with the same number of significant digits
+ * can be merged without any loss of precision.
+ * <p>
+ * This class is designed to work with (though does not require) streams. For
+ * example, you can compute the distribution of a stream of longs with:
+ * <pre>{@code
+ * final LongStream stream = ...
+ * final LongHistogram histogram = stream.collect(
+ *         LongHistogram::new,
+ *         LongHistogram::accept,
+ *         LongHistogram::combine
+ *     );
+ * }</pre>
+ *
+ * For a non long stream, you can use a collector:
+ * <pre>{@code
+ * final Stream<SomeObject> stream = ...
+ * final LongHistogram histogram = stream
+ *     .collect(toLongHistogram(v -> v.longValue()));
+ *
+ * final long p50 = histogram.getQuantile(0.5);
+ * final long p99 = histogram.getQuantile(0.99);
+ * final long p999 = histogram.getQuantile(0.999);
+ * }</pre>
+ *
+ * <p>
+ * <b>Implementation note:</b>
+ * <i>This implementation is not thread safe. However, it is safe to use
+ * {@link #toLongHistogram(ToLongFunction)} on a parallel stream, because the
+ * parallel implementation of {@link java.util.stream.Stream#collect
+ * Stream.collect()} provides the necessary partitioning, isolation, and
+ * merging of results for safe and efficient parallel execution.</i>
+ *
+ * @see <a href="http://hdrhistogram.org/">HdrHistogram</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public class LongHistogram implements LongConsumer, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The default number of significant digits of the recorded values.
+	 */
+	public static final int DEFAULT_SIGNIFICANT_DIGITS = 2;
+
+	private final int _digits;
+
+	// Number of bits used for the linear sub-buckets. Values smaller than
+	// 2^_bits are counted exactly in the first bucket. Every following bucket
+	// k covers the values [2^(_bits + k - 1), 2^(_bits + k)) with _half
+	// sub-buckets of width 2^k.
+	private final int _bits;
+	private final int _half;
+
+	// The buckets are allocated on demand, which keeps the memory footprint
+	// small for values of a narrow magnitude range.
+	private final long[][] _buckets;
+
+	private long _count = 0L;
+	private long _min = Long.MAX_VALUE;
+	private long _max = Long.MIN_VALUE;
+	private double _sum = 0.0;
+
+	/**
+	 * Create an empty histogram with the given number of significant digits.
+	 *
+	 * @param significantDigits the number of significant digits of the
+	 *        recorded values
+	 * @throws IllegalArgumentException if the number of significant digits is
+	 *         not within the range {@code [1, 3]}
+	 */
+	public LongHistogram(final int significantDigits) {
+		long precision = 1;
+		for (int i = 0, n = check(significantDigits); i < n; ++i) {
+			precision *= 10;
+		}
+
+		int bits = 1;
+		while ((1L << (bits - 1)) < precision) {
+			++bits;
+		}
+
+		_digits = significantDigits;
+		_bits = bits;
+		_half = 1 << (bits - 1);
+		_buckets = new long[64 - bits][];
+	}
+
+	private static int check(final int significantDigits) {
+		if (significantDigits < 1 || significantDigits > 3) {
+			throw new IllegalArgumentException(format(
+				"Significant digits must be in the range [1, 3], but was %d.",
+				significantDigits
+			));
+		}
+		return significantDigits;
+	}
+
+	/**
+	 * Create an empty histogram with {@link #DEFAULT_SIGNIFICANT_DIGITS}
+	 * significant digits.
+	 */
+	public LongHistogram() {
+		this(DEFAULT_SIGNIFICANT_DIGITS);
+	}
+
+	/**
+	 * Records a new value into the histogram.
+	 *
+	 * @param value the input {@code value}
+	 * @throws IllegalArgumentException if the given {@code value} is negative
+	 */
+	@Override
+	public void accept(final long value) {
+		if (value < 0) {
+			throw new IllegalArgumentException(format(
+				"Recorded value must not be negative: %d", value
+			));
+		}
+
+		final int bucket = bucket(value);
+		if (_buckets[bucket] == null) {
+			_buckets[bucket] = new long[bucket == 0 ? 2*_half : _half];
+		}
+		++_buckets[bucket][index(value, bucket)];
+
+		++_count;
+		_min = min(_min, value);
+		_max = max(_max, value);
+		_sum += value;
+	}
+
+	private int bucket(final long value) {
+		return max(0, 64 - Long.numberOfLeadingZeros(value) - _bits);
+	}
+
+	private int index(final long value, final int bucket) {
+		return bucket == 0
+			? (int)value
+			: (int)(value >>> bucket) - _half;
+	}
+
+	// Return the highest value which is counted in the given sub-bucket.
+	private long upper(final int bucket, final int index) {
+		return bucket == 0
+			? index
+			: ((long)(_half + index) << bucket) + (1L << bucket) - 1;
+	}
+
+	/**
+	 * Combine two histograms.
+	 *
+	 * @param other the other histogram to combine with {@code this} one.
+	 * @return {@code this} histogram
+	 * @throws java.lang.NullPointerException if the other histogram is
+	 *         {@code null}.
+	 * @throws IllegalArgumentException if the histograms have a different
+	 *         number of significant digits
+	 */
+	public LongHistogram combine(final LongHistogram other) {
+		if (other._digits != _digits) {
+			throw new IllegalArgumentException(format(
+				"Significant digits must be equal: %d != %d.",
+				_digits, other._digits
+			));
+		}
+
+		for (int i = 0; i < _buckets.length; ++i) {
+			final long[] counts = other._buckets[i];
+			if (counts != null) {
+				if (_buckets[i] == null) {
+					_buckets[i] = counts.clone();
+				} else {
+					for (int j = 0; j < counts.length; ++j) {
+						_buckets[i][j] += counts[j];
+					}
+				}
+			}
+		}
+
+		_count += other._count;
+		_min = min(_min, other._min);
+		_max = max(_max, other._max);
+		_sum += other._sum;
+
+		return this;
+	}
+
+	/**
+	 * Return the number of significant digits of the recorded values.
+	 *
+	 * @return the number of significant digits of the recorded values
+	 */
+	public int getSignificantDigits() {
+		return _digits;
+	}
+
+	/**
+	 * Returns the count of values recorded.
+	 *
+	 * @return the count of recorded values
+	 */
+	public long getCount() {
+		return _count;
+	}
+
+	/**
+	 * Return the minimum value recorded, or {@code Long.MAX_VALUE} if no
+	 * values have been recorded.
+	 *
+	 * @return the minimum value, or {@code Long.MAX_VALUE} if none
+	 */
+	public long getMin() {
+		return _min;
+	}
+
+	/**
+	 * Return the maximum value recorded, or {@code Long.MIN_VALUE} if no
+	 * values have been recorded.
+	 *
+	 * @return the maximum value, or {@code Long.MIN_VALUE} if none
+	 */
+	public long getMax() {
+		return _max;
+	}
+
+	/**
+	 * Return the sum of values recorded, or zero if no values have been
+	 * recorded.
+	 *
+	 * @return the sum of values, or zero if none
+	 */
+	public double getSum() {
+		return _sum;
+	}
+
+	/**
+	 * Return the arithmetic mean of values recorded, or {@code Double.NaN} if
+	 * no values have been recorded.
+	 *
+	 * @return the arithmetic mean of values, or {@code Double.NaN} if none
+	 */
+	public double getMean() {
+		return _count == 0 ? Double.NaN : _sum/_count;
+	}
+
+	/**
+	 * Return the value at the given quantile. The returned value is the
+	 * highest value which is counted in the same bucket as the exact
+	 * quantile, limited to the recorded minimum and maximum, and differs
+	 * from the exact quantile less than {@code 10^-significantDigits}
+	 * relatively.
+	 *
+	 * @param quantile the quantile, e.g. {@code 0.99} for the p99 value
+	 * @return the value at the given quantile, or zero if no values have been
+	 *         recorded
+	 * @throws IllegalArgumentException if the given {@code quantile} is not
+	 *         within the range {@code [0, 1]}
+	 */
+	public long getQuantile(final double quantile) {
+		if (quantile < 0.0 || quantile > 1.0 || quantile != quantile) {
+			throw new IllegalArgumentException(format(
+				"Quantile (%s) not in the valid range of [0, 1]", quantile
+			));
+		}
+		if (_count == 0) {
+			return 0L;
+		}
+		if (quantile == 0.0) {
+			return _min;
+		}
+
+		final long rank = max(1L, min(_count, (long)ceil(quantile*_count)));
+
+		long count = 0;
+		for (int i = 0; i < _buckets.length; ++i) {
+			final long[] counts = _buckets[i];
+			if (counts != null) {
+				for (int j = 0; j < counts.length; ++j) {
+					count += counts[j];
+					if (count >= rank) {
+						return max(_min, min(_max, upper(i, j)));
+					}
+				}
+			}
+		}
+
+		return _max;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"LongHistogram[N=%d, ∧=%s, ∨=%s, μ=%s, p50=%d, p99=%d, p999=%d]",
+			getCount(), getMin(), getMax(), getMean(),
+			getQuantile(0.5), getQuantile(0.99), getQuantile(0.999)
+		);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies an long-producing mapping
+	 * function to each input element, and returns the histogram of the
+	 * resulting values.
+	 *
+	 * <pre>{@code
+	 * final Stream<SomeObject> stream = ...
+	 * final LongHistogram histogram = stream
+	 *     .collect(toLongHistogram(v -> v.longValue()));
+	 * }</pre>
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the histogram reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 */
+	public static <T> Collector<T, ?, LongHistogram>
+	toLongHistogram(final ToLongFunction<? super T> mapper) {
+		return toLongHistogram(mapper, DEFAULT_SIGNIFICANT_DIGITS);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies an long-producing mapping
+	 * function to each input element, and returns the histogram, with the
+	 * given number of significant digits, of the resulting values.
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param significantDigits the number of significant digits of the
+	 *        recorded values
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the histogram reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the number of significant digits is
+	 *         not within the range {@code [1, 3]}
+	 */
+	public static <T> Collector<T, ?, LongHistogram> toLongHistogram(
+		final ToLongFunction<? super T> mapper,
+		final int significantDigits
+	) {
+		requireNonNull(mapper);
+		final int digits = check(significantDigits);
+
+		return Collector.of(
+			() -> new LongHistogram(digits),
+			(r, t) -> r.accept(mapper.applyAsLong(t)),
+			LongHistogram::combine
+		);
+	}
+
+}
@@ -68,6 +68,7 @@ import org.jenetics.internal.util.Hash;
  * is an estimation algorithm, combining the estimations will only work for
  * large streams ({@code size >> 1000}).</i>
  *
+ * @see QuantileSketch
  * @see <a href="http://en.wikipedia.org/wiki/Quantile">Wikipedia: Quantile</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
@@ -0,0 +1,472 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.stat;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Mergeable sketch for estimating arbitrary quantiles of a stream of
+ * {@code double} values in bounded memory. The implementation follows the
+ * KLL sketch published by
+ * <p>
+ * <strong>Zohar KARNIN, Kevin LANG and Edo LIBERTY</strong>:
+ * <em>Optimal Quantile Approximation in Streams</em>
+ * <br>
+ * [<a href="https://arxiv.org/abs/1603.05346">FOCS 2016</a>]
+ * <p>
+ * The values are kept in a hierarchy of buffers, where a value of level
+ * {@code h} represents {@code 2^h} stream values. If the sketch is full, the
+ * lowest full level is sorted and every second value is promoted to the next
+ * level. The number of retained values only depends on the given accuracy
+ * parameter {@code k} and grows logarithmically with the number of recorded
+ * values. In contrast to the {@link Quantile} class, one sketch answers any
+ * number of quantile queries and two sketches can be combined without
+ * additional loss of accuracy. The rank error of the estimated quantiles is
+ * roughly {@code 1.7/k}; the default of {@code k = 200} gives a rank error
+ * below one percent.
+ * <p>
+ * This class is designed to work with (though does not require) streams. For
+ * example, you can estimate the quantiles of a stream of doubles with:
+ * <pre>{@code
+ * final DoubleStream stream = ...
+ * final QuantileSketch sketch = stream.collect(
+ *         QuantileSketch::new,
+ *         QuantileSketch::accept,
+ *         QuantileSketch::combine
+ *     );
+ * }</pre>
+ *
+ * For a non double stream, you can use a collector:
+ * <pre>{@code
+ * final QuantileSketch sketch = population.parallelStream()
+ *     .collect(toQuantileSketch(pt -> pt.getFitness()));
+ *
+ * final double[] quartiles = sketch.getQuantiles(0.25, 0.5, 0.75);
+ * }</pre>
+ *
+ * <p>
+ * <b>Implementation note:</b>
+ * <i>This implementation is not thread safe. However, it is safe to use
+ * {@link #toQuantileSketch(ToDoubleFunction)} on a parallel stream, because
+ * the parallel implementation of {@link java.util.stream.Stream#collect
+ * Stream.collect()} provides the necessary partitioning, isolation, and
+ * merging of results for safe and efficient parallel execution.</i>
+ * <br>
+ * <i>The promoted values are chosen by alternating, instead of random,
+ * offsets. This makes the estimations reproducible for the same input
+ * order.</i>
+ *
+ * @see Quantile
+ * @see <a href="http://en.wikipedia.org/wiki/Quantile">Wikipedia: Quantile</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.1
+ * @version 3.1
+ */
+public class QuantileSketch implements DoubleConsumer {
+
+	/**
+	 * The default accuracy parameter {@code k} of the sketch.
+	 */
+	public static final int DEFAULT_K = 200;
+
+	// The minimal capacity of the higher levels.
+	private static final int MIN_CAPACITY = 8;
+
+	// Capacity ratio of two adjacent levels.
+	private static final double RATIO = 2.0/3.0;
+
+	private final int _k;
+
+	// The values of every level and the number of values stored in it.
+	private double[][] _levels = {new double[MIN_CAPACITY]};
+	private int[] _sizes = {0};
+
+	// Number of compactions per level, which determines the offset of the
+	// promoted values.
+	private long[] _compactions = {0};
+
+	private int _retained = 0;
+	private int _capacity;
+
+	private long _count = 0L;
+	private double _min = Double.POSITIVE_INFINITY;
+	private double _max = Double.NEGATIVE_INFINITY;
+
+	/**
+	 * Create a new quantile sketch with the given accuracy parameter.
+	 *
+	 * @param k the accuracy parameter of the sketch. The estimation error
+	 *        decreases and the memory consumption increases with {@code k}.
+	 * @throws IllegalArgumentException if {@code k < 8}
+	 */
+	public QuantileSketch(final int k) {
+		_k = check(k);
+		_capacity = capacity(0);
+	}
+
+	private static int check(final int k) {
+		if (k < MIN_CAPACITY) {
+			throw new IllegalArgumentException(format(
+				"Accuracy parameter k must be at least %d, but was %d.",
+				MIN_CAPACITY, k
+			));
+		}
+		return k;
+	}
+
+	/**
+	 * Create a new quantile sketch with the default accuracy parameter
+	 * {@link #DEFAULT_K}.
+	 */
+	public QuantileSketch() {
+		this(DEFAULT_K);
+	}
+
+	// Return the capacity of the given level for the current number of
+	// levels. The highest level has capacity k.
+	private int capacity(final int level) {
+		final int depth = _levels.length - 1 - level;
+		return max(MIN_CAPACITY, (int)ceil(_k*pow(RATIO, depth)));
+	}
+
+	private int totalCapacity() {
+		int capacity = 0;
+		for (int h = 0; h < _levels.length; ++h) {
+			capacity += capacity(h);
+		}
+		return capacity;
+	}
+
+	/**
+	 * Records a new value into the sketch.
+	 *
+	 * @param value the input {@code value}
+	 */
+	@Override
+	public void accept(final double value) {
+		add(0, value);
+		++_count;
+		_min = min(_min, value);
+		_max = max(_max, value);
+
+		if (_retained > _capacity) {
+			compress();
+		}
+	}
+
+	private void add(final int level, final double value) {
+		if (_sizes[level] == _levels[level].length) {
+			_levels[level] = Arrays.copyOf(
+				_levels[level],
+				2*_levels[level].length
+			);
+		}
+		_levels[level][_sizes[level]++] = value;
+		++_retained;
+	}
+
+	// Compacts the lowest full levels until the sketch fits its capacity.
+	private void compress() {
+		while (_retained > _capacity) {
+			int level = 0;
+			while (_sizes[level] < capacity(level)) {
+				++level;
+			}
+			compact(level);
+		}
+	}
+
+	private void compact(final int level) {
+		if (level == _levels.length - 1) {
+			grow();
+		}
+
+		final double[] values = _levels[level];
+		final int size = _sizes[level];
+		final int pairs = size/2*2;
+		Arrays.sort(values, 0, size);
+
+		final int offset = (int)(_compactions[level]++ & 1);
+		for (int i = offset; i < pairs; i += 2) {
+			add(level + 1, values[i]);
+		}
+
+		// The odd value, if any, stays at the current level.
+		if (pairs < size) {
+			values[0] = values[size - 1];
+		}
+		_sizes[level] = size - pairs;
+		_retained -= pairs;
+	}
+
+	private void grow() {
+		final int height = _levels.length + 1;
+		_levels = Arrays.copyOf(_levels, height);
+		_levels[height - 1] = new double[MIN_CAPACITY];
+		_sizes = Arrays.copyOf(_sizes, height);
+		_compactions = Arrays.copyOf(_compactions, height);
+		_capacity = totalCapacity();
+	}
+
+	/**
+	 * Combine two {@code QuantileSketch} objects.
+	 *
+	 * @param other the other {@code QuantileSketch} object to combine
+	 * @return {@code this}
+	 * @throws java.lang.NullPointerException if the {@code other} object is
+	 *         {@code null}.
+	 * @throws java.lang.IllegalArgumentException if the accuracy parameter of
+	 *         the {@code other} sketch differs from {@code this} one.
+	 */
+	public QuantileSketch combine(final QuantileSketch other) {
+		if (_k != other._k) {
+			throw new IllegalArgumentException(format(
+				"Can't perform combine, the accuracy parameters are not " +
+				"equal: %d != %d", _k, other._k
+			));
+		}
+
+		while (_levels.length < other._levels.length) {
+			grow();
+		}
+		for (int h = 0; h < other._levels.length; ++h) {
+			for (int i = 0; i < other._sizes[h]; ++i) {
+				add(h, other._levels[h][i]);
+			}
+		}
+
+		_count += other._count;
+		_min = min(_min, other._min);
+		_max = max(_max, other._max);
+
+		compress();
+		return this;
+	}
+
+	/**
+	 * Return the accuracy parameter of the sketch.
+	 *
+	 * @return the accuracy parameter of the sketch
+	 */
+	public int getK() {
+		return _k;
+	}
+
+	/**
+	 * Returns the count of values recorded.
+	 *
+	 * @return the count of recorded values
+	 */
+	public long getCount() {
+		return _count;
+	}
+
+	/**
+	 * Return the number of values retained by the sketch.
+	 *
+	 * @return the number of values retained by the sketch
+	 */
+	public int getRetained() {
+		return _retained;
+	}
+
+	/**
+	 * Return the minimum value recorded, or {@code Double.POSITIVE_INFINITY}
+	 * if no values have been recorded.
+	 *
+	 * @return the minimum value, or {@code Double.POSITIVE_INFINITY} if none
+	 */
+	public double getMin() {
+		return _min;
+	}
+
+	/**
+	 * Return the maximum value recorded, or {@code Double.NEGATIVE_INFINITY}
+	 * if no values have been recorded.
+	 *
+	 * @return the maximum value, or {@code Double.NEGATIVE_INFINITY} if none
+	 */
+	public double getMax() {
+		return _max;
+	}
+
+	/**
+	 * Return the estimated value of the given quantile.
+	 *
+	 * @param quantile the quantile, e.g. {@code 0.5} for the median
+	 * @return the estimated quantile value, or {@code Double.NaN} if no values
+	 *         have been recorded
+	 * @throws IllegalArgumentException if the given {@code quantile} is not
+	 *         within the range {@code [0, 1]}
+	 */
+	public double getQuantile(final double quantile) {
+		return getQuantiles(quantile)[0];
+	}
+
+	/**
+	 * Return the estimated values of the given quantiles. The retained values
+	 * are sorted only once for all quantiles.
+	 *
+	 * @param quantiles the quantiles
+	 * @return the estimated quantile values, in the order of the given
+	 *         quantiles, or {@code Double.NaN} if no values have been recorded
+	 * @throws IllegalArgumentException if one of the given {@code quantiles}
+	 *         is not within the range {@code [0, 1]}
+	 */
+	public double[] getQuantiles(final double... quantiles) {
+		for (double quantile : quantiles) {
+			if (!(quantile >= 0.0 && quantile <= 1.0)) {
+				throw new IllegalArgumentException(format(
+					"Quantile (%s) not in the valid range of [0, 1]", quantile
+				));
+			}
+		}
+
+		final double[] result = new double[quantiles.length];
+		if (_count == 0) {
+			Arrays.fill(result, Double.NaN);
+			return result;
+		}
+
+		// The sorted values of all levels, merged level by level.
+		double[] values = new double[0];
+		long[] weights = new long[0];
+		for (int h = 0; h < _levels.length; ++h) {
+			final double[] level = Arrays.copyOf(_levels[h], _sizes[h]);
+			Arrays.sort(level);
+
+			final double[] mv = new double[values.length + level.length];
+			final long[] mw = new long[mv.length];
+			for (int i = 0, j = 0, m = 0; m < mv.length; ++m) {
+				if (j == level.length ||
+					(i < values.length && values[i] <= level[j]))
+				{
+					mv[m] = values[i];
+					mw[m] = weights[i++];
+				} else {
+					mv[m] = level[j++];
+					mw[m] = 1L << h;
+				}
+			}
+			values = mv;
+			weights = mw;
+		}
+
+		for (int i = 0; i < quantiles.length; ++i) {
+			result[i] = value(values, weights, quantiles[i]);
+		}
+
+		return result;
+	}
+
+	private double value(
+		final double[] values,
+		final long[] weights,
+		final double quantile
+	) {
+		if (quantile == 0.0) {
+			return _min;
+		}
+		if (quantile == 1.0) {
+			return _max;
+		}
+
+		final double rank = quantile*_count;
+		long weight = 0;
+		for (int i = 0; i < values.length; ++i) {
+			weight += weights[i];
+			if (weight >= rank) {
+				return values[i];
+			}
+		}
+
+		return _max;
+	}
+
+	@Override
+	public String toString() {
+		final double[] q = getQuantiles(0.25, 0.5, 0.75);
+		return format(
+			"QuantileSketch[N=%d, ∧=%s, ∨=%s, q25=%s, q50=%s, q75=%s]",
+			getCount(), getMin(), getMax(), q[0], q[1], q[2]
+		);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies an double-producing mapping
+	 * function to each input element, and returns the quantile sketch of the
+	 * resulting values.
+	 *
+	 * <pre>{@code
+	 * final Stream<SomeObject> stream = ...
+	 * final QuantileSketch sketch = stream
+	 *     .collect(toQuantileSketch(v -> v.doubleValue()));
+	 * }</pre>
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile sketch reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 */
+	public static <T> Collector<T, ?, QuantileSketch>
+	toQuantileSketch(final ToDoubleFunction<? super T> mapper) {
+		return toQuantileSketch(mapper, DEFAULT_K);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies an double-producing mapping
+	 * function to each input element, and returns the quantile sketch, with
+	 * the given accuracy parameter, of the resulting values.
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param k the accuracy parameter of the sketch
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile sketch reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code k < 8}
+	 */
+	public static <T> Collector<T, ?, QuantileSketch> toQuantileSketch(
+		final ToDoubleFunction<? super T> mapper,
+		final int k
+	) {
+		requireNonNull(mapper);
+		check(k);
+
+		return Collector.of(
+			() -> new QuantileSketch(k),
+			(r, t) -> r.accept(mapper.applyAsDouble(t)),
+			QuantileSketch::combine
+		);
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.util;
+
+import org.jenetics.internal.collection.DoubleArrayProxy;
+import org.jenetics.internal.collection.DoubleArrayProxyISeq;
+
+/**
+ * Immutable, ordered, fixed sized sequence of {@code double} values.
+ *
+ * @see MDoubleSeq
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public interface IDoubleSeq extends DoubleSeq, Copyable<MDoubleSeq> {
+
+	@Override
+	public IDoubleSeq subSeq(final int start, final int end);
+
+	@Override
+	public IDoubleSeq subSeq(final int start);
+
+	/**
+	 * Return a mutable copy of this sequence.
+	 *
+	 * @return a mutable copy of this sequence.
+	 */
+	@Override
+	public MDoubleSeq copy();
+
+
+	/* *************************************************************************
+	 *  Some static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Single instance of an empty {@code IDoubleSeq}.
+	 */
+	public static final IDoubleSeq EMPTY = of();
+
+	/**
+	 * Return an empty {@code IDoubleSeq}.
+	 *
+	 * @return an empty {@code IDoubleSeq}.
+	 */
+	public static IDoubleSeq empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@code IDoubleSeq} from the given values. The given array
+	 * is copied.
+	 *
+	 * @param values the array values.
+	 * @return a new {@code IDoubleSeq} with the given values.
+	 * @throws NullPointerException if the {@code values} array is {@code null}.
+	 */
+	public static IDoubleSeq of(final double... values) {
+		return new DoubleArrayProxyISeq(
+			new DoubleArrayProxy(values.clone(), 0, values.length)
+		);
+	}
+
+	/**
+	 * Create a new {@code IDoubleSeq} from the values of the given sequence.
+	 * If the given sequence is already immutable, it is returned unchanged.
+	 *
+	 * @param values the sequence values.
+	 * @return a new {@code IDoubleSeq} with the given values.
+	 * @throws NullPointerException if the {@code values} are {@code null}.
+	 */
+	public static IDoubleSeq of(final DoubleSeq values) {
+		return values instanceof IDoubleSeq
+			? (IDoubleSeq)values
+			: new DoubleArrayProxyISeq(
+				new DoubleArrayProxy(values.toArray(), 0, values.length())
+			);
+	}
+
+}
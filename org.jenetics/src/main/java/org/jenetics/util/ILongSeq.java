@@ -0,0 +1,99 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.util;
+
+import org.jenetics.internal.collection.LongArrayProxy;
+import org.jenetics.internal.collection.LongArrayProxyISeq;
+
+/**
+ * Immutable, ordered, fixed sized sequence of {@code long} values.
+ *
+ * @see MLongSeq
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public interface ILongSeq extends LongSeq, Copyable<MLongSeq> {
+
+	@Override
+	public ILongSeq subSeq(final int start, final int end);
+
+	@Override
+	public ILongSeq subSeq(final int start);
+
+	/**
+	 * Return a mutable copy of this sequence.
+	 *
+	 * @return a mutable copy of this sequence.
+	 */
+	@Override
+	public MLongSeq copy();
+
+
+	/* *************************************************************************
+	 *  Some static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Single instance of an empty {@code ILongSeq}.
+	 */
+	public static final ILongSeq EMPTY = of();
+
+	/**
+	 * Return an empty {@code ILongSeq}.
+	 *
+	 * @return an empty {@code ILongSeq}.
+	 */
+	public static ILongSeq empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@code ILongSeq} from the given values. The given array
+	 * is copied.
+	 *
+	 * @param values the array values.
+	 * @return a new {@code ILongSeq} with the given values.
+	 * @throws NullPointerException if the {@code values} array is {@code null}.
+	 */
+	public static ILongSeq of(final long... values) {
+		return new LongArrayProxyISeq(
+			new LongArrayProxy(values.clone(), 0, values.length)
+		);
+	}
+
+	/**
+	 * Create a new {@code ILongSeq} from the values of the given sequence.
+	 * If the given sequence is already immutable, it is returned unchanged.
+	 *
+	 * @param values the sequence values.
+	 * @return a new {@code ILongSeq} with the given values.
+	 * @throws NullPointerException if the {@code values} are {@code null}.
+	 */
+	public static ILongSeq of(final LongSeq values) {
+		return values instanceof ILongSeq
+			? (ILongSeq)values
+			: new LongArrayProxyISeq(
+				new LongArrayProxy(values.toArray(), 0, values.length())
+			);
+	}
+
+}
@@ -19,7 +19,6 @@
  */
 package org.jenetics.util;
 
-import static org.jenetics.internal.util.jaxb.adapterFor;
 import static org.jenetics.internal.util.jaxb.context;
 import static org.jenetics.internal.util.jaxb.marshal;
 
@@ -34,8 +33,11 @@ import java.io.OutputStream;
 import java.nio.file.Path;
 
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
-import javax.xml.bind.annotation.adapters.XmlAdapter;
+
+import org.jenetics.internal.io.BinaryInput;
+import org.jenetics.internal.io.BinaryOutput;
+import org.jenetics.internal.io.XMLInput;
+import org.jenetics.internal.io.XMLOutput;
 
 /**
  * Class for object serialization. The following example shows how to write and
@@ -60,7 +62,7 @@ import javax.xml.bind.annotation.adapters.XmlAdapter;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0
+ * @version 3.1
  */
 public abstract class IO {
 
@@ -68,7 +70,9 @@ public abstract class IO {
 	}
 
 	/**
-	 * JAXB for <i>XML</i> serialization.
+	 * JAXB for <i>XML</i> serialization. Populations are written and read
+	 * with a streaming (StAX) parser, one phenotype at a time, without
+	 * creating the JAXB model of the whole population.
 	 */
 	public static final IO jaxb = new IO() {
 
@@ -76,12 +80,18 @@ public abstract class IO {
 		public void write(final Object object, final OutputStream out)
 			throws IOException
 		{
-			try {
-				final Marshaller marshaller = context().createMarshaller();
-				marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-				marshaller.marshal(marshal(object), out);
-			} catch (Exception e) {
-				throw new IOException(e);
+			if (XMLOutput.isStreamable(object)) {
+				try (XMLOutput output = new XMLOutput(out)) {
+					output.write(object);
+				}
+			} else {
+				try {
+					final Marshaller marshaller = context().createMarshaller();
+					marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+					marshaller.marshal(marshal(object), out);
+				} catch (Exception e) {
+					throw new IOException(e);
+				}
 			}
 		}
 
@@ -89,23 +99,9 @@ public abstract class IO {
 		public <T> T read(final Class<T> type, final InputStream in)
 			throws IOException
 		{
-			try {
-				final Unmarshaller unmarshaller = context().createUnmarshaller();
-
-				//final XMLInputFactory factory = XMLInputFactory.newInstance();
-				//final XMLStreamReader reader = factory.createXMLStreamReader(in);
-				//try {
-					final Object object = unmarshaller.unmarshal(in);
-					final XmlAdapter<Object, Object> adapter = adapterFor(object);
-					if (adapter != null) {
-						return type.cast(adapter.unmarshal(object));
-					} else {
-						return type.cast(object);
-					}
-				//} finally {
-				//	reader.close();
-				//}
-			} catch (Exception e) {
+			try (XMLInput input = new XMLInput(in)) {
+				return type.cast(input.read());
+			} catch (ClassCastException e) {
 				throw new IOException(e);
 			}
 		}
@@ -138,6 +134,46 @@ public abstract class IO {
 		}
 	};
 
+	/**
+	 * IO implementation for a compact, versioned <i>binary</i> format. The
+	 * genes of the {@code DoubleChromosome}, {@code IntegerChromosome},
+	 * {@code LongChromosome}, {@code BitChromosome},
+	 * {@code CharacterChromosome} and {@code PermutationChromosome} are
+	 * written as primitive arrays. The objects are written and read directly,
+	 * without an intermediate model object. The valid alleles of the
+	 * permutation chromosomes are written only once per stream. Objects of
+	 * other types, e.g. the alleles or fitness values of an unknown type, are
+	 * written with the Java serialization.
+	 * <p>
+	 * The read phenotypes are already evaluated and return the read fitness
+	 * values. Like the phenotypes read by the other {@code IO} implementations,
+	 * they don't contain the original fitness function.
+	 *
+	 * @since 3.1
+	 */
+	public static final IO binary = new IO() {
+
+		@Override
+		public void write(final Object object, final OutputStream out)
+			throws IOException
+		{
+			final BinaryOutput output = new BinaryOutput(out);
+			output.write(object);
+			output.flush();
+		}
+
+		@Override
+		public <T> T read(final Class<T> type, final InputStream in)
+			throws IOException
+		{
+			try {
+				return type.cast(new BinaryInput(in).read());
+			} catch (ClassCastException e) {
+				throw new IOException(e);
+			}
+		}
+	};
+
 
 	/**
 	 * Write the (serializable) object to the given path.
@@ -0,0 +1,319 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * General interface for a ordered, fixed sized sequence of {@code int}
+ * values. In contrast to a {@code Seq<Integer>}, the elements are stored and
+ * accessed without boxing.
+ *
+ * @see MIntSeq
+ * @see IIntSeq
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public interface IntSeq {
+
+	/**
+	 * Return the value at the given {@code index}.
+	 *
+	 * @param index index of the element to return.
+	 * @return the value at the given {@code index}.
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}.
+	 */
+	public int get(final int index);
+
+	/**
+	 * Return the length of this sequence. Once the sequence is created, the
+	 * length can't be changed.
+	 *
+	 * @return the length of this sequence.
+	 */
+	public int length();
+
+	/**
+	 * Test whether this sequence is empty.
+	 *
+	 * @return {@code true} if this sequence is empty, {@code false} otherwise.
+	 */
+	public default boolean isEmpty() {
+		return length() == 0;
+	}
+
+	/**
+	 * Performs the given action for each element of this sequence, in order.
+	 *
+	 * @param consumer the action to be performed for each element.
+	 * @throws NullPointerException if the given {@code consumer} is
+	 *         {@code null}.
+	 */
+	public default void forEach(final IntConsumer consumer) {
+		requireNonNull(consumer, "Consumer");
+
+		for (int i = 0, n = length(); i < n; ++i) {
+			consumer.accept(get(i));
+		}
+	}
+
+	/**
+	 * Tests whether a predicate holds for all elements of this sequence.
+	 *
+	 * @param predicate the predicate to use.
+	 * @return {@code true} if the given predicate p holds for all elements of
+	 *         this sequence, {@code false} otherwise.
+	 * @throws NullPointerException if the given {@code predicate} is
+	 *         {@code null}.
+	 */
+	public default boolean forAll(final IntPredicate predicate) {
+		requireNonNull(predicate, "Predicate");
+
+		boolean valid = true;
+		for (int i = 0, n = length(); i < n && valid; ++i) {
+			valid = predicate.test(get(i));
+		}
+		return valid;
+	}
+
+	/**
+	 * Returns the index of the first element on which the given predicate
+	 * returns {@code true}, or -1 if the predicate returns false for every
+	 * sequence element.
+	 *
+	 * @param predicate the search predicate.
+	 * @return the index of the first element on which the given predicate
+	 *         returns {@code true}, or -1 if the predicate returns
+	 *         {@code false} for every sequence element.
+	 * @throws NullPointerException if the given {@code predicate} is
+	 *         {@code null}.
+	 */
+	public default int indexWhere(final IntPredicate predicate) {
+		requireNonNull(predicate, "Predicate");
+
+		int index = -1;
+		for (int i = 0, n = length(); i < n && index == -1; ++i) {
+			if (predicate.test(get(i))) {
+				index = i;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the specified value in this
+	 * sequence, or -1 if this sequence does not contain the value. Two values
+	 * are considered equal if they are equal in the sense of
+	 * {@link Integer#equals(Object)}.
+	 *
+	 * @param value the value to search for.
+	 * @return the index of the first occurrence of the specified value, or -1
+	 *         if this sequence does not contain the value.
+	 */
+	public default int indexOf(final int value) {
+		return indexWhere(v -> v == value);
+	}
+
+	/**
+	 * Returns {@code true} if this sequence contains the specified value.
+	 *
+	 * @param value the value whose presence in this sequence is to be tested.
+	 * @return {@code true} if this sequence contains the specified value.
+	 */
+	public default boolean contains(final int value) {
+		return indexOf(value) != -1;
+	}
+
+	/**
+	 * Returns a sequential {@code IntStream} with this sequence as its
+	 * source.
+	 *
+	 * @return a sequential {@code IntStream} over the elements in this
+	 *         sequence
+	 */
+	public default IntStream stream() {
+		return IntStream.range(0, length()).map(this::get);
+	}
+
+	/**
+	 * Returns a possibly parallel {@code IntStream} with this sequence as
+	 * its source.
+	 *
+	 * @return a possibly parallel {@code IntStream} over the elements in
+	 *         this sequence
+	 */
+	public default IntStream parallelStream() {
+		return stream().parallel();
+	}
+
+	/**
+	 * Return an array containing all of the elements in this sequence in right
+	 * order. The returned array will be "safe" in that no references to it
+	 * are maintained by this sequence.
+	 *
+	 * @return an array containing all of the elements in this sequence in right
+	 *          order
+	 */
+	public default int[] toArray() {
+		return toArray(new int[length()]);
+	}
+
+	/**
+	 * Return an array containing all of the elements in this sequence in right
+	 * order. If this sequence fits in the specified array, it is returned
+	 * therein and the remaining array elements are left untouched. Otherwise,
+	 * a new array with the length of this sequence is allocated.
+	 *
+	 * @param array the array into which the elements of this sequence are to
+	 *        be stored, if it is big enough.
+	 * @return an array containing the elements of this sequence
+	 * @throws NullPointerException if the given array is {@code null}.
+	 */
+	public default int[] toArray(final int[] array) {
+		final int[] result = array.length < length()
+			? new int[length()]
+			: array;
+
+		for (int i = length(); --i >= 0;) {
+			result[i] = get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a view of the portion of this sequence between the specified
+	 * {@code start}, inclusive, and the end of this sequence. The returned
+	 * sequence is backed by this sequence.
+	 *
+	 * @param start low end point (inclusive) of the sub sequence.
+	 * @return a view of the specified range within this sequence.
+	 * @throws IndexOutOfBoundsException for an illegal end point index value
+	 *          ({@code start < 0 || start > length()}).
+	 */
+	public IntSeq subSeq(final int start);
+
+	/**
+	 * Returns a view of the portion of this sequence between the specified
+	 * {@code start}, inclusive, and {@code end}, exclusive. The returned
+	 * sequence is backed by this sequence.
+	 *
+	 * @param start low end point (inclusive) of the sub sequence.
+	 * @param end high end point (exclusive) of the sub sequence.
+	 * @return a view of the specified range within this sequence.
+	 * @throws IndexOutOfBoundsException for an illegal end point index value
+	 *          ({@code start < 0 || end > length() || start > end}).
+	 */
+	public IntSeq subSeq(final int start, final int end);
+
+	/**
+	 * Return a boxed version of this sequence.
+	 *
+	 * @return a new object sequence with the boxed values of this sequence
+	 */
+	public default ISeq<Integer> boxed() {
+		final MSeq<Integer> seq = MSeq.ofLength(length());
+		for (int i = length(); --i >= 0;) {
+			seq.set(i, get(i));
+		}
+		return seq.toISeq();
+	}
+
+	/**
+	 * Returns the hash code value for this sequence, as defined by
+	 * {@link IntSeq#hashCode(IntSeq)}.
+	 *
+	 * @return the hash code value for this sequence
+	 */
+	@Override
+	public int hashCode();
+
+	/**
+	 * Compares the specified object with this sequence for equality, as
+	 * defined by {@link IntSeq#equals(IntSeq, Object)}.
+	 *
+	 * @param object the object to be compared for equality with this sequence.
+	 * @return {@code true} if the specified object is equal to this sequence,
+	 *          {@code false} otherwise.
+	 */
+	@Override
+	public boolean equals(final Object object);
+
+	/**
+	 * Unified method for calculating the hash code of every {@code IntSeq}
+	 * implementation. The returned value is the same as the one returned by
+	 * {@link java.util.Arrays#hashCode(int[])} for an array with the same
+	 * elements.
+	 *
+	 * @param seq the sequence to calculate the hash code for.
+	 * @return the hash code of the given sequence.
+	 */
+	public static int hashCode(final IntSeq seq) {
+		int hash = 1;
+		for (int i = 0, n = seq.length(); i < n; ++i) {
+			hash = 31*hash + seq.get(i);
+		}
+		return hash;
+	}
+
+	/**
+	 * Unified method for compare to sequences for equality. Two values are
+	 * considered equal in the same way as in
+	 * {@link java.util.Arrays#equals(int[], int[])}.
+	 *
+	 * @param seq the sequence to test for equality.
+	 * @param obj the object to test for equality with the sequence.
+	 * @return {@code true} if the given objects are sequences and contain the
+	 *          same values in the same order, {@code false} otherwise.
+	 */
+	public static boolean equals(final IntSeq seq, final Object obj) {
+		if (obj == seq) {
+			return true;
+		}
+		if (!(obj instanceof IntSeq)) {
+			return false;
+		}
+
+		final IntSeq other = (IntSeq)obj;
+		boolean equals = seq.length() == other.length();
+		for (int i = seq.length(); equals && --i >= 0;) {
+			equals = seq.get(i) == other.get(i);
+		}
+		return equals;
+	}
+
+	/**
+	 * Create a new {@code IntSeq} from the given values.
+	 *
+	 * @param values the sequence values.
+	 * @return a new sequence with the given values.
+	 * @throws NullPointerException if the {@code values} array is {@code null}.
+	 */
+	public static IntSeq of(final int... values) {
+		return IIntSeq.of(values);
+	}
+
+}
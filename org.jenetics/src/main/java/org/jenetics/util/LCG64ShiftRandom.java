@@ -75,9 +75,12 @@ import org.jenetics.internal.util.Hash;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.1
- * @version 2.0
+ * @version 3.1
  */
-public class LCG64ShiftRandom extends Random64 {
+public class LCG64ShiftRandom
+	extends Random64
+	implements Copyable<LCG64ShiftRandom>
+{
 
 	private static final long serialVersionUID = 1L;
 
@@ -282,6 +285,19 @@ public class LCG64ShiftRandom extends Random64 {
 			super.jump(step);
 		}
 
+		/**
+		 * Return a new thread-safe PRNG with the same parameter and state as
+		 * {@code this} PRNG.
+		 *
+		 * @since 3.1
+		 *
+		 * @return a new copy of this PRNG
+		 */
+		@Override
+		public synchronized ThreadSafe copy() {
+			return new ThreadSafe(getParam(), super._state._r);
+		}
+
 	}
 
 	/**
@@ -553,6 +569,21 @@ public class LCG64ShiftRandom extends Random64 {
 		return _param;
 	}
 
+	/**
+	 * Return a new PRNG with the same parameter and state as {@code this}
+	 * PRNG. The copy generates the same random sequence as {@code this} PRNG,
+	 * independently of it. Copies of <i>thread local</i> instances are
+	 * ordinary, non thread-safe, {@code LCG64ShiftRandom} objects.
+	 *
+	 * @since 3.1
+	 *
+	 * @return a new copy of this PRNG
+	 */
+	@Override
+	public LCG64ShiftRandom copy() {
+		return new LCG64ShiftRandom(_param, _state._r);
+	}
+
 	@Override
 	public int hashCode() {
 		return Hash.of(getClass())
@@ -0,0 +1,231 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.util;
+
+import static java.lang.String.format;
+
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import org.jenetics.internal.collection.DoubleArrayProxy;
+import org.jenetics.internal.collection.DoubleArrayProxyMSeq;
+
+/**
+ * Mutable, ordered, fixed sized sequence of {@code double} values.
+ *
+ * <p>
+ * <b>Implementation note:</b>
+ * <i>This implementation is not thread safe. All {@link IDoubleSeq} and
+ * {@link MDoubleSeq} instances created by {@link MDoubleSeq#toISeq} and
+ * {@link MDoubleSeq#subSeq(int)}, respectively, must be protected by the same
+ * lock, when they are accessed (get/set) by different threads.</i>
+ *
+ * @see IDoubleSeq
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.1
+ * @since 3.1
+ */
+public interface MDoubleSeq extends DoubleSeq, Copyable<MDoubleSeq> {
+
+	/**
+	 * Set the {@code value} at the given {@code index}.
+	 *
+	 * @param index the index of the new value.
+	 * @param value the new value.
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         <code>(index &lt; 0 || index &gt;= size())</code>.
+	 */
+	public void set(final int index, final double value);
+
+	/**
+	 * Set all sequence elements to the given {@code value}.
+	 *
+	 * @param value the new value of all sequence elements.
+	 * @return {@code this} sequence.
+	 */
+	public default MDoubleSeq setAll(final double value) {
+		for (int i = 0, n = length(); i < n; ++i) {
+			set(i, value);
+		}
+		return this;
+	}
+
+	/**
+	 * Fill the sequence with the given values. If the given array is shorter
+	 * than this sequence, only the first {@code values.length} elements are
+	 * set.
+	 *
+	 * @param values the first {@code values.length} elements of this
+	 *        sequence.
+	 * @return {@code this} sequence.
+	 * @throws NullPointerException if the given {@code values} are
+	 *         {@code null}.
+	 */
+	public default MDoubleSeq setAll(final double[] values) {
+		for (int i = 0, n = Math.min(length(), values.length); i < n; ++i) {
+			set(i, values[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Fill the sequence with values generated by the given supplier.
+	 *
+	 * @param supplier the value supplier.
+	 * @return {@code this} sequence.
+	 * @throws NullPointerException if the given {@code supplier} is
+	 *         {@code null}.
+	 */
+	public default MDoubleSeq fill(final DoubleSupplier supplier) {
+		for (int i = 0, n = length(); i < n; ++i) {
+			set(i, supplier.getAsDouble());
+		}
+		return this;
+	}
+
+	/**
+	 * Swap the elements at the two positions.
+	 *
+	 * @param i the index of the first element.
+	 * @param j the index of the second element.
+	 * @throws IndexOutOfBoundsException if {@code i < 0 || j >= length()}.
+	 */
+	public default void swap(final int i, final int j) {
+		final double temp = get(i);
+		set(i, get(j));
+		set(j, temp);
+	}
+
+	/**
+	 * Swap a given range with a range of the same size with another sequence.
+	 *
+	 * @see MSeq#swap(int, int, MSeq, int)
+	 *
+	 * @param start the start index of {@code this} range, inclusively.
+	 * @param end the end index of {@code this} range, exclusively.
+	 * @param other the other sequence to swap the elements with.
+	 * @param otherStart the start index of the {@code other} sequence.
+	 * @throws IndexOutOfBoundsException if {@code start > end} or
+	 *         if {@code start < 0 || end >= this.length() || otherStart < 0 ||
+	 *         otherStart + (end - start) >= other.length()}
+	 */
+	public default void swap(
+		final int start, final int end,
+		final MDoubleSeq other, final int otherStart
+	) {
+		if (otherStart < 0 || (otherStart + (end - start)) > other.length()) {
+			throw new ArrayIndexOutOfBoundsException(format(
+				"Invalid index range: [%d, %d)",
+				otherStart, (otherStart + (end - start))
+			));
+		}
+
+		for (int i = (end - start); --i >= 0;) {
+			final double temp = get(start + i);
+			set(start + i, other.get(otherStart + i));
+			other.set(otherStart + i, temp);
+		}
+	}
+
+	/**
+	 * Randomize the sequence using the {@link Random} object currently
+	 * registered in the {@link RandomRegistry} class.
+	 *
+	 * @return this shuffled sequence
+	 */
+	public default MDoubleSeq shuffle() {
+		return shuffle(RandomRegistry.getRandom());
+	}
+
+	/**
+	 * Randomize the sequence using the given {@link Random} object.
+	 *
+	 * @param random the {@link Random} object to use for randomize.
+	 * @return this shuffled sequence
+	 * @throws NullPointerException if the random object is {@code null}.
+	 */
+	public default MDoubleSeq shuffle(final Random random) {
+		for (int j = length() - 1; j > 0; --j) {
+			swap(j, random.nextInt(j + 1));
+		}
+		return this;
+	}
+
+	@Override
+	public MDoubleSeq subSeq(final int start, final int end);
+
+	@Override
+	public MDoubleSeq subSeq(final int start);
+
+	/**
+	 * Return a read-only projection of this sequence. Changes to the original
+	 * sequence will not influence the returned {@code IDoubleSeq}.
+	 *
+	 * @return a read-only projection of this sequence
+	 */
+	public IDoubleSeq toISeq();
+
+
+	/* *************************************************************************
+	 *  Some static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new {@code MDoubleSeq} with the given {@code length}. All
+	 * elements are initialized with zero.
+	 *
+	 * @param length the length of the created sequence.
+	 * @return the new mutable sequence.
+	 * @throws NegativeArraySizeException if the given {@code length} is
+	 *         negative
+	 */
+	public static MDoubleSeq ofLength(final int length) {
+		return new DoubleArrayProxyMSeq(new DoubleArrayProxy(length));
+	}
+
+	/**
+	 * Create a new {@code MDoubleSeq} from the given values. The given array
+	 * is copied.
+	 *
+	 * @param values the array values.
+	 * @return a new {@code MDoubleSeq} with the given values.
+	 * @throws NullPointerException if the {@code values} array is {@code null}.
+	 */
+	public static MDoubleSeq of(final double... values) {
+		return new DoubleArrayProxyMSeq(
+			new DoubleArrayProxy(values.clone(), 0, values.length)
+		);
+	}
+
+	/**
+	 * Create a new {@code MDoubleSeq} from the values of the given sequence.
+	 *
+	 * @param values the sequence values.
+	 * @return a new {@code MDoubleSeq} with the given values.
+	 * @throws NullPointerException if the {@code values} are {@code null}.
+	 */
+	public static MDoubleSeq of(final DoubleSeq values) {
+		return new DoubleArrayProxyMSeq(
+			new DoubleArrayProxy(values.toArray(), 0, values.length())
+		);
+	}
+
+}
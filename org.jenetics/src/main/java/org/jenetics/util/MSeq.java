@@ -33,6 +33,7 @@ import java.util.stream.Collector;
 
 import org.jenetics.internal.collection.ArrayProxyMSeq;
 import org.jenetics.internal.collection.ObjectArrayProxy;
+import org.jenetics.internal.collection.ObjectArrayProxyMSeq;
 
 /**
  * Mutable, ordered, fixed sized sequence.
@@ -48,7 +49,7 @@ import org.jenetics.internal.collection.ObjectArrayProxy;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 3.1
  */
 public interface MSeq<T> extends Seq<T>, Copyable<MSeq<T>> {
 
@@ -268,7 +269,7 @@ public interface MSeq<T> extends Seq<T>, Copyable<MSeq<T>> {
 	 * @return the new mutable sequence.
 	 */
 	public static <T> MSeq<T> ofLength(final int length) {
-		return new ArrayProxyMSeq<>(new ObjectArrayProxy<T>(length));
+		return new ObjectArrayProxyMSeq<>(new ObjectArrayProxy<T>(length));
 	}
 
 	/**
@@ -284,7 +285,7 @@ public interface MSeq<T> extends Seq<T>, Copyable<MSeq<T>> {
 		final ObjectArrayProxy<T> proxy = new ObjectArrayProxy<>(
 			values.clone(), 0, values.length
 		);
-		return new ArrayProxyMSeq<>(proxy);
+		return new ObjectArrayProxyMSeq<>(proxy);
 	}
 
 	/**
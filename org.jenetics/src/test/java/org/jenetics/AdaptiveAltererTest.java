@@ -0,0 +1,170 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.IDoubleSeq;
+import org.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class AdaptiveAltererTest {
+
+	private static final Function<Genotype<DoubleGene>, Double> FF =
+		gt -> gt.getGene().getAllele();
+
+	private static Phenotype<DoubleGene, Double> phenotype(final double value) {
+		return Phenotype.of(
+			Genotype.of(DoubleChromosome.of(DoubleGene.of(value, 0, 10))),
+			1,
+			FF
+		);
+	}
+
+	// Alterer which replaces every phenotype by one with the given fitness.
+	private static Alterer<DoubleGene, Double> alterer(final double value) {
+		return (population, generation) -> {
+			for (int i = 0; i < population.size(); ++i) {
+				population.set(i, phenotype(value));
+			}
+			return population.size();
+		};
+	}
+
+	private static Population<DoubleGene, Double> population(final int size) {
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < size; ++i) {
+			population.add(phenotype(5));
+		}
+		return population;
+	}
+
+	private static IDoubleSeq adapt(
+		final AdaptiveAlterer<DoubleGene, Double> alterer,
+		final int generations
+	) {
+		for (int i = 0; i < generations; ++i) {
+			final Population<DoubleGene, Double> population = population(100);
+			population.forEach(Phenotype::evaluate);
+			alterer.alter(population, i);
+			population.forEach(Phenotype::evaluate);
+		}
+
+		return alterer.getProbabilities();
+	}
+
+	@Test
+	public void initialProbabilities() {
+		final AdaptiveAlterer<DoubleGene, Double> alterer = AdaptiveAlterer.of(
+			Optimize.MAXIMUM, alterer(1), alterer(2), alterer(3), alterer(4)
+		);
+
+		Assert.assertEquals(
+			alterer.getProbabilities(),
+			IDoubleSeq.of(0.25, 0.25, 0.25, 0.25)
+		);
+	}
+
+	@Test
+	public void adaptMaximum() {
+		final AdaptiveAlterer<DoubleGene, Double> alterer = AdaptiveAlterer.of(
+			Optimize.MAXIMUM, alterer(1), alterer(9), alterer(3)
+		);
+
+		final IDoubleSeq probabilities = adapt(alterer, 20);
+		Assert.assertEquals(probabilities.get(0), 1.0/6.0, 0.001);
+		Assert.assertEquals(probabilities.get(1), 2.0/3.0, 0.001);
+		Assert.assertEquals(probabilities.get(2), 1.0/6.0, 0.001);
+	}
+
+	@Test
+	public void adaptMinimum() {
+		final AdaptiveAlterer<DoubleGene, Double> alterer = AdaptiveAlterer.of(
+			Optimize.MINIMUM, alterer(9), alterer(1)
+		);
+
+		final IDoubleSeq probabilities = adapt(alterer, 20);
+		Assert.assertEquals(probabilities.get(0), 0.25, 0.001);
+		Assert.assertEquals(probabilities.get(1), 0.75, 0.001);
+	}
+
+	@Test
+	public void unevaluatedOffspring() {
+		final AdaptiveAlterer<DoubleGene, Double> alterer = AdaptiveAlterer.of(
+			Optimize.MAXIMUM, alterer(1), alterer(9)
+		);
+
+		for (int i = 0; i < 10; ++i) {
+			alterer.alter(population(100), i);
+		}
+
+		Assert.assertEquals(alterer.getProbabilities(), IDoubleSeq.of(0.5, 0.5));
+	}
+
+	@Test
+	public void alterCount() {
+		final AdaptiveAlterer<DoubleGene, Double> alterer = AdaptiveAlterer.of(
+			Optimize.MAXIMUM, alterer(1), alterer(9), new Mutator<>(0)
+		);
+
+		final Population<DoubleGene, Double> population = population(100);
+		final int count = alterer.alter(population, 1);
+
+		Assert.assertEquals(population.size(), 100);
+		Assert.assertEquals(
+			population.stream().filter(pt -> pt.getFitness() != 5).count(),
+			count
+		);
+	}
+
+	@Test
+	public void equality() {
+		Assert.assertEquals(
+			AdaptiveAlterer.of(Optimize.MAXIMUM, new Mutator<DoubleGene, Double>()),
+			AdaptiveAlterer.of(Optimize.MAXIMUM, new Mutator<DoubleGene, Double>())
+		);
+		Assert.assertNotEquals(
+			AdaptiveAlterer.of(Optimize.MAXIMUM, new Mutator<DoubleGene, Double>()),
+			AdaptiveAlterer.of(Optimize.MINIMUM, new Mutator<DoubleGene, Double>())
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptyAlterers() {
+		AdaptiveAlterer.<DoubleGene, Double>of(Optimize.MAXIMUM);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMinProbability() {
+		new AdaptiveAlterer<>(
+			Optimize.MAXIMUM,
+			ISeq.of(new Mutator<DoubleGene, Double>(), new SwapMutator<>()),
+			0.6,
+			AdaptiveAlterer.DEFAULT_RATE,
+			AdaptiveAlterer.DEFAULT_RATE
+		);
+	}
+
+}
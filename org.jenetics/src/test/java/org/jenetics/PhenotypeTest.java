@@ -23,7 +23,12 @@ import static java.lang.Math.sin;
 import static java.lang.Math.toRadians;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
 
 import org.jenetics.util.Factory;
 import org.jenetics.util.ObjectTester;
@@ -49,4 +54,46 @@ public class PhenotypeTest extends ObjectTester<Phenotype<DoubleGene, Double>> {
 		return () -> Phenotype.of(_genotype.newInstance(), 0, _ff).evaluate();
 	}
 
+	@Test
+	public void evaluate() {
+		final AtomicInteger count = new AtomicInteger();
+		final Phenotype<DoubleGene, Double> pt = Phenotype.of(
+			_genotype.newInstance(),
+			0,
+			gt -> {
+				count.incrementAndGet();
+				return _ff.apply(gt);
+			}
+		);
+		Assert.assertFalse(pt.isEvaluated());
+		Assert.assertEquals(count.get(), 0);
+
+		IntStream.range(0, 100).parallel().forEach(i -> pt.getFitness());
+		Assert.assertTrue(pt.isEvaluated());
+		Assert.assertEquals(count.get(), 1);
+		Assert.assertEquals(pt.getRawFitness(), pt.getFitness());
+	}
+
+	@Test
+	public void cancel() {
+		final Phenotype<DoubleGene, Double> pt =
+			Phenotype.of(_genotype.newInstance(), 3, _ff);
+		final Phenotype<DoubleGene, Double> cancelled = pt.cancel(gt -> -1.0);
+
+		Assert.assertFalse(pt.isCancelled());
+		Assert.assertTrue(cancelled.isCancelled());
+		Assert.assertTrue(cancelled.isEvaluated());
+		Assert.assertEquals(cancelled.getFitness(), -1.0);
+		Assert.assertEquals(cancelled.getGeneration(), 3);
+		Assert.assertSame(cancelled.getFitnessFunction(), _ff);
+
+		final Phenotype<DoubleGene, Double> child =
+			cancelled.newInstance(_genotype.newInstance());
+		Assert.assertFalse(child.isCancelled());
+		Assert.assertEquals(
+			child.getFitness(),
+			_ff.apply(child.getGenotype())
+		);
+	}
+
 }
@@ -21,7 +21,9 @@ package org.jenetics;
 
 import java.io.Serializable;
 import java.util.Random;
+import java.util.Spliterator;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -91,4 +93,41 @@ public class PopulationTest
 		}
 	}
 
+	@Test
+	public void parallelStream() {
+		final Population<DoubleGene, Double> population = factory().newInstance();
+
+		final double[] expected = population.stream()
+			.mapToDouble(pt -> FF.apply(pt.getGenotype()))
+			.toArray();
+		final double[] fitness = population.parallelStream()
+			.mapToDouble(Phenotype::getFitness)
+			.toArray();
+
+		Assert.assertEquals(fitness, expected);
+		Assert.assertTrue(population.stream().allMatch(Phenotype::isEvaluated));
+	}
+
+	@Test
+	public void parallelStreamSnapshot() {
+		final Population<DoubleGene, Double> population = factory().newInstance();
+		final Stream<Phenotype<DoubleGene, Double>> stream =
+			population.parallelStream();
+		population.clear();
+
+		Assert.assertEquals(stream.count(), 100);
+		Assert.assertTrue(population.isEmpty());
+	}
+
+	@Test
+	public void spliterator() {
+		final Population<DoubleGene, Double> population = factory().newInstance();
+		final Spliterator<Phenotype<DoubleGene, Double>> it =
+			population.spliterator();
+
+		Assert.assertTrue(it.hasCharacteristics(Spliterator.ORDERED));
+		Assert.assertTrue(it.hasCharacteristics(Spliterator.SUBSIZED));
+		Assert.assertEquals(it.trySplit().estimateSize(), 50);
+	}
+
 }
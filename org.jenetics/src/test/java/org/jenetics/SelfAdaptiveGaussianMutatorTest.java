@@ -0,0 +1,113 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.IDoubleSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class SelfAdaptiveGaussianMutatorTest extends MutatorTestBase {
+
+	@Override
+	public Alterer<DoubleGene, Double> newAlterer(double p) {
+		return new SelfAdaptiveGaussianMutator<>(p);
+	}
+
+	private static Population<DoubleGene, Double> population(final int size) {
+		final Genotype<DoubleGene> genotype = Genotype.of(
+			SigmaDoubleChromosome.of(0, 8, 10)
+		);
+
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < size; ++i) {
+			population.add(Phenotype.of(genotype.newInstance(), 1, gt -> 1.0));
+		}
+		return population;
+	}
+
+	private static IDoubleSeq sigmas(final Phenotype<DoubleGene, Double> pt) {
+		return ((SigmaDoubleChromosome)pt.getGenotype().getChromosome()).getSigmas();
+	}
+
+	@Test
+	public void logNormalSigmas() {
+		final Population<DoubleGene, Double> population = population(10);
+		new SelfAdaptiveGaussianMutator<Double>(1.0)
+			.alter(population, 2);
+
+		for (Phenotype<DoubleGene, Double> pt : population) {
+			final IDoubleSeq sigmas = sigmas(pt);
+			Assert.assertTrue(sigmas.forAll(s -> s > 0));
+			Assert.assertTrue(sigmas.forAll(s -> s != 2.0));
+		}
+	}
+
+	@Test
+	public void convertChromosome() {
+		final Population<DoubleGene, Double> population =
+			TestUtils.newDoubleGenePopulation(5, 2, 10);
+		new SelfAdaptiveGaussianMutator<Double>(1.0)
+			.alter(population, 2);
+
+		for (Phenotype<DoubleGene, Double> pt : population) {
+			for (Chromosome<DoubleGene> chromosome : pt.getGenotype()) {
+				Assert.assertTrue(chromosome instanceof SigmaDoubleChromosome);
+			}
+		}
+	}
+
+	@Test
+	public void successRule() {
+		final SelfAdaptiveGaussianMutator<Double> mutator =
+			new SelfAdaptiveGaussianMutator<>(1.0, Optimize.MAXIMUM);
+
+		// No success rate available in the first generation.
+		final Population<DoubleGene, Double> population = population(10);
+		population.forEach(Phenotype::evaluate);
+		mutator.alter(population, 2);
+		for (Phenotype<DoubleGene, Double> pt : population) {
+			Assert.assertTrue(sigmas(pt).forAll(s -> s == 2.0));
+		}
+
+		// None of the offspring is better than its parent.
+		population.forEach(Phenotype::evaluate);
+		mutator.alter(population, 3);
+		for (Phenotype<DoubleGene, Double> pt : population) {
+			Assert.assertTrue(sigmas(pt).forAll(s -> Math.abs(s - 2.0*0.817) < 1e-12));
+		}
+	}
+
+	@Test
+	public void equality() {
+		Assert.assertEquals(
+			new SelfAdaptiveGaussianMutator<Double>(0.5, Optimize.MINIMUM),
+			new SelfAdaptiveGaussianMutator<Double>(0.5, Optimize.MINIMUM)
+		);
+		Assert.assertNotEquals(
+			new SelfAdaptiveGaussianMutator<Double>(0.5, Optimize.MINIMUM),
+			new SelfAdaptiveGaussianMutator<Double>(0.5)
+		);
+	}
+
+}
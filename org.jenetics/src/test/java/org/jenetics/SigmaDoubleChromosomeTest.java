@@ -0,0 +1,147 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.IDoubleSeq;
+import org.jenetics.util.IO;
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class SigmaDoubleChromosomeTest
+	extends NumericChromosomeTester<Double, DoubleGene>
+{
+
+	private final SigmaDoubleChromosome _factory =
+		SigmaDoubleChromosome.of(0.0, 100.0, 500);
+
+	@Override
+	protected SigmaDoubleChromosome factory() {
+		return _factory;
+	}
+
+	@Test
+	public void defaultSigmas() {
+		final SigmaDoubleChromosome chromosome = SigmaDoubleChromosome.of(0, 8, 10);
+		for (int i = 0; i < chromosome.length(); ++i) {
+			Assert.assertEquals(chromosome.getSigma(i), 2.0);
+		}
+
+		final SigmaDoubleChromosome converted =
+			SigmaDoubleChromosome.of(DoubleChromosome.of(-4, 4, 10));
+		Assert.assertEquals(converted.getSigmas(), chromosome.getSigmas());
+		Assert.assertSame(SigmaDoubleChromosome.of(converted), converted);
+	}
+
+	@Test
+	public void newInstanceKeepsSigmas() {
+		final SigmaDoubleChromosome chromosome = SigmaDoubleChromosome.of(
+			DoubleChromosome.of(0, 1, 3).toSeq(), 1, 2, 3
+		);
+
+		Assert.assertEquals(chromosome.getSigmas(), IDoubleSeq.of(1, 2, 3));
+		Assert.assertEquals(
+			chromosome.newInstance().getSigmas(),
+			chromosome.getSigmas()
+		);
+
+		final MSeq<DoubleGene> genes = chromosome.toSeq().copy();
+		genes.swap(0, 2);
+		Assert.assertEquals(
+			chromosome.newInstance(genes.toISeq()).getSigmas(),
+			chromosome.getSigmas()
+		);
+	}
+
+	@Test
+	public void crossoverKeepsSigmasWithGenes() {
+		final SigmaDoubleChromosome ch1 = SigmaDoubleChromosome.of(0, 1, 20, 1);
+		final SigmaDoubleChromosome ch2 = SigmaDoubleChromosome.of(0, 1, 20, 2);
+
+		final Population<DoubleGene, Double> population = new Population<>();
+		population.add(Phenotype.of(Genotype.of(ch1), 0, gt -> 0.0));
+		population.add(Phenotype.of(Genotype.of(ch2), 0, gt -> 0.0));
+
+		new SinglePointCrossover<DoubleGene, Double>(1).alter(population, 1);
+
+		int exchanged = 0;
+		for (Phenotype<DoubleGene, Double> pt : population) {
+			final SigmaDoubleChromosome ch =
+				(SigmaDoubleChromosome)pt.getGenotype().getChromosome();
+			for (int i = 0; i < ch.length(); ++i) {
+				final boolean first = ch.getGene(i) == ch1.getGene(i);
+				Assert.assertEquals(ch.getSigma(i), first ? 1.0 : 2.0);
+				exchanged += first ? 0 : 1;
+			}
+		}
+		Assert.assertEquals(exchanged, 20);
+	}
+
+	@Test
+	public void jaxbMarshalling() throws Exception {
+		final Genotype<DoubleGene> genotype = Genotype.of(SigmaDoubleChromosome.of(
+			DoubleChromosome.of(0, 1, 5).toSeq(), 1, 2, 3, 4, 5
+		));
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.jaxb.write(genotype, out);
+		final Object read = IO.jaxb.read(
+			new ByteArrayInputStream(out.toByteArray())
+		);
+
+		Assert.assertEquals(read, genotype);
+		Assert.assertTrue(
+			((Genotype<?>)read).getChromosome() instanceof SigmaDoubleChromosome
+		);
+	}
+
+	@Test
+	public void sigmasEquality() {
+		final ISeq<DoubleGene> genes = DoubleChromosome.of(0, 1, 3).toSeq();
+
+		Assert.assertEquals(
+			SigmaDoubleChromosome.of(genes, 1, 2, 3),
+			SigmaDoubleChromosome.of(genes, 1, 2, 3)
+		);
+		Assert.assertNotEquals(
+			SigmaDoubleChromosome.of(genes, 1, 2, 3),
+			SigmaDoubleChromosome.of(genes, 1, 2, 4)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void sigmasLength() {
+		SigmaDoubleChromosome.of(DoubleChromosome.of(0, 1, 3).toSeq(), 1, 2);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeSigma() {
+		SigmaDoubleChromosome.of(DoubleChromosome.of(0, 1, 3).toSeq(), 1, -2, 3);
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.internal.util.Concurrency;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class CMAESEngineTest {
+
+	private static double sphere(final Genotype<DoubleGene> gt) {
+		double sum = 0;
+		for (DoubleGene gene : gt.getChromosome()) {
+			sum += gene.doubleValue()*gene.doubleValue();
+		}
+		return sum;
+	}
+
+	@Test
+	public void minimizeSphere() {
+		final CMAESEngine<Double> engine = CMAESEngine
+			.builder(CMAESEngineTest::sphere, DoubleChromosome.of(-5, 5, 10))
+			.optimize(Optimize.MINIMUM)
+			.build();
+
+		final Phenotype<DoubleGene, Double> best = engine.stream()
+			.limit(300)
+			.collect(EvolutionResult.toBestPhenotype());
+
+		Assert.assertTrue(best.getFitness() < 1e-10, "Fitness: " + best.getFitness());
+	}
+
+	@Test
+	public void maximize() {
+		final CMAESEngine<Double> engine = CMAESEngine
+			.builder(gt -> -sphere(gt), DoubleChromosome.of(-5, 5, 5))
+			.build();
+
+		final Phenotype<DoubleGene, Double> best = engine.stream()
+			.limit(200)
+			.collect(EvolutionResult.toBestPhenotype());
+
+		Assert.assertTrue(best.getFitness() > -1e-10, "Fitness: " + best.getFitness());
+	}
+
+	@Test
+	public void geneBounds() {
+		final CMAESEngine<Double> engine = CMAESEngine
+			.builder(
+				gt -> gt.getGene().doubleValue(),
+				DoubleChromosome.of(0, 1, 2),
+				DoubleChromosome.of(10, 20, 3))
+			.sigma(1.0)
+			.build();
+
+		engine.stream()
+			.limit(50)
+			.flatMap(r -> r.getPopulation().stream())
+			.forEach(pt -> {
+				Assert.assertTrue(pt.getGenotype().isValid());
+				Assert.assertEquals(pt.getGenotype().length(), 2);
+				Assert.assertEquals(pt.getGenotype().getNumberOfGenes(), 5);
+			});
+	}
+
+	@Test
+	public void generations() {
+		final CMAESEngine<Double> engine = CMAESEngine
+			.builder(CMAESEngineTest::sphere, DoubleChromosome.of(-5, 5, 10))
+			.build();
+
+		final long[] generations = engine.stream()
+			.limit(limit.byFixedGeneration(7))
+			.mapToLong(EvolutionResult::getGeneration)
+			.toArray();
+
+		Assert.assertEquals(generations, new long[]{1, 2, 3, 4, 5, 6, 7});
+	}
+
+	@Test
+	public void populationSize() {
+		final AtomicInteger evaluations = new AtomicInteger();
+		final CMAESEngine<Double> engine = CMAESEngine
+			.builder(
+				gt -> {
+					evaluations.incrementAndGet();
+					return sphere(gt);
+				},
+				DoubleChromosome.of(-5, 5, 10))
+			.executor(Concurrency.SERIAL_EXECUTOR)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.iterator().next();
+
+		// Default population size: 4 + floor(3*ln(10)).
+		Assert.assertEquals(result.getPopulation().size(), 10);
+		Assert.assertEquals(result.getEvaluationCount(), 10);
+		Assert.assertEquals(evaluations.get(), 10);
+
+		Assert.assertEquals(
+			CMAESEngine
+				.builder(CMAESEngineTest::sphere, DoubleChromosome.of(-5, 5, 10))
+				.populationSize(25)
+				.build()
+				.stream()
+				.limit(1)
+				.findFirst().get()
+				.getPopulation().size(),
+			25
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidPopulationSize() {
+		CMAESEngine.builder(CMAESEngineTest::sphere, DoubleChromosome.of(-5, 5, 10))
+			.populationSize(1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSigma() {
+		CMAESEngine.builder(CMAESEngineTest::sphere, DoubleChromosome.of(-5, 5, 10))
+			.sigma(0);
+	}
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.LCG64ShiftRandom;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class CheckpointTest {
+
+	private static Engine<DoubleGene, Double> engine() {
+		return Engine
+			.builder(
+				gt -> gt.getGene().getAllele(),
+				DoubleChromosome.of(0, 1, 5)
+			)
+			.populationSize(50)
+			.executor(Runnable::run)
+			.build();
+	}
+
+	@Test
+	public void writeEveryGenerations() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".checkpoint");
+		try {
+			try (Checkpoint.Writer<DoubleGene, Double> writer =
+					Checkpoint.writer(path, 10))
+			{
+				engine().stream()
+					.limit(25)
+					.peek(writer)
+					.forEach(r -> {});
+			}
+
+			final Checkpoint<DoubleGene, Double> checkpoint = Checkpoint.read(path);
+			Assert.assertEquals(checkpoint.getGeneration(), 22);
+			Assert.assertEquals(checkpoint.size(), 50);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void writeEveryInterval() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".checkpoint");
+		try {
+			try (Checkpoint.Writer<DoubleGene, Double> writer =
+					Checkpoint.writer(path, Duration.ZERO))
+			{
+				engine().stream()
+					.limit(15)
+					.peek(writer)
+					.forEach(r -> {});
+			}
+
+			final Checkpoint<DoubleGene, Double> checkpoint = Checkpoint.read(path);
+			Assert.assertEquals(checkpoint.getGeneration(), 16);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void resume() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".checkpoint");
+		try {
+			final EvolutionResult<DoubleGene, Double> expected = RandomRegistry.with(
+				new LCG64ShiftRandom.ThreadSafe(123),
+				r -> engine().stream()
+					.limit(20)
+					.reduce((a, b) -> b)
+					.get()
+			);
+
+			RandomRegistry.using(new LCG64ShiftRandom.ThreadSafe(123), r -> {
+				try (Checkpoint.Writer<DoubleGene, Double> writer =
+						Checkpoint.writer(path, 10))
+				{
+					engine().stream()
+						.limit(11)
+						.peek(writer)
+						.forEach(result -> {});
+				} catch (IOException e) {
+					throw new AssertionError(e);
+				}
+			});
+
+			final Checkpoint<DoubleGene, Double> checkpoint = Checkpoint.read(path);
+			Assert.assertEquals(checkpoint.getGeneration(), 12);
+			Assert.assertTrue(checkpoint.getRandom().isPresent());
+
+			final Engine<DoubleGene, Double> engine = engine();
+			final EvolutionStart<DoubleGene, Double> start =
+				checkpoint.toEvolutionStart(engine);
+
+			final EvolutionResult<DoubleGene, Double> result = RandomRegistry.with(
+				checkpoint.getRandom().get(),
+				r -> engine.stream(start.getPopulation(), start.getGeneration())
+					.limit(9)
+					.reduce((a, b) -> b)
+					.get()
+			);
+
+			Assert.assertEquals(result.getGeneration(), 20);
+			Assert.assertEquals(result.getPopulation(), expected.getPopulation());
+			Assert.assertEquals(result.getBestPhenotype(), expected.getBestPhenotype());
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void cancelledPhenotype() throws IOException {
+		final Engine<DoubleGene, Double> engine = engine();
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < 10; ++i) {
+			final Phenotype<DoubleGene, Double> pt = Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1, 5)), 1,
+				engine.getFitnessFunction(),
+				engine.getFitnessScaler()
+			);
+			population.add(i%2 == 0 ? pt.cancel(gt -> -1.0) : pt.evaluate());
+		}
+
+		final Path path = Files.createTempFile("jenetics-", ".checkpoint");
+		try {
+			Checkpoint.of(EvolutionResult.of(
+				Optimize.MAXIMUM, population,
+				1, 1, EvolutionDurations.ZERO, 0, 0, 0
+			)).write(path);
+
+			final Population<DoubleGene, Double> restored = Checkpoint
+				.<DoubleGene, Double>read(path)
+				.toEvolutionStart(engine)
+				.getPopulation();
+			for (int i = 0; i < restored.size(); ++i) {
+				Assert.assertEquals(restored.get(i).isCancelled(), i%2 == 0);
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void writeError() throws IOException {
+		final Path dir = Files.createTempDirectory("jenetics-");
+		try {
+			try (Checkpoint.Writer<DoubleGene, Double> writer =
+					Checkpoint.writer(dir.resolve("missing/checkpoint"), 1))
+			{
+				engine().stream()
+					.limit(5)
+					.peek(writer)
+					.forEach(r -> {});
+			}
+		} finally {
+			Files.deleteIfExists(dir);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidGenerations() {
+		Checkpoint.writer(Paths.get("checkpoint"), 0);
+	}
+
+}
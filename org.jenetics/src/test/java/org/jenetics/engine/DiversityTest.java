@@ -0,0 +1,346 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static org.jenetics.engine.Diversity.toDiversity;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.BitChromosome;
+import org.jenetics.BitGene;
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.EnumGene;
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.Mutator;
+import org.jenetics.Phenotype;
+import org.jenetics.PermutationChromosome;
+import org.jenetics.stat.DoubleMomentStatistics;
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class DiversityTest {
+
+	private static ISeq<Genotype<BitGene>> bits(final int size) {
+		return ISeq.of(Genotype.of(BitChromosome.of(30, 0.3))::newInstance, size);
+	}
+
+	private static ISeq<Genotype<DoubleGene>> doubles(final int size) {
+		return ISeq.of(Genotype.of(DoubleChromosome.of(0, 10, 5))::newInstance, size);
+	}
+
+	private static ISeq<Genotype<EnumGene<Integer>>> enums(final int size) {
+		return ISeq.of(Genotype.of(PermutationChromosome.ofInteger(6))::newInstance, size);
+	}
+
+	private static <G extends Gene<?, G>>
+	Diversity diversity(final ISeq<Genotype<G>> genotypes) {
+		return genotypes.stream().collect(toDiversity(Function.identity()));
+	}
+
+	@Test
+	public void hammingDistance() {
+		final ISeq<Genotype<BitGene>> genotypes = bits(100);
+
+		double distance = 0;
+		int pairs = 0;
+		for (int i = 0; i < genotypes.size(); ++i) {
+			for (int j = i + 1; j < genotypes.size(); ++j) {
+				final BitChromosome a = (BitChromosome)genotypes.get(i).getChromosome();
+				final BitChromosome b = (BitChromosome)genotypes.get(j).getChromosome();
+				for (int k = 0; k < a.length(); ++k) {
+					distance += a.get(k) != b.get(k) ? 1 : 0;
+				}
+				++pairs;
+			}
+		}
+
+		final Diversity diversity = diversity(genotypes);
+		Assert.assertEquals(diversity.getCount(), 100);
+		Assert.assertEquals(diversity.getHammingDistance(), distance/pairs, 0.000001);
+		Assert.assertTrue(Double.isNaN(diversity.getGeneVariance()));
+		Assert.assertTrue(Double.isNaN(diversity.getAlleleEntropy()));
+	}
+
+	@Test
+	public void geneVariance() {
+		final ISeq<Genotype<DoubleGene>> genotypes = doubles(100);
+
+		final DoubleMomentStatistics variance = new DoubleMomentStatistics();
+		for (int i = 0; i < 5; ++i) {
+			final int index = i;
+			variance.accept(genotypes.stream()
+				.mapToDouble(gt -> gt.getChromosome().getGene(index).doubleValue())
+				.collect(
+					DoubleMomentStatistics::new,
+					DoubleMomentStatistics::accept,
+					DoubleMomentStatistics::combine)
+				.getVariance());
+		}
+
+		final Diversity diversity = diversity(genotypes);
+		Assert.assertEquals(diversity.getGeneVariance(), variance.getMean(), 0.000001);
+		Assert.assertTrue(Double.isNaN(diversity.getHammingDistance()));
+	}
+
+	@Test
+	public void alleleEntropy() {
+		final ISeq<Genotype<EnumGene<Integer>>> genotypes = enums(200);
+
+		double entropy = 0;
+		for (int i = 0; i < 6; ++i) {
+			final Map<Integer, Integer> counts = new HashMap<>();
+			for (Genotype<EnumGene<Integer>> gt : genotypes) {
+				counts.merge(gt.getChromosome().getGene(i).getAllele(), 1, Integer::sum);
+			}
+			for (int count : counts.values()) {
+				final double p = count/200.0;
+				entropy -= p*Math.log(p)/Math.log(2);
+			}
+		}
+
+		final Diversity diversity = diversity(genotypes);
+		Assert.assertEquals(diversity.getAlleleEntropy(), entropy/6, 0.000001);
+
+		final Diversity same = ISeq.of(() -> genotypes.get(0), 10).stream()
+			.collect(toDiversity(Function.identity()));
+		Assert.assertEquals(same.getAlleleEntropy(), 0.0);
+	}
+
+	@Test
+	public void removeAndAdd() {
+		final ISeq<Genotype<DoubleGene>> genotypes = doubles(100);
+		final ISeq<Genotype<DoubleGene>> replacements = doubles(30);
+
+		final Diversity diversity = diversity(genotypes);
+		for (int i = 0; i < replacements.size(); ++i) {
+			diversity.remove(genotypes.get(i));
+			diversity.accept(replacements.get(i));
+		}
+
+		final Diversity expected = diversity(replacements)
+			.combine(diversity(genotypes.subSeq(replacements.size())));
+		Assert.assertEquals(diversity.getCount(), expected.getCount());
+		Assert.assertEquals(
+			diversity.getGeneVariance(),
+			expected.getGeneVariance(),
+			0.000001
+		);
+	}
+
+	@Test
+	public void geneVarianceWithOffset() {
+		final Genotype<DoubleGene> factory =
+			Genotype.of(DoubleChromosome.of(1.0E9, 1.0E9 + 1.0, 5));
+		final ISeq<Genotype<DoubleGene>> replacements =
+			ISeq.of(factory::newInstance, 10_000);
+
+		final ISeq<Genotype<DoubleGene>> genotypes =
+			ISeq.of(factory::newInstance, 100);
+		final Diversity diversity = diversity(genotypes);
+		final MSeq<Genotype<DoubleGene>> population = genotypes.copy();
+		for (int i = 0; i < replacements.size(); ++i) {
+			final int index = i%population.size();
+			diversity.remove(population.get(index));
+			diversity.accept(replacements.get(i));
+			population.set(index, replacements.get(i));
+		}
+
+		final Diversity expected = diversity(population.toISeq());
+		Assert.assertEquals(diversity.getCount(), expected.getCount());
+		Assert.assertEquals(
+			diversity.getGeneVariance(),
+			expected.getGeneVariance(),
+			expected.getGeneVariance()*0.0001
+		);
+	}
+
+	@Test
+	public void parallelGeneVariance() {
+		final ISeq<Genotype<DoubleGene>> genotypes = doubles(1_000);
+
+		final Diversity serial = diversity(genotypes);
+		final Diversity parallel = genotypes.stream().parallel()
+			.collect(toDiversity(Function.identity()));
+
+		Assert.assertEquals(parallel.getCount(), serial.getCount());
+		Assert.assertEquals(
+			parallel.getGeneVariance(),
+			serial.getGeneVariance(),
+			0.000001
+		);
+	}
+
+	@Test
+	public void parallelCollect() {
+		final ISeq<Genotype<BitGene>> genotypes = bits(1_000);
+
+		final Diversity serial = diversity(genotypes);
+		final Diversity parallel = genotypes.stream().parallel()
+			.collect(toDiversity(Function.identity()));
+
+		Assert.assertEquals(parallel.getCount(), serial.getCount());
+		Assert.assertEquals(
+			parallel.getHammingDistance(),
+			serial.getHammingDistance(),
+			0.000001
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentStructure() {
+		final Diversity diversity = new Diversity();
+		diversity.accept(Genotype.of(BitChromosome.of(10)));
+		diversity.accept(Genotype.of(BitChromosome.of(11)));
+	}
+
+	@Test
+	public void differentGeneType() {
+		final Diversity diversity = new Diversity();
+		diversity.accept(Genotype.of(BitChromosome.of(5)));
+		try {
+			diversity.accept(Genotype.of(DoubleChromosome.of(0, 1, 5)));
+			Assert.fail("IllegalArgumentException expected.");
+		} catch (IllegalArgumentException expected) {
+			// The aggregates must not have been changed.
+			Assert.assertEquals(diversity.getCount(), 1);
+		}
+	}
+
+	// Both genotypes have 18 genes, but different allele sets per position.
+	private static Genotype<EnumGene<Integer>> permutations(final int a, final int b) {
+		return Genotype.of(
+			PermutationChromosome.ofInteger(a),
+			PermutationChromosome.ofInteger(b)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentAlleles() {
+		final Diversity diversity = new Diversity();
+		diversity.accept(permutations(6, 12));
+		diversity.accept(permutations(12, 6));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void combineDifferentAlleles() {
+		final Diversity diversity = new Diversity();
+		diversity.accept(permutations(6, 12));
+
+		final Diversity other = new Diversity();
+		other.accept(permutations(12, 6));
+
+		diversity.combine(other);
+	}
+
+	@Test(dataProvider = "mutationProbabilities")
+	public void evolutionStatistics(final Double probability) {
+		final Engine<BitGene, Integer> engine = Engine
+			.builder(
+				gt -> ((BitChromosome)gt.getChromosome()).bitCount(),
+				BitChromosome.of(50, 0.5))
+			.alterers(new Mutator<>(probability))
+			.populationSize(100)
+			.build();
+
+		final EvolutionStatistics<Integer, ?> statistics =
+			EvolutionStatistics.ofNumber(true);
+
+		engine.stream()
+			.limit(20)
+			.peek(statistics)
+			.forEach(result -> {
+				final Diversity expected = result.getPopulation().stream()
+					.collect(toDiversity(Phenotype::getGenotype));
+
+				Assert.assertEquals(
+					statistics.getDiversity().get().getCount(),
+					expected.getCount()
+				);
+				Assert.assertEquals(
+					statistics.getDiversity().get().getHammingDistance(),
+					expected.getHammingDistance(),
+					0.000001
+				);
+			});
+	}
+
+	@Test
+	public void evolutionStatisticsDiversityCopy() {
+		final Engine<BitGene, Integer> engine = Engine
+			.builder(
+				gt -> ((BitChromosome)gt.getChromosome()).bitCount(),
+				BitChromosome.of(50, 0.5))
+			.populationSize(100)
+			.build();
+
+		final EvolutionStatistics<Integer, ?> statistics =
+			EvolutionStatistics.ofNumber(true);
+
+		final Iterator<EvolutionResult<BitGene, Integer>> results =
+			engine.stream().peek(statistics).iterator();
+		results.next();
+
+		final Diversity diversity = statistics.getDiversity().get();
+		diversity.accept(Genotype.of(BitChromosome.of(50, 0.5)));
+		Assert.assertEquals(diversity.getCount(), 101);
+		Assert.assertEquals(statistics.getDiversity().get().getCount(), 100);
+
+		results.next();
+		Assert.assertEquals(diversity.getCount(), 101);
+		Assert.assertEquals(statistics.getDiversity().get().getCount(), 100);
+	}
+
+	@Test
+	public void evolutionStatisticsWithoutDiversity() {
+		final Engine<BitGene, Integer> engine = Engine
+			.builder(
+				gt -> ((BitChromosome)gt.getChromosome()).bitCount(),
+				BitChromosome.of(50, 0.5))
+			.populationSize(100)
+			.build();
+
+		final EvolutionStatistics<Integer, ?> statistics =
+			EvolutionStatistics.ofNumber();
+
+		engine.stream()
+			.limit(5)
+			.forEach(statistics);
+
+		Assert.assertFalse(statistics.getDiversity().isPresent());
+	}
+
+	@DataProvider(name = "mutationProbabilities")
+	public Object[][] mutationProbabilities() {
+		return new Object[][] {{0.0001}, {0.01}, {0.5}};
+	}
+
+}
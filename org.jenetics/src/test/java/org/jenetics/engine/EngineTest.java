@@ -19,6 +19,17 @@
  */
 package org.jenetics.engine;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.LongStream;
 
 import org.testng.Assert;
@@ -27,6 +38,10 @@ import org.testng.annotations.Test;
 
 import org.jenetics.DoubleChromosome;
 import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Mutator;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
@@ -100,4 +115,404 @@ public class EngineTest {
 		Assert.assertEquals(result.getInvalidCount(), populationSize);
 	}
 
+	@Test
+	public void evaluationCount() {
+		final int populationSize = 100;
+		final AtomicInteger evaluations = new AtomicInteger();
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				a -> {
+					evaluations.incrementAndGet();
+					return a.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.populationSize(populationSize)
+			.build();
+
+		final AtomicLong count = new AtomicLong();
+		engine.stream()
+			.limit(20)
+			.peek(r -> count.addAndGet(r.getEvaluationCount()))
+			.forEach(r -> Assert.assertTrue(
+				r.getEvaluationCount() <=
+					(r.getGeneration() == 1 ? 2 : 1)*populationSize
+			));
+
+		// The evaluations of the start population are counted too.
+		Assert.assertEquals(count.get(), evaluations.get());
+		Assert.assertTrue(count.get() < 21*populationSize);
+	}
+
+	@Test
+	public void evaluationTimes() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(50)
+			.build();
+
+		final EvolutionStatistics<Double, ?> statistics =
+			EvolutionStatistics.ofNumber();
+
+		final long evaluations = engine.stream()
+			.limit(10)
+			.peek(statistics)
+			.peek(r -> Assert.assertEquals(
+				r.getEvaluationTimes().getCount(),
+				r.getEvaluationCount()
+			))
+			.mapToLong(EvolutionResult::getEvaluationCount)
+			.sum();
+
+		Assert.assertEquals(
+			statistics.getIndividualEvaluationTime().getCount(),
+			evaluations
+		);
+		Assert.assertEquals(statistics.getGenerationEvaluationTime().getCount(), 10);
+	}
+
+	@Test
+	public void evaluationTimesImmutable() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(50)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(1)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		final long count = result.getEvaluationTimes().getCount();
+		result.getEvaluationTimes().accept(1_000);
+		Assert.assertEquals(result.getEvaluationTimes().getCount(), count);
+	}
+
+	@Test
+	public void evaluationCost() {
+		final int populationSize = 100;
+		final List<Double> evaluated =
+			Collections.synchronizedList(new ArrayList<>());
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				a -> {
+					evaluated.add(a.getGene().getAllele());
+					return a.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.evaluationCost(gt -> gt.getGene().getAllele())
+			.executor(Runnable::run)
+			.populationSize(populationSize)
+			.build();
+
+		engine.stream().limit(1).forEach(r -> {});
+
+		final List<Double> first = evaluated.subList(0, populationSize);
+		final List<Double> expected = new ArrayList<>(first);
+		expected.sort(Collections.reverseOrder());
+		Assert.assertEquals(first, expected);
+	}
+
+	@Test(timeOut = 10_000)
+	public void singleThreadExecutor() {
+		final ExecutorService executor = Executors.newFixedThreadPool(1);
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+				.executor(executor)
+				.populationSize(20)
+				.build();
+
+			final long generations = engine.stream()
+				.limit(10)
+				.count();
+			Assert.assertEquals(generations, 10);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void evaluationTimeout() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		final AtomicInteger interrupted = new AtomicInteger();
+
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					a -> {
+						final double value = a.getGene().getAllele();
+						if (value < 0.2) {
+							try {
+								Thread.sleep(60_000);
+							} catch (InterruptedException e) {
+								interrupted.incrementAndGet();
+							}
+						}
+						return value;
+					},
+					DoubleChromosome.of(0, 1))
+				.evaluationTimeout(Duration.ofMillis(50))
+				.timeoutFitness(gt -> -1.0)
+				.executor(executor)
+				.populationSize(20)
+				.build();
+
+			final long start = System.nanoTime();
+			final List<EvolutionResult<DoubleGene, Double>> results = new ArrayList<>();
+			engine.stream().limit(5).forEach(results::add);
+			final long duration = System.nanoTime() - start;
+
+			Assert.assertTrue(duration < Duration.ofSeconds(30).toNanos());
+			for (EvolutionResult<DoubleGene, Double> result : results) {
+				for (Phenotype<DoubleGene, Double> pt : result.getPopulation()) {
+					final double allele = pt.getGenotype().getGene().getAllele();
+					Assert.assertEquals(
+						pt.getFitness().doubleValue(),
+						allele < 0.2 ? -1.0 : allele
+					);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		Assert.assertTrue(interrupted.get() > 0);
+	}
+
+	@Test
+	public void generationTimeout() {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					a -> {
+						try {
+							Thread.sleep(60_000);
+						} catch (InterruptedException ignore) {
+						}
+						return a.getGene().getAllele();
+					},
+					DoubleChromosome.of(0, 1))
+				.generationTimeout(Duration.ofMillis(100))
+				.timeoutFitness(gt -> -1.0)
+				.executor(executor)
+				.populationSize(20)
+				.build();
+
+			final EvolutionResult<DoubleGene, Double> result = engine.stream()
+				.limit(3)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(result.getBestFitness(), -1.0);
+			Assert.assertTrue(result.getInvalidCount() > 0);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void evaluationTimeoutOffspring() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.evaluationTimeout(Duration.ofSeconds(10))
+			.timeoutFitness(gt -> -1.0)
+			.alterers(new Mutator<>(1.0))
+			.populationSize(20)
+			.build();
+
+		// Every individual of the start population has been timed out.
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < 20; ++i) {
+			population.add(Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1)),
+				1,
+				engine.getFitnessFunction(),
+				engine.getFitnessScaler()
+			).cancel(gt -> -1.0));
+		}
+
+		final EvolutionResult<DoubleGene, Double> result =
+			engine.evolve(population, 1);
+
+		Assert.assertTrue(result.getAlterCount() > 0);
+		Assert.assertTrue(result.getInvalidCount() > 0);
+		for (Phenotype<DoubleGene, Double> pt : result.getPopulation()) {
+			Assert.assertFalse(pt.isCancelled());
+			Assert.assertEquals(
+				pt.getFitness(),
+				pt.getGenotype().getGene().getAllele()
+			);
+		}
+	}
+
+	@Test
+	public void evaluationTimeoutKeepsStartPopulation() {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					a -> {
+						try {
+							Thread.sleep(60_000);
+						} catch (InterruptedException ignore) {
+						}
+						return a.getGene().getAllele();
+					},
+					DoubleChromosome.of(0, 1))
+				.evaluationTimeout(Duration.ofMillis(20))
+				.timeoutFitness(gt -> -1.0)
+				.executor(executor)
+				.populationSize(4)
+				.build();
+
+			final Population<DoubleGene, Double> population = new Population<>();
+			for (int i = 0; i < 4; ++i) {
+				population.add(Phenotype.of(
+					Genotype.of(DoubleChromosome.of(0, 1)),
+					1,
+					engine.getFitnessFunction(),
+					engine.getFitnessScaler()
+				));
+			}
+			final Population<DoubleGene, Double> copy = population.copy();
+
+			engine.evolve(population, 1);
+			for (int i = 0; i < population.size(); ++i) {
+				Assert.assertSame(population.get(i), copy.get(i));
+				Assert.assertFalse(population.get(i).isCancelled());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void evaluationAndGenerationTimeout() {
+		final Function<Genotype<DoubleGene>, Double> fallback = gt -> -1.0;
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.evaluationTimeout(Duration.ofSeconds(10))
+			.generationTimeout(Duration.ofSeconds(20))
+			.timeoutFitness(fallback)
+			.build();
+
+		Assert.assertEquals(engine.getEvaluationTimeout(), Duration.ofSeconds(10));
+		Assert.assertEquals(engine.getGenerationTimeout(), Duration.ofSeconds(20));
+
+		final Engine.Builder<DoubleGene, Double> builder = engine.builder();
+		Assert.assertEquals(builder.getEvaluationTimeout(), Duration.ofSeconds(10));
+		Assert.assertEquals(builder.getGenerationTimeout(), Duration.ofSeconds(20));
+		Assert.assertSame(builder.getTimeoutFitness(), fallback);
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void timeoutWithoutTimeoutFitness() {
+		Engine.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.evaluationTimeout(Duration.ofSeconds(10))
+			.build();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeEvaluationTimeout() {
+		Engine.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.evaluationTimeout(Duration.ofMillis(-1));
+	}
+
+	@Test
+	public void restartStreamGenerations() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.build();
+
+		final long[] generations = engine
+			.restartStream(() -> limit.byFixedGeneration(3))
+			.limit(7)
+			.mapToLong(EvolutionResult::getGeneration)
+			.toArray();
+
+		Assert.assertEquals(generations, new long[]{1, 2, 3, 1, 2, 3, 1});
+	}
+
+	@Test
+	public void restartStreamLimit() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.build();
+
+		final AtomicInteger count = new AtomicInteger();
+		final Phenotype<DoubleGene, Double> best = engine
+			.restartStream(() -> limit.bySteadyFitness(5))
+			.limit(limit.byFixedGeneration(50))
+			.peek(r -> count.incrementAndGet())
+			.collect(EvolutionResult.toBestPhenotype());
+
+		Assert.assertNotNull(best);
+		Assert.assertEquals(count.get(), 50);
+	}
+
+	@Test
+	public void parallelRestartStream() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.build();
+
+		final AtomicInteger count = new AtomicInteger();
+		final Phenotype<DoubleGene, Double> best = engine
+			.restartStream(() -> limit.bySteadyFitness(10))
+			.parallel()
+			.limit(200)
+			.peek(r -> count.incrementAndGet())
+			.collect(EvolutionResult.toBestPhenotype());
+
+		Assert.assertNotNull(best);
+		Assert.assertEquals(count.get(), 200);
+		Assert.assertTrue(best.getFitness() > 0.9);
+	}
+
+	@Test
+	public void limitSupplierPerSplit() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.build();
+
+		// Stateful, not thread-safe, predicate which stops after 3 results.
+		final Spliterator<EvolutionResult<DoubleGene, Double>> spliterator = engine
+			.restartStream()
+			.limit(() -> new Predicate<Object>() {
+				private int _count = 0;
+				@Override
+				public boolean test(final Object result) {
+					return ++_count < 3;
+				}
+			})
+			.spliterator();
+		final Spliterator<EvolutionResult<DoubleGene, Double>> split =
+			spliterator.trySplit();
+
+		final AtomicInteger count = new AtomicInteger();
+		spliterator.forEachRemaining(r -> count.incrementAndGet());
+		Assert.assertEquals(count.get(), 3);
+
+		count.set(0);
+		split.forEachRemaining(r -> count.incrementAndGet());
+		Assert.assertEquals(count.get(), 3);
+	}
+
+	@Test
+	public void streamSplit() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.build();
+
+		Assert.assertNull(engine.stream().spliterator().trySplit());
+		Assert.assertNotNull(engine.restartStream().spliterator().trySplit());
+	}
+
 }
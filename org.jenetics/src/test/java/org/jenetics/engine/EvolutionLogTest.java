@@ -0,0 +1,248 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class EvolutionLogTest {
+
+	private static final Engine<DoubleGene, Double> ENGINE = Engine
+		.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1, 3))
+		.populationSize(20)
+		.build();
+
+	private static List<EvolutionResult<DoubleGene, Double>> evolve(
+		final EvolutionLog.Writer<DoubleGene, Double> log,
+		final int generations
+	) {
+		return ENGINE.stream()
+			.limit(generations)
+			.peek(log)
+			.collect(toList());
+	}
+
+	private static List<EvolutionLog.Entry<DoubleGene, Double>> read(final Path path)
+		throws IOException
+	{
+		try (Stream<EvolutionLog.Entry<DoubleGene, Double>> entries =
+				EvolutionLog.read(path))
+		{
+			return entries.collect(toList());
+		}
+	}
+
+	@Test
+	public void writeRead() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".log");
+		try {
+			final List<EvolutionResult<DoubleGene, Double>> results;
+			try (EvolutionLog.Writer<DoubleGene, Double> log =
+					EvolutionLog.writer(path, false, 7))
+			{
+				results = evolve(log, 100);
+			}
+
+			final List<EvolutionLog.Entry<DoubleGene, Double>> entries = read(path);
+			Assert.assertEquals(entries.size(), results.size());
+			for (int i = 0; i < entries.size(); ++i) {
+				final EvolutionLog.Entry<DoubleGene, Double> entry = entries.get(i);
+				final EvolutionResult<DoubleGene, Double> result = results.get(i);
+
+				Assert.assertEquals(entry.getOptimize(), result.getOptimize());
+				Assert.assertEquals(entry.getGeneration(), result.getGeneration());
+				Assert.assertEquals(entry.getTotalGenerations(), result.getTotalGenerations());
+				Assert.assertEquals(entry.getDurations(), result.getDurations());
+				Assert.assertEquals(entry.getKillCount(), result.getKillCount());
+				Assert.assertEquals(entry.getInvalidCount(), result.getInvalidCount());
+				Assert.assertEquals(entry.getAlterCount(), result.getAlterCount());
+				Assert.assertEquals(entry.getEvaluationCount(), result.getEvaluationCount());
+				Assert.assertEquals(entry.getBestFitness(), result.getBestFitness());
+				Assert.assertEquals(entry.getWorstFitness(), result.getWorstFitness());
+				Assert.assertFalse(entry.getPopulation().isPresent());
+				Assert.assertFalse(entry.toEvolutionResult().isPresent());
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void writeReadPopulation() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".log");
+		try {
+			final List<EvolutionResult<DoubleGene, Double>> results;
+			try (EvolutionLog.Writer<DoubleGene, Double> log =
+					EvolutionLog.writer(path, true, 4))
+			{
+				results = evolve(log, 10);
+			}
+
+			final List<EvolutionLog.Entry<DoubleGene, Double>> entries = read(path);
+			Assert.assertEquals(entries.size(), results.size());
+			for (int i = 0; i < entries.size(); ++i) {
+				final EvolutionResult<DoubleGene, Double> result =
+					entries.get(i).toEvolutionResult().get();
+
+				Assert.assertEquals(result, results.get(i));
+				Assert.assertEquals(result.getPopulation(), results.get(i).getPopulation());
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void append() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".log");
+		try {
+			final List<EvolutionResult<DoubleGene, Double>> results = new ArrayList<>();
+			try (EvolutionLog.Writer<DoubleGene, Double> log = EvolutionLog.writer(path)) {
+				results.addAll(evolve(log, 10));
+			}
+			try (EvolutionLog.Writer<DoubleGene, Double> log = EvolutionLog.writer(path)) {
+				results.addAll(evolve(log, 15));
+			}
+
+			final List<EvolutionLog.Entry<DoubleGene, Double>> entries = read(path);
+			Assert.assertEquals(entries.size(), 25);
+			for (int i = 0; i < entries.size(); ++i) {
+				Assert.assertEquals(
+					entries.get(i).getBestFitness(),
+					results.get(i).getBestFitness()
+				);
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void truncatedChunk() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".log");
+		try {
+			try (EvolutionLog.Writer<DoubleGene, Double> log =
+					EvolutionLog.writer(path, false, 10))
+			{
+				evolve(log, 25);
+			}
+			try (FileChannel channel =
+					FileChannel.open(path, StandardOpenOption.WRITE))
+			{
+				channel.truncate(channel.size() - 5);
+			}
+
+			Assert.assertEquals(read(path).size(), 20);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void appendAfterTruncatedChunk() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".log");
+		try {
+			final List<EvolutionResult<DoubleGene, Double>> results = new ArrayList<>();
+			try (EvolutionLog.Writer<DoubleGene, Double> log =
+					EvolutionLog.writer(path, false, 10))
+			{
+				results.addAll(evolve(log, 25).subList(0, 20));
+			}
+			try (FileChannel channel =
+					FileChannel.open(path, StandardOpenOption.WRITE))
+			{
+				channel.truncate(channel.size() - 5);
+			}
+			try (EvolutionLog.Writer<DoubleGene, Double> log =
+					EvolutionLog.writer(path, false, 10))
+			{
+				results.addAll(evolve(log, 15));
+			}
+
+			final List<EvolutionLog.Entry<DoubleGene, Double>> entries = read(path);
+			Assert.assertEquals(entries.size(), 35);
+			for (int i = 0; i < entries.size(); ++i) {
+				Assert.assertEquals(
+					entries.get(i).getBestFitness(),
+					results.get(i).getBestFitness()
+				);
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void appendAfterGarbage() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".log");
+		try {
+			try (EvolutionLog.Writer<DoubleGene, Double> log =
+					EvolutionLog.writer(path, false, 10))
+			{
+				evolve(log, 20);
+			}
+			try (FileChannel channel =
+					FileChannel.open(path, StandardOpenOption.WRITE))
+			{
+				channel.position(channel.size());
+				channel.write(ByteBuffer.wrap(new byte[]{127, 0, 0, 0, 1, 2, 3}));
+			}
+			try (EvolutionLog.Writer<DoubleGene, Double> log =
+					EvolutionLog.writer(path, false, 10))
+			{
+				evolve(log, 10);
+			}
+
+			Assert.assertEquals(read(path).size(), 30);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void invalidFile() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".log");
+		try {
+			Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+			EvolutionLog.writer(path);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+}
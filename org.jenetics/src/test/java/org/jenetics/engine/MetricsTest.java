@@ -0,0 +1,143 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class MetricsTest {
+
+	private static Engine<DoubleGene, Double> engine(final Metrics metrics) {
+		return Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1, 5))
+			.populationSize(40)
+			.metrics(metrics)
+			.build();
+	}
+
+	@Test
+	public void inMemoryMetrics() {
+		final InMemoryMetrics metrics = new InMemoryMetrics();
+		final Engine<DoubleGene, Double> engine = engine(metrics);
+		Assert.assertSame(engine.getMetrics(), metrics);
+		Assert.assertSame(engine.builder().getMetrics(), metrics);
+
+		final List<EvolutionResult<DoubleGene, Double>> results = engine.stream()
+			.limit(15)
+			.collect(toList());
+
+		final long evaluations = results.stream()
+			.mapToLong(EvolutionResult::getEvaluationCount)
+			.sum();
+		final long altered = results.stream()
+			.mapToLong(EvolutionResult::getAlterCount)
+			.sum();
+
+		Assert.assertEquals(metrics.counter("jenetics.generations").getCount(), 15);
+		Assert.assertEquals(metrics.counter("jenetics.evaluations").getCount(), evaluations);
+		Assert.assertEquals(metrics.counter("jenetics.altered").getCount(), altered);
+		Assert.assertEquals(
+			metrics.counter("jenetics.fitness.reused").getCount() +
+			metrics.counter("jenetics.evaluations").getCount(),
+			// The first generation also evaluates the start population.
+			14*40 + results.get(0).getEvaluationCount()
+		);
+
+		Assert.assertEquals(metrics.timer("jenetics.evolve").getCount(), 15);
+		Assert.assertEquals(metrics.timer("jenetics.evaluation").getCount(), 15);
+		Assert.assertEquals(metrics.timer("jenetics.queue.wait").getCount(), 30);
+
+		final InMemoryMetrics.Histogram diversity =
+			metrics.histogram("jenetics.population.diversity");
+		Assert.assertEquals(diversity.getCount(), 2);
+		Assert.assertTrue(diversity.getMin() > 0);
+		Assert.assertTrue(diversity.getMax() <= 1);
+		Assert.assertTrue(diversity.getMedian() >= diversity.getMin());
+		Assert.assertTrue(diversity.getMedian() <= diversity.getMax());
+	}
+
+	@Test
+	public void noMetrics() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.build();
+
+		Assert.assertSame(engine.getMetrics(), Metrics.NONE);
+	}
+
+	@Test
+	public void concurrentRecording() throws InterruptedException {
+		final InMemoryMetrics metrics = new InMemoryMetrics();
+		final Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; ++i) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 10_000; ++j) {
+					metrics.counter("counter").increment();
+					metrics.timer("timer").record(j);
+					metrics.histogram("histogram").record(j);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		Assert.assertEquals(metrics.counter("counter").getCount(), 40_000);
+		Assert.assertEquals(metrics.timer("timer").getCount(), 40_000);
+		Assert.assertEquals(metrics.timer("timer").getMax().toNanos(), 9_999);
+		Assert.assertEquals(metrics.histogram("histogram").getMin(), 0.0);
+		Assert.assertEquals(metrics.histogram("histogram").getMean(), 4999.5);
+		Assert.assertEquals(
+			metrics.histogram("histogram").getMedian(), 5_000.0, 100.0
+		);
+	}
+
+	@Test
+	public void jmxExport() throws Exception {
+		final InMemoryMetrics metrics = new InMemoryMetrics();
+		final MBeanServer server = MBeanServerFactory.newMBeanServer();
+		final ObjectName name = new ObjectName("org.jenetics:type=Engine");
+		JMXMetrics.register(metrics, name, server);
+
+		engine(metrics).stream()
+			.limit(5)
+			.forEach(r -> {});
+
+		Assert.assertEquals(server.getAttribute(name, "jenetics.generations"), 5L);
+		Assert.assertEquals(server.getAttribute(name, "jenetics.evolve.count"), 5L);
+		Assert.assertTrue(server.getMBeanInfo(name).getAttributes().length > 20);
+	}
+
+}
@@ -0,0 +1,264 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.BitChromosome;
+import org.jenetics.BitGene;
+import org.jenetics.CharacterChromosome;
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.IntegerChromosome;
+import org.jenetics.LongChromosome;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class PopulationSnapshotTest {
+
+	@Test(dataProvider = "populations")
+	public <G extends Gene<?, G>, C extends Comparable<? super C>>
+	void writeRead(final Population<G, C> population) throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(EvolutionStart.of(population, 23), path);
+			final PopulationSnapshot<G, C> snapshot = PopulationSnapshot.open(path);
+
+			Assert.assertEquals(snapshot.size(), population.size());
+			Assert.assertEquals(snapshot.getGeneration(), 23);
+			for (int i = 0; i < population.size(); ++i) {
+				final Phenotype<G, C> pt = population.get(i);
+				Assert.assertEquals(snapshot.getFitness(i), pt.getFitness());
+				Assert.assertEquals(snapshot.getRawFitness(i), pt.getRawFitness());
+				Assert.assertEquals(snapshot.getGenotype(i), pt.getGenotype());
+
+				final Phenotype<G, C> restored = snapshot.getPhenotype(
+					i, pt.getFitnessFunction(), pt.getFitnessScaler()
+				);
+				Assert.assertEquals(restored, pt);
+				Assert.assertEquals(restored.getGeneration(), pt.getGeneration());
+				Assert.assertTrue(restored.isEvaluated());
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@DataProvider(name = "populations")
+	public Object[][] populations() {
+		return new Object[][] {
+			{population(Genotype.of(DoubleChromosome.of(-1, 1, 13), 3), gt ->
+				gt.getGene().getAllele())},
+			{population(Genotype.of(IntegerChromosome.of(-10, 10, 7), 5), gt ->
+				gt.getGene().getAllele())},
+			{population(Genotype.of(LongChromosome.of(0, 1000, 9), 2), gt ->
+				gt.getGene().getAllele())},
+			{population(Genotype.of(BitChromosome.of(77, 0.3), 4), gt ->
+				((BitChromosome)gt.getChromosome()).bitCount())}
+		};
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Population<G, C> population(
+		final Genotype<G> genotype,
+		final Function<Genotype<G>, C> fitness
+	) {
+		final Population<G, C> population = new Population<>(150);
+		for (int i = 0; i < 150; ++i) {
+			final Phenotype<G, C> pt = Phenotype.of(
+				genotype.newInstance(), i%17, fitness
+			);
+			pt.evaluate();
+			population.add(pt);
+		}
+		return population;
+	}
+
+	@Test(dataProvider = "engines")
+	public <G extends Gene<?, G>, C extends Comparable<? super C>>
+	void writeReadEvolved(final Engine<G, C> engine) throws IOException {
+		final EvolutionResult<G, C> result = engine.stream()
+			.limit(5)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		writeRead(result.getPopulation());
+	}
+
+	@DataProvider(name = "engines")
+	public Object[][] engines() {
+		return new Object[][] {
+			{Engine.builder(
+				gt -> gt.getGene().getAllele(),
+				DoubleChromosome.of(-1, 1, 13), DoubleChromosome.of(-1, 1, 13))
+				.populationSize(50).build()},
+			{Engine.builder(
+				gt -> gt.getGene().getAllele(),
+				IntegerChromosome.of(-10, 10, 7))
+				.populationSize(50).build()},
+			{Engine.builder(
+				gt -> ((BitChromosome)gt.getChromosome()).bitCount(),
+				BitChromosome.of(77, 0.3), BitChromosome.of(77, 0.3))
+				.populationSize(50).build()}
+		};
+	}
+
+	@Test
+	public void bitChromosomeProbability() throws IOException {
+		final Population<BitGene, Integer> population = new Population<>();
+		for (double p : new double[]{0.1, 0.5, 0.9}) {
+			population.add(Phenotype.of(
+				Genotype.of(BitChromosome.of(77, p)), 1,
+				gt -> ((BitChromosome)gt.getChromosome()).bitCount()
+			));
+		}
+
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(EvolutionStart.of(population, 1), path);
+			final PopulationSnapshot<BitGene, Integer> snapshot =
+				PopulationSnapshot.open(path);
+
+			for (int i = 0; i < population.size(); ++i) {
+				Assert.assertEquals(
+					((BitChromosome)snapshot.getGenotype(i).getChromosome())
+						.getOneProbability(),
+					((BitChromosome)population.get(i).getGenotype().getChromosome())
+						.getOneProbability()
+				);
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void resumeWithoutEvaluation() throws IOException {
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Function<Genotype<DoubleGene>, Double> fitness = gt -> {
+			evaluations.incrementAndGet();
+			return gt.getGene().getAllele();
+		};
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(fitness, DoubleChromosome.of(0, 1))
+			.populationSize(100)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(5)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(
+				EvolutionStart.of(result.getPopulation(), result.getGeneration()),
+				path
+			);
+
+			final EvolutionStart<DoubleGene, Double> start = PopulationSnapshot
+				.<DoubleGene, Double>open(path)
+				.toEvolutionStart(engine);
+			Assert.assertEquals(start.getPopulation(), result.getPopulation());
+
+			evaluations.set(0);
+			final EvolutionResult<DoubleGene, Double> next = engine
+				.stream(start.getPopulation(), start.getGeneration())
+				.limit(1)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(next.getGeneration(), result.getGeneration());
+			Assert.assertTrue(
+				evaluations.get() <= next.getPopulation().size(),
+				"Restored population has been re-evaluated."
+			);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void cancelledPhenotype() throws IOException {
+		final Phenotype<DoubleGene, Double> pt = Phenotype.of(
+			Genotype.of(DoubleChromosome.of(0, 1, 5)), 1,
+			gt -> gt.getGene().getAllele()
+		);
+		final Population<DoubleGene, Double> population = new Population<>();
+		population.add(pt);
+		population.add(pt.cancel(gt -> -1.0));
+
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(EvolutionStart.of(population, 1), path);
+			final PopulationSnapshot<DoubleGene, Double> snapshot =
+				PopulationSnapshot.open(path);
+
+			final Phenotype<DoubleGene, Double> cancelled =
+				snapshot.getPhenotype(1, pt.getFitnessFunction(), a -> a);
+			Assert.assertTrue(cancelled.isCancelled());
+			Assert.assertEquals(cancelled.getFitness(), -1.0);
+			Assert.assertFalse(
+				snapshot.getPhenotype(0, pt.getFitnessFunction(), a -> a)
+					.isCancelled()
+			);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void unsupportedChromosome() throws IOException {
+		final Population<?, Integer> population = population(
+			Genotype.of(CharacterChromosome.of(10)),
+			gt -> gt.getGene().getAllele().hashCode()
+		);
+
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(EvolutionStart.of(population, 1), path);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void invalidFile() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			Files.write(path, new byte[64]);
+			PopulationSnapshot.open(path);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.collection;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class ChunkArrayProxyTest extends ArrayProxyTestBase<Integer> {
+
+	@Override
+	public ArrayProxy<Integer, ?, ?> newArrayProxy(final int length) {
+		return new ChunkArrayProxy<>(length);
+	}
+
+	@Override
+	public Integer newArrayProxyElement(final Random random) {
+		return random.nextInt();
+	}
+
+	private static ChunkArrayProxy<Integer> newProxy(final int length) {
+		final ChunkArrayProxy<Integer> proxy = new ChunkArrayProxy<>(length);
+		for (int i = 0; i < length; ++i) {
+			proxy.set(i, i);
+		}
+		return proxy;
+	}
+
+	@Test
+	public void copySharesChunks() {
+		final ChunkArrayProxy<Integer> proxy = newProxy(5000);
+		final ChunkArrayProxy<Integer> copy = proxy.copy();
+
+		Assert.assertSame(copy.array.chunks[3], proxy.array.chunks[3]);
+
+		copy.set(1600, -1);
+		Assert.assertNotSame(copy.array.chunks[3], proxy.array.chunks[3]);
+		Assert.assertSame(copy.array.chunks[4], proxy.array.chunks[4]);
+		Assert.assertEquals(copy.get(1600), Integer.valueOf(-1));
+		Assert.assertEquals(proxy.get(1600), Integer.valueOf(1600));
+
+		proxy.set(2100, -2);
+		Assert.assertEquals(copy.get(2100), Integer.valueOf(2100));
+		Assert.assertEquals(proxy.get(2100), Integer.valueOf(-2));
+	}
+
+	@Test
+	public void unalignedCopy() {
+		final ChunkArrayProxy<Integer> proxy = newProxy(5000).slice(13, 4013);
+		final ChunkArrayProxy<Integer> copy = proxy.copy();
+
+		Assert.assertEquals(copy.length, 4000);
+		for (int i = 0; i < copy.length; ++i) {
+			Assert.assertEquals(copy.get(i), Integer.valueOf(i + 13));
+		}
+	}
+
+	@Test(dataProvider = "swapranges")
+	public void swapSharesChunks(final Integer start, final Integer end) {
+		final ChunkArrayProxy<Integer> that = newProxy(6000);
+		final ChunkArrayProxy<Integer> other = new ChunkArrayProxy<>(6000);
+		for (int i = 0; i < other.length; ++i) {
+			other.set(i, -i);
+		}
+		final Object[] chunk = other.array.chunks[5];
+
+		that.swap(start, end, other, start);
+
+		for (int i = 0; i < that.length; ++i) {
+			final boolean swapped = i >= start && i < end;
+			Assert.assertEquals(that.get(i), Integer.valueOf(swapped ? -i : i));
+			Assert.assertEquals(other.get(i), Integer.valueOf(swapped ? i : -i));
+		}
+		Assert.assertSame(that.array.chunks[5], chunk);
+	}
+
+	@DataProvider(name = "swapranges")
+	public Object[][] swapRanges() {
+		return new Object[][] {
+			{0, 6000},
+			{1, 6000},
+			{511, 3073},
+			{1024, 3584}
+		};
+	}
+
+	@Test
+	public void swapDoesNotChangeSealedSeq() {
+		final ArrayProxyMSeq<Integer, ChunkArrayProxy<Integer>> seq1 =
+			new ArrayProxyMSeq<>(newProxy(3000));
+		final ArrayProxyMSeq<Integer, ChunkArrayProxy<Integer>> seq2 =
+			new ArrayProxyMSeq<>(newProxy(3000));
+		final ISeq<Integer> iseq1 = seq1.toISeq();
+		final ISeq<Integer> iseq2 = seq2.toISeq();
+
+		seq1.swap(100, 3000, seq2, 100);
+		seq2.set(10, -1);
+
+		for (int i = 0; i < 3000; ++i) {
+			Assert.assertEquals(iseq1.get(i), Integer.valueOf(i));
+			Assert.assertEquals(iseq2.get(i), Integer.valueOf(i));
+		}
+	}
+
+	@Test
+	public void copyOf() {
+		final MSeq<Integer> seq = MSeq.ofLength(ChunkArrayProxy.MIN_LENGTH);
+		for (int i = 0; i < seq.length(); ++i) {
+			seq.set(i, i);
+		}
+		final ISeq<Integer> iseq = seq.toISeq();
+
+		final MSeq<Integer> copy = ChunkArrayProxy.copyOf(iseq);
+		Assert.assertTrue(
+			((ArrayProxyMSeq<?, ?>)copy).proxy instanceof ChunkArrayProxy<?>
+		);
+		Assert.assertEquals(copy, iseq);
+
+		copy.set(0, -1);
+		Assert.assertEquals(iseq.get(0), Integer.valueOf(0));
+		Assert.assertEquals(copy.get(0), Integer.valueOf(-1));
+
+		final MSeq<Integer> copy2 = ChunkArrayProxy.copyOf(copy.toISeq());
+		Assert.assertEquals(copy2, copy);
+
+		Assert.assertTrue(copy instanceof ChunkArrayProxyMSeq<?>);
+		Assert.assertTrue(copy.toISeq() instanceof ChunkArrayProxyISeq<?>);
+		Assert.assertTrue(copy2 instanceof ChunkArrayProxyMSeq<?>);
+	}
+
+	@Test
+	public void chunkSeqAccess() {
+		final ChunkArrayProxyMSeq<Integer> seq =
+			new ChunkArrayProxyMSeq<>(newProxy(3000));
+		final ISeq<Integer> iseq = seq.toISeq();
+
+		final MSeq<Integer> sub = seq.subSeq(700, 2900);
+		Assert.assertTrue(sub instanceof ChunkArrayProxyMSeq<?>);
+		Assert.assertTrue(iseq.subSeq(700) instanceof ChunkArrayProxyISeq<?>);
+		for (int i = 0; i < sub.length(); ++i) {
+			Assert.assertEquals(sub.get(i), Integer.valueOf(i + 700));
+			sub.set(i, -i);
+		}
+
+		for (int i = 0; i < seq.length(); ++i) {
+			Assert.assertEquals(iseq.get(i), Integer.valueOf(i));
+			Assert.assertEquals(
+				seq.get(i),
+				Integer.valueOf(i >= 700 && i < 2900 ? 700 - i : i)
+			);
+		}
+	}
+
+	@Test(expectedExceptions = ArrayIndexOutOfBoundsException.class)
+	public void chunkSeqGetOutOfBounds() {
+		new ChunkArrayProxyMSeq<>(newProxy(3000)).subSeq(10, 20).get(10);
+	}
+
+	@Test
+	public void copySealedDoesNotChangeStorage() {
+		final ArrayProxyMSeq<Integer, ChunkArrayProxy<Integer>> seq =
+			new ArrayProxyMSeq<>(newProxy(3000));
+		final ISeq<Integer> iseq = seq.toISeq();
+		final ChunkArrayProxy.Chunks storage = seq.proxy.array;
+		final boolean[] shared = storage.shared.clone();
+
+		final MSeq<Integer> copy = iseq.copy();
+		Assert.assertEquals(storage.shared, shared);
+		Assert.assertSame(
+			((ChunkArrayProxy<?>)((ArrayProxyMSeq<?, ?>)copy).proxy).array.chunks[1],
+			storage.chunks[1]
+		);
+
+		// Writing the original after the copy must not change the copy.
+		seq.set(600, -1);
+		copy.set(1200, -2);
+		for (int i = 0; i < 3000; ++i) {
+			Assert.assertEquals(iseq.get(i), Integer.valueOf(i));
+			Assert.assertEquals(
+				copy.get(i),
+				Integer.valueOf(i == 1200 ? -2 : i)
+			);
+			Assert.assertEquals(
+				seq.get(i),
+				Integer.valueOf(i == 600 ? -1 : i)
+			);
+		}
+	}
+
+	@Test
+	public void copyOfShortSeq() {
+		final ISeq<Integer> iseq = MSeq.<Integer>ofLength(10).toISeq();
+		final MSeq<Integer> copy = ChunkArrayProxy.copyOf(iseq);
+
+		Assert.assertTrue(
+			((ArrayProxyMSeq<?, ?>)copy).proxy instanceof ObjectArrayProxy<?>
+		);
+	}
+
+}
@@ -19,11 +19,16 @@
  */
 package org.jenetics.internal.collection;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  */
@@ -87,4 +92,60 @@ public class ObjectArrayProxyTest extends ArrayProxyTestBase<Integer> {
 		}
 	}
 
+	@Test
+	public void sliceForEach() {
+		final ObjectArrayProxy<Integer> proxy = new ObjectArrayProxy<>(100);
+		for (int i = 0; i < proxy.length; ++i) {
+			proxy.set(i, i);
+		}
+
+		final List<Integer> values = new ArrayList<>();
+		proxy.slice(10, 20).forEach(values::add);
+		Assert.assertEquals(values.size(), 10);
+		for (int i = 0; i < values.size(); ++i) {
+			Assert.assertEquals(values.get(i), Integer.valueOf(i + 10));
+		}
+		Assert.assertTrue(proxy.slice(10, 20).forAll(i -> i >= 10 && i < 20));
+	}
+
+	@Test
+	public void sliceToArray() {
+		final ObjectArrayProxy<Integer> proxy = new ObjectArrayProxy<>(100);
+		for (int i = 0; i < proxy.length; ++i) {
+			proxy.set(i, i);
+		}
+
+		final ObjectArrayProxy<Integer> slice = proxy.slice(10, 15);
+		Assert.assertEquals(slice.toArray(), new Object[]{10, 11, 12, 13, 14});
+		Assert.assertEquals(
+			slice.toArray(new Integer[0]),
+			new Integer[]{10, 11, 12, 13, 14}
+		);
+
+		final Integer[] array = new Integer[6];
+		Assert.assertSame(slice.toArray(array), array);
+		Assert.assertEquals(array, new Integer[]{10, 11, 12, 13, 14, null});
+	}
+
+	@Test
+	public void sealedSeqAccess() {
+		final MSeq<Integer> mseq = MSeq.ofLength(10);
+		for (int i = 0; i < mseq.length(); ++i) {
+			mseq.set(i, i);
+		}
+
+		final ISeq<Integer> iseq = mseq.toISeq();
+		final ISeq<Integer> sub = iseq.subSeq(2, 5);
+		mseq.set(3, 100);
+
+		Assert.assertEquals(mseq.get(3), Integer.valueOf(100));
+		Assert.assertEquals(iseq.get(3), Integer.valueOf(3));
+		Assert.assertEquals(sub.get(1), Integer.valueOf(3));
+		Assert.assertEquals(sub.toArray(), new Object[]{2, 3, 4});
+		Assert.assertEquals(
+			iseq.map(i -> i*2).subSeq(8).toArray(new Integer[0]),
+			new Integer[]{16, 18}
+		);
+	}
+
 }
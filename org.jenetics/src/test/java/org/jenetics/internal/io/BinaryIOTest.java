@@ -0,0 +1,152 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.BitChromosome;
+import org.jenetics.EnumGene;
+import org.jenetics.Genotype;
+import org.jenetics.PermutationChromosome;
+import org.jenetics.PersistentObject;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.IO;
+import org.jenetics.util.Serialize;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class BinaryIOTest {
+
+	@Test(dataProvider = "persistentObjects")
+	public void serialize(final PersistentObject<?> object) throws IOException {
+		Serialize.binary.test(object.getValue());
+	}
+
+	@DataProvider(name = "persistentObjects")
+	public Object[][] persistentObjects() {
+		return PersistentObject.VALUES.stream()
+			.map(o -> new Object[]{o})
+			.toArray(Object[][]::new);
+	}
+
+	@Test
+	public void bitChromosomeProbability() throws IOException {
+		final BitChromosome chromosome = BitChromosome.of(123, 0.3);
+
+		final BitChromosome copy = (BitChromosome)copy(chromosome);
+		Assert.assertEquals(copy, chromosome);
+		Assert.assertEquals(copy.getOneProbability(), 0.3);
+	}
+
+	@Test
+	public void sharedValidAlleles() throws IOException {
+		final PermutationChromosome<Integer> chromosome =
+			PermutationChromosome.ofInteger(50);
+		final Population<EnumGene<Integer>, Double> population = new Population<>();
+		for (int i = 0; i < 10; ++i) {
+			population.add(Phenotype.of(
+				Genotype.of(chromosome.newInstance()), 1,
+				gt -> (double)gt.getGene().getAllele()
+			));
+		}
+
+		@SuppressWarnings("unchecked")
+		final Population<EnumGene<Integer>, Double> copy =
+			(Population<EnumGene<Integer>, Double>)copy(population);
+
+		Assert.assertEquals(copy, population);
+		for (Phenotype<EnumGene<Integer>, Double> pt : copy) {
+			Assert.assertTrue(pt.isEvaluated());
+			Assert.assertSame(
+				pt.getGenotype().getGene().getValidAlleles(),
+				copy.get(0).getGenotype().getGene().getValidAlleles()
+			);
+		}
+	}
+
+	@Test
+	public void phenotypeFunctions() throws IOException {
+		final Population<EnumGene<Integer>, Double> population = new Population<>();
+		for (int i = 0; i < 10; ++i) {
+			population.add(Phenotype.of(
+				Genotype.of(PermutationChromosome.ofInteger(10)), 1,
+				gt -> (double)gt.getGene().getAllele()
+			));
+		}
+
+		@SuppressWarnings("unchecked")
+		final Population<EnumGene<Integer>, Double> copy =
+			(Population<EnumGene<Integer>, Double>)copy(population);
+
+		for (Phenotype<EnumGene<Integer>, Double> pt : copy) {
+			Assert.assertSame(
+				pt.getFitnessFunction(),
+				copy.get(0).getFitnessFunction()
+			);
+			Assert.assertEquals(pt.getFitnessScaler().apply(-1.0), -1.0);
+		}
+	}
+
+	@Test
+	public void cancelledPhenotype() throws IOException {
+		final Phenotype<EnumGene<Integer>, Double> pt = Phenotype.of(
+			Genotype.of(PermutationChromosome.ofInteger(10)), 1,
+			gt -> (double)gt.getGene().getAllele()
+		);
+		final Population<EnumGene<Integer>, Double> population = new Population<>();
+		population.add(pt);
+		population.add(pt.cancel(gt -> -1.0));
+
+		@SuppressWarnings("unchecked")
+		final Population<EnumGene<Integer>, Double> copy =
+			(Population<EnumGene<Integer>, Double>)copy(population);
+
+		Assert.assertFalse(copy.get(0).isCancelled());
+		Assert.assertTrue(copy.get(1).isCancelled());
+		Assert.assertEquals(copy.get(1).getFitness(), -1.0);
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void invalidMagicNumber() throws IOException {
+		IO.binary.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 0, 1}));
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void unsupportedVersion() throws IOException {
+		IO.binary.read(new ByteArrayInputStream(
+			new byte[]{0x4A, 0x45, 0x4E, 0x42, 0x7F, 0x7F}
+		));
+	}
+
+	private static Object copy(final Object object) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.binary.write(object, out);
+		return IO.binary.read(new ByteArrayInputStream(out.toByteArray()));
+	}
+
+}
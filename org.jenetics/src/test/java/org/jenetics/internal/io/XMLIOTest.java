@@ -0,0 +1,160 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.io;
+
+import static java.util.stream.Collectors.toList;
+import static org.jenetics.internal.util.jaxb.adapterFor;
+import static org.jenetics.internal.util.jaxb.context;
+import static org.jenetics.internal.util.jaxb.marshal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.xml.bind.Marshaller;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.PersistentObject;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.IO;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class XMLIOTest {
+
+	@Test
+	public void readModelMarshalledPopulation() throws Exception {
+		final Population<?, ?> population =
+			PersistentObject.nextPopulationDoubleGeneInteger();
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final Marshaller marshaller = context().createMarshaller();
+		marshaller.marshal(marshal(population), out);
+
+		final Object read = IO.jaxb.read(new ByteArrayInputStream(out.toByteArray()));
+		Assert.assertEquals(read, population);
+	}
+
+	@Test
+	public void writeModelCompatiblePopulation() throws Exception {
+		final Population<?, ?> population =
+			PersistentObject.nextPopulationIntegerGeneInteger();
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.jaxb.write(population, out);
+
+		final Object model = context().createUnmarshaller()
+			.unmarshal(new ByteArrayInputStream(out.toByteArray()));
+		Assert.assertEquals(adapterFor(model).unmarshal(model), population);
+	}
+
+	@Test
+	public void cancelledPhenotype() throws IOException {
+		final Phenotype<DoubleGene, Double> pt = Phenotype.of(
+			Genotype.of(DoubleChromosome.of(0, 1, 5)), 1,
+			gt -> gt.getGene().getAllele()
+		);
+		final Population<DoubleGene, Double> population = new Population<>();
+		population.add(pt);
+		population.add(pt.cancel(gt -> -1.0));
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.jaxb.write(population, out);
+		final Population<?, ?> copy = (Population<?, ?>)IO.jaxb.read(
+			new ByteArrayInputStream(out.toByteArray())
+		);
+
+		Assert.assertEquals(copy, population);
+		Assert.assertFalse(copy.get(0).isCancelled());
+		Assert.assertTrue(copy.get(1).isCancelled());
+	}
+
+	@Test
+	public void streamPhenotypes() throws IOException {
+		final Genotype<DoubleGene> genotype = Genotype.of(DoubleChromosome.of(0, 1, 5));
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (XMLOutput output = new XMLOutput(out)) {
+			output.startPopulation(100);
+			for (int i = 0; i < 100; ++i) {
+				output.write(Phenotype.of(
+					genotype.newInstance(), i,
+					gt -> gt.getGene().getAllele()
+				));
+			}
+			output.endPopulation();
+		}
+
+		try (XMLInput input = new XMLInput(new ByteArrayInputStream(out.toByteArray()));
+			Stream<Phenotype<DoubleGene, Double>> phenotypes = input.phenotypes())
+		{
+			Assert.assertTrue(input.isPopulation());
+
+			final List<Phenotype<DoubleGene, Double>> list = phenotypes.collect(toList());
+			Assert.assertEquals(list.size(), 100);
+			for (int i = 0; i < list.size(); ++i) {
+				final Phenotype<DoubleGene, Double> pt = list.get(i);
+				Assert.assertEquals(pt.getGeneration(), i);
+				Assert.assertEquals(pt.getFitness(), pt.getGenotype().getGene().getAllele());
+			}
+		}
+	}
+
+	@Test
+	public void emptyPopulation() throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.jaxb.write(new Population<DoubleGene, Double>(), out);
+
+		final Object read = IO.jaxb.read(new ByteArrayInputStream(out.toByteArray()));
+		Assert.assertEquals(read, new Population<DoubleGene, Double>());
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void missingPhenotypes() throws IOException {
+		try (XMLOutput output = new XMLOutput(new ByteArrayOutputStream())) {
+			output.startPopulation(2);
+			output.write(Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1)), 1,
+				gt -> gt.getGene().getAllele()
+			));
+			output.endPopulation();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void noPopulation() throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.jaxb.write(DoubleChromosome.of(0, 1), out);
+
+		try (XMLInput input = new XMLInput(new ByteArrayInputStream(out.toByteArray()))) {
+			input.phenotypes();
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.math;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class matrixTest {
+
+	@Test(dataProvider = "dimensions")
+	public void eigen(final Integer n) {
+		final Random random = new Random(n);
+		final double[][] a = new double[n][n];
+		for (int i = 0; i < n; ++i) {
+			for (int j = 0; j <= i; ++j) {
+				a[i][j] = a[j][i] = random.nextGaussian();
+			}
+		}
+
+		final double[][] work = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			work[i] = a[i].clone();
+		}
+		final double[][] v = new double[n][n];
+		final double[] d = new double[n];
+		matrix.eigen(work, v, d);
+
+		// A = V*diag(d)*V'
+		for (int i = 0; i < n; ++i) {
+			for (int j = 0; j < n; ++j) {
+				double value = 0;
+				for (int k = 0; k < n; ++k) {
+					value += v[i][k]*d[k]*v[j][k];
+				}
+				Assert.assertEquals(value, a[i][j], 1e-10);
+			}
+		}
+
+		// V'*V = I
+		for (int i = 0; i < n; ++i) {
+			for (int j = 0; j < n; ++j) {
+				double value = 0;
+				for (int k = 0; k < n; ++k) {
+					value += v[k][i]*v[k][j];
+				}
+				Assert.assertEquals(value, i == j ? 1.0 : 0.0, 1e-10);
+			}
+		}
+	}
+
+	@DataProvider(name = "dimensions")
+	public Object[][] dimensions() {
+		return new Object[][] {{1}, {2}, {3}, {10}, {50}};
+	}
+
+	@Test
+	public void eigenDiagonal() {
+		final double[][] a = {{3, 0}, {0, 2}};
+		final double[][] v = new double[2][2];
+		final double[] d = new double[2];
+		matrix.eigen(a, v, d);
+
+		Assert.assertEquals(d, new double[]{3, 2});
+		Assert.assertEquals(v[0], new double[]{1, 0});
+		Assert.assertEquals(v[1], new double[]{0, 1});
+	}
+
+}
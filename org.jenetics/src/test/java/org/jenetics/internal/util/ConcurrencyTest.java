@@ -0,0 +1,105 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.util;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class ConcurrencyTest {
+
+	private final ExecutorService _service = Executors.newFixedThreadPool(3);
+	private final ForkJoinPool _pool = new ForkJoinPool(3);
+
+	@AfterClass
+	public void shutdown() {
+		_service.shutdown();
+		_pool.shutdown();
+	}
+
+	@Test(dataProvider = "sizes")
+	public void executeRunnables(final Integer size) {
+		executeRunnables(Concurrency.withCommonPool(), size);
+		executeRunnables(Concurrency.with(_pool), size);
+		executeRunnables(Concurrency.with(_service), size);
+		executeRunnables(Concurrency.with(Runnable::run), size);
+		executeRunnables(Concurrency.with(r -> new Thread(r).start()), size);
+		executeRunnables(Concurrency.SERIAL_EXECUTOR, size);
+	}
+
+	private static void executeRunnables(
+		final Concurrency concurrency,
+		final int size
+	) {
+		final AtomicInteger[] counts = IntStream.range(0, size)
+			.mapToObj(i -> new AtomicInteger())
+			.toArray(AtomicInteger[]::new);
+
+		final List<Runnable> runnables = IntStream.range(0, size)
+			.mapToObj(i -> (Runnable)counts[i]::incrementAndGet)
+			.collect(Collectors.toList());
+
+		try (Concurrency c = concurrency) {
+			c.execute(runnables);
+		}
+
+		for (AtomicInteger count : counts) {
+			Assert.assertEquals(count.get(), 1);
+		}
+	}
+
+	@Test
+	public void executeRunnablesInOrder() {
+		final int[] order = new int[1000];
+		final AtomicInteger index = new AtomicInteger();
+
+		final List<Runnable> runnables = IntStream.range(0, order.length)
+			.mapToObj(i -> (Runnable)() -> order[index.getAndIncrement()] = i)
+			.collect(Collectors.toList());
+
+		try (Concurrency c = Concurrency.with(Runnable::run)) {
+			c.execute(runnables);
+		}
+
+		for (int i = 0; i < order.length; ++i) {
+			Assert.assertEquals(order[i], i);
+		}
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {
+			{0}, {1}, {2}, {3}, {7}, {8}, {31}, {100}, {1000}, {10_000}
+		};
+	}
+
+}
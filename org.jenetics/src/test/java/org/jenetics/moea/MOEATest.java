@@ -0,0 +1,124 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Mutator;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Selector;
+import org.jenetics.SinglePointCrossover;
+import org.jenetics.engine.Engine;
+import org.jenetics.engine.EvolutionResult;
+import org.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class MOEATest {
+
+	// The ZDT1 test problem, which is minimized.
+	private static Vec zdt1(final Genotype<DoubleGene> gt) {
+		final double[] x = ((DoubleChromosome)gt.getChromosome()).toArray();
+
+		final double g = 1 + 9*Arrays.stream(x, 1, x.length).sum()/(x.length - 1);
+		return Vec.of(x[0], g*(1 - Math.sqrt(x[0]/g)));
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Vec>> front(
+		final Selector<DoubleGene, Vec> survivors,
+		final int maxSize
+	) {
+		final Engine<DoubleGene, Vec> engine = Engine
+			.builder(MOEATest::zdt1, DoubleChromosome.of(0, 1, 10))
+			.optimize(Optimize.MINIMUM)
+			.populationSize(50)
+			.alterers(new SinglePointCrossover<>(0.6), new Mutator<>(0.1))
+			.offspringSelector(new CrowdedTournamentSelector<>())
+			.survivorsSelector(survivors)
+			.build();
+
+		return engine.stream()
+			.limit(50)
+			.collect(MOEA.toParetoSet(maxSize));
+	}
+
+	private static void assertNonDominated(final List<Phenotype<DoubleGene, Vec>> front) {
+		for (Phenotype<DoubleGene, Vec> a : front) {
+			for (Phenotype<DoubleGene, Vec> b : front) {
+				Assert.assertEquals(a.getFitness().dominance(b.getFitness()), 0);
+			}
+		}
+	}
+
+	@Test
+	public void nsga2ParetoSet() {
+		final ISeq<Phenotype<DoubleGene, Vec>> front =
+			front(new NSGA2Selector<>(), Integer.MAX_VALUE);
+
+		Assert.assertTrue(front.length() > 1, "Front size: " + front.length());
+		assertNonDominated(front.asList());
+	}
+
+	@Test
+	public void nsga3ParetoSet() {
+		final ISeq<Phenotype<DoubleGene, Vec>> front =
+			front(new NSGA3Selector<>(12), 5);
+
+		Assert.assertTrue(front.length() <= 5, "Front size: " + front.length());
+		Assert.assertTrue(front.length() > 0);
+		assertNonDominated(front.asList());
+	}
+
+	@Test
+	public void combineParetoSets() {
+		final Engine<DoubleGene, Vec> engine = Engine
+			.builder(MOEATest::zdt1, DoubleChromosome.of(0, 1, 10))
+			.optimize(Optimize.MINIMUM)
+			.survivorsSelector(new NSGA2Selector<>())
+			.build();
+
+		final List<EvolutionResult<DoubleGene, Vec>> results = Arrays.asList(
+			engine.stream().limit(10).collect(EvolutionResult.toBestEvolutionResult()),
+			engine.stream().limit(10).collect(EvolutionResult.toBestEvolutionResult()),
+			engine.stream().limit(10).collect(EvolutionResult.toBestEvolutionResult())
+		);
+
+		final ISeq<Phenotype<DoubleGene, Vec>> front = results.parallelStream()
+			.collect(MOEA.toParetoSet());
+
+		Assert.assertTrue(front.length() > 0);
+		assertNonDominated(front.asList());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void zeroMaxSize() {
+		MOEA.toParetoSet(0);
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.Factory;
+import org.jenetics.util.ObjectTester;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class NSGA2SelectorTest extends ObjectTester<NSGA2Selector<DoubleGene>> {
+
+	@Override
+	protected Factory<NSGA2Selector<DoubleGene>> factory() {
+		return NSGA2Selector::new;
+	}
+
+	static Vec fitness(final Genotype<DoubleGene> gt) {
+		return Vec.of(((DoubleChromosome)gt.getChromosome()).toArray());
+	}
+
+	static Population<DoubleGene, Vec> population(
+		final int size,
+		final int objectives
+	) {
+		final Genotype<DoubleGene> gtf =
+			Genotype.of(DoubleChromosome.of(0, 1, objectives));
+
+		return new Population<DoubleGene, Vec>(size).fill(
+			() -> Phenotype.of(gtf.newInstance(), 1, NSGA2SelectorTest::fitness),
+			size
+		);
+	}
+
+	// Checks, that no phenotype which is not selected has a lower rank than
+	// a selected one.
+	static void assertRanks(
+		final Population<DoubleGene, Vec> population,
+		final Population<DoubleGene, Vec> selection,
+		final Optimize opt
+	) {
+		final int[] ranks = Pareto.ranks(Pareto.points(population, opt));
+		final Set<Phenotype<DoubleGene, Vec>> selected = new HashSet<>(selection);
+
+		int maxSelected = 0;
+		int minRejected = Integer.MAX_VALUE;
+		for (int i = 0; i < ranks.length; ++i) {
+			if (selected.contains(population.get(i))) {
+				maxSelected = Math.max(maxSelected, ranks[i]);
+			} else {
+				minRejected = Math.min(minRejected, ranks[i]);
+			}
+		}
+
+		Assert.assertTrue(
+			maxSelected <= minRejected,
+			maxSelected + " > " + minRejected
+		);
+	}
+
+	@Test(dataProvider = "selections")
+	public void select(
+		final Integer size,
+		final Integer objectives,
+		final Integer count,
+		final Optimize opt
+	) {
+		final Population<DoubleGene, Vec> population =
+			population(size, objectives);
+		final Population<DoubleGene, Vec> selection =
+			new NSGA2Selector<DoubleGene>().select(population, count, opt);
+
+		Assert.assertEquals(selection.size(), count.intValue());
+		Assert.assertEquals(new HashSet<>(selection).size(), (int)count);
+		assertRanks(population, selection, opt);
+	}
+
+	@DataProvider(name = "selections")
+	public Object[][] selections() {
+		return new Object[][] {
+			{100, 2, 50, Optimize.MAXIMUM},
+			{100, 2, 50, Optimize.MINIMUM},
+			{100, 3, 30, Optimize.MAXIMUM},
+			{100, 3, 70, Optimize.MINIMUM},
+			{50, 5, 1, Optimize.MAXIMUM},
+			{50, 2, 0, Optimize.MINIMUM}
+		};
+	}
+
+	@Test
+	public void selectBoundaries() {
+		final Population<DoubleGene, Vec> population = new Population<>();
+		population.add(Phenotype.of(
+			Genotype.of(DoubleChromosome.of(DoubleGene.of(0.5, 0, 1))), 1,
+			gt -> Vec.of(0.5, 0.5)
+		));
+		population.add(Phenotype.of(
+			Genotype.of(DoubleChromosome.of(DoubleGene.of(0.1, 0, 1))), 1,
+			gt -> Vec.of(0.0, 1.0)
+		));
+		population.add(Phenotype.of(
+			Genotype.of(DoubleChromosome.of(DoubleGene.of(0.9, 0, 1))), 1,
+			gt -> Vec.of(1.0, 0.0)
+		));
+
+		final Population<DoubleGene, Vec> selection =
+			new NSGA2Selector<DoubleGene>()
+				.select(population, 2, Optimize.MAXIMUM);
+
+		Assert.assertTrue(selection.contains(population.get(1)));
+		Assert.assertTrue(selection.contains(population.get(2)));
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final Population<DoubleGene, Vec> population = population(10, 2);
+		final Population<DoubleGene, Vec> selection =
+			new NSGA2Selector<DoubleGene>()
+				.select(population, 25, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selection.size(), 25);
+		Assert.assertEquals(new HashSet<>(selection), new HashSet<>(population));
+		for (Phenotype<DoubleGene, Vec> pt : population) {
+			final long copies = selection.stream().filter(pt::equals).count();
+			Assert.assertTrue(copies == 2 || copies == 3, "Copies: " + copies);
+		}
+		Assert.assertEquals(selection.subList(10, 20), selection.subList(0, 10));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void selectNegativeCount() {
+		new NSGA2Selector<DoubleGene>()
+			.select(population(10, 2), -1, Optimize.MAXIMUM);
+	}
+
+	@Test
+	public void crowdedTournamentSelect() {
+		final Population<DoubleGene, Vec> population = population(100, 2);
+		final Population<DoubleGene, Vec> selection =
+			new CrowdedTournamentSelector<DoubleGene>(100)
+				.select(population, 10, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selection.size(), 10);
+		final int[] ranks = Pareto.ranks(Pareto.points(population, Optimize.MAXIMUM));
+		for (Phenotype<DoubleGene, Vec> pt : selection) {
+			Assert.assertTrue(ranks[population.indexOf(pt)] <= 1);
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import static org.jenetics.moea.NSGA2SelectorTest.assertRanks;
+import static org.jenetics.moea.NSGA2SelectorTest.population;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleGene;
+import org.jenetics.Optimize;
+import org.jenetics.Population;
+import org.jenetics.util.Factory;
+import org.jenetics.util.ObjectTester;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class NSGA3SelectorTest extends ObjectTester<NSGA3Selector<DoubleGene>> {
+
+	@Override
+	protected Factory<NSGA3Selector<DoubleGene>> factory() {
+		return () -> new NSGA3Selector<>(RandomRegistry.getRandom().nextInt(10) + 1);
+	}
+
+	@Test(dataProvider = "references")
+	public void references(
+		final Integer objectives,
+		final Integer divisions,
+		final Integer count
+	) {
+		final double[][] refs = NSGA3Selector.references(objectives, divisions);
+		Assert.assertEquals(refs.length, count.intValue());
+		for (double[] ref : refs) {
+			Assert.assertEquals(ref.length, objectives.intValue());
+			Assert.assertEquals(Arrays.stream(ref).sum(), 1.0, 0.000001);
+		}
+	}
+
+	@DataProvider(name = "references")
+	public Object[][] references() {
+		return new Object[][] {
+			{1, 4, 1},
+			{2, 4, 5},
+			{3, 4, 15},
+			{3, 12, 91},
+			{5, 6, 210}
+		};
+	}
+
+	@Test(dataProvider = "selections")
+	public void select(
+		final Integer size,
+		final Integer objectives,
+		final Integer count,
+		final Optimize opt
+	) {
+		final Population<DoubleGene, Vec> population =
+			population(size, objectives);
+		final Population<DoubleGene, Vec> selection =
+			new NSGA3Selector<DoubleGene>(4).select(population, count, opt);
+
+		Assert.assertEquals(selection.size(), count.intValue());
+		Assert.assertEquals(new HashSet<>(selection).size(), (int)count);
+		assertRanks(population, selection, opt);
+	}
+
+	@DataProvider(name = "selections")
+	public Object[][] selections() {
+		return new Object[][] {
+			{100, 2, 50, Optimize.MAXIMUM},
+			{100, 3, 50, Optimize.MINIMUM},
+			{200, 4, 30, Optimize.MAXIMUM},
+			{100, 3, 99, Optimize.MINIMUM},
+			{50, 5, 1, Optimize.MAXIMUM},
+			{50, 2, 0, Optimize.MINIMUM}
+		};
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final Population<DoubleGene, Vec> population = population(10, 3);
+		final Population<DoubleGene, Vec> selection =
+			new NSGA3Selector<DoubleGene>(4)
+				.select(population, 25, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selection.size(), 25);
+		Assert.assertEquals(new HashSet<>(selection), new HashSet<>(population));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void zeroDivisions() {
+		new NSGA3Selector<DoubleGene>(0);
+	}
+
+}
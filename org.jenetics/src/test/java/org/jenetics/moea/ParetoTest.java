@@ -0,0 +1,129 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.LCG64ShiftRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class ParetoTest {
+
+	// Reference implementation: repeated peeling of the non-dominated points.
+	private static int[] ranks(final double[][] points) {
+		final int[] ranks = new int[points.length];
+		final boolean[] ranked = new boolean[points.length];
+		int count = 0;
+		for (int rank = 0; count < points.length; ++rank) {
+			final boolean[] front = new boolean[points.length];
+			for (int i = 0; i < points.length; ++i) {
+				if (!ranked[i]) {
+					front[i] = true;
+					for (int j = 0; j < points.length && front[i]; ++j) {
+						if (!ranked[j] && Pareto.dominance(points[j], points[i]) > 0) {
+							front[i] = false;
+						}
+					}
+				}
+			}
+			for (int i = 0; i < points.length; ++i) {
+				if (front[i]) {
+					ranks[i] = rank;
+					ranked[i] = true;
+					++count;
+				}
+			}
+		}
+
+		return ranks;
+	}
+
+	private static double[][] points(final int n, final int m, final long seed) {
+		final Random random = new LCG64ShiftRandom(seed);
+		final double[][] points = new double[n][m];
+		for (int i = 0; i < n; ++i) {
+			for (int j = 0; j < m; ++j) {
+				// Integer values, for testing ties.
+				points[i][j] = random.nextInt(10);
+			}
+		}
+		return points;
+	}
+
+	@Test(dataProvider = "sizes")
+	public void ranks(final Integer n, final Integer m) {
+		final double[][] points = points(n, m, 1234 + n*m);
+		Assert.assertEquals(Pareto.ranks(points), ranks(points));
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {
+			{1, 2}, {2, 2}, {10, 2}, {100, 2}, {500, 2},
+			{1, 3}, {10, 3}, {100, 3}, {500, 3},
+			{100, 1}, {100, 5}, {130, 4}
+		};
+	}
+
+	@Test
+	public void largeRanks() {
+		final double[][] points = points(3000, 2, 4321);
+		final double[][] points3 = new double[points.length][];
+		for (int i = 0; i < points.length; ++i) {
+			points3[i] = new double[]{points[i][0], points[i][1], 0};
+		}
+
+		Assert.assertEquals(Pareto.ranks(points), Pareto.ranksN(points));
+		Assert.assertEquals(Pareto.ranks(points3), Pareto.ranks(points));
+	}
+
+	@Test
+	public void emptyRanks() {
+		Assert.assertEquals(Pareto.ranks(new double[0][]).length, 0);
+	}
+
+	@Test
+	public void crowdingDistances() {
+		final double[][] points = {
+			{0, 4}, {1, 2}, {2, 1}, {4, 0}, {0, 0}
+		};
+		final int[] ranks = Pareto.ranks(points);
+		Assert.assertEquals(ranks, new int[]{0, 0, 0, 0, 1});
+
+		final double[] distances = Pareto.crowdingDistances(points, ranks);
+		Assert.assertEquals(distances[0], Double.POSITIVE_INFINITY);
+		Assert.assertEquals(distances[3], Double.POSITIVE_INFINITY);
+		Assert.assertEquals(distances[4], Double.POSITIVE_INFINITY);
+		Assert.assertEquals(distances[1], 2.0/4.0 + 3.0/4.0, 0.000001);
+		Assert.assertEquals(distances[2], 3.0/4.0 + 2.0/4.0, 0.000001);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentLengths() {
+		Pareto.ranks(new double[][]{{1, 2}, {1, 2, 3}});
+	}
+
+}
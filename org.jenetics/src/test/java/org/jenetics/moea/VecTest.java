@@ -0,0 +1,124 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.moea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.Factory;
+import org.jenetics.util.ObjectTester;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class VecTest extends ObjectTester<Vec> {
+
+	@Override
+	protected Factory<Vec> factory() {
+		return () -> Vec.of(
+			RandomRegistry.getRandom().nextDouble(),
+			RandomRegistry.getRandom().nextDouble(),
+			RandomRegistry.getRandom().nextDouble()
+		);
+	}
+
+	@Test(dataProvider = "dominance")
+	public void dominance(final double[] u, final double[] v, final int expected) {
+		Assert.assertEquals(Vec.of(u).dominance(Vec.of(v)), expected);
+		Assert.assertEquals(Vec.of(v).dominance(Vec.of(u)), -expected);
+		if (expected != 0) {
+			Assert.assertEquals(
+				Integer.signum(Vec.of(u).compareTo(Vec.of(v))),
+				expected
+			);
+		}
+	}
+
+	@DataProvider(name = "dominance")
+	public Object[][] dominance() {
+		return new Object[][] {
+			{new double[]{1, 2}, new double[]{1, 2}, 0},
+			{new double[]{2, 2}, new double[]{1, 2}, 1},
+			{new double[]{2, 3}, new double[]{1, 2}, 1},
+			{new double[]{2, 1}, new double[]{1, 2}, 0},
+			{new double[]{1, 1, 1}, new double[]{1, 1, 2}, -1},
+			{new double[]{3, 1, 1}, new double[]{1, 1, 2}, 0}
+		};
+	}
+
+	@Test
+	public void totalOrder() {
+		final Random random = new Random(123);
+		final List<Vec> vectors = new ArrayList<>();
+		for (int i = 0; i < 100; ++i) {
+			vectors.add(Vec.of(
+				random.nextInt(3), random.nextInt(3), random.nextInt(3)
+			));
+		}
+		vectors.add(Vec.of(0.0, -0.0, 1));
+		vectors.add(Vec.of(-0.0, 0.0, 1));
+
+		for (Vec a : vectors) {
+			for (Vec b : vectors) {
+				final int ab = Integer.signum(a.compareTo(b));
+				Assert.assertEquals(ab, -Integer.signum(b.compareTo(a)));
+				Assert.assertEquals(ab == 0, a.equals(b));
+				if (a.dominance(b) != 0) {
+					Assert.assertEquals(ab, a.dominance(b));
+				}
+				for (Vec c : vectors) {
+					if (ab <= 0 && b.compareTo(c) <= 0) {
+						Assert.assertTrue(a.compareTo(c) <= 0);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void copyValues() {
+		final double[] values = {1, 2, 3};
+		final Vec vec = Vec.of(values);
+		values[0] = 10;
+
+		Assert.assertEquals(vec.get(0), 1.0);
+		Assert.assertEquals(vec.length(), 3);
+
+		vec.toArray()[1] = 10;
+		Assert.assertEquals(vec.get(1), 2.0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptyVector() {
+		Vec.of();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentLengths() {
+		Vec.of(1, 2).dominance(Vec.of(1, 2, 3));
+	}
+
+}
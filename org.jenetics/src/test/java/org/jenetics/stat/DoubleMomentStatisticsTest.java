@@ -65,6 +65,60 @@ public class DoubleMomentStatisticsTest {
 		assertEqualsDouble(summary.getKurtosis(), expected.getKurtosis(), epsilon);
 	}
 
+	@Test(dataProvider = "sampleCounts")
+	public void bulkSummary(final Integer sampleCounts, final Double epsilon) {
+		final List<Double> numbers = numbers(sampleCounts);
+
+		final DescriptiveStatistics expected = new DescriptiveStatistics();
+		numbers.forEach(expected::addValue);
+
+		final double[] values = new double[numbers.size() + 2];
+		for (int i = 0; i < numbers.size(); ++i) {
+			values[i + 1] = numbers.get(i);
+		}
+
+		final DoubleMomentStatistics summary = new DoubleMomentStatistics();
+		summary.accept(values, 1, values.length - 1);
+
+		Assert.assertEquals(summary.getCount(), numbers.size());
+		assertEqualsDouble(min(summary.getMin()), expected.getMin(), 0.0);
+		assertEqualsDouble(max(summary.getMax()), expected.getMax(), 0.0);
+		assertEqualsDouble(summary.getSum(), expected.getSum(), epsilon);
+		assertEqualsDouble(summary.getMean(), expected.getMean(), epsilon);
+		assertEqualsDouble(summary.getVariance(), expected.getVariance(), epsilon);
+		assertEqualsDouble(summary.getSkewness(), expected.getSkewness(), epsilon);
+		assertEqualsDouble(summary.getKurtosis(), expected.getKurtosis(), epsilon);
+	}
+
+	@Test
+	public void bulkAndSingleSummary() {
+		final List<Double> numbers = numbers(10_000);
+		final double[] values = numbers.stream()
+			.mapToDouble(Double::doubleValue)
+			.toArray();
+
+		final DoubleMomentStatistics expected = new DoubleMomentStatistics();
+		numbers.forEach(expected::accept);
+
+		final DoubleMomentStatistics summary = new DoubleMomentStatistics();
+		summary.accept(values, 0, 3_333);
+		for (int i = 3_333; i < 5_000; ++i) {
+			summary.accept(values[i]);
+		}
+		summary.accept(values, 5_000, values.length);
+
+		Assert.assertEquals(summary.getCount(), expected.getCount());
+		Assert.assertEquals(summary.getMean(), expected.getMean(), 0.00001);
+		Assert.assertEquals(summary.getVariance(), expected.getVariance(), 0.00001);
+		Assert.assertEquals(summary.getSkewness(), expected.getSkewness(), 0.00001);
+		Assert.assertEquals(summary.getKurtosis(), expected.getKurtosis(), 0.00001);
+	}
+
+	@Test(expectedExceptions = ArrayIndexOutOfBoundsException.class)
+	public void bulkInvalidRange() {
+		new DoubleMomentStatistics().accept(new double[10], 5, 11);
+	}
+
 	@Test(dataProvider = "parallelSampleCounts")
 	public void parallelSummary(final Integer sampleCounts, final Double epsilon) {
 		final List<Double> numbers = numbers(sampleCounts);
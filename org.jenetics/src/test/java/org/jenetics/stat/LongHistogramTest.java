@@ -0,0 +1,169 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.stat;
+
+import static org.jenetics.stat.LongHistogram.toLongHistogram;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class LongHistogramTest {
+
+	// Log-uniform distributed values in the range [0, 10^12).
+	private static long[] values(final int size) {
+		final Random random = new Random(123);
+		return LongStream.range(0, size)
+			.map(i -> (long)Math.pow(10, random.nextDouble()*12))
+			.toArray();
+	}
+
+	@Test(dataProvider = "significantDigits")
+	public void quantile(final Integer digits) {
+		final long[] values = values(10_000);
+		final LongHistogram histogram = new LongHistogram(digits);
+		for (long value : values) {
+			histogram.accept(value);
+		}
+
+		final long[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		final double error = Math.pow(10, -digits);
+		for (double q : new double[]{0.0, 0.1, 0.25, 0.5, 0.9, 0.99, 0.999, 1.0}) {
+			final int rank = Math.max(1, (int)Math.ceil(q*sorted.length));
+			final long expected = sorted[rank - 1];
+			final long actual = histogram.getQuantile(q);
+
+			Assert.assertTrue(
+				Math.abs(actual - expected) <= expected*error,
+				String.format("q=%s: %d != %d", q, actual, expected)
+			);
+		}
+
+		Assert.assertEquals(histogram.getCount(), values.length);
+		Assert.assertEquals(histogram.getMin(), sorted[0]);
+		Assert.assertEquals(histogram.getMax(), sorted[sorted.length - 1]);
+		Assert.assertEquals(
+			histogram.getMean(),
+			LongStream.of(values).average().getAsDouble(),
+			0.0001
+		);
+	}
+
+	@DataProvider(name = "significantDigits")
+	public Object[][] significantDigits() {
+		return new Object[][] {{1}, {2}, {3}};
+	}
+
+	@Test
+	public void smallValuesAreExact() {
+		final LongHistogram histogram = new LongHistogram(1);
+		LongStream.rangeClosed(1, 10).forEach(histogram);
+
+		Assert.assertEquals(histogram.getQuantile(0.5), 5);
+		Assert.assertEquals(histogram.getQuantile(0.9), 9);
+		Assert.assertEquals(histogram.getQuantile(1.0), 10);
+	}
+
+	@Test
+	public void combine() {
+		final long[] values = values(5_000);
+
+		final LongHistogram expected = new LongHistogram();
+		LongStream.of(values).forEach(expected);
+
+		final LongHistogram h1 = new LongHistogram();
+		final LongHistogram h2 = new LongHistogram();
+		for (int i = 0; i < values.length; ++i) {
+			(i%2 == 0 ? h1 : h2).accept(values[i]);
+		}
+		final LongHistogram actual = h1.combine(h2);
+
+		Assert.assertEquals(actual.getCount(), expected.getCount());
+		Assert.assertEquals(actual.getMin(), expected.getMin());
+		Assert.assertEquals(actual.getMax(), expected.getMax());
+		for (double q = 0; q <= 1.0; q += 0.01) {
+			Assert.assertEquals(actual.getQuantile(q), expected.getQuantile(q));
+		}
+	}
+
+	@Test
+	public void parallelCollect() {
+		final long[] values = values(20_000);
+
+		final LongHistogram serial = LongStream.of(values).boxed()
+			.collect(toLongHistogram(Long::longValue));
+		final LongHistogram parallel = LongStream.of(values).boxed()
+			.parallel()
+			.collect(toLongHistogram(Long::longValue));
+
+		Assert.assertEquals(parallel.getCount(), serial.getCount());
+		Assert.assertEquals(parallel.getQuantile(0.5), serial.getQuantile(0.5));
+		Assert.assertEquals(parallel.getQuantile(0.99), serial.getQuantile(0.99));
+		Assert.assertEquals(parallel.getQuantile(0.999), serial.getQuantile(0.999));
+	}
+
+	@Test
+	public void maxValue() {
+		final LongHistogram histogram = new LongHistogram(3);
+		histogram.accept(Long.MAX_VALUE);
+		histogram.accept(0);
+
+		Assert.assertEquals(histogram.getQuantile(1.0), Long.MAX_VALUE);
+		Assert.assertEquals(histogram.getQuantile(0.5), 0);
+	}
+
+	@Test
+	public void empty() {
+		final LongHistogram histogram = new LongHistogram();
+		Assert.assertEquals(histogram.getCount(), 0);
+		Assert.assertEquals(histogram.getQuantile(0.99), 0);
+		Assert.assertTrue(Double.isNaN(histogram.getMean()));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeValue() {
+		new LongHistogram().accept(-1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSignificantDigits() {
+		new LongHistogram(4);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void combineDifferentDigits() {
+		new LongHistogram(1).combine(new LongHistogram(2));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		new LongHistogram().getQuantile(1.1);
+	}
+
+}
@@ -65,6 +65,31 @@ public class LongMomentStatisticsTest {
 		assertEqualsDouble(summary.getKurtosis(), expected.getKurtosis(), epsilon);
 	}
 
+	@Test(dataProvider = "sampleCounts")
+	public void bulkSummary(final Integer sampleCounts, final Double epsilon) {
+		final List<Long> numbers = numbers(sampleCounts);
+
+		final DescriptiveStatistics expected = new DescriptiveStatistics();
+		numbers.forEach(expected::addValue);
+
+		final long[] values = new long[numbers.size() + 2];
+		for (int i = 0; i < numbers.size(); ++i) {
+			values[i + 1] = numbers.get(i);
+		}
+
+		final LongMomentStatistics summary = new LongMomentStatistics();
+		summary.accept(values, 1, values.length - 1);
+
+		Assert.assertEquals(summary.getCount(), numbers.size());
+		assertEqualsDouble(min(summary.getMin()), expected.getMin(), 0.0);
+		assertEqualsDouble(max(summary.getMax()), expected.getMax(), 0.0);
+		assertEqualsDouble(summary.getSum(), expected.getSum(), epsilon);
+		assertEqualsDouble(summary.getMean(), expected.getMean(), epsilon);
+		assertEqualsDouble(summary.getVariance(), expected.getVariance(), epsilon);
+		assertEqualsDouble(summary.getSkewness(), expected.getSkewness(), epsilon);
+		assertEqualsDouble(summary.getKurtosis(), expected.getKurtosis(), epsilon);
+	}
+
 	@Test(dataProvider = "parallelSampleCounts")
 	public void parallelSummary(final Integer sampleCounts, final Double epsilon) {
 		final List<Long> numbers = numbers(sampleCounts);
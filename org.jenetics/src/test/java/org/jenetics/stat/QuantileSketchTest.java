@@ -0,0 +1,150 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.stat;
+
+import static org.jenetics.stat.QuantileSketch.toQuantileSketch;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class QuantileSketchTest {
+
+	private static double[] values(final int size) {
+		final Random random = new Random(123);
+		return DoubleStream.generate(random::nextGaussian).limit(size).toArray();
+	}
+
+	// Return the relative rank of the given value in the sorted array.
+	private static double rank(final double[] sorted, final double value) {
+		final int index = Arrays.binarySearch(sorted, value);
+		return (index < 0 ? -index - 1 : index + 1)/(double)sorted.length;
+	}
+
+	@Test(dataProvider = "sizes")
+	public void quantiles(final Integer size) {
+		final double[] values = values(size);
+		final QuantileSketch sketch = new QuantileSketch();
+		DoubleStream.of(values).forEach(sketch);
+
+		final double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		final double[] quantiles = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+		final double[] estimates = sketch.getQuantiles(quantiles);
+		for (int i = 0; i < quantiles.length; ++i) {
+			Assert.assertEquals(
+				rank(sorted, estimates[i]), quantiles[i], 0.01,
+				"Quantile " + quantiles[i]
+			);
+			Assert.assertEquals(sketch.getQuantile(quantiles[i]), estimates[i]);
+		}
+
+		Assert.assertEquals(sketch.getCount(), size.longValue());
+		Assert.assertEquals(sketch.getMin(), sorted[0]);
+		Assert.assertEquals(sketch.getMax(), sorted[sorted.length - 1]);
+		Assert.assertEquals(sketch.getQuantile(0.0), sorted[0]);
+		Assert.assertEquals(sketch.getQuantile(1.0), sorted[sorted.length - 1]);
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {{100}, {1_000}, {100_000}, {1_000_000}};
+	}
+
+	@Test
+	public void boundedMemory() {
+		final QuantileSketch sketch = new QuantileSketch();
+		final double[] values = values(1_000_000);
+		DoubleStream.of(values).forEach(sketch);
+
+		Assert.assertTrue(
+			sketch.getRetained() < 5*sketch.getK(),
+			"Retained values: " + sketch.getRetained()
+		);
+	}
+
+	@Test
+	public void parallelCollect() {
+		final double[] values = values(500_000);
+		final double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		final QuantileSketch sketch = IntStream.range(0, values.length)
+			.boxed()
+			.parallel()
+			.collect(toQuantileSketch(i -> values[i]));
+
+		Assert.assertEquals(sketch.getCount(), values.length);
+		for (double q : new double[]{0.05, 0.5, 0.95}) {
+			Assert.assertEquals(rank(sorted, sketch.getQuantile(q)), q, 0.015);
+		}
+	}
+
+	@Test
+	public void combine() {
+		final double[] values = values(200_000);
+		final double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		final QuantileSketch s1 = new QuantileSketch();
+		final QuantileSketch s2 = new QuantileSketch();
+		for (int i = 0; i < values.length; ++i) {
+			(i < values.length/4 ? s1 : s2).accept(values[i]);
+		}
+		final QuantileSketch sketch = s1.combine(s2);
+
+		Assert.assertEquals(sketch.getCount(), values.length);
+		Assert.assertEquals(sketch.getMin(), sorted[0]);
+		Assert.assertEquals(sketch.getMax(), sorted[sorted.length - 1]);
+		Assert.assertEquals(rank(sorted, sketch.getQuantile(0.5)), 0.5, 0.015);
+	}
+
+	@Test
+	public void empty() {
+		final QuantileSketch sketch = new QuantileSketch();
+		Assert.assertEquals(sketch.getCount(), 0);
+		Assert.assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		new QuantileSketch().getQuantile(-0.1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidK() {
+		new QuantileSketch(2);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void combineDifferentK() {
+		new QuantileSketch(100).combine(new QuantileSketch(200));
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.util;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class DoubleSeqTest extends ObjectTester<MDoubleSeq> {
+
+	@Override
+	protected Factory<MDoubleSeq> factory() {
+		return () -> {
+			final Random r = RandomRegistry.getRandom();
+			return MDoubleSeq.ofLength(r.nextInt(100) + 10)
+				.fill(r::nextDouble);
+		};
+	}
+
+	@Test
+	public void getSet() {
+		final MDoubleSeq seq = MDoubleSeq.ofLength(10);
+		for (int i = 0; i < seq.length(); ++i) {
+			Assert.assertEquals(seq.get(i), (double)0);
+			seq.set(i, (double)i);
+		}
+		for (int i = 0; i < seq.length(); ++i) {
+			Assert.assertEquals(seq.get(i), (double)i);
+		}
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getOutOfBounds() {
+		MDoubleSeq.ofLength(10).get(10);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void setOutOfBounds() {
+		MDoubleSeq.ofLength(10).set(-1, (double)1);
+	}
+
+	@Test
+	public void ofCopiesValues() {
+		final double[] values = {1, 2, 3};
+		final MDoubleSeq mseq = MDoubleSeq.of(values);
+		final IDoubleSeq iseq = IDoubleSeq.of(values);
+		values[0] = 10;
+
+		Assert.assertEquals(mseq.get(0), (double)1);
+		Assert.assertEquals(iseq.get(0), (double)1);
+	}
+
+	@Test
+	public void toISeq() {
+		final MDoubleSeq mseq = MDoubleSeq.of(1, 2, 3, 4, 5);
+		final IDoubleSeq iseq = mseq.toISeq();
+		final IDoubleSeq sub = iseq.subSeq(1, 3);
+
+		mseq.set(1, (double)10);
+		mseq.setAll((double)7);
+
+		Assert.assertEquals(iseq.toArray(), new double[]{1, 2, 3, 4, 5});
+		Assert.assertEquals(sub.toArray(), new double[]{2, 3});
+		Assert.assertEquals(mseq.toArray(), new double[]{7, 7, 7, 7, 7});
+	}
+
+	@Test
+	public void copy() {
+		final IDoubleSeq iseq = IDoubleSeq.of(1, 2, 3);
+		final MDoubleSeq copy = iseq.copy();
+		copy.set(0, (double)5);
+
+		Assert.assertEquals(iseq.get(0), (double)1);
+		Assert.assertEquals(copy.get(0), (double)5);
+	}
+
+	@Test
+	public void subSeqView() {
+		final MDoubleSeq seq = MDoubleSeq.of(1, 2, 3, 4, 5);
+		final MDoubleSeq sub = seq.subSeq(1, 4);
+		Assert.assertEquals(sub.length(), 3);
+		Assert.assertEquals(sub.get(0), (double)2);
+		Assert.assertEquals(seq.subSeq(3).toArray(), new double[]{4, 5});
+
+		sub.set(0, (double)20);
+		Assert.assertEquals(seq.get(1), (double)20);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void subSeqOutOfBounds() {
+		MDoubleSeq.of(1, 2, 3).subSeq(1, 4);
+	}
+
+	@Test
+	public void stream() {
+		final MDoubleSeq seq = MDoubleSeq.of(1, 2, 3, 4, 5);
+		Assert.assertEquals(seq.stream().sum(), (double)15);
+		Assert.assertEquals(seq.subSeq(1, 3).stream().sum(), (double)5);
+		Assert.assertEquals(seq.parallelStream().sum(), (double)15);
+		Assert.assertEquals(seq.toISeq().stream().count(), 5);
+	}
+
+	@Test
+	public void toArray() {
+		final MDoubleSeq seq = MDoubleSeq.of(1, 2, 3, 4, 5).subSeq(1, 4);
+
+		final double[] array = new double[5];
+		Assert.assertSame(seq.toArray(array), array);
+		Assert.assertEquals(array, new double[]{2, 3, 4, 0, 0});
+		Assert.assertEquals(seq.toArray(new double[1]), new double[]{2, 3, 4});
+	}
+
+	@Test
+	public void setAll() {
+		final MDoubleSeq seq = MDoubleSeq.ofLength(5).subSeq(1);
+		seq.setAll(new double[]{1, 2, 3, 4, 5, 6});
+		Assert.assertEquals(seq.toArray(), new double[]{1, 2, 3, 4});
+
+		seq.setAll(new double[]{9});
+		Assert.assertEquals(seq.toArray(), new double[]{9, 2, 3, 4});
+	}
+
+	@Test
+	public void swap() {
+		final MDoubleSeq a = MDoubleSeq.of(1, 2, 3, 4, 5);
+		final MDoubleSeq b = MDoubleSeq.of(6, 7, 8, 9, 10);
+		final IDoubleSeq ia = a.toISeq();
+
+		a.swap(1, 3, b, 2);
+		Assert.assertEquals(a.toArray(), new double[]{1, 8, 9, 4, 5});
+		Assert.assertEquals(b.toArray(), new double[]{6, 7, 2, 3, 10});
+		Assert.assertEquals(ia.toArray(), new double[]{1, 2, 3, 4, 5});
+
+		a.swap(0, 4);
+		Assert.assertEquals(a.toArray(), new double[]{5, 8, 9, 4, 1});
+	}
+
+	@Test
+	public void shuffle() {
+		final MDoubleSeq seq = MDoubleSeq.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		seq.shuffle(new Random(123));
+
+		final double[] values = seq.toArray();
+		java.util.Arrays.sort(values);
+		Assert.assertEquals(values, new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+	}
+
+	@Test
+	public void indexOf() {
+		final IDoubleSeq seq = IDoubleSeq.of(1, 2, 3, 2);
+		Assert.assertEquals(seq.indexOf((double)2), 1);
+		Assert.assertEquals(seq.indexOf((double)5), -1);
+		Assert.assertEquals(seq.subSeq(2).indexOf((double)2), 1);
+		Assert.assertTrue(seq.contains((double)3));
+		Assert.assertTrue(seq.forAll(v -> v > 0));
+	}
+
+	@Test
+	public void nanEquality() {
+		final IDoubleSeq seq = IDoubleSeq.of(1, Double.NaN, 3);
+		Assert.assertEquals(seq.indexOf(Double.NaN), 1);
+		Assert.assertEquals(seq, MDoubleSeq.of(1, Double.NaN, 3));
+		Assert.assertNotEquals(IDoubleSeq.of(0.0), IDoubleSeq.of(-0.0));
+	}
+
+	@Test
+	public void equality() {
+		final MDoubleSeq mseq = MDoubleSeq.of(1, 2, 3);
+		final IDoubleSeq iseq = IDoubleSeq.of(1, 2, 3);
+		final DoubleSeq sub = MDoubleSeq.of(0, 1, 2, 3).subSeq(1);
+
+		Assert.assertEquals(mseq, iseq);
+		Assert.assertEquals(iseq, sub);
+		Assert.assertEquals(mseq.hashCode(), sub.hashCode());
+		Assert.assertEquals(
+			mseq.hashCode(),
+			java.util.Arrays.hashCode(new double[]{1, 2, 3})
+		);
+		Assert.assertNotEquals(mseq, IDoubleSeq.of(1, 2));
+	}
+
+	@Test
+	public void boxed() {
+		final ISeq<Double> seq = DoubleSeq.of(1, 2, 3).boxed();
+		Assert.assertEquals(seq, ISeq.of((double)1, (double)2, (double)3));
+	}
+
+	@Test
+	public void empty() {
+		Assert.assertTrue(IDoubleSeq.empty().isEmpty());
+		Assert.assertEquals(IDoubleSeq.empty().toArray().length, 0);
+		Assert.assertEquals(IDoubleSeq.of(MDoubleSeq.ofLength(0)), IDoubleSeq.empty());
+	}
+
+}
@@ -22,8 +22,11 @@ package org.jenetics.util;
 import static org.jenetics.util.ISeq.toISeq;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -47,4 +50,49 @@ public class ISeqTest {
 		Assert.assertEquals(list, seq.asList());
 	}
 
+	@Test
+	public void spliteratorCharacteristics() {
+		final ISeq<Integer> seq = ISeq.of(1, 2, 3, 4, 5);
+		for (Spliterator<?> it : Arrays.<Spliterator<?>>asList(
+			seq.spliterator(),
+			seq.subSeq(1, 4).spliterator(),
+			seq.map(i -> i*2).spliterator(),
+			new CharSeq("abcdef").spliterator()))
+		{
+			Assert.assertTrue(it.hasCharacteristics(Spliterator.ORDERED));
+			Assert.assertTrue(it.hasCharacteristics(Spliterator.SIZED));
+			Assert.assertTrue(it.hasCharacteristics(Spliterator.SUBSIZED));
+			Assert.assertTrue(it.hasCharacteristics(Spliterator.IMMUTABLE));
+			Assert.assertFalse(it.hasCharacteristics(Spliterator.NONNULL));
+		}
+	}
+
+	@Test
+	public void spliteratorSplitsEvenly() {
+		final ISeq<Integer> seq = IntStream.range(0, 1001).boxed()
+			.collect(toISeq());
+		final Spliterator<Integer> right = seq.spliterator();
+		final Spliterator<Integer> left = right.trySplit();
+
+		Assert.assertNotNull(left);
+		Assert.assertEquals(left.estimateSize(), 500);
+		Assert.assertEquals(right.estimateSize(), 501);
+		Assert.assertTrue(left.hasCharacteristics(Spliterator.IMMUTABLE));
+	}
+
+	@Test
+	public void parallelStream() {
+		final ISeq<Integer> seq = IntStream.range(0, 100_000).boxed()
+			.collect(toISeq());
+
+		Assert.assertEquals(
+			seq.parallelStream().mapToLong(Integer::longValue).sum(),
+			seq.stream().mapToLong(Integer::longValue).sum()
+		);
+		Assert.assertEquals(
+			seq.subSeq(1000, 2000).parallelStream().collect(toISeq()),
+			seq.subSeq(1000, 2000)
+		);
+	}
+
 }
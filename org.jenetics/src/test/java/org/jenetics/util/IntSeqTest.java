@@ -0,0 +1,208 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.util;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class IntSeqTest extends ObjectTester<MIntSeq> {
+
+	@Override
+	protected Factory<MIntSeq> factory() {
+		return () -> {
+			final Random r = RandomRegistry.getRandom();
+			return MIntSeq.ofLength(r.nextInt(100) + 10)
+				.fill(r::nextInt);
+		};
+	}
+
+	@Test
+	public void getSet() {
+		final MIntSeq seq = MIntSeq.ofLength(10);
+		for (int i = 0; i < seq.length(); ++i) {
+			Assert.assertEquals(seq.get(i), 0);
+			seq.set(i, i);
+		}
+		for (int i = 0; i < seq.length(); ++i) {
+			Assert.assertEquals(seq.get(i), i);
+		}
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getOutOfBounds() {
+		MIntSeq.ofLength(10).get(10);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void setOutOfBounds() {
+		MIntSeq.ofLength(10).set(-1, 1);
+	}
+
+	@Test
+	public void ofCopiesValues() {
+		final int[] values = {1, 2, 3};
+		final MIntSeq mseq = MIntSeq.of(values);
+		final IIntSeq iseq = IIntSeq.of(values);
+		values[0] = 10;
+
+		Assert.assertEquals(mseq.get(0), 1);
+		Assert.assertEquals(iseq.get(0), 1);
+	}
+
+	@Test
+	public void toISeq() {
+		final MIntSeq mseq = MIntSeq.of(1, 2, 3, 4, 5);
+		final IIntSeq iseq = mseq.toISeq();
+		final IIntSeq sub = iseq.subSeq(1, 3);
+
+		mseq.set(1, 10);
+		mseq.setAll(7);
+
+		Assert.assertEquals(iseq.toArray(), new int[]{1, 2, 3, 4, 5});
+		Assert.assertEquals(sub.toArray(), new int[]{2, 3});
+		Assert.assertEquals(mseq.toArray(), new int[]{7, 7, 7, 7, 7});
+	}
+
+	@Test
+	public void copy() {
+		final IIntSeq iseq = IIntSeq.of(1, 2, 3);
+		final MIntSeq copy = iseq.copy();
+		copy.set(0, 5);
+
+		Assert.assertEquals(iseq.get(0), 1);
+		Assert.assertEquals(copy.get(0), 5);
+	}
+
+	@Test
+	public void subSeqView() {
+		final MIntSeq seq = MIntSeq.of(1, 2, 3, 4, 5);
+		final MIntSeq sub = seq.subSeq(1, 4);
+		Assert.assertEquals(sub.length(), 3);
+		Assert.assertEquals(sub.get(0), 2);
+		Assert.assertEquals(seq.subSeq(3).toArray(), new int[]{4, 5});
+
+		sub.set(0, 20);
+		Assert.assertEquals(seq.get(1), 20);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void subSeqOutOfBounds() {
+		MIntSeq.of(1, 2, 3).subSeq(1, 4);
+	}
+
+	@Test
+	public void stream() {
+		final MIntSeq seq = MIntSeq.of(1, 2, 3, 4, 5);
+		Assert.assertEquals(seq.stream().sum(), 15);
+		Assert.assertEquals(seq.subSeq(1, 3).stream().sum(), 5);
+		Assert.assertEquals(seq.parallelStream().sum(), 15);
+		Assert.assertEquals(seq.toISeq().stream().count(), 5);
+	}
+
+	@Test
+	public void toArray() {
+		final MIntSeq seq = MIntSeq.of(1, 2, 3, 4, 5).subSeq(1, 4);
+
+		final int[] array = new int[5];
+		Assert.assertSame(seq.toArray(array), array);
+		Assert.assertEquals(array, new int[]{2, 3, 4, 0, 0});
+		Assert.assertEquals(seq.toArray(new int[1]), new int[]{2, 3, 4});
+	}
+
+	@Test
+	public void setAll() {
+		final MIntSeq seq = MIntSeq.ofLength(5).subSeq(1);
+		seq.setAll(new int[]{1, 2, 3, 4, 5, 6});
+		Assert.assertEquals(seq.toArray(), new int[]{1, 2, 3, 4});
+
+		seq.setAll(new int[]{9});
+		Assert.assertEquals(seq.toArray(), new int[]{9, 2, 3, 4});
+	}
+
+	@Test
+	public void swap() {
+		final MIntSeq a = MIntSeq.of(1, 2, 3, 4, 5);
+		final MIntSeq b = MIntSeq.of(6, 7, 8, 9, 10);
+		final IIntSeq ia = a.toISeq();
+
+		a.swap(1, 3, b, 2);
+		Assert.assertEquals(a.toArray(), new int[]{1, 8, 9, 4, 5});
+		Assert.assertEquals(b.toArray(), new int[]{6, 7, 2, 3, 10});
+		Assert.assertEquals(ia.toArray(), new int[]{1, 2, 3, 4, 5});
+
+		a.swap(0, 4);
+		Assert.assertEquals(a.toArray(), new int[]{5, 8, 9, 4, 1});
+	}
+
+	@Test
+	public void shuffle() {
+		final MIntSeq seq = MIntSeq.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		seq.shuffle(new Random(123));
+
+		final int[] values = seq.toArray();
+		java.util.Arrays.sort(values);
+		Assert.assertEquals(values, new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+	}
+
+	@Test
+	public void indexOf() {
+		final IIntSeq seq = IIntSeq.of(1, 2, 3, 2);
+		Assert.assertEquals(seq.indexOf(2), 1);
+		Assert.assertEquals(seq.indexOf(5), -1);
+		Assert.assertEquals(seq.subSeq(2).indexOf(2), 1);
+		Assert.assertTrue(seq.contains(3));
+		Assert.assertTrue(seq.forAll(v -> v > 0));
+	}
+
+	@Test
+	public void equality() {
+		final MIntSeq mseq = MIntSeq.of(1, 2, 3);
+		final IIntSeq iseq = IIntSeq.of(1, 2, 3);
+		final IntSeq sub = MIntSeq.of(0, 1, 2, 3).subSeq(1);
+
+		Assert.assertEquals(mseq, iseq);
+		Assert.assertEquals(iseq, sub);
+		Assert.assertEquals(mseq.hashCode(), sub.hashCode());
+		Assert.assertEquals(
+			mseq.hashCode(),
+			java.util.Arrays.hashCode(new int[]{1, 2, 3})
+		);
+		Assert.assertNotEquals(mseq, IIntSeq.of(1, 2));
+	}
+
+	@Test
+	public void boxed() {
+		final ISeq<Integer> seq = IntSeq.of(1, 2, 3).boxed();
+		Assert.assertEquals(seq, ISeq.of(1, 2, 3));
+	}
+
+	@Test
+	public void empty() {
+		Assert.assertTrue(IIntSeq.empty().isEmpty());
+		Assert.assertEquals(IIntSeq.empty().toArray().length, 0);
+		Assert.assertEquals(IIntSeq.of(MIntSeq.ofLength(0)), IIntSeq.empty());
+	}
+
+}
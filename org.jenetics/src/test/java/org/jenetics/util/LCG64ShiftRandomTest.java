@@ -19,7 +19,9 @@
  */
 package org.jenetics.util;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
 
 import org.jenetics.internal.math.random;
 
@@ -47,4 +49,19 @@ public class LCG64ShiftRandomTest extends RandomTestBase {
 		};
 	}
 
+	@Test(dataProvider = "PRNG")
+	public void copy(final LCG64ShiftRandom random) {
+		for (int i = 0; i < 100; ++i) random.nextLong();
+
+		final LCG64ShiftRandom copy = random.copy();
+		Assert.assertNotSame(copy, random);
+		Assert.assertEquals(
+			copy instanceof LCG64ShiftRandom.ThreadSafe,
+			random instanceof LCG64ShiftRandom.ThreadSafe
+		);
+		for (int i = 0; i < 1000; ++i) {
+			Assert.assertEquals(copy.nextLong(), random.nextLong());
+		}
+	}
+
 }
@@ -0,0 +1,208 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.util;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ */
+public class LongSeqTest extends ObjectTester<MLongSeq> {
+
+	@Override
+	protected Factory<MLongSeq> factory() {
+		return () -> {
+			final Random r = RandomRegistry.getRandom();
+			return MLongSeq.ofLength(r.nextInt(100) + 10)
+				.fill(r::nextLong);
+		};
+	}
+
+	@Test
+	public void getSet() {
+		final MLongSeq seq = MLongSeq.ofLength(10);
+		for (int i = 0; i < seq.length(); ++i) {
+			Assert.assertEquals(seq.get(i), (long)0);
+			seq.set(i, (long)i);
+		}
+		for (int i = 0; i < seq.length(); ++i) {
+			Assert.assertEquals(seq.get(i), (long)i);
+		}
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getOutOfBounds() {
+		MLongSeq.ofLength(10).get(10);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void setOutOfBounds() {
+		MLongSeq.ofLength(10).set(-1, (long)1);
+	}
+
+	@Test
+	public void ofCopiesValues() {
+		final long[] values = {1, 2, 3};
+		final MLongSeq mseq = MLongSeq.of(values);
+		final ILongSeq iseq = ILongSeq.of(values);
+		values[0] = 10;
+
+		Assert.assertEquals(mseq.get(0), (long)1);
+		Assert.assertEquals(iseq.get(0), (long)1);
+	}
+
+	@Test
+	public void toISeq() {
+		final MLongSeq mseq = MLongSeq.of(1, 2, 3, 4, 5);
+		final ILongSeq iseq = mseq.toISeq();
+		final ILongSeq sub = iseq.subSeq(1, 3);
+
+		mseq.set(1, (long)10);
+		mseq.setAll((long)7);
+
+		Assert.assertEquals(iseq.toArray(), new long[]{1, 2, 3, 4, 5});
+		Assert.assertEquals(sub.toArray(), new long[]{2, 3});
+		Assert.assertEquals(mseq.toArray(), new long[]{7, 7, 7, 7, 7});
+	}
+
+	@Test
+	public void copy() {
+		final ILongSeq iseq = ILongSeq.of(1, 2, 3);
+		final MLongSeq copy = iseq.copy();
+		copy.set(0, (long)5);
+
+		Assert.assertEquals(iseq.get(0), (long)1);
+		Assert.assertEquals(copy.get(0), (long)5);
+	}
+
+	@Test
+	public void subSeqView() {
+		final MLongSeq seq = MLongSeq.of(1, 2, 3, 4, 5);
+		final MLongSeq sub = seq.subSeq(1, 4);
+		Assert.assertEquals(sub.length(), 3);
+		Assert.assertEquals(sub.get(0), (long)2);
+		Assert.assertEquals(seq.subSeq(3).toArray(), new long[]{4, 5});
+
+		sub.set(0, (long)20);
+		Assert.assertEquals(seq.get(1), (long)20);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void subSeqOutOfBounds() {
+		MLongSeq.of(1, 2, 3).subSeq(1, 4);
+	}
+
+	@Test
+	public void stream() {
+		final MLongSeq seq = MLongSeq.of(1, 2, 3, 4, 5);
+		Assert.assertEquals(seq.stream().sum(), (long)15);
+		Assert.assertEquals(seq.subSeq(1, 3).stream().sum(), (long)5);
+		Assert.assertEquals(seq.parallelStream().sum(), (long)15);
+		Assert.assertEquals(seq.toISeq().stream().count(), 5);
+	}
+
+	@Test
+	public void toArray() {
+		final MLongSeq seq = MLongSeq.of(1, 2, 3, 4, 5).subSeq(1, 4);
+
+		final long[] array = new long[5];
+		Assert.assertSame(seq.toArray(array), array);
+		Assert.assertEquals(array, new long[]{2, 3, 4, 0, 0});
+		Assert.assertEquals(seq.toArray(new long[1]), new long[]{2, 3, 4});
+	}
+
+	@Test
+	public void setAll() {
+		final MLongSeq seq = MLongSeq.ofLength(5).subSeq(1);
+		seq.setAll(new long[]{1, 2, 3, 4, 5, 6});
+		Assert.assertEquals(seq.toArray(), new long[]{1, 2, 3, 4});
+
+		seq.setAll(new long[]{9});
+		Assert.assertEquals(seq.toArray(), new long[]{9, 2, 3, 4});
+	}
+
+	@Test
+	public void swap() {
+		final MLongSeq a = MLongSeq.of(1, 2, 3, 4, 5);
+		final MLongSeq b = MLongSeq.of(6, 7, 8, 9, 10);
+		final ILongSeq ia = a.toISeq();
+
+		a.swap(1, 3, b, 2);
+		Assert.assertEquals(a.toArray(), new long[]{1, 8, 9, 4, 5});
+		Assert.assertEquals(b.toArray(), new long[]{6, 7, 2, 3, 10});
+		Assert.assertEquals(ia.toArray(), new long[]{1, 2, 3, 4, 5});
+
+		a.swap(0, 4);
+		Assert.assertEquals(a.toArray(), new long[]{5, 8, 9, 4, 1});
+	}
+
+	@Test
+	public void shuffle() {
+		final MLongSeq seq = MLongSeq.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		seq.shuffle(new Random(123));
+
+		final long[] values = seq.toArray();
+		java.util.Arrays.sort(values);
+		Assert.assertEquals(values, new long[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+	}
+
+	@Test
+	public void indexOf() {
+		final ILongSeq seq = ILongSeq.of(1, 2, 3, 2);
+		Assert.assertEquals(seq.indexOf((long)2), 1);
+		Assert.assertEquals(seq.indexOf((long)5), -1);
+		Assert.assertEquals(seq.subSeq(2).indexOf((long)2), 1);
+		Assert.assertTrue(seq.contains((long)3));
+		Assert.assertTrue(seq.forAll(v -> v > 0));
+	}
+
+	@Test
+	public void equality() {
+		final MLongSeq mseq = MLongSeq.of(1, 2, 3);
+		final ILongSeq iseq = ILongSeq.of(1, 2, 3);
+		final LongSeq sub = MLongSeq.of(0, 1, 2, 3).subSeq(1);
+
+		Assert.assertEquals(mseq, iseq);
+		Assert.assertEquals(iseq, sub);
+		Assert.assertEquals(mseq.hashCode(), sub.hashCode());
+		Assert.assertEquals(
+			mseq.hashCode(),
+			java.util.Arrays.hashCode(new long[]{1, 2, 3})
+		);
+		Assert.assertNotEquals(mseq, ILongSeq.of(1, 2));
+	}
+
+	@Test
+	public void boxed() {
+		final ISeq<Long> seq = LongSeq.of(1, 2, 3).boxed();
+		Assert.assertEquals(seq, ISeq.of((long)1, (long)2, (long)3));
+	}
+
+	@Test
+	public void empty() {
+		Assert.assertTrue(ILongSeq.empty().isEmpty());
+		Assert.assertEquals(ILongSeq.empty().toArray().length, 0);
+		Assert.assertEquals(ILongSeq.of(MLongSeq.ofLength(0)), ILongSeq.empty());
+	}
+
+}
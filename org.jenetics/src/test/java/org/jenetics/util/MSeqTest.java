@@ -24,6 +24,7 @@ import static org.jenetics.util.MSeq.toMSeq;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.Spliterator;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -50,6 +51,23 @@ public class MSeqTest {
 		Assert.assertEquals(list, seq.asList());
 	}
 
+	@Test
+	public void spliteratorCharacteristics() {
+		final MSeq<Integer> seq = MSeq.ofLength(10);
+		seq.set(0, 1);
+
+		final Spliterator<Integer> it = seq.subSeq(0, 5).spliterator();
+		Assert.assertTrue(it.hasCharacteristics(Spliterator.ORDERED));
+		Assert.assertTrue(it.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertTrue(it.hasCharacteristics(Spliterator.SUBSIZED));
+		Assert.assertFalse(it.hasCharacteristics(Spliterator.IMMUTABLE));
+		Assert.assertFalse(it.hasCharacteristics(Spliterator.NONNULL));
+		Assert.assertEquals(it.estimateSize(), 5);
+
+		Assert.assertEquals(seq.stream().filter(i -> i == null).count(), 9);
+		Assert.assertEquals(seq.parallelStream().filter(i -> i == null).count(), 9);
+	}
+
 	@Test(dataProvider = "subSequences")
 	public void immutable(final Named<MSeq<Integer>> parameter) {
 		final MSeq<Integer> seq = parameter.value;